@@ -26,7 +26,11 @@ public enum Attribute {
 
     SHORT_RUNNING_THREAD_POOL("short-running-thread-pool"),
 
-    LONG_RUNNING_THREAD_POOL("long-running-thread-pool");
+    LONG_RUNNING_THREAD_POOL("long-running-thread-pool"),
+
+    LONG_RUNNING_MAX_PENDING("long-running-max-pending"),
+
+    LONG_RUNNING_ADMISSION_TIMEOUT("long-running-admission-timeout");
 
     private final String name;
 
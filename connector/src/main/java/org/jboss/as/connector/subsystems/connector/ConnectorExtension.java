@@ -26,6 +26,8 @@ import static org.jboss.as.connector.subsystems.connector.Constants.ARCHIVE_VALI
 import static org.jboss.as.connector.subsystems.connector.Constants.ARCHIVE_VALIDATION_FAIL_ON_WARN;
 import static org.jboss.as.connector.subsystems.connector.Constants.BEAN_VALIDATION_ENABLED;
 import static org.jboss.as.connector.subsystems.connector.Constants.CONNECTOR;
+import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT;
+import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING;
 import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL;
 import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_SHORT_RUNNING_THREAD_POOL;
 import static org.jboss.as.connector.subsystems.connector.ConnectorSubsystemProviders.SUBSYSTEM;
@@ -93,6 +95,9 @@ public class ConnectorExtension implements Extension {
         subsystem.registerOperationHandler(ADD, ConnectorSubsystemAdd.INSTANCE, SUBSYSTEM_ADD_DESC, false);
         subsystem.registerOperationHandler(REMOVE, ConnectorSubSystemRemove.INSTANCE, SUBSYSTEM_REMOVE_DESC, false);
         subsystem.registerOperationHandler(DESCRIBE, ConnectorSubsystemDescribeHandler.INSTANCE, ConnectorSubsystemDescribeHandler.INSTANCE, false, OperationEntry.EntryType.PRIVATE);
+        for (String metric : WorkManagerMetrics.ATTRIBUTES) {
+            subsystem.registerMetric(metric, WorkManagerMetrics.INSTANCE);
+        }
     }
 
     @Override
@@ -160,6 +165,14 @@ public class ConnectorExtension implements Extension {
                     writeAttribute(writer, Attribute.LONG_RUNNING_THREAD_POOL,
                             node.require(DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL));
                 }
+                if (has(node, DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING)) {
+                    writeAttribute(writer, Attribute.LONG_RUNNING_MAX_PENDING,
+                            node.require(DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING));
+                }
+                if (has(node, DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT)) {
+                    writeAttribute(writer, Attribute.LONG_RUNNING_ADMISSION_TIMEOUT,
+                            node.require(DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT));
+                }
             }
         }
 
@@ -278,6 +291,14 @@ public class ConnectorExtension implements Extension {
                         required.remove(Attribute.LONG_RUNNING_THREAD_POOL);
                         break;
                     }
+                    case LONG_RUNNING_MAX_PENDING: {
+                        node.get(DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING).set(Integer.parseInt(reader.getAttributeValue(i)));
+                        break;
+                    }
+                    case LONG_RUNNING_ADMISSION_TIMEOUT: {
+                        node.get(DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT).set(Long.parseLong(reader.getAttributeValue(i)));
+                        break;
+                    }
                 }
             }
             if (!required.isEmpty()) {
@@ -309,6 +330,13 @@ public class ConnectorExtension implements Extension {
             if (model.hasDefined(DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL)) {
                 add.get(DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL).set(model.get(DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL));
             }
+            if (model.hasDefined(DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING)) {
+                add.get(DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING).set(model.get(DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING));
+            }
+            if (model.hasDefined(DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT)) {
+                add.get(DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT).set(
+                        model.get(DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT));
+            }
             if (model.hasDefined(BEAN_VALIDATION_ENABLED)) {
                 add.get(BEAN_VALIDATION_ENABLED).set(model.get(BEAN_VALIDATION_ENABLED));
             }
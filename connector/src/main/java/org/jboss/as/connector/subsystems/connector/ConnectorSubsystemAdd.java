@@ -26,6 +26,8 @@ import static org.jboss.as.connector.subsystems.connector.Constants.ARCHIVE_VALI
 import static org.jboss.as.connector.subsystems.connector.Constants.ARCHIVE_VALIDATION_FAIL_ON_ERROR;
 import static org.jboss.as.connector.subsystems.connector.Constants.ARCHIVE_VALIDATION_FAIL_ON_WARN;
 import static org.jboss.as.connector.subsystems.connector.Constants.BEAN_VALIDATION_ENABLED;
+import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT;
+import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING;
 import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL;
 import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_SHORT_RUNNING_THREAD_POOL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
@@ -79,6 +81,8 @@ class ConnectorSubsystemAdd implements ModelAddOperationHandler, BootOperationHa
     public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
         final String shortRunningThreadPool = operation.get(DEFAULT_WORKMANAGER_SHORT_RUNNING_THREAD_POOL).asString();
         final String longRunningThreadPool = operation.get(DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL).asString();
+        final int longRunningMaxPending = operation.get(DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING).asInt(-1);
+        final long longRunningAdmissionTimeout = operation.get(DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT).asLong(-1);
         final boolean beanValidationEnabled = ParamsUtils.parseBooleanParameter(operation, BEAN_VALIDATION_ENABLED, false);
         final boolean archiveValidationEnabled = ParamsUtils
                 .parseBooleanParameter(operation, ARCHIVE_VALIDATION_ENABLED, false);
@@ -96,6 +100,12 @@ class ConnectorSubsystemAdd implements ModelAddOperationHandler, BootOperationHa
             model.get(DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL).set(longRunningThreadPool);
 
         }
+        if (ParamsUtils.has(operation, DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING)) {
+            model.get(DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING).set(longRunningMaxPending);
+        }
+        if (ParamsUtils.has(operation, DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT)) {
+            model.get(DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT).set(longRunningAdmissionTimeout);
+        }
         if (ParamsUtils.has(operation, BEAN_VALIDATION_ENABLED)) {
             model.get(BEAN_VALIDATION_ENABLED).set(beanValidationEnabled);
         }
@@ -134,7 +144,8 @@ class ConnectorSubsystemAdd implements ModelAddOperationHandler, BootOperationHa
                                     tiService.getTldInjector()).setInitialMode(Mode.ACTIVE).install();
                     WorkManager wm = new WorkManagerImpl();
 
-                    final WorkManagerService wmService = new WorkManagerService(wm);
+                    final WorkManagerService wmService = new WorkManagerService(wm, longRunningMaxPending,
+                            longRunningAdmissionTimeout);
                     serviceTarget
                             .addService(ConnectorServices.WORKMANAGER_SERVICE, wmService)
                             .addDependency(ThreadsServices.EXECUTOR.append(shortRunningThreadPool), Executor.class,
@@ -25,6 +25,8 @@ import static org.jboss.as.connector.subsystems.connector.Constants.ARCHIVE_VALI
 import static org.jboss.as.connector.subsystems.connector.Constants.ARCHIVE_VALIDATION_FAIL_ON_ERROR;
 import static org.jboss.as.connector.subsystems.connector.Constants.ARCHIVE_VALIDATION_FAIL_ON_WARN;
 import static org.jboss.as.connector.subsystems.connector.Constants.BEAN_VALIDATION_ENABLED;
+import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT;
+import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING;
 import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL;
 import static org.jboss.as.connector.subsystems.connector.Constants.DEFAULT_WORKMANAGER_SHORT_RUNNING_THREAD_POOL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
@@ -76,6 +78,16 @@ class ConnectorSubsystemProviders {
             subsystem.get(ATTRIBUTES, DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL, TYPE).set(ModelType.STRING);
             subsystem.get(ATTRIBUTES, DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL, REQUIRED).set(true);
 
+            subsystem.get(ATTRIBUTES, DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING, DESCRIPTION).set(
+                    bundle.getString("default-workmanager.long-running-max-pending"));
+            subsystem.get(ATTRIBUTES, DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING, TYPE).set(ModelType.INT);
+            subsystem.get(ATTRIBUTES, DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING, REQUIRED).set(false);
+
+            subsystem.get(ATTRIBUTES, DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT, DESCRIPTION).set(
+                    bundle.getString("default-workmanager.long-running-admission-timeout"));
+            subsystem.get(ATTRIBUTES, DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT, TYPE).set(ModelType.LONG);
+            subsystem.get(ATTRIBUTES, DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT, REQUIRED).set(false);
+
             subsystem.get(ATTRIBUTES, BEAN_VALIDATION_ENABLED, DESCRIPTION).set(bundle.getString("bean-validation.enabled"));
             subsystem.get(ATTRIBUTES, BEAN_VALIDATION_ENABLED, TYPE).set(ModelType.BOOLEAN);
             subsystem.get(ATTRIBUTES, BEAN_VALIDATION_ENABLED, REQUIRED).set(true);
@@ -95,6 +107,13 @@ class ConnectorSubsystemProviders {
             subsystem.get(ATTRIBUTES, ARCHIVE_VALIDATION_FAIL_ON_WARN, TYPE).set(ModelType.BOOLEAN);
             subsystem.get(ATTRIBUTES, ARCHIVE_VALIDATION_FAIL_ON_WARN, REQUIRED).set(false);
 
+            for (String metric : WorkManagerMetrics.ATTRIBUTES) {
+                subsystem.get(ATTRIBUTES, metric, DESCRIPTION).set(
+                        bundle.getString(WorkManagerMetrics.getDescriptionKey(metric)));
+                subsystem.get(ATTRIBUTES, metric, TYPE).set(WorkManagerMetrics.getType(metric));
+                subsystem.get(ATTRIBUTES, metric, REQUIRED).set(false);
+            }
+
             return subsystem;
         }
     };
@@ -141,6 +160,16 @@ class ConnectorSubsystemProviders {
             operation.get(REQUEST_PROPERTIES, DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL, TYPE).set(ModelType.STRING);
             operation.get(REQUEST_PROPERTIES, DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL, REQUIRED).set(false);
 
+            operation.get(REQUEST_PROPERTIES, DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING, DESCRIPTION).set(
+                    bundle.getString("connector.default-workmanager.long-running-max-pending"));
+            operation.get(REQUEST_PROPERTIES, DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING, TYPE).set(ModelType.INT);
+            operation.get(REQUEST_PROPERTIES, DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING, REQUIRED).set(false);
+
+            operation.get(REQUEST_PROPERTIES, DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT, DESCRIPTION).set(
+                    bundle.getString("connector.default-workmanager.long-running-admission-timeout"));
+            operation.get(REQUEST_PROPERTIES, DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT, TYPE).set(ModelType.LONG);
+            operation.get(REQUEST_PROPERTIES, DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT, REQUIRED).set(false);
+
             return operation;
         }
     };
@@ -33,5 +33,7 @@ class Constants {
     static final String BEAN_VALIDATION_ENABLED = "bean-validation-enabled";
     static final String DEFAULT_WORKMANAGER_SHORT_RUNNING_THREAD_POOL = "default-workmanager-short-running-thread-pool";
     static final String DEFAULT_WORKMANAGER_LONG_RUNNING_THREAD_POOL = "default-workmanager-long-running-thread-pool";
+    static final String DEFAULT_WORKMANAGER_LONG_RUNNING_MAX_PENDING = "default-workmanager-long-running-max-pending";
+    static final String DEFAULT_WORKMANAGER_LONG_RUNNING_ADMISSION_TIMEOUT = "default-workmanager-long-running-admission-timeout";
 
 }
@@ -0,0 +1,140 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.connector;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.connector.ConnectorServices;
+import org.jboss.as.connector.workmanager.StatisticsExecutor;
+import org.jboss.as.connector.workmanager.WorkManagerService;
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the runtime metrics of the default work manager, for its short running and its long running work.
+ *
+ * @author <a href="mailto:stefano.maestri@redhat.com">Stefano Maestri</a>
+ */
+class WorkManagerMetrics implements ModelQueryOperationHandler {
+
+    static final WorkManagerMetrics INSTANCE = new WorkManagerMetrics();
+
+    private static final String SHORT_RUNNING = "short-running-";
+    private static final String LONG_RUNNING = "long-running-";
+
+    static final String SUBMITTED = "work-submitted";
+    static final String ACCEPTED = "work-accepted";
+    static final String REJECTED = "work-rejected";
+    static final String COMPLETED = "work-completed";
+    static final String PENDING = "work-pending";
+    static final String ACTIVE = "work-active";
+    static final String AVERAGE_START_TIME = "average-start-time";
+    static final String MAX_START_TIME = "max-start-time";
+    private static final String[] METRICS = { SUBMITTED, ACCEPTED, REJECTED, COMPLETED, PENDING, ACTIVE, AVERAGE_START_TIME,
+            MAX_START_TIME };
+
+    static final String[] ATTRIBUTES;
+
+    static {
+        ATTRIBUTES = new String[METRICS.length * 2];
+        for (int i = 0; i < METRICS.length; i++) {
+            ATTRIBUTES[i] = SHORT_RUNNING + METRICS[i];
+            ATTRIBUTES[METRICS.length + i] = LONG_RUNNING + METRICS[i];
+        }
+    }
+
+    /** Private to ensure a singleton. */
+    private WorkManagerMetrics() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        final ModelNode result = new ModelNode();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final String attributeName = operation.require(NAME).asString();
+            final ServiceController<?> controller = ServerOperationContext.class.cast(context).getController()
+                    .getServiceRegistry().getService(ConnectorServices.WORKMANAGER_SERVICE);
+            StatisticsExecutor statistics = null;
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                final WorkManagerService service = (WorkManagerService) controller.getService();
+                statistics = attributeName.startsWith(LONG_RUNNING) ? service.getLongRunningStatistics() : service
+                        .getShortRunningStatistics();
+            }
+            final String metric = attributeName.substring(attributeName.startsWith(LONG_RUNNING) ? LONG_RUNNING.length()
+                    : SHORT_RUNNING.length());
+            if (PENDING.equals(metric)) {
+                result.set(statistics == null ? 0 : statistics.getPending());
+            } else if (ACTIVE.equals(metric)) {
+                result.set(statistics == null ? 0 : statistics.getActive());
+            } else if (SUBMITTED.equals(metric)) {
+                result.set(statistics == null ? 0L : statistics.getSubmitted());
+            } else if (ACCEPTED.equals(metric)) {
+                result.set(statistics == null ? 0L : statistics.getAccepted());
+            } else if (REJECTED.equals(metric)) {
+                result.set(statistics == null ? 0L : statistics.getRejected());
+            } else if (COMPLETED.equals(metric)) {
+                result.set(statistics == null ? 0L : statistics.getCompleted());
+            } else if (AVERAGE_START_TIME.equals(metric)) {
+                result.set(statistics == null ? 0L : statistics.getAverageStartTime());
+            } else if (MAX_START_TIME.equals(metric)) {
+                result.set(statistics == null ? 0L : statistics.getMaxStartTime());
+            }
+        } else {
+            result.set("no metrics available");
+        }
+        resultHandler.handleResultFragment(Util.NO_LOCATION, result);
+        resultHandler.handleResultComplete();
+        return new BasicOperationResult();
+    }
+
+    /**
+     * Get the model type of a metric.
+     *
+     * @param attributeName the metric name
+     * @return the type
+     */
+    static ModelType getType(final String attributeName) {
+        if (attributeName.endsWith(PENDING) || attributeName.endsWith(ACTIVE)) {
+            return ModelType.INT;
+        }
+        return ModelType.LONG;
+    }
+
+    /**
+     * Get the key of the description of a metric.
+     *
+     * @param attributeName the metric name
+     * @return the key in the resource bundle
+     */
+    static String getDescriptionKey(final String attributeName) {
+        return "default-workmanager." + attributeName;
+    }
+}
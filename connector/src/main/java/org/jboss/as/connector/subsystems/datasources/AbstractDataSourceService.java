@@ -65,18 +65,30 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
     private final String jndiName;
 
+    private final PoolTuning poolTuning;
+
     private javax.sql.DataSource sqlDataSource;
 
-    public AbstractDataSourceService(final String jndiName) {
+    private volatile StatisticsPool pool;
+
+    private PoolMaintenance poolMaintenance;
+
+    private boolean backgroundValidation;
+
+    public AbstractDataSourceService(final String jndiName, final PoolTuning poolTuning) {
         this.jndiName = jndiName;
+        this.poolTuning = poolTuning;
     }
 
     public synchronized void start(StartContext startContext) throws StartException {
         try {
             final ManagedConnectionFactory mcf = createManagedConnectionFactory(jndiName, driverValue.getValue());
-            final Pool pool = createPool(jndiName, mcf);
+            final StatisticsPool pool = createPool(jndiName, mcf);
             final ConnectionManager cm = createConnectionManager(jndiName, pool);
             sqlDataSource = (javax.sql.DataSource) mcf.createConnectionFactory(cm);
+            poolMaintenance = PoolMaintenance.start(jndiName, pool, poolTuning,
+                    backgroundValidation ? pool.getConfiguration().getBackgroundValidationInterval() : 0);
+            this.pool = pool;
         } catch (Throwable t) {
             throw new StartException("Error during the deployment of " + jndiName, t);
         }
@@ -84,6 +96,11 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
     public synchronized void stop(StopContext stopContext) {
 
+        if (poolMaintenance != null) {
+            poolMaintenance.stop();
+            poolMaintenance = null;
+        }
+        pool = null;
         sqlDataSource = null;
     }
 
@@ -91,6 +108,19 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
         return sqlDataSource;
     }
 
+    /**
+     * Get the connection pool of the data-source, which also provides its runtime statistics.
+     *
+     * @return the pool or {@code null} if the data-source is not started
+     */
+    public StatisticsPool getPool() {
+        return pool;
+    }
+
+    protected PoolTuning getPoolTuning() {
+        return poolTuning;
+    }
+
     public Injector<TransactionIntegration> getTransactionIntegrationInjector() {
         return transactionIntegrationValue;
     }
@@ -102,12 +132,13 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
     protected abstract BaseWrapperManagedConnectionFactory createManagedConnectionFactory(final String jndiName,
             final Driver driver) throws ResourceException, StartException;
 
-    protected abstract Pool createPool(final String jndiName, final ManagedConnectionFactory mcf);
+    protected abstract StatisticsPool createPool(final String jndiName, final ManagedConnectionFactory mcf);
 
     protected abstract ConnectionManager createConnectionManager(final String jndiName, final Pool pool);
 
     /**
-     * Create an instance of the pool configuration based on the input
+     * Create an instance of the pool configuration based on the input. Background validation is left disabled
+     * in the configuration, it is run by the {@link PoolMaintenance} of the data-source instead.
      * @param pp The pool parameters
      * @param tp The timeout parameters
      * @param vp The validation parameters
@@ -140,7 +171,7 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
         if (vp != null) {
             if (vp.isBackgroundValidation() != null)
-                pc.setBackgroundValidation(vp.isBackgroundValidation().booleanValue());
+                backgroundValidation = vp.isBackgroundValidation().booleanValue();
 
             if (vp.getBackgroundValidationMinutes() != null)
                 pc.setBackgroundValidationMinutes(vp.getBackgroundValidationMinutes().intValue());
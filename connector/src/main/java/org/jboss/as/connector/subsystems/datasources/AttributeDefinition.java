@@ -44,6 +44,10 @@ public enum AttributeDefinition {
     MIN_POOL_SIZE(Constants.MIN_POOL_SIZE, ModelType.INT, false),
     POOL_PREFILL(Constants.POOL_PREFILL, ModelType.BOOLEAN, false),
     POOL_USE_STRICT_MIN(Constants.POOL_USE_STRICT_MIN, ModelType.BOOLEAN, false),
+    POOL_SIZING_STRATEGY(Constants.POOL_SIZING_STRATEGY, ModelType.STRING, false),
+    POOL_GROW_WAIT_MILLIS(Constants.POOL_GROW_WAIT_MILLIS, ModelType.LONG, false),
+    POOL_RESIZE_INTERVAL_SECONDS(Constants.POOL_RESIZE_INTERVAL_SECONDS, ModelType.LONG, false),
+    FLUSH_STRATEGY(Constants.FLUSH_STRATEGY, ModelType.STRING, false),
     USERNAME(Constants.USERNAME, ModelType.STRING, false),
     PASSWORD(Constants.PASSWORD, ModelType.STRING, false),
     PREPAREDSTATEMENTSCACHESIZE(Constants.PREPAREDSTATEMENTSCACHESIZE, ModelType.LONG, false),
@@ -123,6 +123,14 @@ class Constants {
 
     static final String USE_FAST_FAIL = "use-fast-fail";
 
+    static final String POOL_SIZING_STRATEGY = "pool-sizing-strategy";
+
+    static final String POOL_GROW_WAIT_MILLIS = "pool-grow-wait-millis";
+
+    static final String POOL_RESIZE_INTERVAL_SECONDS = "pool-resize-interval-seconds";
+
+    static final String FLUSH_STRATEGY = "flush-strategy";
+
     static final String EXCEPTIONSORTERCLASSNAME = "exception-sorter-class-name";
 
     static final String XADATASOURCEPROPERTIES = "xa-data-source-properties";
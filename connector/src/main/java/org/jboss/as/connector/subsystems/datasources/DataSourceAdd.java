@@ -24,6 +24,7 @@ package org.jboss.as.connector.subsystems.datasources;
 
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_PROPERTIES;
 import static org.jboss.as.connector.subsystems.datasources.DataSourceModelNodeUtil.from;
+import static org.jboss.as.connector.subsystems.datasources.DataSourceModelNodeUtil.poolTuningFrom;
 import static org.jboss.as.connector.subsystems.datasources.DataSourcesSubsystemProviders.DATASOURCE_ATTRIBUTE;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.dmr.ModelNode;
@@ -51,6 +52,12 @@ public class DataSourceAdd extends AbstractDataSourceAdd {
             throw new OperationFailedException(e, new ModelNode().set("Failed to create DataSource instance for [" + operation
                     + "]"));
         }
-        return new LocalDataSourceService(jndiName, dataSource);
+        final PoolTuning poolTuning;
+        try {
+            poolTuning = poolTuningFrom(operation);
+        } catch (IllegalArgumentException e) {
+            throw new OperationFailedException(e, new ModelNode().set(e.getMessage()));
+        }
+        return new LocalDataSourceService(jndiName, dataSource, poolTuning);
     }
 }
@@ -34,6 +34,7 @@ import static org.jboss.as.connector.subsystems.datasources.Constants.DRIVER_CLA
 import static org.jboss.as.connector.subsystems.datasources.Constants.ENABLED;
 import static org.jboss.as.connector.subsystems.datasources.Constants.EXCEPTIONSORTERCLASSNAME;
 import static org.jboss.as.connector.subsystems.datasources.Constants.EXCEPTIONSORTER_PROPERTIES;
+import static org.jboss.as.connector.subsystems.datasources.Constants.FLUSH_STRATEGY;
 import static org.jboss.as.connector.subsystems.datasources.Constants.IDLETIMEOUTMINUTES;
 import static org.jboss.as.connector.subsystems.datasources.Constants.INTERLIVING;
 import static org.jboss.as.connector.subsystems.datasources.Constants.JNDINAME;
@@ -46,7 +47,10 @@ import static org.jboss.as.connector.subsystems.datasources.Constants.NO_RECOVER
 import static org.jboss.as.connector.subsystems.datasources.Constants.PAD_XID;
 import static org.jboss.as.connector.subsystems.datasources.Constants.PASSWORD;
 import static org.jboss.as.connector.subsystems.datasources.Constants.POOLNAME;
+import static org.jboss.as.connector.subsystems.datasources.Constants.POOL_GROW_WAIT_MILLIS;
 import static org.jboss.as.connector.subsystems.datasources.Constants.POOL_PREFILL;
+import static org.jboss.as.connector.subsystems.datasources.Constants.POOL_RESIZE_INTERVAL_SECONDS;
+import static org.jboss.as.connector.subsystems.datasources.Constants.POOL_SIZING_STRATEGY;
 import static org.jboss.as.connector.subsystems.datasources.Constants.POOL_USE_STRICT_MIN;
 import static org.jboss.as.connector.subsystems.datasources.Constants.PREPAREDSTATEMENTSCACHESIZE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.QUERYTIMEOUT;
@@ -435,6 +439,25 @@ class DataSourceModelNodeUtil {
                 xaDataSourceClass, module, newConnectionSql, xaPool, recovery);
     }
 
+    /**
+     * Read the pool settings of a data-source model that are not part of the IronJacamar metadata.
+     *
+     * @param dataSourceNode the data-source or xa-data-source model
+     * @return the pool settings
+     * @throws IllegalArgumentException if a setting has an invalid value
+     */
+    static PoolTuning poolTuningFrom(final ModelNode dataSourceNode) {
+        final PoolSizingStrategy sizingStrategy = PoolSizingStrategy.forName(getStringIfSetOrGetDefault(dataSourceNode,
+                POOL_SIZING_STRATEGY, PoolSizingStrategy.STATIC.getName()));
+        final Long growWaitMillis = getLongIfSetOrGetDefault(dataSourceNode, POOL_GROW_WAIT_MILLIS,
+                PoolTuning.DEFAULT_GROW_WAIT_MILLIS);
+        final Long resizeIntervalSeconds = getLongIfSetOrGetDefault(dataSourceNode, POOL_RESIZE_INTERVAL_SECONDS,
+                PoolTuning.DEFAULT_RESIZE_INTERVAL_SECONDS);
+        final FlushStrategy flushStrategy = FlushStrategy.forName(getStringIfSetOrGetDefault(dataSourceNode, FLUSH_STRATEGY,
+                FlushStrategy.FAILING_CONNECTION_ONLY.getName()));
+        return new PoolTuning(sizingStrategy, growWaitMillis.longValue(), resizeIntervalSeconds.longValue(), flushStrategy);
+    }
+
     private static void setBooleanIfNotNull(final ModelNode node, final String identifier, final Boolean value) {
         if (value != null) {
             node.get(identifier).set(value);
@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.RuntimeTask;
+import org.jboss.as.controller.RuntimeTaskContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Flushes the connection pool of a data-source. Idle connections are destroyed right away, connections
+ * in use are destroyed when they are returned to the pool.
+ *
+ * @author John Bailey
+ */
+class DataSourcePoolFlush implements ModelQueryOperationHandler {
+
+    static final String OPERATION_NAME = "flush-all";
+
+    static final DataSourcePoolFlush INSTANCE = new DataSourcePoolFlush();
+
+    /** Private to ensure a singleton. */
+    private DataSourcePoolFlush() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        final String jndiName = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+
+        if (context.getRuntimeContext() != null) {
+            context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
+                public void execute(final RuntimeTaskContext context) throws OperationFailedException {
+                    final ServiceController<?> controller = context.getServiceRegistry().getService(
+                            AbstractDataSourceService.SERVICE_NAME_BASE.append(jndiName));
+                    if (controller == null) {
+                        throw new OperationFailedException(new ModelNode().set("Data-source service [" + jndiName + "] is not available"));
+                    }
+                    final StatisticsPool pool = ((AbstractDataSourceService) controller.getService()).getPool();
+                    if (pool != null) {
+                        pool.flush();
+                    }
+                    resultHandler.handleResultComplete();
+                }
+            });
+        } else {
+            resultHandler.handleResultComplete();
+        }
+        return new BasicOperationResult();
+    }
+}
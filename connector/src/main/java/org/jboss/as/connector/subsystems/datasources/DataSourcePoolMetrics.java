@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the connection pool metrics of a data-source.
+ * <p>
+ * The metrics are read directly from the service registry rather than from a runtime task, so that all
+ * metrics of all data-sources can be read in a single {@code read-resource} operation.
+ *
+ * @author John Bailey
+ */
+class DataSourcePoolMetrics implements ModelQueryOperationHandler {
+
+    static final DataSourcePoolMetrics INSTANCE = new DataSourcePoolMetrics();
+
+    static final String IN_USE_COUNT = "in-use-count";
+    static final String AVAILABLE_COUNT = "available-count";
+    static final String MAX_USED_COUNT = "max-used-count";
+    static final String REQUEST_COUNT = "request-count";
+    static final String WAIT_COUNT = "wait-count";
+    static final String TIMED_OUT = "timed-out";
+    static final String KILLED_COUNT = "killed-count";
+    static final String TOTAL_BLOCKING_TIME = "total-blocking-time";
+    static final String AVERAGE_BLOCKING_TIME = "average-blocking-time";
+    static final String MAX_WAIT_TIME = "max-wait-time";
+    static final String[] ATTRIBUTES = { IN_USE_COUNT, AVAILABLE_COUNT, MAX_USED_COUNT, REQUEST_COUNT, WAIT_COUNT, TIMED_OUT,
+            KILLED_COUNT, TOTAL_BLOCKING_TIME, AVERAGE_BLOCKING_TIME, MAX_WAIT_TIME };
+
+    /** Private to ensure a singleton. */
+    private DataSourcePoolMetrics() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        final ModelNode result = new ModelNode();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final String jndiName = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
+            final ServiceController<?> controller = ServerOperationContext.class.cast(context).getController()
+                    .getServiceRegistry().getService(AbstractDataSourceService.SERVICE_NAME_BASE.append(jndiName));
+            StatisticsPool pool = null;
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                pool = ((AbstractDataSourceService) controller.getService()).getPool();
+            }
+            if (pool != null) {
+                setMetric(result, pool, attributeName);
+            } else if (getType(attributeName) == ModelType.INT) {
+                result.set(0);
+            } else {
+                result.set(0L);
+            }
+        } else {
+            result.set("no metrics available");
+        }
+        resultHandler.handleResultFragment(Util.NO_LOCATION, result);
+        resultHandler.handleResultComplete();
+        return new BasicOperationResult();
+    }
+
+    /**
+     * Get the model type of a metric.
+     *
+     * @param attributeName the metric name
+     * @return the type
+     */
+    static ModelType getType(final String attributeName) {
+        if (IN_USE_COUNT.equals(attributeName) || AVAILABLE_COUNT.equals(attributeName) || MAX_USED_COUNT.equals(attributeName)) {
+            return ModelType.INT;
+        }
+        return ModelType.LONG;
+    }
+
+    private static void setMetric(final ModelNode result, final StatisticsPool pool, final String attributeName) {
+        if (IN_USE_COUNT.equals(attributeName)) {
+            result.set(pool.getInUseCount());
+        } else if (AVAILABLE_COUNT.equals(attributeName)) {
+            result.set(pool.getAvailableCount());
+        } else if (MAX_USED_COUNT.equals(attributeName)) {
+            result.set(pool.getMaxUsedCount());
+        } else if (REQUEST_COUNT.equals(attributeName)) {
+            result.set(pool.getRequestCount());
+        } else if (WAIT_COUNT.equals(attributeName)) {
+            result.set(pool.getWaitCount());
+        } else if (TIMED_OUT.equals(attributeName)) {
+            result.set(pool.getTimedOut());
+        } else if (KILLED_COUNT.equals(attributeName)) {
+            result.set(pool.getKilledCount());
+        } else if (TOTAL_BLOCKING_TIME.equals(attributeName)) {
+            result.set(pool.getTotalBlockingTime());
+        } else if (AVERAGE_BLOCKING_TIME.equals(attributeName)) {
+            result.set(pool.getAverageBlockingTime());
+        } else if (MAX_WAIT_TIME.equals(attributeName)) {
+            result.set(pool.getMaxWaitTime());
+        }
+    }
+}
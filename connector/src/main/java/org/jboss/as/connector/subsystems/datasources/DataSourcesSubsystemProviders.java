@@ -57,7 +57,8 @@ class DataSourcesSubsystemProviders {
 
     static final AttributeDefinition[] DATASOURCE_ATTRIBUTE = new AttributeDefinition[]{AttributeDefinition.CONNECTION_URL, AttributeDefinition.DRIVER_CLASS, AttributeDefinition.JNDINAME, AttributeDefinition.MODULE,
             AttributeDefinition.NEW_CONNECTION_SQL, AttributeDefinition.POOLNAME, AttributeDefinition.URL_DELIMITER, AttributeDefinition.URL_SELECTOR_STRATEGY_CLASS_NAME, AttributeDefinition.USE_JAVA_CONTEXT, AttributeDefinition.ENABLED,
-            AttributeDefinition.MAX_POOL_SIZE, AttributeDefinition.MIN_POOL_SIZE, AttributeDefinition.POOL_PREFILL, AttributeDefinition.POOL_USE_STRICT_MIN, AttributeDefinition.USERNAME, AttributeDefinition.PASSWORD, AttributeDefinition.PREPAREDSTATEMENTSCACHESIZE,
+            AttributeDefinition.MAX_POOL_SIZE, AttributeDefinition.MIN_POOL_SIZE, AttributeDefinition.POOL_PREFILL, AttributeDefinition.POOL_USE_STRICT_MIN, AttributeDefinition.POOL_SIZING_STRATEGY, AttributeDefinition.POOL_GROW_WAIT_MILLIS,
+            AttributeDefinition.POOL_RESIZE_INTERVAL_SECONDS, AttributeDefinition.FLUSH_STRATEGY, AttributeDefinition.USERNAME, AttributeDefinition.PASSWORD, AttributeDefinition.PREPAREDSTATEMENTSCACHESIZE,
             AttributeDefinition.SHAREPREPAREDSTATEMENTS, AttributeDefinition.TRACKSTATEMENTS, AttributeDefinition.ALLOCATION_RETRY, AttributeDefinition.ALLOCATION_RETRY_WAIT_MILLIS,
             AttributeDefinition.BLOCKING_TIMEOUT_WAIT_MILLIS, AttributeDefinition.IDLETIMEOUTMINUTES, AttributeDefinition.QUERYTIMEOUT, AttributeDefinition.USETRYLOCK, AttributeDefinition.SETTXQUERYTIMEOUT,
             AttributeDefinition.TRANSACTION_ISOLOATION, AttributeDefinition.CHECKVALIDCONNECTIONSQL, AttributeDefinition.EXCEPTIONSORTERCLASSNAME, AttributeDefinition.STALECONNECTIONCHECKERCLASSNAME,
@@ -65,7 +66,8 @@ class DataSourcesSubsystemProviders {
 
     static final AttributeDefinition[] XA_DATASOURCE_ATTRIBUTE = new AttributeDefinition[]{AttributeDefinition.XADATASOURCECLASS, AttributeDefinition.JNDINAME, AttributeDefinition.MODULE, AttributeDefinition.NEW_CONNECTION_SQL,
             AttributeDefinition.POOLNAME, AttributeDefinition.URL_DELIMITER, AttributeDefinition.URL_SELECTOR_STRATEGY_CLASS_NAME, AttributeDefinition.USE_JAVA_CONTEXT, AttributeDefinition.ENABLED, AttributeDefinition.MAX_POOL_SIZE, AttributeDefinition.MIN_POOL_SIZE,
-            AttributeDefinition.POOL_PREFILL, AttributeDefinition.POOL_USE_STRICT_MIN, AttributeDefinition.INTERLIVING, AttributeDefinition.NOTXSEPARATEPOOL, AttributeDefinition.PAD_XID, AttributeDefinition.SAME_RM_OVERRIDE, AttributeDefinition.WRAP_XA_DATASOURCE,
+            AttributeDefinition.POOL_PREFILL, AttributeDefinition.POOL_USE_STRICT_MIN, AttributeDefinition.POOL_SIZING_STRATEGY, AttributeDefinition.POOL_GROW_WAIT_MILLIS,
+            AttributeDefinition.POOL_RESIZE_INTERVAL_SECONDS, AttributeDefinition.FLUSH_STRATEGY, AttributeDefinition.INTERLIVING, AttributeDefinition.NOTXSEPARATEPOOL, AttributeDefinition.PAD_XID, AttributeDefinition.SAME_RM_OVERRIDE, AttributeDefinition.WRAP_XA_DATASOURCE,
             AttributeDefinition.USERNAME, AttributeDefinition.PASSWORD, AttributeDefinition.PREPAREDSTATEMENTSCACHESIZE, AttributeDefinition.SHAREPREPAREDSTATEMENTS, AttributeDefinition.TRACKSTATEMENTS, AttributeDefinition.ALLOCATION_RETRY,
             AttributeDefinition.ALLOCATION_RETRY_WAIT_MILLIS, AttributeDefinition.BLOCKING_TIMEOUT_WAIT_MILLIS, AttributeDefinition.IDLETIMEOUTMINUTES, AttributeDefinition.QUERYTIMEOUT, AttributeDefinition.USETRYLOCK,
             AttributeDefinition.SETTXQUERYTIMEOUT, AttributeDefinition.TRANSACTION_ISOLOATION, AttributeDefinition.CHECKVALIDCONNECTIONSQL, AttributeDefinition.EXCEPTIONSORTERCLASSNAME,
@@ -177,6 +179,11 @@ class DataSourcesSubsystemProviders {
                 node.get(ATTRIBUTES, propertyType.getName(), TYPE).set(propertyType.getModelType());
                 node.get(ATTRIBUTES, propertyType.getName(), REQUIRED).set(propertyType.isRequired());
             }
+            for (String metric : DataSourcePoolMetrics.ATTRIBUTES) {
+                node.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString(metric));
+                node.get(ATTRIBUTES, metric, TYPE).set(DataSourcePoolMetrics.getType(metric));
+                node.get(ATTRIBUTES, metric, REQUIRED).set(false);
+            }
             return node;
         }
     };
@@ -232,6 +239,17 @@ class DataSourcesSubsystemProviders {
         }
     };
 
+    static DescriptionProvider FLUSH_ALL_DATA_SOURCE_DESC = new DescriptionProvider() {
+        @Override
+        public ModelNode getModelDescription(final Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+            final ModelNode operation = new ModelNode();
+            operation.get(OPERATION_NAME).set(DataSourcePoolFlush.OPERATION_NAME);
+            operation.get(DESCRIPTION).set(bundle.getString("data-source.flush-all"));
+            return operation;
+        }
+    };
+
     static DescriptionProvider XA_DATA_SOURCE_DESC = new DescriptionProvider() {
         @Override
         public ModelNode getModelDescription(final Locale locale) {
@@ -247,6 +265,11 @@ class DataSourcesSubsystemProviders {
                 node.get(ATTRIBUTES, propertyType.getName(), TYPE).set(propertyType.getModelType());
                 node.get(ATTRIBUTES, propertyType.getName(), REQUIRED).set(propertyType.isRequired());
             }
+            for (String metric : DataSourcePoolMetrics.ATTRIBUTES) {
+                node.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString(metric));
+                node.get(ATTRIBUTES, metric, TYPE).set(DataSourcePoolMetrics.getType(metric));
+                node.get(ATTRIBUTES, metric, REQUIRED).set(false);
+            }
             return node;
         }
     };
@@ -301,6 +324,17 @@ class DataSourcesSubsystemProviders {
         }
     };
 
+    static DescriptionProvider FLUSH_ALL_XA_DATA_SOURCE_DESC = new DescriptionProvider() {
+        @Override
+        public ModelNode getModelDescription(final Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+            final ModelNode operation = new ModelNode();
+            operation.get(OPERATION_NAME).set(DataSourcePoolFlush.OPERATION_NAME);
+            operation.get(DESCRIPTION).set(bundle.getString("xa-data-source.flush-all"));
+            return operation;
+        }
+    };
+
     private static ResourceBundle getResourceBundle(Locale locale) {
         if (locale == null) {
             locale = Locale.getDefault();
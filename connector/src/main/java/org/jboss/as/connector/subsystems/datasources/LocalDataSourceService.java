@@ -51,8 +51,8 @@ public class LocalDataSourceService extends AbstractDataSourceService {
 
     private final DataSource dataSourceConfig;
 
-    public LocalDataSourceService(final String jndiName, final DataSource dataSourceConfig) {
-        super(jndiName);
+    public LocalDataSourceService(final String jndiName, final DataSource dataSourceConfig, final PoolTuning poolTuning) {
+        super(jndiName, poolTuning);
         this.dataSourceConfig = dataSourceConfig;
     }
 
@@ -167,7 +167,7 @@ public class LocalDataSourceService extends AbstractDataSourceService {
         return managedConnectionFactory;
     }
 
-    protected Pool createPool(final String jndiName, final ManagedConnectionFactory mcf) {
+    protected StatisticsPool createPool(final String jndiName, final ManagedConnectionFactory mcf) {
         final PoolConfiguration pc = createPoolConfiguration(dataSourceConfig.getPool(), dataSourceConfig.getTimeOut(),
                 dataSourceConfig.getValidation());
         PoolFactory pf = new PoolFactory();
@@ -182,7 +182,7 @@ public class LocalDataSourceService extends AbstractDataSourceService {
             poolName = jndiName;
         }
         pool.setName(poolName);
-        return pool;
+        return new StatisticsPool(pool, pc, getPoolTuning().getFlushStrategy());
     }
 
     protected ConnectionManager createConnectionManager(final String jndiName, final Pool pool) {
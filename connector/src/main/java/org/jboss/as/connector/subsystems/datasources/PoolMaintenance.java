@@ -0,0 +1,167 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jca.core.api.connectionmanager.pool.PoolConfiguration;
+import org.jboss.jca.core.connectionmanager.pool.mcp.ManagedConnectionPool;
+import org.jboss.logging.Logger;
+
+/**
+ * The background work of a data-source pool, run on a thread of its own.
+ * <p>
+ * Background validation runs here rather than on the validator thread IronJacamar shares between all pools,
+ * so a data-source with slow or hanging validation does not delay the validation of the others, and requests
+ * never pay for it.
+ * <p>
+ * With the {@link PoolSizingStrategy#ADAPTIVE adaptive} sizing strategy the minimum size of the pool follows the
+ * load. At the end of each resize interval, if the requests which found the pool below its capacity spent more than
+ * {@code pool-grow-wait-millis} on average acquiring a connection, the minimum is raised to the peak number of
+ * connections in use plus a quarter, and the pool is filled up to it from this thread. Requests which found the pool
+ * exhausted are left out, a larger minimum does not make them wait less. If fewer
+ * connections than the minimum were in use, the minimum drops halfway back towards that peak, never below the
+ * configured {@code min-pool-size}. Connections above the minimum are then destroyed once they have been idle for
+ * {@code idle-timeout-minutes}. The maximum size of the pool is fixed by IronJacamar when the pool is created.
+ *
+ * @author John Bailey
+ */
+final class PoolMaintenance {
+
+    private static final Logger log = Logger.getLogger("org.jboss.as.connector.subsystems.datasources");
+
+    private final String jndiName;
+    private final StatisticsPool pool;
+    private final PoolTuning tuning;
+    private final int configuredMinSize;
+    private final int maxSize;
+    private final ScheduledExecutorService executor;
+
+    private long lastRequestCount;
+    private long lastBlockingTime;
+
+    private PoolMaintenance(final String jndiName, final StatisticsPool pool, final PoolTuning tuning) {
+        this.jndiName = jndiName;
+        this.pool = pool;
+        this.tuning = tuning;
+        final PoolConfiguration configuration = pool.getConfiguration();
+        this.configuredMinSize = configuration.getMinSize();
+        this.maxSize = configuration.getMaxSize();
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            public Thread newThread(final Runnable r) {
+                final Thread thread = new Thread(r, "DataSource pool maintenance [" + jndiName + "]");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor = executor;
+    }
+
+    /**
+     * Start the maintenance of a pool, if it needs any.
+     *
+     * @param jndiName the jndi name of the data-source
+     * @param pool the pool
+     * @param tuning the pool settings of the data-source
+     * @param backgroundValidationMillis the background validation interval, or 0 if background validation is disabled
+     * @return the maintenance, to stop when the data-source stops, or {@code null} if there is nothing to do
+     */
+    static PoolMaintenance start(final String jndiName, final StatisticsPool pool, final PoolTuning tuning,
+            final long backgroundValidationMillis) {
+        final boolean adaptive = tuning.getSizingStrategy() == PoolSizingStrategy.ADAPTIVE;
+        if (!adaptive && backgroundValidationMillis <= 0) {
+            return null;
+        }
+        final PoolMaintenance maintenance = new PoolMaintenance(jndiName, pool, tuning);
+        if (adaptive) {
+            final long interval = tuning.getResizeIntervalSeconds();
+            maintenance.executor.scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    try {
+                        maintenance.resize();
+                    } catch (Throwable t) {
+                        log.warnf(t, "Resizing the pool of %s failed", jndiName);
+                    }
+                }
+            }, interval, interval, TimeUnit.SECONDS);
+        }
+        if (backgroundValidationMillis > 0) {
+            maintenance.executor.scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    maintenance.validate();
+                }
+            }, backgroundValidationMillis, backgroundValidationMillis, TimeUnit.MILLISECONDS);
+        }
+        return maintenance;
+    }
+
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    void resize() {
+        // min-pool-size applies to each sub-pool, while the peak is counted over all of them
+        final int subPools = Math.max(1, pool.getManagedConnectionPools().size());
+        final int peak = (pool.resetIntervalMaxUsedCount() + subPools - 1) / subPools;
+        final long requestCount = pool.getBelowCapacityRequestCount();
+        final long blockingTime = pool.getBelowCapacityBlockingTime();
+        final long requests = requestCount - lastRequestCount;
+        final long blocked = blockingTime - lastBlockingTime;
+        lastRequestCount = requestCount;
+        lastBlockingTime = blockingTime;
+
+        final PoolConfiguration configuration = pool.getConfiguration();
+        final int minSize = configuration.getMinSize();
+        if (requests > 0 && blocked / requests > tuning.getGrowWaitMillis()) {
+            final int target = Math.min(maxSize, peak + (peak >> 2) + 1);
+            if (target > minSize) {
+                log.debugf("Raising the minimum size of the pool of %s from %d to %d", jndiName, minSize, target);
+                configuration.setMinSize(target);
+                for (ManagedConnectionPool managedPool : pool.getManagedConnectionPools()) {
+                    managedPool.fillToMin();
+                }
+            }
+        } else if (peak < minSize && minSize > configuredMinSize) {
+            final int target = Math.max(configuredMinSize, minSize - Math.max(1, (minSize - peak) / 2));
+            log.debugf("Lowering the minimum size of the pool of %s from %d to %d", jndiName, minSize, target);
+            configuration.setMinSize(target);
+            for (ManagedConnectionPool managedPool : pool.getManagedConnectionPools()) {
+                managedPool.removeIdleConnections();
+            }
+        }
+    }
+
+    void validate() {
+        for (ManagedConnectionPool managedPool : pool.getManagedConnectionPools()) {
+            try {
+                managedPool.validateConnections();
+            } catch (Throwable t) {
+                log.warnf(t, "Background validation of the connections of %s failed", jndiName);
+            }
+        }
+    }
+}
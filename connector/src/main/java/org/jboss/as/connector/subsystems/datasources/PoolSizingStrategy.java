@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * How the minimum size of a data-source pool is managed.
+ *
+ * @author John Bailey
+ */
+enum PoolSizingStrategy {
+    /**
+     * The pool keeps at least {@code min-pool-size} connections, as configured.
+     */
+    STATIC("static"),
+    /**
+     * The pool keeps at least {@code min-pool-size} connections, and raises that floor while requests are waiting
+     * for connections. The floor drops back once the extra connections stay idle.
+     */
+    ADAPTIVE("adaptive");
+
+    private final String name;
+
+    PoolSizingStrategy(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the model value of this strategy.
+     *
+     * @return the model value
+     */
+    public String getName() {
+        return name;
+    }
+
+    private static final Map<String, PoolSizingStrategy> MAP;
+
+    static {
+        final Map<String, PoolSizingStrategy> map = new HashMap<String, PoolSizingStrategy>();
+        for (PoolSizingStrategy strategy : values()) {
+            map.put(strategy.getName(), strategy);
+        }
+        MAP = map;
+    }
+
+    static PoolSizingStrategy forName(final String name) {
+        final PoolSizingStrategy strategy = MAP.get(name);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unknown pool sizing strategy " + name + ", expected one of " + MAP.keySet());
+        }
+        return strategy;
+    }
+}
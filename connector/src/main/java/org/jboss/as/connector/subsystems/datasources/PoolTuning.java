@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+/**
+ * The pool settings of a data-source that IronJacamar's pool configuration has no notion of.
+ *
+ * @author John Bailey
+ */
+public final class PoolTuning {
+
+    static final long DEFAULT_GROW_WAIT_MILLIS = 100;
+    static final long DEFAULT_RESIZE_INTERVAL_SECONDS = 30;
+
+    static final PoolTuning DEFAULT = new PoolTuning(PoolSizingStrategy.STATIC, DEFAULT_GROW_WAIT_MILLIS,
+            DEFAULT_RESIZE_INTERVAL_SECONDS, FlushStrategy.FAILING_CONNECTION_ONLY);
+
+    private final PoolSizingStrategy sizingStrategy;
+    private final long growWaitMillis;
+    private final long resizeIntervalSeconds;
+    private final FlushStrategy flushStrategy;
+
+    PoolTuning(final PoolSizingStrategy sizingStrategy, final long growWaitMillis, final long resizeIntervalSeconds,
+            final FlushStrategy flushStrategy) {
+        if (growWaitMillis < 0) {
+            throw new IllegalArgumentException("pool-grow-wait-millis must not be negative");
+        }
+        if (resizeIntervalSeconds <= 0) {
+            throw new IllegalArgumentException("pool-resize-interval-seconds must be positive");
+        }
+        this.sizingStrategy = sizingStrategy;
+        this.growWaitMillis = growWaitMillis;
+        this.resizeIntervalSeconds = resizeIntervalSeconds;
+        this.flushStrategy = flushStrategy;
+    }
+
+    PoolSizingStrategy getSizingStrategy() {
+        return sizingStrategy;
+    }
+
+    /**
+     * Get the average time requests which found the pool below its capacity may spend acquiring a connection during
+     * a resize interval before an adaptive pool raises its minimum size.
+     *
+     * @return the wait time in milliseconds
+     */
+    long getGrowWaitMillis() {
+        return growWaitMillis;
+    }
+
+    long getResizeIntervalSeconds() {
+        return resizeIntervalSeconds;
+    }
+
+    FlushStrategy getFlushStrategy() {
+        return flushStrategy;
+    }
+}
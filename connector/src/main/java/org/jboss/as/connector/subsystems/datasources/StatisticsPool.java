@@ -0,0 +1,333 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.resource.ResourceException;
+import javax.resource.spi.ConnectionRequestInfo;
+import javax.resource.spi.ManagedConnectionFactory;
+import javax.security.auth.Subject;
+import javax.transaction.Transaction;
+
+import org.jboss.jca.core.api.connectionmanager.pool.PoolConfiguration;
+import org.jboss.jca.core.connectionmanager.listener.ConnectionListener;
+import org.jboss.jca.core.connectionmanager.listener.ConnectionListenerFactory;
+import org.jboss.jca.core.connectionmanager.pool.api.Pool;
+import org.jboss.jca.core.connectionmanager.pool.mcp.ManagedConnectionPool;
+
+/**
+ * A {@link Pool} that delegates to the pool created by IronJacamar and gathers the runtime statistics
+ * of the data-source on the way.
+ * <p>
+ * The connection manager only talks to the pool through this interface, so every connection handed out
+ * and returned goes through here. Recording a request costs two {@link System#nanoTime()} calls and a few
+ * atomic updates, and reading a statistic never locks the pool, so the statistics can be polled as often
+ * as needed.
+ * <p>
+ * It also applies the {@link FlushStrategy} of the data-source when a connection is returned to be destroyed,
+ * and keeps track of the managed connection pools it hands out connections from, for {@link PoolMaintenance}.
+ *
+ * @author John Bailey
+ */
+public final class StatisticsPool implements Pool {
+
+    private final Pool delegate;
+    private final PoolConfiguration configuration;
+    private final FlushStrategy flushStrategy;
+    /** The max size of each sub-pool */
+    private final int maxSize;
+    private final long blockingTimeout;
+
+    /** The managed connection pools of the sub-pools, known from the connections they handed out */
+    private final Set<ManagedConnectionPool> managedPools = Collections.newSetFromMap(new ConcurrentHashMap<ManagedConnectionPool, Boolean>());
+
+    /** The connection listeners currently handed out, a listener enlisted in a transaction is only counted once */
+    private final Set<ConnectionListener> inUse = Collections.newSetFromMap(new ConcurrentHashMap<ConnectionListener, Boolean>());
+    /** The size of {@code inUse}, kept apart as the size of a concurrent map is not a constant time operation */
+    private final AtomicInteger inUseCount = new AtomicInteger();
+    private final AtomicInteger maxUsed = new AtomicInteger();
+    private final AtomicInteger intervalMaxUsed = new AtomicInteger();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong waitCount = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong killedCount = new AtomicLong();
+    private final AtomicLong totalBlockingTime = new AtomicLong();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+    /** Requests that found the pool below capacity, and the time they spent acquiring a connection */
+    private final AtomicLong belowCapacityRequestCount = new AtomicLong();
+    private final AtomicLong belowCapacityBlockingTime = new AtomicLong();
+
+    StatisticsPool(final Pool delegate, final PoolConfiguration configuration, final FlushStrategy flushStrategy) {
+        this.delegate = delegate;
+        this.configuration = configuration;
+        this.flushStrategy = flushStrategy;
+        this.maxSize = configuration.getMaxSize();
+        this.blockingTimeout = configuration.getBlockingTimeout();
+    }
+
+    public ConnectionListener getConnection(final Transaction trackByTransaction, final Subject subject,
+            final ConnectionRequestInfo cri) throws ResourceException {
+        final boolean exhausted = inUseCount.get() >= getCapacity();
+        if (exhausted) {
+            waitCount.incrementAndGet();
+        }
+        final long start = System.nanoTime();
+        final ConnectionListener cl;
+        try {
+            cl = delegate.getConnection(trackByTransaction, subject, cri);
+        } catch (ResourceException e) {
+            final long elapsed = recordBlockingTime(start, exhausted);
+            if (blockingTimeout > 0 && elapsed >= blockingTimeout) {
+                timedOut.incrementAndGet();
+            }
+            throw e;
+        }
+        recordBlockingTime(start, exhausted);
+        if (inUse.add(cl)) {
+            final int used = inUseCount.incrementAndGet();
+            raise(maxUsed, used);
+            raise(intervalMaxUsed, used);
+        }
+        final Object context = cl.getContext();
+        if (context instanceof ManagedConnectionPool && !managedPools.contains(context)) {
+            managedPools.add((ManagedConnectionPool) context);
+        }
+        return cl;
+    }
+
+    public void returnConnection(final ConnectionListener cl, final boolean kill) throws ResourceException {
+        if (inUse.remove(cl)) {
+            inUseCount.decrementAndGet();
+        }
+        if (kill) {
+            killedCount.incrementAndGet();
+        }
+        delegate.returnConnection(cl, kill);
+        if (kill && flushStrategy == FlushStrategy.ENTIRE_POOL) {
+            delegate.flush();
+        }
+    }
+
+    /**
+     * Get the number of connections the pool can hand out. The max size applies to each sub-pool, so a pool
+     * with a sub-pool per credential can hand out max size connections per sub-pool. Sub-pools are known once
+     * they handed out a connection.
+     */
+    private int getCapacity() {
+        return maxSize * Math.max(1, managedPools.size());
+    }
+
+    private static void raise(final AtomicInteger value, final int update) {
+        int current;
+        while (update > (current = value.get())) {
+            if (value.compareAndSet(current, update)) {
+                break;
+            }
+        }
+    }
+
+    private long recordBlockingTime(final long start, final boolean exhausted) {
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        requestCount.incrementAndGet();
+        totalBlockingTime.addAndGet(elapsed);
+        if (!exhausted) {
+            belowCapacityRequestCount.incrementAndGet();
+            belowCapacityBlockingTime.addAndGet(elapsed);
+        }
+        long max;
+        while (elapsed > (max = maxWaitTime.get())) {
+            if (maxWaitTime.compareAndSet(max, elapsed)) {
+                break;
+            }
+        }
+        return elapsed;
+    }
+
+    public String getName() {
+        return delegate.getName();
+    }
+
+    public void setName(final String poolName) {
+        delegate.setName(poolName);
+    }
+
+    public ManagedConnectionFactory getManagedConnectionFactory() {
+        return delegate.getManagedConnectionFactory();
+    }
+
+    public void setConnectionListenerFactory(final ConnectionListenerFactory clf) {
+        delegate.setConnectionListenerFactory(clf);
+    }
+
+    public void shutdown() {
+        delegate.shutdown();
+        inUse.clear();
+        inUseCount.set(0);
+        managedPools.clear();
+    }
+
+    public void flush() {
+        delegate.flush();
+    }
+
+    public void emptySubPool(final ManagedConnectionPool pool) {
+        managedPools.remove(pool);
+        delegate.emptySubPool(pool);
+    }
+
+    PoolConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    Set<ManagedConnectionPool> getManagedConnectionPools() {
+        return managedPools;
+    }
+
+    /**
+     * Get the highest number of connections in use at the same time since the last call, and start a new interval.
+     *
+     * @return the max used count of the interval
+     */
+    int resetIntervalMaxUsedCount() {
+        return intervalMaxUsed.getAndSet(inUseCount.get());
+    }
+
+    /**
+     * Get the number of connection requests made while the pool was below its capacity. Only these requests
+     * can be served faster by a larger minimum size; the others wait for a connection to be returned.
+     *
+     * @return the request count
+     */
+    long getBelowCapacityRequestCount() {
+        return belowCapacityRequestCount.get();
+    }
+
+    /**
+     * Get the time spent acquiring a connection by the requests made while the pool was below its capacity,
+     * in milliseconds.
+     *
+     * @return the blocking time
+     */
+    long getBelowCapacityBlockingTime() {
+        return belowCapacityBlockingTime.get();
+    }
+
+    /**
+     * Get the number of connections currently handed out by the pool.
+     *
+     * @return the in use count
+     */
+    public int getInUseCount() {
+        return inUseCount.get();
+    }
+
+    /**
+     * Get the number of connections that can still be handed out before a request has to wait.
+     *
+     * @return the available count
+     */
+    public int getAvailableCount() {
+        return Math.max(0, getCapacity() - inUseCount.get());
+    }
+
+    /**
+     * Get the highest number of connections handed out at the same time.
+     *
+     * @return the max used count
+     */
+    public int getMaxUsedCount() {
+        return maxUsed.get();
+    }
+
+    /**
+     * Get the number of connection requests made to the pool.
+     *
+     * @return the request count
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Get the number of connection requests that found the pool exhausted and had to wait.
+     *
+     * @return the wait count
+     */
+    public long getWaitCount() {
+        return waitCount.get();
+    }
+
+    /**
+     * Get the number of connection requests that failed after waiting for the blocking timeout.
+     *
+     * @return the timed out count
+     */
+    public long getTimedOut() {
+        return timedOut.get();
+    }
+
+    /**
+     * Get the number of connections returned to the pool with kill set, to be destroyed because of an error.
+     * The connections the pool destroys on its own (idle removal, failed validation, flush) are not counted,
+     * the pool doesn't report them.
+     *
+     * @return the killed count
+     */
+    public long getKilledCount() {
+        return killedCount.get();
+    }
+
+    /**
+     * Get the time spent waiting for a connection by all requests, in milliseconds.
+     *
+     * @return the total blocking time
+     */
+    public long getTotalBlockingTime() {
+        return totalBlockingTime.get();
+    }
+
+    /**
+     * Get the average time spent waiting for a connection, in milliseconds.
+     *
+     * @return the average blocking time
+     */
+    public long getAverageBlockingTime() {
+        final long count = requestCount.get();
+        return count == 0 ? 0 : totalBlockingTime.get() / count;
+    }
+
+    /**
+     * Get the longest time a request waited for a connection, in milliseconds.
+     *
+     * @return the max wait time
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+}
@@ -23,6 +23,7 @@
 package org.jboss.as.connector.subsystems.datasources;
 
 import static org.jboss.as.connector.subsystems.datasources.Constants.XADATASOURCEPROPERTIES;
+import static org.jboss.as.connector.subsystems.datasources.DataSourceModelNodeUtil.poolTuningFrom;
 import static org.jboss.as.connector.subsystems.datasources.DataSourceModelNodeUtil.xaFrom;
 import static org.jboss.as.connector.subsystems.datasources.DataSourcesSubsystemProviders.XA_DATASOURCE_ATTRIBUTE;
 import org.jboss.as.controller.OperationFailedException;
@@ -49,6 +50,12 @@ public class XaDataSourceAdd extends AbstractDataSourceAdd {
         } catch (ValidateException e) {
             throw new OperationFailedException(e, new ModelNode().set("Failed to create XaDataSource instance for [" + operation + "]"));
         }
-        return new XaDataSourceService(jndiName, dataSource);
+        final PoolTuning poolTuning;
+        try {
+            poolTuning = poolTuningFrom(operation);
+        } catch (IllegalArgumentException e) {
+            throw new OperationFailedException(e, new ModelNode().set(e.getMessage()));
+        }
+        return new XaDataSourceService(jndiName, dataSource, poolTuning);
     }
 }
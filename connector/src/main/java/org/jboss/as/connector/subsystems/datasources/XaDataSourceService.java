@@ -52,8 +52,8 @@ import org.jboss.msc.service.StartException;
 public class XaDataSourceService extends AbstractDataSourceService {
     private final XaDataSource dataSourceConfig;
 
-    public XaDataSourceService(final String jndiName, final XaDataSource dataSourceConfig) {
-        super(jndiName);
+    public XaDataSourceService(final String jndiName, final XaDataSource dataSourceConfig, final PoolTuning poolTuning) {
+        super(jndiName, poolTuning);
         this.dataSourceConfig = dataSourceConfig;
     }
 
@@ -167,7 +167,7 @@ public class XaDataSourceService extends AbstractDataSourceService {
         return xaManagedConnectionFactory;
     }
 
-    protected Pool createPool(final String jndiName, final ManagedConnectionFactory mcf) {
+    protected StatisticsPool createPool(final String jndiName, final ManagedConnectionFactory mcf) {
         final PoolConfiguration pc = createPoolConfiguration(dataSourceConfig.getXaPool(), dataSourceConfig.getTimeOut(),
                 dataSourceConfig.getValidation());
 
@@ -188,7 +188,7 @@ public class XaDataSourceService extends AbstractDataSourceService {
             poolName = jndiName;
         }
         pool.setName(poolName);
-        return pool;
+        return new StatisticsPool(pool, pc, getPoolTuning().getFlushStrategy());
     }
 
     protected ConnectionManager createConnectionManager(final String jndiName, final Pool pool) {
@@ -0,0 +1,241 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.workmanager;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.threads.BlockingExecutor;
+
+/**
+ * A {@link BlockingExecutor} that hands the work of the work manager to a thread pool, gathering statistics
+ * on the way and applying admission control.
+ * <p>
+ * Admission control bounds how long a resource adapter thread can be held up submitting work. When
+ * {@code maxPending} work is already waiting to start, new work is rejected right away. Otherwise, if an
+ * {@code admissionTimeout} is set, the submitter waits at most that long for the pool to accept the work before it
+ * is rejected. The work manager reports a rejection to the resource adapter as a
+ * {@link javax.resource.spi.work.WorkRejectedException}.
+ *
+ * @author <a href="mailto:stefano.maestri@redhat.com">Stefano Maestri</a>
+ */
+public final class StatisticsExecutor implements BlockingExecutor {
+
+    private final BlockingExecutor delegate;
+    private final int maxPending;
+    private final long admissionTimeout;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    /** Work submitted or accepted, but not started yet */
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong totalStartTime = new AtomicLong();
+    private final AtomicLong maxStartTime = new AtomicLong();
+
+    /**
+     * Create a new instance.
+     *
+     * @param delegate the thread pool running the work
+     * @param maxPending the maximum number of work waiting to start before new work is rejected, or -1 for no limit
+     * @param admissionTimeout the maximum time in milliseconds to wait for the thread pool to accept work, or -1 to
+     *            wait as long as the work manager asks for
+     */
+    public StatisticsExecutor(final BlockingExecutor delegate, final int maxPending, final long admissionTimeout) {
+        this.delegate = delegate;
+        this.maxPending = maxPending;
+        this.admissionTimeout = admissionTimeout;
+    }
+
+    public void execute(final Runnable task) {
+        final Runnable work = submit(task);
+        try {
+            delegate.execute(work);
+            accepted.incrementAndGet();
+        } catch (RuntimeException e) {
+            throw rejected(e);
+        }
+    }
+
+    public void executeBlocking(final Runnable task) throws RejectedExecutionException, InterruptedException {
+        if (admissionTimeout >= 0) {
+            executeBlocking(task, admissionTimeout, TimeUnit.MILLISECONDS);
+            return;
+        }
+        final Runnable work = submit(task);
+        try {
+            delegate.executeBlocking(work);
+            accepted.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            throw rejected(e);
+        } catch (InterruptedException e) {
+            throw rejected(e);
+        }
+    }
+
+    public void executeBlocking(final Runnable task, final long timeout, final TimeUnit unit) throws RejectedExecutionException,
+            InterruptedException {
+        long millis = unit.toMillis(timeout);
+        if (admissionTimeout >= 0 && admissionTimeout < millis) {
+            millis = admissionTimeout;
+        }
+        final Runnable work = submit(task);
+        try {
+            delegate.executeBlocking(work, millis, TimeUnit.MILLISECONDS);
+            accepted.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            throw rejected(e);
+        } catch (InterruptedException e) {
+            throw rejected(e);
+        }
+    }
+
+    public void executeNonBlocking(final Runnable task) throws RejectedExecutionException {
+        final Runnable work = submit(task);
+        try {
+            delegate.executeNonBlocking(work);
+            accepted.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            throw rejected(e);
+        }
+    }
+
+    private Runnable submit(final Runnable task) {
+        submitted.incrementAndGet();
+        if (pending.incrementAndGet() > maxPending && maxPending >= 0) {
+            pending.decrementAndGet();
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("Work rejected, " + maxPending + " work already waiting to start");
+        }
+        final long submitTime = System.nanoTime();
+        return new Runnable() {
+            public void run() {
+                started(submitTime);
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.incrementAndGet();
+                }
+            }
+        };
+    }
+
+    private void started(final long submitTime) {
+        pending.decrementAndGet();
+        active.incrementAndGet();
+        started.incrementAndGet();
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitTime);
+        totalStartTime.addAndGet(elapsed);
+        long max;
+        while (elapsed > (max = maxStartTime.get())) {
+            if (maxStartTime.compareAndSet(max, elapsed)) {
+                break;
+            }
+        }
+    }
+
+    private <T extends Throwable> T rejected(final T cause) {
+        pending.decrementAndGet();
+        rejected.incrementAndGet();
+        return cause;
+    }
+
+    /**
+     * Get the number of work submitted to the thread pool.
+     *
+     * @return the submitted count
+     */
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    /**
+     * Get the number of work accepted by the thread pool.
+     *
+     * @return the accepted count
+     */
+    public long getAccepted() {
+        return accepted.get();
+    }
+
+    /**
+     * Get the number of work rejected, by admission control or by the thread pool.
+     *
+     * @return the rejected count
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Get the number of work that ran to completion, successfully or not.
+     *
+     * @return the completed count
+     */
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * Get the number of work waiting to start.
+     *
+     * @return the pending count
+     */
+    public int getPending() {
+        return Math.max(0, pending.get());
+    }
+
+    /**
+     * Get the number of work currently running.
+     *
+     * @return the active count
+     */
+    public int getActive() {
+        return active.get();
+    }
+
+    /**
+     * Get the average time between the submission of work and its start, in milliseconds.
+     *
+     * @return the average start time
+     */
+    public long getAverageStartTime() {
+        final long count = started.get();
+        return count == 0 ? 0 : totalStartTime.get() / count;
+    }
+
+    /**
+     * Get the longest time between the submission of work and its start, in milliseconds.
+     *
+     * @return the max start time
+     */
+    public long getMaxStartTime() {
+        return maxStartTime.get();
+    }
+}
@@ -45,6 +45,14 @@ public final class WorkManagerService implements Service<WorkManager> {
 
     private final WorkManager value;
 
+    private final int longRunningMaxPending;
+
+    private final long longRunningAdmissionTimeout;
+
+    private volatile StatisticsExecutor shortRunningStatistics;
+
+    private volatile StatisticsExecutor longRunningStatistics;
+
     private final InjectedValue<Executor> executorShort = new InjectedValue<Executor>();
 
     private final InjectedValue<Executor> executorLong = new InjectedValue<Executor>();
@@ -55,10 +63,24 @@ public final class WorkManagerService implements Service<WorkManager> {
 
     /** create an instance **/
     public WorkManagerService(WorkManager value) {
+        this(value, -1, -1);
+    }
+
+    /**
+     * Create an instance applying admission control to long running work.
+     *
+     * @param value the work manager
+     * @param longRunningMaxPending the maximum number of long running work waiting to start before new work is
+     *            rejected, or -1 for no limit
+     * @param longRunningAdmissionTimeout the maximum time in milliseconds to wait for the long running thread pool
+     *            to accept work, or -1 to block as long as the work manager asks for
+     */
+    public WorkManagerService(WorkManager value, int longRunningMaxPending, long longRunningAdmissionTimeout) {
         super();
         log.debugf("Building WorkManager");
         this.value = value;
-
+        this.longRunningMaxPending = longRunningMaxPending;
+        this.longRunningAdmissionTimeout = longRunningAdmissionTimeout;
     }
 
     @Override
@@ -68,8 +90,11 @@ public final class WorkManagerService implements Service<WorkManager> {
 
     @Override
     public void start(StartContext context) throws StartException {
-        this.value.setLongRunningThreadPool((BlockingExecutor) executorLong.getValue());
-        this.value.setShortRunningThreadPool((BlockingExecutor) executorShort.getValue());
+        longRunningStatistics = new StatisticsExecutor((BlockingExecutor) executorLong.getValue(), longRunningMaxPending,
+                longRunningAdmissionTimeout);
+        shortRunningStatistics = new StatisticsExecutor((BlockingExecutor) executorShort.getValue(), -1, -1);
+        this.value.setLongRunningThreadPool(longRunningStatistics);
+        this.value.setShortRunningThreadPool(shortRunningStatistics);
         this.value.setXATerminator(new XATerminatorImpl(xaTerminator.getValue()));
 
         log.debugf("Starting JCA WorkManager");
@@ -80,6 +105,24 @@ public final class WorkManagerService implements Service<WorkManager> {
 
     }
 
+    /**
+     * Get the statistics of the short running work.
+     *
+     * @return the statistics or {@code null} if the work manager is not started
+     */
+    public StatisticsExecutor getShortRunningStatistics() {
+        return shortRunningStatistics;
+    }
+
+    /**
+     * Get the statistics of the long running work.
+     *
+     * @return the statistics or {@code null} if the work manager is not started
+     */
+    public StatisticsExecutor getLongRunningStatistics() {
+        return longRunningStatistics;
+    }
+
     public Injector<Executor> getExecutorShortInjector() {
         return executorShort;
     }
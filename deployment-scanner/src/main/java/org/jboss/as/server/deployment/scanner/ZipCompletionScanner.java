@@ -26,13 +26,22 @@ import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Scans a zip file to check whether the complete end of directory record is
  * present, indicating the file content (or at least the zip portion) is complete.
+ * <p>
+ * The tail of the file and the central directory are memory mapped rather than read
+ * chunk by chunk, and only the end of central directory record, the central directory
+ * and the first local file header are examined. Results are cached keyed by the file's
+ * size and last modification time, so repeatedly checking a file that has not changed
+ * since the last check does not touch its content.
  *
  * @author Brian Stansberry (c) 2011 Red Hat Inc.
  */
@@ -46,6 +55,10 @@ public class ZipCompletionScanner {
     public static final long CENSIG = 0x02014b50L;
     /** End of central directory record marker */
     public static final long ENDSIG = 0x06054b50L;
+    /** Zip64 end of central directory record marker */
+    public static final long ZIP64_ENDSIG = 0x06064b50L;
+    /** Zip64 end of central directory locator marker */
+    public static final long ZIP64_LOCSIG = 0x07064b50L;
 
     /** Length of the fixed portion of a local file header */
     public static final int LOCLEN = 30;
@@ -53,6 +66,10 @@ public class ZipCompletionScanner {
     public static final int CENLEN = 46;
     /** Length of the fixed portion of a End of central directory record */
     public static final int ENDLEN = 22;
+    /** Length of the fixed portion of a Zip64 end of central directory record */
+    public static final int ZIP64_ENDLEN = 56;
+    /** Length of a Zip64 end of central directory locator */
+    public static final int ZIP64_LOCLEN = 20;
 
     /** Position of the filename length in a local file header */
     public static final int LOC_FILENAMELEN = 26;
@@ -61,21 +78,48 @@ public class ZipCompletionScanner {
 
     /** Position of the associated local file's compressed size in the central directory file header */
     public static final int CENSIZ = 20;
+    /** Position of the associated local file's uncompressed size in the central directory file header */
+    public static final int CENLEN_UNCOMPRESSED = 24;
+    /** Position of the filename length in the central directory file header */
+    public static final int CEN_FILENAMELEN = 28;
+    /** Position of the extra field length in the central directory file header */
+    public static final int CEN_EXTFLDLEN = 30;
+    /** Position of the file comment length in the central directory file header */
+    public static final int CEN_COMMENTLEN = 32;
     /** Position of the associated local file's offset in the central directory file header */
-    public static final int CEN_LOC_OFFSET = 32;
+    public static final int CEN_LOC_OFFSET = 42;
 
+    /** Position of the total number of central directory records in a end of central directory record */
+    public static final int END_TOTAL_ENTRIES = 10;
+    /** Position of the size of the central directory in a end of central directory record */
+    public static final int END_CENSIZE = 12;
     /** Position of the 'start of central directory' field in a end of central directory record */
     public static final int END_CENSTART = 16;
     /**  END_CENSTART value that indicates the zip is in ZIP 64 format */
     public static final long ZIP64_MARKER = 0xFFFFFFFFL;
+    /**  END_TOTAL_ENTRIES value that indicates the zip is in ZIP 64 format */
+    public static final int ZIP64_COUNT_MARKER = 0xFFFF;
     /** Position of the comment length in a end of central directory record */
     public static final int END_COMMENTLEN = 20;
 
+    /** Position of the Zip64 end of central directory record offset in a Zip64 end of central directory locator */
+    public static final int ZIP64_LOC_END_OFFSET = 8;
+    /** Position of the total number of central directory records in a Zip64 end of central directory record */
+    public static final int ZIP64_END_TOTAL_ENTRIES = 32;
+    /** Position of the size of the central directory in a Zip64 end of central directory record */
+    public static final int ZIP64_END_CENSIZE = 40;
+    /** Position of the 'start of central directory' field in a Zip64 end of central directory record */
+    public static final int ZIP64_END_CENSTART = 48;
+    /** Header id of the Zip64 extended information extra field */
+    public static final int ZIP64_EXTRA_ID = 0x0001;
 
     private static final int MAX_REVERSE_SCAN = (1 << 16) + ENDLEN;
     private static final int CHUNK_SIZE = 4096;
     private static final int ALPHABET_SIZE = 256;
 
+    /** Maximum number of per-file scan results that are retained */
+    private static final int MAX_CACHED_RESULTS = 256;
+
     private static final byte[] ENDSIG_PATTERN = new byte[]{0x06, 0x05, 0x4b, 0x50};
     private static final int SIG_PATTERN_LENGTH = 4;
 
@@ -84,6 +128,8 @@ public class ZipCompletionScanner {
     private static final byte[] LOCSIG_PATTERN = new byte[]{0x50, 0x4b, 0x03, 0x04};
     private static final int[] LOC_BAD_BYTE_SKIP = new int[ALPHABET_SIZE];
 
+    private static final Map<String, ScanResult> resultCache = new ResultCache();
+
     static {
         // Set up the Boyer Moore "bad character arrays" for our 2 patterns
         computeBadByteSkipArray(ENDSIG_PATTERN, END_BAD_BYTE_SKIP);
@@ -95,6 +141,8 @@ public class ZipCompletionScanner {
 
     /**
      * Scans the given file looking for a complete zip file format end of central directory record.
+     * If the file has the same size and last modification time as when it was last scanned, the
+     * result of that scan is returned without reading the file.
      *
      * @param file the file
      *
@@ -104,7 +152,53 @@ public class ZipCompletionScanner {
      */
     public static boolean isCompleteZip(File file) throws IOException, NonScannableZipException {
 
+        final String key = file.getAbsolutePath();
+        // Read the attributes before scanning, so a change made during the scan results in a cache miss next time
+        final long lastModified = file.lastModified();
+        final long length = file.length();
+
+        ScanResult cached;
+        synchronized (resultCache) {
+            cached = resultCache.get(key);
+        }
+        if (cached != null && cached.length == length && cached.lastModified == lastModified) {
+            if (cached.nonScannable) {
+                throw new NonScannableZipException(file);
+            }
+            return cached.complete;
+        }
+
+        // Only definite outcomes are cached; an IOException propagates without pinning the file's result
+        try {
+            boolean complete = scan(file);
+            cacheResult(key, length, lastModified, complete, false);
+            return complete;
+        }
+        catch (NonScannableZipException e) {
+            cacheResult(key, length, lastModified, false, true);
+            throw e;
+        }
+    }
+
+    private static void cacheResult(String key, long length, long lastModified, boolean complete, boolean nonScannable) {
+        if (lastModified != 0) { // 0 means the file does not exist or could not be read
+            synchronized (resultCache) {
+                resultCache.put(key, new ScanResult(length, lastModified, complete, nonScannable));
+            }
+        }
+    }
+
+    /** Discards all cached scan results. Used by tests which rewrite files faster than the timestamp resolution. */
+    static void clearCache() {
+        synchronized (resultCache) {
+            resultCache.clear();
+        }
+    }
+
+    private static boolean scan(File file) throws IOException, NonScannableZipException {
+
         FileChannel channel = null;
+        ByteBuffer tail = null;
         try {
             channel = new FileInputStream(file).getChannel();
 
@@ -112,27 +206,37 @@ public class ZipCompletionScanner {
             if (size < ENDLEN) { // Obvious case
                 return false;
             }
-            else if (validateEndRecord(file, channel, size - ENDLEN)) { // typical case where file is complete and end record has no comment
+
+            // Map the region of the file that could hold the end of central directory record, including
+            // a maximum length comment. Everything we need to find the central directory is in there.
+            int tailLength = (int) Math.min(size, MAX_REVERSE_SCAN);
+            long tailStart = size - tailLength;
+            tail = map(channel, tailStart, tailLength);
+
+            if (validateEndRecord(file, channel, tail, tailStart, tailLength - ENDLEN)) { // typical case where file is complete and end record has no comment
                 return true;
             }
 
             // Either file is incomplete or the end of central directory record includes an arbitrary length comment
             // So, we have to scan backwards looking for an end of central directory record
-            return scanForEndSig(file, channel);
+            return scanForEndSig(file, channel, tail, tailStart);
         }
         finally {
+            unmap(tail);
             safeClose(channel);
         }
     }
 
     /**
      * Validates that the data structure at position startEndRecord has a field in the expected position
-     * that points to the start of the first central directory file, and, if so, that the file
+     * that points to the start of a well formed central directory, and, if so, that the file
      * has a complete end of central directory record comment at the end.
      *
      * @param file the file being checked
      * @param channel the channel
-     * @param startEndRecord the start of the end of central directory record
+     * @param tail the mapped tail of the file
+     * @param tailStart the offset in the file of the start of {@code tail}
+     * @param endOffset the offset in {@code tail} of the start of the end of central directory record
      *
      * @return true if it can be confirmed that the end of directory record points to a central directory
      *         file and a complete comment is present, false otherwise
@@ -140,148 +244,231 @@ public class ZipCompletionScanner {
      * @throws IOException
      * @throws NonScannableZipException
      */
-    private static boolean validateEndRecord(File file, FileChannel channel, long startEndRecord) throws IOException, NonScannableZipException {
+    private static boolean validateEndRecord(File file, FileChannel channel, ByteBuffer tail, long tailStart, int endOffset)
+            throws IOException, NonScannableZipException {
 
+        ByteBuffer cen = null;
         try {
-            channel.position(startEndRecord);
+            if (endOffset < 0 || endOffset + ENDLEN > tail.limit()) {
+                // Couldn't read the full end of central directory record header
+                return false;
+            }
+            else if (getUnsignedInt(tail, endOffset) != ENDSIG) {
+                return false;
+            }
 
-            ByteBuffer endDirHeader = getByteBuffer(ENDLEN);
+            long startEndRecord = tailStart + endOffset;
+            long cenStart = getUnsignedInt(tail, endOffset + END_CENSTART);
+            long cenSize = getUnsignedInt(tail, endOffset + END_CENSIZE);
+            long cenCount = getUnsignedShort(tail, endOffset + END_TOTAL_ENTRIES);
+            // The central directory must end before the end record (or before the Zip64 end record)
+            long cenLimit = startEndRecord;
+
+            if (cenStart == ZIP64_MARKER || cenSize == ZIP64_MARKER || cenCount == ZIP64_COUNT_MARKER) {
+                // The real values are in the Zip64 end of central directory record, which
+                // is found via the locator immediately preceding the end record
+                if (startEndRecord < ZIP64_LOCLEN) {
+                    return false;
+                }
+                ByteBuffer locator = getByteBuffer(ZIP64_LOCLEN);
+                read(locator, channel, startEndRecord - ZIP64_LOCLEN);
+                if (locator.limit() < ZIP64_LOCLEN || getUnsignedInt(locator, 0) != ZIP64_LOCSIG) {
+                    return false;
+                }
+                long zip64EndPos = locator.getLong(ZIP64_LOC_END_OFFSET);
+                if (zip64EndPos < 0 || zip64EndPos + ZIP64_ENDLEN > startEndRecord - ZIP64_LOCLEN) {
+                    return false;
+                }
+                ByteBuffer zip64End = getByteBuffer(ZIP64_ENDLEN);
+                read(zip64End, channel, zip64EndPos);
+                if (zip64End.limit() < ZIP64_ENDLEN || getUnsignedInt(zip64End, 0) != ZIP64_ENDSIG) {
+                    return false;
+                }
+                cenCount = zip64End.getLong(ZIP64_END_TOTAL_ENTRIES);
+                cenSize = zip64End.getLong(ZIP64_END_CENSIZE);
+                cenStart = zip64End.getLong(ZIP64_END_CENSTART);
+                cenLimit = zip64EndPos;
+            }
 
-            read(endDirHeader, channel);
-            if (endDirHeader.limit() < ENDLEN) {
-                // Couldn't read the full end of central directory record header
+            if (cenStart < 0 || cenSize < 0 || cenCount < 0
+                    || cenStart + CENLEN > cenLimit || cenStart + cenSize > cenLimit) {
+                // pos wasn't really a position
                 return false;
             }
-            else if (getUnsignedInt(endDirHeader, 0) != ENDSIG) {
+
+            long cenMapLength = Math.min(Math.max(cenSize, CENLEN), cenLimit - cenStart);
+            if (cenMapLength > Integer.MAX_VALUE) {
+                return false;
+            }
+            cen = map(channel, cenStart, (int) cenMapLength);
+            if (getUnsignedInt(cen, 0) != CENSIG || !validateCentralDirectory(cen, cenSize, cenCount)) {
                 return false;
             }
 
-            long pos = getUnsignedInt(endDirHeader, END_CENSTART);
-            // TODO deal with Zip64
-            if (pos == ZIP64_MARKER) {
-                throw new NonScannableZipException(file, true);
+            long firstLoc = getUnsignedInt(cen, CEN_LOC_OFFSET);
+            long firstSize = getUnsignedInt(cen, CENSIZ);
+            if (firstLoc == ZIP64_MARKER || firstSize == ZIP64_MARKER) {
+                long[] zip64Values = readZip64ExtraField(cen, 0);
+                if (zip64Values == null) {
+                    return false;
+                }
+                firstSize = zip64Values[1];
+                firstLoc = zip64Values[2];
             }
 
-            ByteBuffer cdfhBuffer = getByteBuffer(CENLEN);
-            read(cdfhBuffer, channel, pos);
-            long header = getUnsignedInt(cdfhBuffer, 0);
-            if (header == CENSIG) {
-                long firstLoc = getUnsignedInt(cdfhBuffer, CEN_LOC_OFFSET);
-                long firstSize = getUnsignedInt(cdfhBuffer, CENSIZ);
-                if (firstLoc == 0) {
-                    // normal case -- first bytes are the first local file
-                    if (!validateLocalFileRecord(channel, 0, firstSize)) {
+            if (firstLoc == 0) {
+                // normal case -- first bytes are the first local file
+                if (!validateLocalFileRecord(channel, 0, firstSize)) {
+                    return false;
+                }
+            }
+            else {
+                // confirm that firstLoc is indeed the first local file
+                long fileFirstLoc = scanForLocSig(channel);
+                if (firstLoc != fileFirstLoc) {
+                    if (fileFirstLoc == 0) {
                         return false;
                     }
-                }
-                else {
-                    // confirm that firstLoc is indeed the first local file
-                    long fileFirstLoc = scanForLocSig(channel);
-                    if (firstLoc != fileFirstLoc) {
-                        if (fileFirstLoc == 0) {
-                            return false;
-                        }
-                        else {
-                            // scanForLocSig() found a LOCSIG, but not at position zero and not
-                            // at the expected position.
-                            // With a file like this, we can't tell if we're in a nested zip
-                            // or we're in an outer zip and had the bad luck to find random bytes
-                            // that look like LOCSIG. This file cannot be autodeployed.
-                            throw new NonScannableZipException(file, false);
-                        }
+                    else {
+                        // scanForLocSig() found a LOCSIG, but not at position zero and not
+                        // at the expected position.
+                        // With a file like this, we can't tell if we're in a nested zip
+                        // or we're in an outer zip and had the bad luck to find random bytes
+                        // that look like LOCSIG. This file cannot be autodeployed.
+                        throw new NonScannableZipException(file);
                     }
                 }
-
-                // At this point, endDirHeader points to the correct end of central dir record.
-                // Just need to validate the record is complete, including any comment
-                int commentLen = getUnsignedShort(endDirHeader, END_COMMENTLEN);
-                long commentEnd = startEndRecord + ENDLEN + commentLen;
-                return commentEnd <= channel.size();
             }
 
-            return false;
+            // At this point, the end record is the correct end of central dir record.
+            // Just need to validate the record is complete, including any comment
+            int commentLen = getUnsignedShort(tail, endOffset + END_COMMENTLEN);
+            long commentEnd = startEndRecord + ENDLEN + commentLen;
+            return commentEnd <= channel.size();
         }
         catch (EOFException eof) {
             // pos or firstLoc weren't really positions and moved us to an invalid location
             return false;
         }
+        finally {
+            unmap(cen);
+        }
     }
 
     /**
-     * Boyer Moore scan that proceeds backwards from the end of the file looking for ENDSIG
-     * @throws NonScannableZipException
+     * Walks the file headers in the mapped central directory, checking that each begins with
+     * the central directory file header signature and that together they exactly fill the
+     * declared size of the central directory.
+     *
+     * @param cen the mapped central directory
+     * @param cenSize the size of the central directory declared by the end record
+     * @param cenCount the number of central directory file headers declared by the end record
+     *
+     * @return true if the central directory is consistent with the end record
      */
-    private static boolean scanForEndSig(File file, FileChannel channel) throws IOException, NonScannableZipException {
+    private static boolean validateCentralDirectory(ByteBuffer cen, long cenSize, long cenCount) {
 
-        // TODO Consider just reading in MAX_REVERSE_SCAN bytes -- increased peak memory cost but less complex
+        long pos = 0;
+        for (long i = 0; i < cenCount; i++) {
+            if (pos + CENLEN > cen.limit() || getUnsignedInt(cen, (int) pos) != CENSIG) {
+                return false;
+            }
+            pos += CENLEN + getUnsignedShort(cen, (int) pos + CEN_FILENAMELEN)
+                    + getUnsignedShort(cen, (int) pos + CEN_EXTFLDLEN)
+                    + getUnsignedShort(cen, (int) pos + CEN_COMMENTLEN);
+        }
+        return pos == cenSize;
+    }
 
-        ByteBuffer bb = getByteBuffer(CHUNK_SIZE);
-        long start = channel.size();
-        long end = Math.max(0, start - MAX_REVERSE_SCAN);
-        long channelPos = Math.max(0, start - CHUNK_SIZE);
-        long lastChannelPos = channelPos;
-        boolean firstRead = true;
-        while (lastChannelPos >= end) {
-
-            read(bb, channel, channelPos);
-
-            int actualRead = bb.limit();
-            if (firstRead) {
-                long expectedRead = Math.min(CHUNK_SIZE, start);
-                if (actualRead > expectedRead) {
-                    // File is still growing
-                    return false;
+    /**
+     * Reads the Zip64 extended information extra field of the central directory file header
+     * at the given offset.
+     *
+     * @return array holding the uncompressed size, compressed size and local header offset,
+     *         or {@code null} if the extra field is missing or malformed
+     */
+    private static long[] readZip64ExtraField(ByteBuffer cen, int cenOffset) {
+
+        long[] values = new long[] {
+                getUnsignedInt(cen, cenOffset + CENLEN_UNCOMPRESSED),
+                getUnsignedInt(cen, cenOffset + CENSIZ),
+                getUnsignedInt(cen, cenOffset + CEN_LOC_OFFSET)
+        };
+
+        int extraStart = cenOffset + CENLEN + getUnsignedShort(cen, cenOffset + CEN_FILENAMELEN);
+        int extraEnd = extraStart + getUnsignedShort(cen, cenOffset + CEN_EXTFLDLEN);
+        if (extraEnd > cen.limit()) {
+            return null;
+        }
+        int pos = extraStart;
+        while (pos + 4 <= extraEnd) {
+            int id = getUnsignedShort(cen, pos);
+            int len = getUnsignedShort(cen, pos + 2);
+            if (id == ZIP64_EXTRA_ID) {
+                // Only the fields whose header values are set to the marker are present, in this order
+                int fieldPos = pos + 4;
+                int fieldEnd = Math.min(fieldPos + len, extraEnd);
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == ZIP64_MARKER) {
+                        if (fieldPos + 8 > fieldEnd) {
+                            return null;
+                        }
+                        values[i] = cen.getLong(fieldPos);
+                        fieldPos += 8;
+                    }
                 }
-                firstRead = false;
+                return values;
             }
+            pos += 4 + len;
+        }
+        return null;
+    }
 
-            int bufferPos = actualRead -1;
-            while (bufferPos >= SIG_PATTERN_LENGTH) {
+    /**
+     * Boyer Moore scan that proceeds backwards from the end of the file looking for ENDSIG
+     * @throws NonScannableZipException
+     */
+    private static boolean scanForEndSig(File file, FileChannel channel, ByteBuffer tail, long tailStart)
+            throws IOException, NonScannableZipException {
 
-                // Following is based on the Boyer Moore algorithm but simplified to reflect
-                // a) the pattern is static
-                // b) the pattern has no repeating bytes
+        int bufferPos = tail.limit() - 1;
+        while (bufferPos >= SIG_PATTERN_LENGTH - 1) {
 
-                int patternPos;
-                for (patternPos = SIG_PATTERN_LENGTH - 1;
-                     patternPos >= 0 && ENDSIG_PATTERN[patternPos] == bb.get(bufferPos - patternPos);
-                     --patternPos) {
-                    // empty loop while bytes match
-                }
+            // Following is based on the Boyer Moore algorithm but simplified to reflect
+            // a) the pattern is static
+            // b) the pattern has no repeating bytes
 
-                // Switch gives same results as checking the "good suffix array" in the Boyer Moore algorithm
-                switch (patternPos) {
-                    case -1: {
-                        // Pattern matched. Confirm is this is the start of a valid end of central dir record
-                        long startEndRecord = channelPos + bufferPos - SIG_PATTERN_LENGTH + 1;
-                        if (validateEndRecord(file, channel, startEndRecord)) {
-                            return true;
-                        }
-                        // wasn't a valid end record; continue scan
-                        bufferPos -= 4;
-                        break;
-                    }
-                    case 3: {
-                        // No bytes matched; the common case.
-                        // With our pattern, this is the only case where the Boyer Moore algorithm's "bad char array" may
-                        // produce a shift greater than the "good suffix array" (which would shift 1 byte)
-                        int idx = bb.get(bufferPos - patternPos) - Byte.MIN_VALUE;
-                        bufferPos -= END_BAD_BYTE_SKIP[idx];
-                        break;
-                    }
-                    default:
-                        // 1 or more bytes matched
-                        bufferPos -= 4;
-                }
+            int patternPos;
+            for (patternPos = SIG_PATTERN_LENGTH - 1;
+                 patternPos >= 0 && ENDSIG_PATTERN[patternPos] == tail.get(bufferPos - patternPos);
+                 --patternPos) {
+                // empty loop while bytes match
             }
 
-            // Move back a full chunk. If we didn't read a full chunk, that's ok,
-            // it means we read all data and the outer while loop will terminate
-            if (channelPos <= bufferPos) {
-                break;
+            // Switch gives same results as checking the "good suffix array" in the Boyer Moore algorithm
+            switch (patternPos) {
+                case -1: {
+                    // Pattern matched. Confirm is this is the start of a valid end of central dir record
+                    int endOffset = bufferPos - SIG_PATTERN_LENGTH + 1;
+                    if (validateEndRecord(file, channel, tail, tailStart, endOffset)) {
+                        return true;
+                    }
+                    // wasn't a valid end record; continue scan
+                    bufferPos -= 4;
+                    break;
+                }
+                case 3: {
+                    // No bytes matched; the common case.
+                    // With our pattern, this is the only case where the Boyer Moore algorithm's "bad char array" may
+                    // produce a shift greater than the "good suffix array" (which would shift 1 byte)
+                    int idx = tail.get(bufferPos - patternPos) - Byte.MIN_VALUE;
+                    bufferPos -= END_BAD_BYTE_SKIP[idx];
+                    break;
+                }
+                default:
+                    // 1 or more bytes matched
+                    bufferPos -= 4;
             }
-            lastChannelPos = channelPos;
-            channelPos -= Math.min(channelPos - bufferPos, CHUNK_SIZE - bufferPos);
         }
 
         return false;
@@ -371,6 +558,9 @@ public class ZipCompletionScanner {
         long nextSigPos = startLocRecord + LOCLEN + compressedSize + fnLen + extFieldLen;
 
         read(lfhBuffer, channel, nextSigPos);
+        if (lfhBuffer.limit() < SIG_PATTERN_LENGTH) {
+            return false;
+        }
         long header = getUnsignedInt(lfhBuffer, 0);
         return header == LOCSIG || header == EXTSIG || header == CENSIG;
     }
@@ -381,6 +571,34 @@ public class ZipCompletionScanner {
         return b;
     }
 
+    private static ByteBuffer map(FileChannel ch, long pos, int length) throws IOException {
+        ByteBuffer b = ch.map(FileChannel.MapMode.READ_ONLY, pos, length);
+        b.order(ByteOrder.LITTLE_ENDIAN);
+        return b;
+    }
+
+    /**
+     * Releases a mapped buffer right away rather than when it is garbage collected. Until then the mapping
+     * keeps the file open, which on Windows prevents the deployment from being replaced or deleted.
+     * The buffer must not be used afterwards.
+     */
+    private static void unmap(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        }
+        catch (Exception ignored) {
+            // Not a JVM we know how to unmap on; the mapping is released when the buffer is collected
+        }
+    }
+
     private static void read(ByteBuffer bb, FileChannel ch) throws IOException {
         bb.clear();
         ch.read(bb);
@@ -422,20 +640,42 @@ public class ZipCompletionScanner {
         }
     }
 
-    public static class NonScannableZipException extends Exception {
+    /** Outcome of scanning a file, along with the file attributes that were current when it was scanned */
+    private static class ScanResult {
+        private final long length;
+        private final long lastModified;
+        private final boolean complete;
+        private final boolean nonScannable;
+
+        private ScanResult(final long length, final long lastModified, final boolean complete, final boolean nonScannable) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.complete = complete;
+            this.nonScannable = nonScannable;
+        }
+    }
 
-        private static final long serialVersionUID = -5794753842070509152L;
+    /** Access ordered map that discards the least recently checked file once full */
+    private static class ResultCache extends LinkedHashMap<String, ScanResult> {
+
+        private static final long serialVersionUID = 3577917219773960566L;
 
-        private NonScannableZipException(final File file, final boolean zip64) {
-            super(zip64 ? getZip64Message(file) : getNonStandardMessage(file));
+        private ResultCache() {
+            super(16, 0.75f, true);
         }
 
-        private static String getNonStandardMessage(final File file) {
-            return String.format("File %s cannot be scanned because it does not begin with a ZIP file format local file header signature", file.getPath());
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ScanResult> eldest) {
+            return size() > MAX_CACHED_RESULTS;
         }
+    }
+
+    public static class NonScannableZipException extends Exception {
+
+        private static final long serialVersionUID = -5794753842070509152L;
 
-        private static String getZip64Message(final File file) {
-            return String.format("File %s cannot be scanned because it uses the currently unsupported ZIP64 format", file.getPath());
+        private NonScannableZipException(final File file) {
+            super(String.format("File %s cannot be scanned because it does not begin with a ZIP file format local file header signature", file.getPath()));
         }
     }
 }
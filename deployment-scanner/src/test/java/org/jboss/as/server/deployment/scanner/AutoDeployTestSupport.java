@@ -28,11 +28,22 @@ import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.CENSIZ
 import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.CEN_LOC_OFFSET;
 import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ENDLEN;
 import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ENDSIG;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.END_CENSIZE;
 import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.END_CENSTART;
 import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.END_COMMENTLEN;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.END_TOTAL_ENTRIES;
 import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.EXTSIG;
 import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.LOCLEN;
 import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.LOCSIG;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ZIP64_ENDLEN;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ZIP64_ENDSIG;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ZIP64_COUNT_MARKER;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ZIP64_END_CENSIZE;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ZIP64_END_CENSTART;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ZIP64_END_TOTAL_ENTRIES;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ZIP64_LOCLEN;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ZIP64_LOCSIG;
+import static org.jboss.as.server.deployment.scanner.ZipCompletionScanner.ZIP64_LOC_END_OFFSET;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -147,12 +158,16 @@ public class AutoDeployTestSupport {
             ch.position(leadingBytes);
             int locPos = leadingBytes + (extraLoc ? (LOCLEN + (useExt ? EXTLEN : 0)) : 0);
             int cenPos = locPos + LOCLEN + (useExt ? EXTLEN : 0);
-            int endPos = cenPos + CENLEN;
+            int zip64EndPos = cenPos + CENLEN;
+            int endPos = zip64EndPos + (useZip64 ? ZIP64_ENDLEN + ZIP64_LOCLEN : 0);
             if (extraLoc) {
                 addLocFile(ch, leadingBytes, useExt);
             }
             addLocFile(ch, locPos, useExt);
             addCenDir(ch, cenPos, locPos);
+            if (useZip64) {
+                addZip64EndRecord(ch, zip64EndPos, cenPos);
+            }
             addEndRecord(ch, endPos, cenPos, trailingByte, useZip64);
         }
         finally {
@@ -200,13 +215,39 @@ public class AutoDeployTestSupport {
 
     }
 
+    private void addZip64EndRecord(FileChannel ch, int zip64EndPos, int cenPos) throws IOException {
+
+        ByteBuffer bb = getByteBuffer(ZIP64_ENDLEN + ZIP64_LOCLEN);
+
+        putUnsignedInt(bb, ZIP64_ENDSIG, 0);
+        bb.putLong(ZIP64_END_TOTAL_ENTRIES, 1);
+        bb.putLong(ZIP64_END_CENSIZE, CENLEN);
+        bb.putLong(ZIP64_END_CENSTART, cenPos);
+
+        putUnsignedInt(bb, ZIP64_LOCSIG, ZIP64_ENDLEN);
+        bb.putLong(ZIP64_ENDLEN + ZIP64_LOC_END_OFFSET, zip64EndPos);
+
+//        bb.flip(); // don't flip as we never moved the position
+        ch.write(bb, zip64EndPos);
+    }
+
     private void addEndRecord(FileChannel ch, int endPos, int cenPos, boolean trailingByte, boolean useZip64) throws IOException {
 
         ByteBuffer bb = getByteBuffer(ENDLEN + (trailingByte ? 1 : 0));
 
 
         putUnsignedInt(bb, ENDSIG, 0);
-        putUnsignedInt(bb, useZip64 ? 0xffffffffL : cenPos, END_CENSTART);
+        if (useZip64) {
+            // The real values are in the Zip64 end record
+            putUnsignedShort(bb, ZIP64_COUNT_MARKER, END_TOTAL_ENTRIES);
+            putUnsignedInt(bb, 0xffffffffL, END_CENSIZE);
+            putUnsignedInt(bb, 0xffffffffL, END_CENSTART);
+        }
+        else {
+            putUnsignedShort(bb, 1, END_TOTAL_ENTRIES);
+            putUnsignedInt(bb, CENLEN, END_CENSIZE);
+            putUnsignedInt(bb, cenPos, END_CENSTART);
+        }
 
         if (trailingByte) {
             putUnsignedShort(bb, 1, END_COMMENTLEN);
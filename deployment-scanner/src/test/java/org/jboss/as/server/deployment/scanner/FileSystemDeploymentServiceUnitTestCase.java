@@ -115,6 +115,7 @@ public class FileSystemDeploymentServiceUnitTestCase {
     @After
     public void tearDown() throws Exception {
         testSupport.cleanupChannels();
+        ZipCompletionScanner.clearCache();
     }
 
     @Test
@@ -25,6 +25,7 @@ import static org.jboss.as.server.deployment.scanner.AutoDeployTestSupport.getBy
 import static org.jboss.as.server.deployment.scanner.AutoDeployTestSupport.putUnsignedShort;
 
 import java.io.File;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 
@@ -61,6 +62,7 @@ public class ZipCompletionScannerUnitTestCase {
     @After
     public void tearDown() {
         testSupport.cleanupChannels();
+        ZipCompletionScanner.clearCache();
     }
 
     @Test
@@ -263,20 +265,122 @@ public class ZipCompletionScannerUnitTestCase {
         }
     }
 
-    // This test should be reworked if Zip64 support is added
     @Test
     public void testZip64() throws Exception {
 
-        File zip = testSupport.getFile("leadingbyte.jar");
+        File zip = testSupport.getFile("zip64.jar");
 
         testSupport.createZip(zip, 0, false, false, false, true);
 
+        Assert.assertTrue(ZipCompletionScanner.isCompleteZip(zip));
+    }
+
+    @Test
+    public void testZip64LeadingAndTrailingBytes() throws Exception {
+
+        File zip = testSupport.getFile("zip64leadingtrailing.jar");
+
+        testSupport.createZip(zip, 1, true, false, false, true);
+
+        Assert.assertTrue(ZipCompletionScanner.isCompleteZip(zip));
+    }
+
+    @Test
+    public void testZip64MissingLocator() throws Exception {
+
+        File zip = testSupport.getFile("zip64nolocator.jar");
+
+        testSupport.createZip(zip, 0, false, false, false, true);
+
+        // Wipe out the Zip64 end of central directory locator signature
+        FileChannel ch = testSupport.getChannel(zip, true);
+        long locatorPos = ch.size() - ZipCompletionScanner.ENDLEN - ZipCompletionScanner.ZIP64_LOCLEN;
+        ch.close();
+        RandomAccessFile raf = new RandomAccessFile(zip, "rw");
         try {
-            ZipCompletionScanner.isCompleteZip(zip);
-            Assert.fail("Scan of Zip64 file did not fail");
+            raf.seek(locatorPos);
+            raf.writeInt(0);
         }
-        catch (NonScannableZipException good) {
+        finally {
+            raf.close();
+        }
+
+        Assert.assertFalse(ZipCompletionScanner.isCompleteZip(zip));
+    }
+
+    @Test
+    public void testCentralDirectoryCountMismatch() throws Exception {
+
+        File zip = testSupport.getFile("cencount.jar");
+
+        testSupport.createZip(zip, 0, false, false, false, false);
+        Assert.assertTrue(ZipCompletionScanner.isCompleteZip(zip));
+        ZipCompletionScanner.clearCache();
+
+        // Declare a second central directory header which is not there
+        long countPos = zip.length() - ZipCompletionScanner.ENDLEN + ZipCompletionScanner.END_TOTAL_ENTRIES;
+        RandomAccessFile raf = new RandomAccessFile(zip, "rw");
+        try {
+            raf.seek(countPos);
+            raf.writeShort(Short.reverseBytes((short) 2));
+        }
+        finally {
+            raf.close();
+        }
+
+        Assert.assertFalse(ZipCompletionScanner.isCompleteZip(zip));
+    }
+
+    @Test
+    public void testZip64CentralDirectoryCountMismatch() throws Exception {
+
+        File zip = testSupport.getFile("zip64cencount.jar");
+
+        testSupport.createZip(zip, 0, false, false, false, true);
+        Assert.assertTrue(ZipCompletionScanner.isCompleteZip(zip));
+        ZipCompletionScanner.clearCache();
+
+        // Declare a second central directory header in the Zip64 end record
+        long zip64EndPos = zip.length() - ZipCompletionScanner.ENDLEN - ZipCompletionScanner.ZIP64_LOCLEN
+                - ZipCompletionScanner.ZIP64_ENDLEN;
+        RandomAccessFile raf = new RandomAccessFile(zip, "rw");
+        try {
+            raf.seek(zip64EndPos + ZipCompletionScanner.ZIP64_END_TOTAL_ENTRIES);
+            raf.writeLong(Long.reverseBytes(2));
+        }
+        finally {
+            raf.close();
         }
+
+        Assert.assertFalse(ZipCompletionScanner.isCompleteZip(zip));
+    }
+
+    @Test
+    public void testRescanAfterChange() throws Exception {
+
+        File file = testSupport.getFile("growing.jar");
+
+        FileChannel in = testSupport.getChannel(testSupport.getBasicWar(), true);
+
+        FileChannel out = testSupport.getChannel(file, false);
+
+        // Write out all but 1 byte
+        ByteBuffer bb = getByteBuffer((int) in.size());
+        in.read(bb);
+        bb.flip();
+        bb.limit(bb.capacity() - 1);
+        out.write(bb);
+
+        Assert.assertFalse(ZipCompletionScanner.isCompleteZip(file));
+        // Unchanged file gives the same answer
+        Assert.assertFalse(ZipCompletionScanner.isCompleteZip(file));
+
+        // Complete the file; the changed size must not be served from the cache
+        bb.limit(bb.capacity());
+        out.write(bb);
+        out.force(true);
+
+        Assert.assertTrue(ZipCompletionScanner.isCompleteZip(file));
     }
 
 }
@@ -27,6 +27,8 @@ import org.jboss.as.ee.component.AbstractComponentConfiguration;
 import org.jboss.as.ee.component.EEModuleDescription;
 
 import org.jboss.as.ejb3.component.session.SessionBeanComponentDescription;
+import org.jboss.as.server.Services;
+import org.jboss.msc.service.ServiceBuilder;
 
 /**
  * User: jpai
@@ -42,6 +44,9 @@ public class StatefulComponentDescription extends SessionBeanComponentDescriptio
      */
     public StatefulComponentDescription(final String componentName, final String componentClassName, final EEModuleDescription moduleDescription) {
         super(componentName, componentClassName, moduleDescription);
+
+        // Session ids come from the generator shared with the web container
+        addDependency(Services.JBOSS_SESSION_ID_GENERATOR, ServiceBuilder.DependencyType.REQUIRED);
     }
 
     @Override
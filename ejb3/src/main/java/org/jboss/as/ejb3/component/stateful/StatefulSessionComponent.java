@@ -25,6 +25,8 @@ import java.lang.reflect.Method;
 import org.jboss.as.ee.component.AbstractComponentInstance;
 import org.jboss.as.ee.component.Component;
 import org.jboss.as.ejb3.component.session.SessionBeanComponent;
+import org.jboss.as.server.Services;
+import org.jboss.as.server.services.session.SessionIdGenerator;
 import org.jboss.ejb3.cache.Cache;
 import org.jboss.ejb3.cache.NoPassivationCache;
 import org.jboss.ejb3.cache.StatefulObjectFactory;
@@ -44,6 +46,8 @@ public class StatefulSessionComponent extends SessionBeanComponent {
 
     private Cache<StatefulSessionComponentInstance> cache;
 
+    private final SessionIdGenerator sessionIdGenerator;
+
     /**
      * Construct a new instance.
      *
@@ -52,6 +56,7 @@ public class StatefulSessionComponent extends SessionBeanComponent {
     protected StatefulSessionComponent(final StatefulSessionComponentConfiguration configuration) {
         super(configuration);
 
+        this.sessionIdGenerator = configuration.getInjectionValue(Services.JBOSS_SESSION_ID_GENERATOR, SessionIdGenerator.class);
 
         cache = new NoPassivationCache<StatefulSessionComponentInstance>();
         cache.setStatefulObjectFactory(new StatefulObjectFactory<StatefulSessionComponentInstance>() {
@@ -100,6 +105,15 @@ public class StatefulSessionComponent extends SessionBeanComponent {
         return getCache().create().getId();
     }
 
+    /**
+     * Create the id of a new session of this component.
+     *
+     * @return the session id
+     */
+    protected String createSessionId() {
+        return sessionIdGenerator.createSessionId();
+    }
+
     protected Cache<StatefulSessionComponentInstance> getCache() {
         return cache;
     }
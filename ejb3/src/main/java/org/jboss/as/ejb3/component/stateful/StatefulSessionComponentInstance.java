@@ -26,7 +26,6 @@ import org.jboss.as.ejb3.component.session.SessionBeanComponentInstance;
 import org.jboss.ejb3.cache.Identifiable;
 import org.jboss.invocation.Interceptor;
 import org.jboss.invocation.InterceptorFactoryContext;
-import org.jboss.util.id.GUID;
 
 import java.io.Serializable;
 import java.util.List;
@@ -35,11 +34,11 @@ import java.util.List;
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
  */
 public class StatefulSessionComponentInstance extends SessionBeanComponentInstance implements Identifiable {
-    private final GUID id;
+    private final String id;
 
     protected StatefulSessionComponentInstance(final StatefulSessionComponent component, final Object instance, List<Interceptor> preDestroyInterceptors, InterceptorFactoryContext context) {
         super(component, instance, preDestroyInterceptors, context);
-        this.id = new GUID();
+        this.id = component.createSessionId();
     }
 
     @Override
@@ -23,6 +23,9 @@ package org.jboss.as.jmx.tcl;
 
 import java.io.ObjectInputStream;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.management.Attribute;
 import javax.management.AttributeList;
@@ -36,7 +39,10 @@ import javax.management.MBeanException;
 import javax.management.MBeanInfo;
 import javax.management.MBeanRegistrationException;
 import javax.management.MBeanServer;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
 import javax.management.NotCompliantMBeanException;
+import javax.management.Notification;
 import javax.management.NotificationFilter;
 import javax.management.NotificationListener;
 import javax.management.ObjectInstance;
@@ -48,17 +54,52 @@ import javax.management.loading.ClassLoaderRepository;
 
 /**
  * An MBeanServer wrapper that sets the thread context classloader before
- * calling the delegate MBeanServer method
+ * calling the delegate MBeanServer method.
+ * <p>
+ * The classloader of each MBean is cached by name, so the common calls do not need a second repository lookup.
+ * The cache is invalidated by the registration notifications of the delegate MBeanServer; call {@link #close()}
+ * to remove the notification listener once the wrapper is no longer used.
  *
  * @author <a href="kabir.khan@jboss.com">Kabir Khan</a>
  * @version $Revision: 1.1 $
  */
 public class TcclMBeanServer implements MBeanServer {
 
+    /** Stands in for a {@code null} classloader, which the map can not hold. */
+    private static final ClassLoader NULL_CLASSLOADER = new ClassLoader(null) {};
+
     private final MBeanServer delegate;
+    private final ConcurrentMap<ObjectName, ClassLoader> classLoaders = new ConcurrentHashMap<ObjectName, ClassLoader>();
+    /** Incremented on every registration change, so a lookup racing with one is not cached. */
+    private final AtomicLong registrationCount = new AtomicLong();
+    private final NotificationListener registrationListener = new NotificationListener() {
+        public void handleNotification(Notification notification, Object handback) {
+            if (notification instanceof MBeanServerNotification) {
+                registrationCount.incrementAndGet();
+                classLoaders.remove(((MBeanServerNotification) notification).getMBeanName());
+            }
+        }
+    };
 
     public TcclMBeanServer(MBeanServer delegate) {
         this.delegate = delegate;
+        try {
+            delegate.addNotificationListener(MBeanServerDelegate.DELEGATE_NAME, registrationListener, null, null);
+        } catch (InstanceNotFoundException e) {
+            throw new IllegalStateException("MBeanServer delegate is not registered", e);
+        }
+    }
+
+    /**
+     * Stop tracking registrations on the delegate MBeanServer and clear the classloader cache.
+     */
+    public void close() {
+        try {
+            delegate.removeNotificationListener(MBeanServerDelegate.DELEGATE_NAME, registrationListener);
+        } catch (InstanceNotFoundException ignore) {
+        } catch (ListenerNotFoundException ignore) {
+        }
+        classLoaders.clear();
     }
 
     public void addNotificationListener(ObjectName name, NotificationListener listener, NotificationFilter filter, Object handback)
@@ -152,7 +193,7 @@ public class TcclMBeanServer implements MBeanServer {
     }
 
     public ClassLoader getClassLoaderFor(ObjectName mbeanName) throws InstanceNotFoundException {
-        return delegate.getClassLoaderFor(mbeanName);
+        return lookupClassLoader(mbeanName);
     }
 
     public ClassLoaderRepository getClassLoaderRepository() {
@@ -297,11 +338,32 @@ public class TcclMBeanServer implements MBeanServer {
     }
 
     public void unregisterMBean(ObjectName name) throws InstanceNotFoundException, MBeanRegistrationException {
-        delegate.unregisterMBean(name);
+        try {
+            delegate.unregisterMBean(name);
+        } finally {
+            classLoaders.remove(name);
+        }
+    }
+
+    private ClassLoader lookupClassLoader(ObjectName name) throws InstanceNotFoundException {
+        ClassLoader cl = classLoaders.get(name);
+        if (cl == null) {
+            // Patterns match more than one MBean, so only cache exact names
+            if (name == null || name.isPattern()) {
+                return delegate.getClassLoaderFor(name);
+            }
+            final long count = registrationCount.get();
+            cl = delegate.getClassLoaderFor(name);
+            if (count == registrationCount.get()) {
+                classLoaders.putIfAbsent(name, cl == null ? NULL_CLASSLOADER : cl);
+            }
+            return cl;
+        }
+        return cl == NULL_CLASSLOADER ? null : cl;
     }
 
     private ClassLoader pushClassLoader(ObjectName name) throws InstanceNotFoundException {
-        ClassLoader mbeanCl = delegate.getClassLoaderFor(name);
+        ClassLoader mbeanCl = lookupClassLoader(name);
         return SecurityActions.setThreadContextClassLoader(mbeanCl);
     }
 
@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2010, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jmx.tcl;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanConstructorInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanNotificationInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the classloader cache of the {@link TcclMBeanServer} follows MBean registration changes.
+ *
+ * @author <a href="kabir.khan@jboss.com">Kabir Khan</a>
+ * @version $Revision: 1.1 $
+ */
+public class TcclMBeanServerUnitTestCase {
+
+    private static final String TCCL = "Tccl";
+
+    private MBeanServer delegate;
+    private TcclMBeanServer server;
+    private ObjectName name;
+
+    @Before
+    public void setUp() throws Exception {
+        delegate = MBeanServerFactory.newMBeanServer();
+        server = new TcclMBeanServer(delegate);
+        name = new ObjectName("test:type=tccl");
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testReRegistrationThroughWrapperUsesNewClassLoader() throws Exception {
+        final ClassLoader first = newClassLoader();
+        final ClassLoader second = newClassLoader();
+
+        server.registerMBean(createMBean(first), name);
+        assertSame(first, server.getAttribute(name, TCCL));
+
+        server.unregisterMBean(name);
+        server.registerMBean(createMBean(second), name);
+        assertSame(second, server.getAttribute(name, TCCL));
+    }
+
+    @Test
+    public void testReRegistrationOnDelegateUsesNewClassLoader() throws Exception {
+        final ClassLoader first = newClassLoader();
+        final ClassLoader second = newClassLoader();
+
+        delegate.registerMBean(createMBean(first), name);
+        assertSame(first, server.getAttribute(name, TCCL));
+
+        // Bypasses the wrapper, so only the registration notifications can invalidate the cache
+        delegate.unregisterMBean(name);
+        delegate.registerMBean(createMBean(second), name);
+        assertSame(second, server.getAttribute(name, TCCL));
+    }
+
+    @Test
+    public void testThreadContextClassLoaderIsRestored() throws Exception {
+        final ClassLoader loader = newClassLoader();
+        server.registerMBean(createMBean(loader), name);
+
+        final ClassLoader old = Thread.currentThread().getContextClassLoader();
+        assertNotSame(loader, old);
+        server.getAttribute(name, TCCL);
+        assertSame(old, Thread.currentThread().getContextClassLoader());
+    }
+
+    private ClassLoader newClassLoader() {
+        return new ClassLoader(DynamicMBean.class.getClassLoader()) {
+        };
+    }
+
+    /**
+     * Create an MBean whose class is defined by the given classloader, and which returns the thread context
+     * classloader it is invoked with as the {@code Tccl} attribute.
+     */
+    private static DynamicMBean createMBean(final ClassLoader loader) {
+        final MBeanInfo info = new MBeanInfo(DynamicMBean.class.getName(), "Records the thread context classloader",
+                new MBeanAttributeInfo[] { new MBeanAttributeInfo(TCCL, ClassLoader.class.getName(), "The TCCL", true, false, false) },
+                new MBeanConstructorInfo[0], new MBeanOperationInfo[0], new MBeanNotificationInfo[0]);
+        return (DynamicMBean) Proxy.newProxyInstance(loader, new Class<?>[] { DynamicMBean.class }, new InvocationHandler() {
+            public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                if ("getMBeanInfo".equals(method.getName())) {
+                    return info;
+                }
+                if ("getAttribute".equals(method.getName()) && TCCL.equals(args[0])) {
+                    return Thread.currentThread().getContextClassLoader();
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -105,6 +105,8 @@ public class PersistenceUnitMetadata implements PersistenceUnitInfo {
 
     private Index annotationIndex;
 
+    private PersistenceUnitScanCache scanCache;
+
     public void setPersistenceUnitName(String name) {
         this.name = name;
     }
@@ -190,6 +192,17 @@ public class PersistenceUnitMetadata implements PersistenceUnitInfo {
         return annotationIndex;
     }
 
+    public void setScanCache(PersistenceUnitScanCache scanCache) {
+        this.scanCache = scanCache;
+    }
+
+    /**
+     * @return the cache of the persistence unit scan results, or null if scan results are not cached
+     */
+    public PersistenceUnitScanCache getScanCache() {
+        return scanCache;
+    }
+
     @Override
     public List<String> getManagedClassNames() {
         return classes;
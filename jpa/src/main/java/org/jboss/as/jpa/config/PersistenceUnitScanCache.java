@@ -0,0 +1,202 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.config;
+
+import org.jboss.logging.Logger;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Persistent cache of the classes and files found when scanning a persistence unit.  The cache is kept in a file
+ * per persistence unit and is only valid for the deployment content it was written for, so that a restart with
+ * unchanged deployment content doesn't have to scan again.
+ *
+ * @author Scott Marlow
+ */
+public class PersistenceUnitScanCache {
+
+    private static final Logger log = Logger.getLogger("org.jboss.jpa");
+
+    private static final String CONTENT_HASH = "content-hash";
+    private static final String SEPARATOR = "\n";
+
+    private final File file;
+    private final String contentHash;
+    private final Properties entries = new Properties();
+    private boolean modified;
+
+    /**
+     * Create the scan cache of a persistence unit, loading what was stored for the same deployment content.
+     *
+     * @param file        the file the cache is stored in
+     * @param contentHash the hash of the deployment content
+     */
+    public PersistenceUnitScanCache(final File file, final String contentHash) {
+        this.file = file;
+        this.contentHash = contentHash;
+        load();
+    }
+
+    /**
+     * Get the cache file of a persistence unit.
+     *
+     * @param directory    the directory holding the cache files
+     * @param scopedPuName the scoped name of the persistence unit
+     * @return the cache file
+     */
+    public static File getCacheFile(final File directory, final String scopedPuName) {
+        final StringBuilder name = new StringBuilder(scopedPuName.length());
+        for (int i = 0; i < scopedPuName.length(); i++) {
+            final char c = scopedPuName.charAt(i);
+            name.append(Character.isLetterOrDigit(c) || c == '.' || c == '-' ? c : '_');
+        }
+        // keep names that only differ by replaced characters apart
+        name.append('-').append(Integer.toHexString(scopedPuName.hashCode())).append(".properties");
+        return new File(directory, name.toString());
+    }
+
+    /**
+     * Get the names stored for a scan.
+     *
+     * @param key identifies the scan
+     * @return the names found by the scan, or null if the scan is not cached
+     */
+    public synchronized Set<String> get(final String key) {
+        final String value = entries.getProperty(key);
+        if (value == null) {
+            return null;
+        }
+        if (value.length() == 0) {
+            return Collections.emptySet();
+        }
+        final Set<String> result = new LinkedHashSet<String>();
+        Collections.addAll(result, value.split(SEPARATOR));
+        return result;
+    }
+
+    /**
+     * Store the names found by a scan.
+     *
+     * @param key   identifies the scan
+     * @param names the names found by the scan
+     */
+    public synchronized void put(final String key, final Collection<String> names) {
+        final StringBuilder value = new StringBuilder();
+        for (String name : names) {
+            if (value.length() > 0) {
+                value.append(SEPARATOR);
+            }
+            value.append(name);
+        }
+        entries.setProperty(key, value.toString());
+        modified = true;
+    }
+
+    /**
+     * Write the cache file if scans were added.
+     */
+    public synchronized void store() {
+        if (!modified) {
+            return;
+        }
+        final File directory = file.getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            log.warn("Could not create persistence unit scan cache directory " + directory);
+            return;
+        }
+        final Properties properties = new Properties();
+        properties.putAll(entries);
+        properties.setProperty(CONTENT_HASH, contentHash);
+        OutputStream out = null;
+        try {
+            out = new FileOutputStream(file);
+            properties.store(out, null);
+            modified = false;
+        } catch (IOException e) {
+            log.warn("Could not write persistence unit scan cache " + file, e);
+        } finally {
+            safeClose(out);
+        }
+    }
+
+    private void load() {
+        if (!file.isFile()) {
+            return;
+        }
+        final Properties properties = new Properties();
+        InputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            properties.load(in);
+        } catch (IOException e) {
+            log.debug("Could not read persistence unit scan cache " + file, e);
+            return;
+        } finally {
+            safeClose(in);
+        }
+        // the cache was written for other deployment content
+        if (!contentHash.equals(properties.getProperty(CONTENT_HASH))) {
+            return;
+        }
+        properties.remove(CONTENT_HASH);
+        entries.putAll(properties);
+    }
+
+    /**
+     * Create the key of a scan.
+     *
+     * @param type  the type of scan
+     * @param parts the values the result of the scan depends on
+     * @return the key
+     */
+    public static String key(final String type, final Collection<String> parts) {
+        final List<String> sorted = new ArrayList<String>(parts);
+        Collections.sort(sorted);
+        final StringBuilder key = new StringBuilder(type);
+        for (String part : sorted) {
+            key.append('|').append(part);
+        }
+        return key.toString();
+    }
+
+    private static void safeClose(final Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+}
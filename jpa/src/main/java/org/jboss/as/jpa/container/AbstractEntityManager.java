@@ -66,6 +66,16 @@ public abstract class AbstractEntityManager implements EntityManager {
      * Precondition: getEntityManager() must be called previous to calling isInTx
      */
     protected abstract boolean isInTx();
+
+    /**
+     * Called once a call delegated to the entity manager returned by getEntityManager() has completed, unless the
+     * call returned an object that still uses the entity manager (a query, the delegate or the transaction).
+     *
+     * Precondition: getEntityManager() must be called previous to calling releaseEntityManager
+     */
+    protected void releaseEntityManager() {
+    }
+
     /**
      * save metadata if not already set.
      * @param puScopedName
@@ -113,57 +123,117 @@ public abstract class AbstractEntityManager implements EntityManager {
     }
 
     public void detach(Object entity) {
-        getEntityManager().detach(entity);
+        final EntityManager em = getEntityManager();
+        try {
+            em.detach(entity);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public <T> T find(Class<T> entityClass, Object primaryKey, Map<String, Object> properties) {
-        T result = getEntityManager().find(entityClass, primaryKey, properties);
-        detachNonTxInvocation();
-        return result;
+        final EntityManager em = getEntityManager();
+        try {
+            T result = em.find(entityClass, primaryKey, properties);
+            detachNonTxInvocation(em);
+            return result;
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public <T> T find(Class<T> entityClass, Object primaryKey, LockModeType lockMode) {
-        T result = getEntityManager().find(entityClass, primaryKey, lockMode);
-        detachNonTxInvocation();
-        return result;
+        final EntityManager em = getEntityManager();
+        try {
+            T result = em.find(entityClass, primaryKey, lockMode);
+            detachNonTxInvocation(em);
+            return result;
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public <T> T find(Class<T> entityClass, Object primaryKey, LockModeType lockMode, Map<String, Object> properties) {
-        T result = getEntityManager().find(entityClass, primaryKey, lockMode, properties);
-        detachNonTxInvocation();
-        return result;
+        final EntityManager em = getEntityManager();
+        try {
+            T result = em.find(entityClass, primaryKey, lockMode, properties);
+            detachNonTxInvocation(em);
+            return result;
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public CriteriaBuilder getCriteriaBuilder() {
-        return getEntityManager().getCriteriaBuilder();
+        final EntityManager em = getEntityManager();
+        try {
+            return em.getCriteriaBuilder();
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public EntityManagerFactory getEntityManagerFactory() {
-        return getEntityManager().getEntityManagerFactory();
+        final EntityManager em = getEntityManager();
+        try {
+            return em.getEntityManagerFactory();
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public LockModeType getLockMode(Object entity) {
-        return getEntityManager().getLockMode(entity);
+        final EntityManager em = getEntityManager();
+        try {
+            return em.getLockMode(entity);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public Metamodel getMetamodel() {
-        return getEntityManager().getMetamodel();
+        final EntityManager em = getEntityManager();
+        try {
+            return em.getMetamodel();
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public Map<String, Object> getProperties() {
-        return getEntityManager().getProperties();
+        final EntityManager em = getEntityManager();
+        try {
+            return em.getProperties();
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void lock(Object entity, LockModeType lockMode, Map<String, Object> properties) {
-        getEntityManager().lock(entity, lockMode, properties);
+        final EntityManager em = getEntityManager();
+        try {
+            em.lock(entity, lockMode, properties);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void setProperty(String propertyName, Object value) {
-        getEntityManager().setProperty(propertyName, value);
+        final EntityManager em = getEntityManager();
+        try {
+            em.setProperty(propertyName, value);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void clear() {
-        getEntityManager().clear();
+        final EntityManager em = getEntityManager();
+        try {
+            em.clear();
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void close() {
@@ -171,7 +241,12 @@ public abstract class AbstractEntityManager implements EntityManager {
     }
 
     public boolean contains(Object entity) {
-        return getEntityManager().contains(entity);
+        final EntityManager em = getEntityManager();
+        try {
+            return em.contains(entity);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public Query createNamedQuery(String name) {
@@ -196,11 +271,21 @@ public abstract class AbstractEntityManager implements EntityManager {
     }
 
     public <T> T find(Class<T> entityClass, Object primaryKey) {
-        return getEntityManager().find(entityClass, primaryKey);
+        final EntityManager em = getEntityManager();
+        try {
+            return em.find(entityClass, primaryKey);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void flush() {
-        getEntityManager().flush();
+        final EntityManager em = getEntityManager();
+        try {
+            em.flush();
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public Object getDelegate() {
@@ -208,13 +293,23 @@ public abstract class AbstractEntityManager implements EntityManager {
     }
 
     public FlushModeType getFlushMode() {
-        return getEntityManager().getFlushMode();
+        final EntityManager em = getEntityManager();
+        try {
+            return em.getFlushMode();
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public <T> T getReference(Class<T> entityClass, Object primaryKey) {
-        T result = getEntityManager().getReference(entityClass, primaryKey);
-        detachNonTxInvocation();
-        return result;
+        final EntityManager em = getEntityManager();
+        try {
+            T result = em.getReference(entityClass, primaryKey);
+            detachNonTxInvocation(em);
+            return result;
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public EntityTransaction getTransaction() {
@@ -222,68 +317,116 @@ public abstract class AbstractEntityManager implements EntityManager {
     }
 
     public boolean isOpen() {
-        return getEntityManager().isOpen();
+        final EntityManager em = getEntityManager();
+        try {
+            return em.isOpen();
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void joinTransaction() {
-        getEntityManager().joinTransaction();
+        final EntityManager em = getEntityManager();
+        try {
+            em.joinTransaction();
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void lock(Object entity, LockModeType lockMode) {
-        getEntityManager().lock(entity, lockMode);
+        final EntityManager em = getEntityManager();
+        try {
+            em.lock(entity, lockMode);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public <T> T merge(T entity) {
-        EntityManager em = getEntityManager();
-        transactionIsRequired();
-        return em.merge(entity);
+        final EntityManager em = getEntityManager();
+        try {
+            transactionIsRequired();
+            return em.merge(entity);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void persist(Object entity) {
-        EntityManager em = getEntityManager();
-        transactionIsRequired();
-        em.persist(entity);
+        final EntityManager em = getEntityManager();
+        try {
+            transactionIsRequired();
+            em.persist(entity);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void refresh(Object entity) {
-        EntityManager em = getEntityManager();
-        transactionIsRequired();
-        em.refresh(entity);
+        final EntityManager em = getEntityManager();
+        try {
+            transactionIsRequired();
+            em.refresh(entity);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void refresh(Object entity, Map<String, Object> properties) {
-        EntityManager em = getEntityManager();
-        transactionIsRequired();
-        em.refresh(entity, properties);
+        final EntityManager em = getEntityManager();
+        try {
+            transactionIsRequired();
+            em.refresh(entity, properties);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void refresh(Object entity, LockModeType lockMode) {
-        EntityManager em = getEntityManager();
-        transactionIsRequired();
-        em.refresh(entity, lockMode);
+        final EntityManager em = getEntityManager();
+        try {
+            transactionIsRequired();
+            em.refresh(entity, lockMode);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void refresh(Object entity, LockModeType lockMode, Map<String, Object> properties) {
-        EntityManager em = getEntityManager();
-        transactionIsRequired();
-        em.refresh(entity, lockMode, properties);
+        final EntityManager em = getEntityManager();
+        try {
+            transactionIsRequired();
+            em.refresh(entity, lockMode, properties);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void remove(Object entity) {
-        EntityManager em = getEntityManager();
-        transactionIsRequired();
-        em.remove(entity);
+        final EntityManager em = getEntityManager();
+        try {
+            transactionIsRequired();
+            em.remove(entity);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     public void setFlushMode(FlushModeType flushMode) {
-        getEntityManager().setFlushMode(flushMode);
+        final EntityManager em = getEntityManager();
+        try {
+            em.setFlushMode(flushMode);
+        } finally {
+            releaseEntityManager();
+        }
     }
 
     // JPA 7.6.1 If the entity manager is invoked outside the scope of a transaction, any entities loaded from the database
     // will immediately become detached at the end of the method call.
-    private void detachNonTxInvocation() {
+    private void detachNonTxInvocation(EntityManager entityManager) {
         if ( ! this.isExtendedPersistenceContext() && ! this.isInTx()) {
-            getEntityManager().clear();
+            entityManager.clear();
         }
     }
 
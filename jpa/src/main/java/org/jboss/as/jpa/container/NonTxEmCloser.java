@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.container;
+
+import org.jboss.logging.Logger;
+
+import javax.persistence.EntityManager;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Tracks the non-transactional entity managers created during a component invocation on a per thread basis, so
+ * that they can be reused for the rest of the invocation and closed once the outermost invocation completes.
+ *
+ * @author Scott Marlow
+ */
+public class NonTxEmCloser {
+
+    private static final Logger log = Logger.getLogger("org.jboss.jpa");
+
+    /**
+     * Each thread will have its own invocation in progress (nested invocations share the outermost one).
+     */
+    private static final ThreadLocal<Invocation> currentInvocation = new ThreadLocal<Invocation>();
+
+    /**
+     * Enter a component invocation.
+     */
+    public static void pushCall() {
+        Invocation invocation = currentInvocation.get();
+        if (invocation == null) {
+            invocation = new Invocation();
+            currentInvocation.set(invocation);
+        }
+        invocation.depth++;
+    }
+
+    /**
+     * Leave a component invocation.  The entity managers are closed when leaving the outermost invocation.
+     */
+    public static void popCall() {
+        final Invocation invocation = currentInvocation.get();
+        if (invocation == null) {
+            return;
+        }
+        if (--invocation.depth == 0) {
+            currentInvocation.remove();
+            for (EntityManager entityManager : invocation.entityManagers.values()) {
+                try {
+                    if (entityManager.isOpen()) {
+                        entityManager.close();
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Failed to close non-transactional entity manager " + entityManager, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the non-transactional entity manager created for a container managed entity manager during the current
+     * invocation.
+     *
+     * @param scopedEntityManager the container managed entity manager, compared by identity
+     * @return the entity manager or null if none was created or there is no invocation in progress
+     */
+    public static EntityManager get(EntityManager scopedEntityManager) {
+        final Invocation invocation = currentInvocation.get();
+        return invocation == null ? null : invocation.entityManagers.get(scopedEntityManager);
+    }
+
+    /**
+     * Remember a non-transactional entity manager until the end of the current invocation.
+     *
+     * @param scopedEntityManager the container managed entity manager, compared by identity
+     * @param entityManager the entity manager
+     * @return true if the entity manager will be closed at the end of the invocation, false if there is no
+     * invocation in progress
+     */
+    public static boolean add(EntityManager scopedEntityManager, EntityManager entityManager) {
+        final Invocation invocation = currentInvocation.get();
+        if (invocation == null) {
+            return false;
+        }
+        invocation.entityManagers.put(scopedEntityManager, entityManager);
+        return true;
+    }
+
+    private static class Invocation {
+        private int depth;
+        private final Map<EntityManager, EntityManager> entityManagers = new IdentityHashMap<EntityManager, EntityManager>();
+    }
+}
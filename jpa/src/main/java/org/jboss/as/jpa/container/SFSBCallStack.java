@@ -41,9 +41,9 @@ public class SFSBCallStack {
     /**
      * Each thread will have its own list of SFSB invocations in progress.
      */
-    private static ThreadLocal<ArrayList<SFSBContextHandle>> SFSBInvocationStack = new ThreadLocal<ArrayList<SFSBContextHandle>>() {
-        protected synchronized ArrayList<SFSBContextHandle> initialValue() {
-            return new ArrayList<SFSBContextHandle>();
+    private static ThreadLocal<CallStack> SFSBInvocationStack = new ThreadLocal<CallStack>() {
+        protected synchronized CallStack initialValue() {
+            return new CallStack();
         }
     };
 
@@ -79,6 +79,16 @@ public class SFSBCallStack {
         return SFSBInvocationStack.get();
     }
 
+    /**
+     * Return a version of the current SFSB call stack, which changes whenever a call is pushed or popped.
+     * Used to detect that a result computed from the call stack is still current.
+     *
+     * @return call stack version
+     */
+    public static int currentSFSBCallStackVersion() {
+        return SFSBInvocationStack.get().getVersion();
+    }
+
     /**
      * Push the passed SFSB context handle onto the invocation call stack
      *
@@ -99,4 +109,13 @@ public class SFSBCallStack {
         stack.trimToSize();
         return result;
     }
+
+    private static class CallStack extends ArrayList<SFSBContextHandle> {
+
+        private static final long serialVersionUID = 1L;
+
+        int getVersion() {
+            return modCount;
+        }
+    }
 }
@@ -23,10 +23,13 @@
 package org.jboss.as.jpa.container;
 
 import org.jboss.as.jpa.transaction.TransactionUtil;
+import org.jboss.tm.TxUtils;
 
 import javax.ejb.EJBException;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
+import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
 import java.util.Map;
 
 /**
@@ -35,6 +38,9 @@ import java.util.Map;
  * the bean invocation.
  * <p/>
  * This is a proxy for the underlying persistent provider EntityManager.
+ * <p/>
+ * The entity manager resolved for a transaction is remembered by the calling thread, so that further calls in the
+ * same transaction (and with the same SFSB call stack) don't have to resolve it again.
  *
  * @author Scott Marlow
  */
@@ -43,7 +49,9 @@ public class TransactionScopedEntityManager extends AbstractEntityManager {
     private String puScopedName;          // Scoped name of the persistent unit
     private Map properties;
     private EntityManagerFactory emf;
-    private boolean isInTx;
+
+    // the last resolution made by each thread
+    private final ThreadLocal<Resolution> resolution = new ThreadLocal<Resolution>();
 
     public TransactionScopedEntityManager(String puScopedName, Map properties, EntityManagerFactory emf) {
         super(puScopedName, false);
@@ -54,9 +62,51 @@ public class TransactionScopedEntityManager extends AbstractEntityManager {
 
     @Override
     protected EntityManager getEntityManager() {
-        EntityManager result = null;
+        final Transaction tx = TransactionUtil.getInstance().getTransaction();
+        Resolution current = resolution.get();
+        if (current != null) {
+            // an entity manager kept open for a query made outside a component invocation is not used any longer
+            current.closeUnownedEntityManager();
+        }
+
+        // fast path, the entity manager was already resolved for this transaction and SFSB call stack, and the
+        // transaction is still active (not marked rollback only)
+        if (current != null && tx != null && current.transaction == tx && TxUtils.isActive(tx)) {
+            final EntityManager entityManager = current.entityManager;
+            if (entityManager != null && current.callStackVersion == SFSBCallStack.currentSFSBCallStackVersion()) {
+                current.inTx = true;
+                return entityManager;
+            }
+        }
+
+        final boolean isInTx = TransactionUtil.getInstance().isInTx();
+        final EntityManager result = resolveEntityManager(isInTx);
+        if (isInTx) {
+            if (current == null || current.transaction != tx) {
+                current = new Resolution(tx);
+                // forget the entity manager once the transaction completes
+                TransactionUtil.getTransactionSynchronizationRegistry().registerInterposedSynchronization(current);
+                resolution.set(current);
+            }
+            current.entityManager = result;
+            current.callStackVersion = SFSBCallStack.currentSFSBCallStackVersion();
+            current.inTx = true;
+        } else {
+            if (current == null) {
+                current = new Resolution(null);
+                resolution.set(current);
+            }
+            current.inTx = false;
+            if (NonTxEmCloser.get(this) != result) {
+                // no component invocation is in progress to close it
+                current.unownedEntityManager = result;
+            }
+        }
+        return result;
+    }
 
-        isInTx = TransactionUtil.getInstance().isInTx();
+    private EntityManager resolveEntityManager(final boolean isInTx) {
+        EntityManager result = null;
 
         // try to get EM from XPC and return it if puScopedName is found
         if (isInTx && (result = SFSBCallStack.findPersistenceContext(puScopedName)) != null) {
@@ -83,7 +133,12 @@ public class TransactionScopedEntityManager extends AbstractEntityManager {
             if (isInTx) {
                 result = TransactionUtil.getInstance().getOrCreateTransactionScopedEntityManager(emf, puScopedName, properties);
             } else {
-                result = EntityManagerUtil.createEntityManager(emf, properties);
+                // reuse the non-transactional entity manager of the current invocation, it is closed with the invocation
+                result = NonTxEmCloser.get(this);
+                if (result == null) {
+                    result = EntityManagerUtil.createEntityManager(emf, properties);
+                    NonTxEmCloser.add(this, result);
+                }
             }
         }
         return result;
@@ -96,7 +151,16 @@ public class TransactionScopedEntityManager extends AbstractEntityManager {
 
     @Override
     protected boolean isInTx() {
-        return isInTx;
+        final Resolution current = resolution.get();
+        return current != null && current.inTx;
+    }
+
+    @Override
+    protected void releaseEntityManager() {
+        final Resolution current = resolution.get();
+        if (current != null) {
+            current.closeUnownedEntityManager();
+        }
     }
 
     /**
@@ -110,4 +174,38 @@ public class TransactionScopedEntityManager extends AbstractEntityManager {
 
     }
 
+    /**
+     * Entity manager resolved by a thread for a transaction.  Only the owning thread reads and updates it, except
+     * for the transaction completion which may happen on another thread.
+     */
+    private static final class Resolution implements Synchronization {
+        private volatile Transaction transaction;
+        private volatile EntityManager entityManager;
+        private int callStackVersion;
+        private boolean inTx;
+        // non-transactional entity manager that no component invocation will close
+        private EntityManager unownedEntityManager;
+
+        Resolution(final Transaction transaction) {
+            this.transaction = transaction;
+        }
+
+        void closeUnownedEntityManager() {
+            final EntityManager entityManager = unownedEntityManager;
+            if (entityManager != null) {
+                unownedEntityManager = null;
+                if (entityManager.isOpen()) {
+                    entityManager.close();
+                }
+            }
+        }
+
+        public void beforeCompletion() {
+        }
+
+        public void afterCompletion(int status) {
+            transaction = null;
+            entityManager = null;
+        }
+    }
 }
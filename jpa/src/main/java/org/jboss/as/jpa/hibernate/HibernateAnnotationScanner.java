@@ -25,6 +25,7 @@ package org.jboss.as.jpa.hibernate;
 import org.hibernate.ejb.packaging.NamedInputStream;
 import org.hibernate.ejb.packaging.Scanner;
 import org.jboss.as.jpa.config.PersistenceUnitMetadata;
+import org.jboss.as.jpa.config.PersistenceUnitScanCache;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
@@ -36,7 +37,9 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -77,25 +80,27 @@ public class HibernateAnnotationScanner implements Scanner {
             if (pu == null) {
                 throw new RuntimeException("Missing PersistenceUnitMetadata (thread local wasn't set)");
             }
-            Index index = pu.getAnnotationIndex();
-            if (index == null) {
-                throw new RuntimeException("Missing annotation index to scan entity classes");
-            }
             if (jartoScan == null) {
                 throw new IllegalArgumentException("Null jar to scan url");
             }
-            Collection<ClassInfo> allClasses = index.getKnownClasses();
-            for (ClassInfo classInfo : allClasses) {
-                String className = classInfo.name().toString();
-                try {
-                    resultClasses.add(pu.getClassLoader().loadClass(className));
-                    // TODO:  fix temp classloader (get CFNE on entity class)
-                    //result.add(pu.getNewTempClassLoader().loadClass(className));
-                } catch (ClassNotFoundException e) {
-                    throw new RuntimeException("could not load entity class '" +
-                        className + "' with PersistenceUnitInfo.getNewTempClassLoader()", e);
+            final PersistenceUnitScanCache cache = pu.getScanCache();
+            final String key = PersistenceUnitScanCache.key("classes:" + jartoScan, Collections.<String>emptySet());
+            Set<String> classNames = cache != null ? cache.get(key) : null;
+            if (classNames == null) {
+                Index index = pu.getAnnotationIndex();
+                if (index == null) {
+                    throw new RuntimeException("Missing annotation index to scan entity classes");
+                }
+                classNames = new HashSet<String>();
+                Collection<ClassInfo> allClasses = index.getKnownClasses();
+                for (ClassInfo classInfo : allClasses) {
+                    classNames.add(classInfo.name().toString());
+                }
+                if (cache != null) {
+                    cache.put(key, classNames);
                 }
             }
+            resultClasses = loadClasses(pu, classNames);
         }
 
         Map<String, Package> uniquePackages = new HashMap<String, Package>();
@@ -114,10 +119,6 @@ public class HibernateAnnotationScanner implements Scanner {
         if (pu == null) {
             throw new RuntimeException("Missing PersistenceUnitMetadata (thread local wasn't set)");
         }
-        Index index = pu.getAnnotationIndex();
-        if (index == null) {
-            throw new RuntimeException("Missing annotation index to scan entity classes");
-        }
         if (jartoScan == null) {
             throw new IllegalArgumentException("Null jar to scan url");
         }
@@ -128,22 +129,44 @@ public class HibernateAnnotationScanner implements Scanner {
             throw new IllegalArgumentException("Zero annotations to look for");
         }
 
-        Set<Class<?>> result = new HashSet<Class<?>>();
-
+        final List<String> annotationNames = new ArrayList<String>(annotationsToLookFor.size());
         for (Class<? extends Annotation> annClass : annotationsToLookFor) {
-            DotName annotation = DotName.createSimple(annClass.getName());
-            List<AnnotationInstance> classesWithAnnotation = index.getAnnotations(annotation);
-            for (AnnotationInstance annotationInstance : classesWithAnnotation) {
-                String className = annotationInstance.target().toString();
-                try {
-                    result.add(pu.getClassLoader().loadClass(className));
-                    // TODO:  fix temp classloader (get CFNE on entity class)
-                    //result.add(pu.getNewTempClassLoader().loadClass(className));
-                } catch (ClassNotFoundException e) {
-                    throw new RuntimeException("could not load entity class '" +
-                        className + "' with PersistenceUnitInfo.getNewTempClassLoader()", e);
+            annotationNames.add(annClass.getName());
+        }
+        final PersistenceUnitScanCache cache = pu.getScanCache();
+        final String key = PersistenceUnitScanCache.key("annotated-classes:" + jartoScan, annotationNames);
+        Set<String> classNames = cache != null ? cache.get(key) : null;
+        if (classNames == null) {
+            Index index = pu.getAnnotationIndex();
+            if (index == null) {
+                throw new RuntimeException("Missing annotation index to scan entity classes");
+            }
+            classNames = new HashSet<String>();
+            for (String annotationName : annotationNames) {
+                DotName annotation = DotName.createSimple(annotationName);
+                List<AnnotationInstance> classesWithAnnotation = index.getAnnotations(annotation);
+                for (AnnotationInstance annotationInstance : classesWithAnnotation) {
+                    classNames.add(annotationInstance.target().toString());
                 }
             }
+            if (cache != null) {
+                cache.put(key, classNames);
+            }
+        }
+        return loadClasses(pu, classNames);
+    }
+
+    private Set<Class<?>> loadClasses(PersistenceUnitMetadata pu, Set<String> classNames) {
+        Set<Class<?>> result = new HashSet<Class<?>>();
+        for (String className : classNames) {
+            try {
+                result.add(pu.getClassLoader().loadClass(className));
+                // TODO:  fix temp classloader (get CFNE on entity class)
+                //result.add(pu.getNewTempClassLoader().loadClass(className));
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException("could not load entity class '" +
+                    className + "' with PersistenceUnitInfo.getNewTempClassLoader()", e);
+            }
         }
         return result;
     }
@@ -155,14 +178,38 @@ public class HibernateAnnotationScanner implements Scanner {
         if (filePatterns == null)
             throw new IllegalArgumentException("Null file patterns to look for");
 
+        final PersistenceUnitMetadata pu = persistenceUnitMetadataTLS.get();
+        final PersistenceUnitScanCache cache = pu != null && !filePatterns.isEmpty() ? pu.getScanCache() : null;
+        final String key = PersistenceUnitScanCache.key("files:" + jartoScan, filePatterns);
+        if (cache != null) {
+            final Set<String> paths = cache.get(key);
+            if (paths != null) {
+                final VirtualFile root = getFile(jartoScan);
+                final List<VirtualFile> files = new ArrayList<VirtualFile>(paths.size());
+                for (String path : paths) {
+                    files.add(root.getChild(path));
+                }
+                return toNIS(files);
+            }
+        }
+
         Set<NamedInputStream> result = new HashSet<NamedInputStream>();
         Map<String, Set<NamedInputStream>> map;
         map = new HashMap<String, Set<NamedInputStream>>();
-        findFiles(jartoScan, filePatterns, map, result);
+        List<VirtualFile> found = new ArrayList<VirtualFile>();
+        findFiles(jartoScan, filePatterns, map, result, found);
+        if (cache != null) {
+            final VirtualFile root = getFile(jartoScan);
+            final List<String> paths = new ArrayList<String>(found.size());
+            for (VirtualFile file : found) {
+                paths.add(file.getPathNameRelativeTo(root));
+            }
+            cache.put(key, paths);
+        }
         return result;
     }
 
-    private void findFiles(URL jartoScan, Set<String> filePatterns, Map<String, Set<NamedInputStream>> map, Set<NamedInputStream> result) {
+    private void findFiles(URL jartoScan, Set<String> filePatterns, Map<String, Set<NamedInputStream>> map, Set<NamedInputStream> result, List<VirtualFile> found) {
         if (filePatterns.isEmpty()) {
             for (Set<NamedInputStream> nims : map.values())
                 result.addAll(nims);
@@ -176,6 +223,7 @@ public class HibernateAnnotationScanner implements Scanner {
 
                     try {
                         List<VirtualFile> children = root.getChildrenRecursively(new HibernatePatternFilter(pattern));
+                        found.addAll(children);
                         niss = toNIS(children);
                     } catch (IOException e) {
                         throw new RuntimeException(e);
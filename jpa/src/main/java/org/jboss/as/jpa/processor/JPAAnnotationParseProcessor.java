@@ -30,6 +30,7 @@ import org.jboss.as.ee.component.InjectionTargetDescription;
 import org.jboss.as.ee.component.InterceptorDescription;
 import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
 import org.jboss.as.jpa.container.PersistenceUnitSearch;
+import org.jboss.as.jpa.interceptor.NonTxEmCloserInterceptorFactory;
 import org.jboss.as.jpa.interceptor.SFSBCreateInterceptor;
 import org.jboss.as.jpa.interceptor.SFSBDestroyInterceptor;
 import org.jboss.as.jpa.interceptor.SFSBInvocationInterceptorFactory;
@@ -91,6 +92,7 @@ public class JPAAnnotationParseProcessor extends AbstractComponentConfigProcesso
             return; // We can't continue without the annotation index info.
         }
         componentDescription.addAnnotationBindings(getConfigurations(deploymentUnit, classInfo, componentDescription, phaseContext));
+        boolean usesTransactionScopedPersistenceContext = hasTransactionScopedPersistenceContext(classInfo);
         final Collection<InterceptorDescription> interceptorConfigurations = componentDescription.getAllInterceptors().values();
         for (InterceptorDescription interceptorConfiguration : interceptorConfigurations) {
             final ClassInfo interceptorClassInfo = compositeIndex.getClassByName(DotName.createSimple(interceptorConfiguration.getInterceptorClassName()));
@@ -98,7 +100,25 @@ public class JPAAnnotationParseProcessor extends AbstractComponentConfigProcesso
                 continue;
             }
             componentDescription.addAnnotationBindings(getConfigurations(deploymentUnit, interceptorClassInfo, componentDescription, phaseContext));
+            usesTransactionScopedPersistenceContext |= hasTransactionScopedPersistenceContext(interceptorClassInfo);
         }
+        if (usesTransactionScopedPersistenceContext) {
+            // close the non-transactional entity managers used during an invocation, once per component
+            componentDescription.addInterceptorFactory(NonTxEmCloserInterceptorFactory.getInstance());
+        }
+    }
+
+    private boolean hasTransactionScopedPersistenceContext(final ClassInfo classInfo) {
+        final Map<DotName, List<AnnotationInstance>> classAnnotations = classInfo.annotations();
+        final List<AnnotationInstance> annotations = classAnnotations == null ? null : classAnnotations.get(PERSISTENCE_CONTEXT_ANNOTATION_NAME);
+        if (annotations != null) {
+            for (AnnotationInstance annotation : annotations) {
+                if (!isExtendedPersistenceContext(annotation)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     private List<BindingDescription> getConfigurations(final DeploymentUnit deploymentUnit,
@@ -23,16 +23,20 @@
 package org.jboss.as.jpa.processor;
 
 import org.jboss.as.connector.subsystems.datasources.AbstractDataSourceService;
+import org.jboss.as.controller.HashUtil;
 import org.jboss.as.ee.beanvalidation.BeanValidationAttachments;
 import org.jboss.as.ee.structure.DeploymentType;
 import org.jboss.as.ee.structure.DeploymentTypeMarker;
 import org.jboss.as.jpa.classloader.TempClassLoader;
 import org.jboss.as.jpa.config.PersistenceUnitMetadata;
 import org.jboss.as.jpa.config.PersistenceUnitMetadataHolder;
+import org.jboss.as.jpa.config.PersistenceUnitScanCache;
 import org.jboss.as.jpa.persistenceprovider.PersistenceProviderAdapterRegistry;
+import org.jboss.as.jpa.service.BootstrapExecutorService;
 import org.jboss.as.jpa.service.PersistenceUnitService;
 import org.jboss.as.jpa.spi.PersistenceProviderAdaptor;
 import org.jboss.as.jpa.transaction.TransactionUtil;
+import org.jboss.as.server.ServerEnvironment;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -58,10 +62,12 @@ import javax.sql.DataSource;
 import javax.transaction.TransactionManager;
 import javax.transaction.TransactionSynchronizationRegistry;
 import javax.validation.ValidatorFactory;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Handle the installation of the Persistence Unit service
@@ -180,6 +186,7 @@ public class PersistenceUnitDeploymentProcessor implements DeploymentUnitProcess
                 for (PersistenceUnitMetadata pu : holder.getPersistenceUnits()) {
                     pu.setClassLoader(classLoader);
                     pu.setTempClassloader(new TempClassLoader(classLoader));
+                    pu.setScanCache(createScanCache(deploymentUnit, pu));
                     try {
                         PersistenceUnitService service = new PersistenceUnitService(pu, resourceRoot);
                         // TODO:  move this to a standalone service
@@ -227,7 +234,8 @@ public class PersistenceUnitDeploymentProcessor implements DeploymentUnitProcess
                         if (pu.getNonJtaDataSourceName() != null) {
                             builder.addDependency(AbstractDataSourceService.SERVICE_NAME_BASE.append(pu.getNonJtaDataSourceName()),new CastingInjector<DataSource>(service.getNonJtaDataSourceInjector(),DataSource.class));
                         }
-                        builder.addDependency(TransactionManagerService.SERVICE_NAME, new CastingInjector<TransactionManager>(transactionManagerInjector, TransactionManager.class))
+                        builder.addDependency(BootstrapExecutorService.SERVICE_NAME, ExecutorService.class, service.getBootstrapExecutorInjector())
+                            .addDependency(TransactionManagerService.SERVICE_NAME, new CastingInjector<TransactionManager>(transactionManagerInjector, TransactionManager.class))
                             .addDependency(TransactionSynchronizationRegistryService.SERVICE_NAME, new CastingInjector<TransactionSynchronizationRegistry>(transactionRegistryInjector, TransactionSynchronizationRegistry.class))
                             .setInitialMode(ServiceController.Mode.ACTIVE)
                             .addInjection(service.getPropertiesInjector(), properties)
@@ -243,6 +251,25 @@ public class PersistenceUnitDeploymentProcessor implements DeploymentUnitProcess
         }
     }
 
+    /**
+     * Create the cache of the persistence unit scan results, keyed by the deployment content hash.
+     *
+     * @param deploymentUnit
+     * @param pu
+     * @return the scan cache or null if the deployment content hash or the server data directory is not known
+     */
+    private PersistenceUnitScanCache createScanCache(DeploymentUnit deploymentUnit, PersistenceUnitMetadata pu) {
+        final DeploymentUnit topLevel = deploymentUnit.getParent() == null ? deploymentUnit : deploymentUnit.getParent();
+        final byte[] hash = topLevel.getAttachment(Attachments.DEPLOYMENT_HASH);
+        final String dataDir = System.getProperty(ServerEnvironment.SERVER_DATA_DIR);
+        if (hash == null || dataDir == null) {
+            return null;
+        }
+        final File directory = new File(new File(dataDir, "jpa"), "scan-cache");
+        return new PersistenceUnitScanCache(PersistenceUnitScanCache.getCacheFile(directory, pu.getScopedPersistenceUnitName()),
+            HashUtil.bytesToHexString(hash));
+    }
+
     private void addProviderProperties(PersistenceUnitMetadata pu, Map properties) {
         PersistenceProviderAdaptor adaptor = PersistenceProviderAdapterRegistry.getPersistenceProviderAdaptor(pu.getPersistenceProviderClassName());
         adaptor.addProviderProperties(properties);
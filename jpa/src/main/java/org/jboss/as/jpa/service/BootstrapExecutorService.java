@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.service;
+
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the executor that creates the entity manager factories of the persistence units, so that the persistence
+ * units of a deployment are created concurrently.  The executor does not queue work; a persistence unit that finds
+ * all the threads busy is created by the thread that starts it.
+ *
+ * @author Scott Marlow
+ */
+public class BootstrapExecutorService implements Service<ExecutorService> {
+
+    public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("jpa", "bootstrap-executor");
+
+    private static final long KEEP_ALIVE_SECONDS = 30L;
+
+    private ExecutorService executor;
+
+    @Override
+    public synchronized void start(StartContext context) throws StartException {
+        final ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable r) {
+                final Thread thread = new Thread(r, "jpa-persistence-unit-bootstrap-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+        executor = new ThreadPoolExecutor(0, Runtime.getRuntime().availableProcessors(), KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), threadFactory);
+    }
+
+    @Override
+    public synchronized void stop(StopContext context) {
+        executor.shutdown();
+        executor = null;
+    }
+
+    @Override
+    public synchronized ExecutorService getValue() throws IllegalStateException, IllegalArgumentException {
+        final ExecutorService executor = this.executor;
+        if (executor == null) {
+            throw new IllegalStateException("Persistence unit bootstrap executor is not started");
+        }
+        return executor;
+    }
+}
@@ -49,6 +49,8 @@ import java.security.PrivilegedAction;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 
 /**
@@ -67,6 +69,7 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
 
     private final InjectedValue<DataSource> jtaDataSource = new InjectedValue<DataSource>();
     private final InjectedValue<DataSource> nonJtaDataSource = new InjectedValue<DataSource>();
+    private final InjectedValue<ExecutorService> bootstrapExecutor = new InjectedValue<ExecutorService>();
 
     private EntityManagerFactory entityManagerFactory;
     private PersistenceUnitMetadata pu;
@@ -83,7 +86,33 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
     }
 
     @Override
-    public void start(StartContext context) throws StartException {
+    public void start(final StartContext context) throws StartException {
+        // build the entity manager factory on the bootstrap executor, so that the persistence units of a deployment
+        // are created concurrently without holding on to the service container threads
+        context.asynchronous();
+        try {
+            bootstrapExecutor.getValue().execute(new Runnable() {
+                public void run() {
+                    try {
+                        createEntityManagerFactory();
+                        context.complete();
+                    } catch (Throwable t) {
+                        context.failed(new StartException("Failed to start persistence unit " + pu.getScopedPersistenceUnitName(), t));
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // all the bootstrap threads are busy, create the entity manager factory on this thread
+            try {
+                createEntityManagerFactory();
+                context.complete();
+            } catch (Throwable t) {
+                context.failed(new StartException("Failed to start persistence unit " + pu.getScopedPersistenceUnitName(), t));
+            }
+        }
+    }
+
+    private void createEntityManagerFactory() {
         try {
             PersistenceProvider provider = lookupProvider(pu.getPersistenceProviderClassName());
 
@@ -164,6 +193,10 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
         return nonJtaDataSource;
     }
 
+    public Injector<ExecutorService> getBootstrapExecutorInjector() {
+        return bootstrapExecutor;
+    }
+
     /**
      * Returns the Persistence Unit service name used for creation or lookup.
      * The service name contains the unique fully scoped persistence unit name
@@ -236,7 +269,11 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
         AccessController.doPrivileged(new SetContextLoaderAction(com.arjuna.ats.jbossatx.jta.TransactionManagerService.class
             .getClassLoader()));
         try {
-            return provider.createContainerEntityManagerFactory(pu, properties.getValue());
+            final EntityManagerFactory emf = provider.createContainerEntityManagerFactory(pu, properties.getValue());
+            if (pu.getScanCache() != null) {
+                pu.getScanCache().store();  // only remember the scan results of a successful bootstrap
+            }
+            return emf;
         } finally {
             try {
                 AccessController.doPrivileged(CLEAR_ACTION);
@@ -244,6 +281,7 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
                 try {
                     adaptor.afterCreateContainerEntityManagerFactory(pu);
                 } finally {
+                    pu.setScanCache(null);          // close reference to scan cache (only needed during call to createContainerEntityManagerFactory)
                     pu.setAnnotationIndex(null);    // close reference to Annotation Index (only needed during call to createContainerEntityManagerFactory)
                     pu.setTempClassloader(null);    // close reference to temp classloader (only needed during call to createEntityManagerFactory)
 
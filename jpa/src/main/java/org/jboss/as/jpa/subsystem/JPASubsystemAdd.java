@@ -24,8 +24,11 @@ package org.jboss.as.jpa.subsystem;
 import org.jboss.as.controller.BasicOperationResult;
 import org.jboss.as.controller.ModelAddOperationHandler;
 import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationResult;
 import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.RuntimeTask;
+import org.jboss.as.controller.RuntimeTaskContext;
 import org.jboss.as.jpa.hibernate.HibernatePersistenceProviderAdaptor;
 import org.jboss.as.jpa.persistenceprovider.PersistenceProviderAdapterRegistry;
 import org.jboss.as.jpa.persistenceprovider.PersistenceProviderResolverImpl;
@@ -34,10 +37,12 @@ import org.jboss.as.jpa.processor.JPADependencyProcessor;
 import org.jboss.as.jpa.processor.PersistenceRefProcessor;
 import org.jboss.as.jpa.processor.PersistenceUnitDeploymentProcessor;
 import org.jboss.as.jpa.processor.PersistenceUnitParseProcessor;
+import org.jboss.as.jpa.service.BootstrapExecutorService;
 import org.jboss.as.server.BootOperationContext;
 import org.jboss.as.server.BootOperationHandler;
 import org.jboss.as.server.deployment.Phase;
 import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
@@ -73,6 +78,14 @@ class JPASubsystemAdd implements ModelAddOperationHandler, BootOperationHandler
             PersistenceProviderAdapterRegistry.putPersistenceProviderAdaptor(
                 "org.hibernate.ejb.HibernatePersistence", new HibernatePersistenceProviderAdaptor());
 
+            context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
+                public void execute(RuntimeTaskContext context) throws OperationFailedException {
+                    context.getServiceTarget().addService(BootstrapExecutorService.SERVICE_NAME, new BootstrapExecutorService())
+                        .setInitialMode(ServiceController.Mode.ON_DEMAND)
+                        .install();
+                }
+            });
+
             final BootOperationContext updateContext = (BootOperationContext) context;
             updateContext.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_PERSISTENCE_UNIT, new PersistenceUnitParseProcessor());
             updateContext.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_PERSISTENCE_ANNOTATION, new JPAAnnotationParseProcessor());
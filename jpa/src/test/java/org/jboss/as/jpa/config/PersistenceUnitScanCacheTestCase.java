@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright (c) 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the scan cache of a persistence unit.
+ *
+ * @author Scott Marlow
+ */
+public class PersistenceUnitScanCacheTestCase {
+
+    private static final String KEY = PersistenceUnitScanCache.key("classes", Arrays.asList("b.jar", "a.jar"));
+
+    private File directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = File.createTempFile("scan-cache", "");
+        assertTrue(directory.delete());
+        assertTrue(directory.mkdir());
+    }
+
+    @After
+    public void deleteDirectory() {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void testMiss() {
+        final PersistenceUnitScanCache cache = new PersistenceUnitScanCache(cacheFile(), "hash");
+        assertNull(cache.get(KEY));
+    }
+
+    @Test
+    public void testHit() {
+        final PersistenceUnitScanCache cache = new PersistenceUnitScanCache(cacheFile(), "hash");
+        cache.put(KEY, Arrays.asList("org.acme.Customer", "org.acme.Order"));
+        cache.put(PersistenceUnitScanCache.key("files", Collections.<String>emptyList()), Collections.<String>emptyList());
+        cache.store();
+
+        final PersistenceUnitScanCache reloaded = new PersistenceUnitScanCache(cacheFile(), "hash");
+        assertEquals(new LinkedHashSet<String>(Arrays.asList("org.acme.Customer", "org.acme.Order")), reloaded.get(KEY));
+        assertEquals(Collections.emptySet(), reloaded.get(PersistenceUnitScanCache.key("files", Collections.<String>emptyList())));
+    }
+
+    @Test
+    public void testKeyIgnoresOrder() {
+        assertEquals(KEY, PersistenceUnitScanCache.key("classes", Arrays.asList("a.jar", "b.jar")));
+    }
+
+    @Test
+    public void testInvalidatedByContentChange() {
+        final PersistenceUnitScanCache cache = new PersistenceUnitScanCache(cacheFile(), "hash");
+        cache.put(KEY, Arrays.asList("org.acme.Customer"));
+        cache.store();
+
+        final PersistenceUnitScanCache changed = new PersistenceUnitScanCache(cacheFile(), "other-hash");
+        assertNull(changed.get(KEY));
+
+        // the scan of the new content replaces the stale entries
+        changed.put(KEY, Arrays.asList("org.acme.Invoice"));
+        changed.store();
+        final Set<String> names = new PersistenceUnitScanCache(cacheFile(), "other-hash").get(KEY);
+        assertEquals(Collections.singleton("org.acme.Invoice"), names);
+        assertNull(new PersistenceUnitScanCache(cacheFile(), "hash").get(KEY));
+    }
+
+    @Test
+    public void testNothingStoredWithoutScans() {
+        new PersistenceUnitScanCache(cacheFile(), "hash").store();
+        assertFalse(cacheFile().exists());
+    }
+
+    private File cacheFile() {
+        return PersistenceUnitScanCache.getCacheFile(directory, "persistence.unit:unitName=app.ear/#pu");
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.ErrorManager;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logmanager.handlers.PeriodicRotatingFileHandler;
+
+/**
+ * A periodic rotating file handler which compresses and prunes the rotated files on a background thread.
+ * <p>
+ * The rotation itself stays inside {@link PeriodicRotatingFileHandler}, which closes the file, renames it and opens
+ * a new one. Once a rotation completes, the handler schedules an archive pass which gzips the rotated files and
+ * then deletes the oldest ones until both {@code max-backup-count} and {@code max-total-size} are satisfied. Only
+ * files the rotation has already renamed are touched, so the pass never races with the file being written: a file
+ * counts as rotated when its name is the name of the log file followed by a date in the suffix format, and
+ * optionally {@code .gz}. All handlers share a single archiver thread, which exits once it has been idle for a
+ * minute.
+ *
+ * @author Emanuel Muckenhuber
+ */
+final class ArchivingPeriodicRotatingFileHandler extends PeriodicRotatingFileHandler {
+
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final ThreadPoolExecutor ARCHIVER = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                public Thread newThread(final Runnable r) {
+                    final Thread thread = new Thread(r, "Log file archiver");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    static {
+        ARCHIVER.allowCoreThreadTimeOut(true);
+    }
+
+    private final AtomicBoolean archivePending = new AtomicBoolean();
+
+    private volatile boolean closed;
+
+    private volatile File currentFile;
+    private volatile String suffix;
+    private volatile boolean compress;
+    private volatile int maxBackupCount;
+    private volatile long maxTotalSize;
+
+    /** Only accessed while the rotation holds the handler lock. */
+    private long rotationStart;
+    private volatile long lastRotationDuration;
+    private volatile long lastCompressionDuration;
+
+    @Override
+    public void setFile(final File file) throws FileNotFoundException {
+        // A rotation closes the current file by setting it to null, renames it, and then sets it again
+        if (file == null && currentFile != null) {
+            rotationStart = System.nanoTime();
+        }
+        super.setFile(file);
+        currentFile = file;
+        if (file != null && rotationStart != 0L) {
+            lastRotationDuration = (System.nanoTime() - rotationStart) / 1000000L;
+            rotationStart = 0L;
+            scheduleArchive();
+        }
+    }
+
+    @Override
+    public void setSuffix(final String suffix) {
+        super.setSuffix(suffix);
+        this.suffix = suffix;
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        // Let a pending archive pass finish, but do not schedule new ones
+        closed = true;
+        super.close();
+    }
+
+    void setCompress(final boolean compress) {
+        this.compress = compress;
+    }
+
+    void setMaxBackupCount(final int maxBackupCount) {
+        this.maxBackupCount = maxBackupCount;
+    }
+
+    void setMaxTotalSize(final long maxTotalSize) {
+        this.maxTotalSize = maxTotalSize;
+    }
+
+    /**
+     * Get the duration of the last rotation.
+     *
+     * @return the duration in milliseconds
+     */
+    long getLastRotationDuration() {
+        return lastRotationDuration;
+    }
+
+    /**
+     * Get the duration of the last archive pass, including compression and pruning.
+     *
+     * @return the duration in milliseconds
+     */
+    long getLastCompressionDuration() {
+        return lastCompressionDuration;
+    }
+
+    /**
+     * Schedule an archive pass, unless one is already waiting to run.
+     */
+    void scheduleArchive() {
+        if (closed || (!compress && maxBackupCount <= 0 && maxTotalSize <= 0L)) {
+            return;
+        }
+        if (archivePending.compareAndSet(false, true)) {
+            ARCHIVER.execute(new Runnable() {
+                public void run() {
+                    archivePending.set(false);
+                    archive();
+                }
+            });
+        }
+    }
+
+    /**
+     * Compress and prune the rotated files on the calling thread.
+     */
+    void archive() {
+        final File file = currentFile;
+        final String suffix = this.suffix;
+        if (file == null || suffix == null) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final File dir = file.getAbsoluteFile().getParentFile();
+        final String baseName = file.getName();
+        final SimpleDateFormat format = new SimpleDateFormat(suffix);
+        format.setLenient(false);
+        final FileFilter rotatedFiles = new FileFilter() {
+            public boolean accept(final File candidate) {
+                final String name = candidate.getName();
+                return name.startsWith(baseName) && isRotationSuffix(format, name.substring(baseName.length()))
+                        && candidate.isFile();
+            }
+        };
+        if (compress) {
+            final File[] files = dir.listFiles(rotatedFiles);
+            if (files != null) {
+                for (final File rotated : files) {
+                    if (!rotated.getName().endsWith(GZIP_SUFFIX)) {
+                        compress(rotated);
+                    }
+                }
+            }
+        }
+        if (maxBackupCount > 0 || maxTotalSize > 0L) {
+            final File[] files = dir.listFiles(rotatedFiles);
+            if (files != null) {
+                prune(files);
+            }
+        }
+        lastCompressionDuration = (System.nanoTime() - start) / 1000000L;
+    }
+
+    /**
+     * Check whether the part of a file name following the name of the log file is a suffix produced by the rotation,
+     * so files of other handlers sharing the prefix and copies kept by hand are left alone.
+     */
+    static boolean isRotationSuffix(final SimpleDateFormat format, final String text) {
+        final String dated = text.endsWith(GZIP_SUFFIX) ? text.substring(0, text.length() - GZIP_SUFFIX.length()) : text;
+        if (dated.length() == 0) {
+            return false;
+        }
+        final ParsePosition position = new ParsePosition(0);
+        final Date date = format.parse(dated, position);
+        return date != null && position.getIndex() == dated.length() && format.format(date).equals(dated);
+    }
+
+    private void compress(final File rotated) {
+        final File target = new File(rotated.getPath() + GZIP_SUFFIX);
+        boolean ok = false;
+        try {
+            final InputStream in = new BufferedInputStream(new FileInputStream(rotated), BUFFER_SIZE);
+            try {
+                final OutputStream out = new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(target), BUFFER_SIZE));
+                try {
+                    final byte[] buffer = new byte[BUFFER_SIZE];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        out.write(buffer, 0, read);
+                    }
+                } finally {
+                    out.close();
+                }
+            } finally {
+                in.close();
+            }
+            ok = true;
+        } catch (IOException e) {
+            reportError("Failed to compress " + rotated, e, ErrorManager.GENERIC_FAILURE);
+        }
+        if (ok) {
+            // Keep the rotation time, so pruning still removes the oldest files first
+            target.setLastModified(rotated.lastModified());
+            if (!rotated.delete()) {
+                reportError("Failed to delete " + rotated, null, ErrorManager.GENERIC_FAILURE);
+            }
+        } else {
+            target.delete();
+        }
+    }
+
+    private void prune(final File[] files) {
+        // Newest first
+        Arrays.sort(files, new Comparator<File>() {
+            public int compare(final File o1, final File o2) {
+                final long m1 = o1.lastModified();
+                final long m2 = o2.lastModified();
+                return m1 < m2 ? 1 : (m1 == m2 ? 0 : -1);
+            }
+        });
+        final int maxBackupCount = this.maxBackupCount;
+        final long maxTotalSize = this.maxTotalSize;
+        long totalSize = 0L;
+        for (int i = 0; i < files.length; i++) {
+            totalSize += files[i].length();
+            if ((maxBackupCount > 0 && i >= maxBackupCount) || (maxTotalSize > 0L && totalSize > maxTotalSize)) {
+                if (!files[i].delete()) {
+                    reportError("Failed to delete " + files[i], null, ErrorManager.GENERIC_FAILURE);
+                }
+            }
+        }
+    }
+}
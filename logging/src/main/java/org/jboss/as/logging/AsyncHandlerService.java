@@ -24,7 +24,6 @@ package org.jboss.as.logging;
 
 import java.util.ArrayList;
 import java.util.List;
-import org.jboss.logmanager.handlers.AsyncHandler;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -45,41 +44,25 @@ public final class AsyncHandlerService implements Service<Handler> {
 
     private int queueLength;
 
-    private AsyncHandler value;
+    private RingBufferAsyncHandler value;
 
     private Level level;
 
     public synchronized void start(final StartContext context) throws StartException {
-        final AsyncHandler handler = new AsyncHandler(queueLength);
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(queueLength);
         value = handler;
-        final OverflowAction action = overflowAction;
-        setAction(handler, action);
+        if (overflowAction != null) handler.setOverflowAction(overflowAction);
         Handler[] handlers = new Handler[subhandlers.size()];
         for (int i = 0, subhandlersSize = subhandlers.size(); i < subhandlersSize; i++) {
             handlers[i] = subhandlers.get(i).getValue();
         }
         handler.setHandlers(handlers);
         if (level != null) handler.setLevel(level);
-    }
-
-    private static void setAction(final AsyncHandler handler, final OverflowAction action) {
-        if (handler == null) {
-            return;
-        }
-        switch (action) {
-            case BLOCK: {
-                handler.setOverflowAction(AsyncHandler.OverflowAction.BLOCK);
-                break;
-            }
-            case DISCARD: {
-                handler.setOverflowAction(AsyncHandler.OverflowAction.DISCARD);
-                break;
-            }
-        }
+        handler.start();
     }
 
     public synchronized void stop(final StopContext context) {
-        final AsyncHandler handler = value;
+        final RingBufferAsyncHandler handler = value;
         handler.close();
         handler.setLevel(Level.OFF);
         handler.clearHandlers();
@@ -92,7 +75,10 @@ public final class AsyncHandlerService implements Service<Handler> {
 
     public synchronized void setOverflowAction(final OverflowAction overflowAction) {
         this.overflowAction = overflowAction;
-        setAction(value, overflowAction);
+        final RingBufferAsyncHandler handler = value;
+        if (handler != null) {
+            handler.setOverflowAction(overflowAction);
+        }
     }
 
     public synchronized void setQueueLength(final int queueLength) {
@@ -101,7 +87,7 @@ public final class AsyncHandlerService implements Service<Handler> {
 
     public synchronized void setLevel(final Level level) {
         this.level = level;
-        final AsyncHandler handler = value;
+        final RingBufferAsyncHandler handler = value;
         if (handler != null) {
             handler.setLevel(level);
         }
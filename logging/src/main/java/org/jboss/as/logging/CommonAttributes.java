@@ -35,6 +35,7 @@ interface CommonAttributes {
     String AUTOFLUSH ="autoflush";
     String CATEGORY ="category";
     String CHANGE_LEVEL ="change-level";
+    String COMPRESS ="compress";
     String CONSOLE_HANDLER ="console-handler";
     String DENY ="deny";
     String ENCODING ="encoding";
@@ -50,9 +51,11 @@ interface CommonAttributes {
     String LEVEL_RANGE ="level-range";
     String LOGGER ="logger";
     String MATCH ="match";
+    String MAX_BACKUP_COUNT ="max-backup-count";
     String MAX_BACKUP_INDEX ="max-backup-index";
     String MAX_INCLUSIVE ="max-inclusive";
     String MAX_LEVEL ="max-level";
+    String MAX_TOTAL_SIZE ="max-total-size";
     String MIN_INCLUSIVE ="min-inclusive";
     String MIN_LEVEL ="min-level";
     String NAME ="name";
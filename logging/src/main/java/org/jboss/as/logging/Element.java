@@ -38,6 +38,7 @@ public enum Element {
     APPEND(CommonAttributes.APPEND),
     ASYNC_HANDLER(CommonAttributes.ASYNC_HANDLER),
     CHANGE_LEVEL(CommonAttributes.CHANGE_LEVEL),
+    COMPRESS(CommonAttributes.COMPRESS),
     CONSOLE_HANDLER(CommonAttributes.CONSOLE_HANDLER),
     DENY(CommonAttributes.DENY),
     ENCODING(CommonAttributes.ENCODING),
@@ -51,7 +52,9 @@ public enum Element {
     LEVEL_RANGE(CommonAttributes.LEVEL_RANGE),
     LOGGER(CommonAttributes.LOGGER),
     MATCH(CommonAttributes.MATCH),
+    MAX_BACKUP_COUNT(CommonAttributes.MAX_BACKUP_COUNT),
     MAX_BACKUP_INDEX(CommonAttributes.MAX_BACKUP_INDEX),
+    MAX_TOTAL_SIZE(CommonAttributes.MAX_TOTAL_SIZE),
     NOT(CommonAttributes.NOT),
     OVERFLOW_ACTION(CommonAttributes.OVERFLOW_ACTION),
     PATTERN_FORMATTER(CommonAttributes.PATTERN_FORMATTER),
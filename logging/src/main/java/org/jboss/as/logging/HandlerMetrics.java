@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the runtime metrics of a handler. The queue metrics apply to async handlers and the rotation metrics to
+ * periodic rotating file handlers; a metric which does not apply to the handler type reports zero.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class HandlerMetrics implements ModelQueryOperationHandler {
+
+    static final HandlerMetrics INSTANCE = new HandlerMetrics();
+
+    static final String QUEUED_COUNT = "queued-count";
+    static final String DROPPED_COUNT = "dropped-count";
+    static final String LAST_ROTATION_DURATION = "last-rotation-duration";
+    static final String LAST_COMPRESSION_DURATION = "last-compression-duration";
+    static final String[] ATTRIBUTES = { QUEUED_COUNT, DROPPED_COUNT, LAST_ROTATION_DURATION, LAST_COMPRESSION_DURATION };
+
+    /** Private to ensure a singleton. */
+    private HandlerMetrics() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        final ModelNode result = new ModelNode();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final String name = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
+            final ServiceController<?> controller = ServerOperationContext.class.cast(context).getController()
+                    .getServiceRegistry().getService(LogServices.handlerName(name));
+            final Object handler = controller != null && controller.getState() == ServiceController.State.UP ? controller.getValue() : null;
+            result.set(0L);
+            if (handler instanceof RingBufferAsyncHandler) {
+                final RingBufferAsyncHandler asyncHandler = (RingBufferAsyncHandler) handler;
+                if (QUEUED_COUNT.equals(attributeName)) {
+                    result.set(asyncHandler.getQueuedCount());
+                } else if (DROPPED_COUNT.equals(attributeName)) {
+                    result.set(asyncHandler.getDroppedCount());
+                }
+            } else if (handler instanceof ArchivingPeriodicRotatingFileHandler) {
+                final ArchivingPeriodicRotatingFileHandler fileHandler = (ArchivingPeriodicRotatingFileHandler) handler;
+                if (LAST_ROTATION_DURATION.equals(attributeName)) {
+                    result.set(fileHandler.getLastRotationDuration());
+                } else if (LAST_COMPRESSION_DURATION.equals(attributeName)) {
+                    result.set(fileHandler.getLastCompressionDuration());
+                }
+            }
+        } else {
+            result.set("no metrics available");
+        }
+        resultHandler.handleResultFragment(Util.NO_LOCATION, result);
+        resultHandler.handleResultComplete();
+        return new BasicOperationResult();
+    }
+}
@@ -23,6 +23,7 @@ import org.jboss.as.controller.OperationResult;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.logging.CommonAttributes.AUTOFLUSH;
+import static org.jboss.as.logging.CommonAttributes.COMPRESS;
 import static org.jboss.as.logging.CommonAttributes.ENCODING;
 import static org.jboss.as.logging.CommonAttributes.FILE;
 import static org.jboss.as.logging.CommonAttributes.FORMATTER;
@@ -31,7 +32,9 @@ import static org.jboss.as.logging.CommonAttributes.HANDLERS;
 import static org.jboss.as.logging.CommonAttributes.HANDLER_TYPE;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
 import static org.jboss.as.logging.CommonAttributes.LOGGER;
+import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_COUNT;
 import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_INDEX;
+import static org.jboss.as.logging.CommonAttributes.MAX_TOTAL_SIZE;
 import static org.jboss.as.logging.CommonAttributes.OVERFLOW_ACTION;
 import static org.jboss.as.logging.CommonAttributes.QUEUE_LENGTH;
 import static org.jboss.as.logging.CommonAttributes.ROOT_LOGGER;
@@ -208,6 +211,15 @@ public class LoggingDescribeHandler implements ModelQueryOperationHandler, Descr
         if (handler.hasDefined(SUFFIX)) {
             add.get(SUFFIX).set(handler.get(SUFFIX));
         }
+        if (handler.hasDefined(COMPRESS)) {
+            add.get(COMPRESS).set(handler.get(COMPRESS));
+        }
+        if (handler.hasDefined(MAX_BACKUP_COUNT)) {
+            add.get(MAX_BACKUP_COUNT).set(handler.get(MAX_BACKUP_COUNT));
+        }
+        if (handler.hasDefined(MAX_TOTAL_SIZE)) {
+            add.get(MAX_TOTAL_SIZE).set(handler.get(MAX_TOTAL_SIZE));
+        }
         return add;
     }
 
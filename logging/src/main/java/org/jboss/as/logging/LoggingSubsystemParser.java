@@ -36,6 +36,7 @@ import static org.jboss.as.controller.parsing.ParseUtils.unexpectedAttribute;
 import static org.jboss.as.controller.parsing.ParseUtils.unexpectedElement;
 import static org.jboss.as.logging.CommonAttributes.APPEND;
 import static org.jboss.as.logging.CommonAttributes.AUTOFLUSH;
+import static org.jboss.as.logging.CommonAttributes.COMPRESS;
 import static org.jboss.as.logging.CommonAttributes.ENCODING;
 import static org.jboss.as.logging.CommonAttributes.FILE;
 import static org.jboss.as.logging.CommonAttributes.FORMATTER;
@@ -44,7 +45,9 @@ import static org.jboss.as.logging.CommonAttributes.HANDLERS;
 import static org.jboss.as.logging.CommonAttributes.HANDLER_TYPE;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
 import static org.jboss.as.logging.CommonAttributes.LOGGER;
+import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_COUNT;
 import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_INDEX;
+import static org.jboss.as.logging.CommonAttributes.MAX_TOTAL_SIZE;
 import static org.jboss.as.logging.CommonAttributes.OVERFLOW_ACTION;
 import static org.jboss.as.logging.CommonAttributes.PATH;
 import static org.jboss.as.logging.CommonAttributes.QUEUE_LENGTH;
@@ -554,6 +557,9 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
         ModelNode fileSpec = null;
         boolean append = true;
         String formatterSpec = null;
+        boolean compress = false;
+        int maxBackupCount = 0;
+        long maxTotalSize = 0L;
 
         final EnumSet<Element> requiredElem = EnumSet.of(Element.FILE, Element.SUFFIX);
         final EnumSet<Element> encountered = EnumSet.noneOf(Element.class);
@@ -588,6 +594,22 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
                     suffix = readStringAttributeElement(reader, "value");
                     break;
                 }
+                case COMPRESS: {
+                    compress = Boolean.parseBoolean(readStringAttributeElement(reader, "value"));
+                    break;
+                }
+                case MAX_BACKUP_COUNT: {
+                    try {
+                        maxBackupCount = Integer.parseInt(readStringAttributeElement(reader, "value"));
+                    } catch (NumberFormatException e) {
+                        throw new XMLStreamException(e.getMessage(), reader.getLocation(), e);
+                    }
+                    break;
+                }
+                case MAX_TOTAL_SIZE: {
+                    maxTotalSize = parseSize(readStringAttributeElement(reader, "value"));
+                    break;
+                }
                 default: {
                     throw unexpectedElement(reader);
                 }
@@ -607,6 +629,15 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
         node.get(FILE).set(fileSpec);
         node.get(APPEND).set(append);
         if(suffix != null) node.get(SUFFIX).set(suffix);
+        if (compress) {
+            node.get(COMPRESS).set(compress);
+        }
+        if (maxBackupCount > 0) {
+            node.get(MAX_BACKUP_COUNT).set(maxBackupCount);
+        }
+        if (maxTotalSize > 0L) {
+            node.get(MAX_TOTAL_SIZE).set(maxTotalSize);
+        }
         list.add(node);
     }
 
@@ -980,6 +1011,21 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
             writeAttribute(writer, Attribute.VALUE, node.get(SUFFIX));
             writer.writeEndElement();
         }
+        if (node.hasDefined(COMPRESS)) {
+            writer.writeStartElement(Element.COMPRESS.getLocalName());
+            writeAttribute(writer, Attribute.VALUE, node.get(COMPRESS));
+            writer.writeEndElement();
+        }
+        if (node.hasDefined(MAX_BACKUP_COUNT)) {
+            writer.writeStartElement(Element.MAX_BACKUP_COUNT.getLocalName());
+            writeAttribute(writer, Attribute.VALUE, node.get(MAX_BACKUP_COUNT));
+            writer.writeEndElement();
+        }
+        if (node.hasDefined(MAX_TOTAL_SIZE)) {
+            writer.writeStartElement(Element.MAX_TOTAL_SIZE.getLocalName());
+            writeAttribute(writer, Attribute.VALUE, node.get(MAX_TOTAL_SIZE));
+            writer.writeEndElement();
+        }
         writeAppend(writer, node);
 
         writer.writeEndElement();
@@ -37,9 +37,12 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQ
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TAIL_COMMENT_ALLOWED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE_TYPE;
+import static org.jboss.as.logging.CommonAttributes.COMPRESS;
 import static org.jboss.as.logging.CommonAttributes.ENCODING;
 import static org.jboss.as.logging.CommonAttributes.HANDLER;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
+import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_COUNT;
+import static org.jboss.as.logging.CommonAttributes.MAX_TOTAL_SIZE;
 
 import java.util.Locale;
 import java.util.ResourceBundle;
@@ -197,6 +200,11 @@ class LoggingSubsystemProviders {
             node.get(ATTRIBUTES, ENCODING, TYPE).set(ModelType.STRING);
             node.get(ATTRIBUTES, ENCODING, DESCRIPTION).set(bundle.getString("logger.level"));
 
+            for (final String metric : HandlerMetrics.ATTRIBUTES) {
+                node.get(ATTRIBUTES, metric, TYPE).set(ModelType.LONG);
+                node.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString("handler." + metric));
+            }
+
             return node;
         }
     };
@@ -256,6 +264,15 @@ class LoggingSubsystemProviders {
             final ResourceBundle bundle = getResourceBundle(locale);
             final ModelNode node = new ModelNode();
             node.get(DESCRIPTION).set(bundle.getString("periodic.handler"));
+            node.get(REQUEST_PROPERTIES, COMPRESS, TYPE).set(ModelType.BOOLEAN);
+            node.get(REQUEST_PROPERTIES, COMPRESS, DESCRIPTION).set(bundle.getString("periodic.handler.compress"));
+            node.get(REQUEST_PROPERTIES, COMPRESS, REQUIRED).set(false);
+            node.get(REQUEST_PROPERTIES, MAX_BACKUP_COUNT, TYPE).set(ModelType.INT);
+            node.get(REQUEST_PROPERTIES, MAX_BACKUP_COUNT, DESCRIPTION).set(bundle.getString("periodic.handler.max-backup-count"));
+            node.get(REQUEST_PROPERTIES, MAX_BACKUP_COUNT, REQUIRED).set(false);
+            node.get(REQUEST_PROPERTIES, MAX_TOTAL_SIZE, TYPE).set(ModelType.LONG);
+            node.get(REQUEST_PROPERTIES, MAX_TOTAL_SIZE, DESCRIPTION).set(bundle.getString("periodic.handler.max-total-size"));
+            node.get(REQUEST_PROPERTIES, MAX_TOTAL_SIZE, REQUIRED).set(false);
             return node;
         }
     };
@@ -31,11 +31,14 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REMOVE;
 import static org.jboss.as.logging.CommonAttributes.AUTOFLUSH;
+import static org.jboss.as.logging.CommonAttributes.COMPRESS;
 import static org.jboss.as.logging.CommonAttributes.ENCODING;
 import static org.jboss.as.logging.CommonAttributes.FILE;
 import static org.jboss.as.logging.CommonAttributes.FORMATTER;
 import static org.jboss.as.logging.CommonAttributes.HANDLER_TYPE;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
+import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_COUNT;
+import static org.jboss.as.logging.CommonAttributes.MAX_TOTAL_SIZE;
 import static org.jboss.as.logging.CommonAttributes.PATH;
 import static org.jboss.as.logging.CommonAttributes.QUEUE_LENGTH;
 import static org.jboss.as.logging.CommonAttributes.RELATIVE_TO;
@@ -90,6 +93,9 @@ class PeriodicRotatingFileHandlerAdd implements ModelAddOperationHandler {
         subModel.get(FILE).set(operation.get(FILE));
         subModel.get(QUEUE_LENGTH).set(operation.get(QUEUE_LENGTH));
         subModel.get(SUFFIX).set(operation.get(SUFFIX));
+        subModel.get(COMPRESS).set(operation.get(COMPRESS));
+        subModel.get(MAX_BACKUP_COUNT).set(operation.get(MAX_BACKUP_COUNT));
+        subModel.get(MAX_TOTAL_SIZE).set(operation.get(MAX_TOTAL_SIZE));
 
         if (context.getRuntimeContext() != null) {
             context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
@@ -108,6 +114,9 @@ class PeriodicRotatingFileHandlerAdd implements ModelAddOperationHandler {
                         final Boolean autoFlush = operation.get(AUTOFLUSH).asBoolean();
                         if (autoFlush != null) service.setAutoflush(autoFlush.booleanValue());
                         if (operation.hasDefined(SUFFIX)) service.setSuffix(operation.get(SUFFIX).asString());
+                        if (operation.hasDefined(COMPRESS)) service.setCompress(operation.get(COMPRESS).asBoolean());
+                        if (operation.hasDefined(MAX_BACKUP_COUNT)) service.setMaxBackupCount(operation.get(MAX_BACKUP_COUNT).asInt());
+                        if (operation.hasDefined(MAX_TOTAL_SIZE)) service.setMaxTotalSize(operation.get(MAX_TOTAL_SIZE).asLong());
                         if (operation.hasDefined(ENCODING)) service.setEncoding(operation.get(ENCODING).asString());
                         if (operation.hasDefined(FORMATTER)) service.setFormatterSpec(createFormatterSpec(operation));
                         serviceBuilder.setInitialMode(ServiceController.Mode.ACTIVE);
@@ -24,7 +24,6 @@ package org.jboss.as.logging;
 
 import java.io.FileNotFoundException;
 import java.io.UnsupportedEncodingException;
-import org.jboss.logmanager.handlers.PeriodicRotatingFileHandler;
 import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
@@ -49,10 +48,13 @@ public final class PeriodicRotatingFileHandlerService implements Service<Handler
     private boolean append;
     private String path;
     private String suffix;
-    private PeriodicRotatingFileHandler value;
+    private boolean compress;
+    private int maxBackupCount;
+    private long maxTotalSize;
+    private ArchivingPeriodicRotatingFileHandler value;
 
     public synchronized void start(final StartContext context) throws StartException {
-        final PeriodicRotatingFileHandler handler = new PeriodicRotatingFileHandler();
+        final ArchivingPeriodicRotatingFileHandler handler = new ArchivingPeriodicRotatingFileHandler();
         value = handler;
         formatterSpec.apply(handler);
         if (level != null) handler.setLevel(level);
@@ -69,10 +71,15 @@ public final class PeriodicRotatingFileHandlerService implements Service<Handler
             throw new StartException(e);
         }
         handler.setSuffix(suffix);
+        handler.setCompress(compress);
+        handler.setMaxBackupCount(maxBackupCount);
+        handler.setMaxTotalSize(maxTotalSize);
+        // Archive whatever previous runs left behind
+        handler.scheduleArchive();
     }
 
     public synchronized void stop(final StopContext context) {
-        final PeriodicRotatingFileHandler handler = value;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
         handler.close();
         value = null;
     }
@@ -87,7 +94,7 @@ public final class PeriodicRotatingFileHandlerService implements Service<Handler
 
     public synchronized void setLevel(final Level level) {
         this.level = level;
-        final PeriodicRotatingFileHandler handler = value;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
         if (handler != null) handler.setLevel(level);
     }
 
@@ -97,7 +104,7 @@ public final class PeriodicRotatingFileHandlerService implements Service<Handler
 
     public synchronized void setFormatterSpec(final AbstractFormatterSpec formatterSpec) {
         this.formatterSpec = formatterSpec;
-        final PeriodicRotatingFileHandler handler = value;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
         if (handler != null) formatterSpec.apply(handler);
     }
 
@@ -107,7 +114,7 @@ public final class PeriodicRotatingFileHandlerService implements Service<Handler
 
     public synchronized void setAutoflush(final boolean autoflush) {
         this.autoflush = autoflush;
-        final PeriodicRotatingFileHandler handler = value;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
         if (handler != null) handler.setAutoFlush(autoflush);
     }
 
@@ -116,7 +123,7 @@ public final class PeriodicRotatingFileHandlerService implements Service<Handler
     }
 
     public synchronized void setEncoding(final String encoding) throws UnsupportedEncodingException {
-        final PeriodicRotatingFileHandler handler = value;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
         if (handler != null) handler.setEncoding(encoding);
         this.encoding = encoding;
     }
@@ -127,12 +134,12 @@ public final class PeriodicRotatingFileHandlerService implements Service<Handler
 
     public synchronized void setAppend(final boolean append) {
         this.append = append;
-        final PeriodicRotatingFileHandler handler = value;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
         if (handler != null) handler.setAppend(append);
     }
 
     private void setFileName() throws FileNotFoundException {
-        final PeriodicRotatingFileHandler handler = value;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
         if (handler == null) {
             return;
         }
@@ -152,10 +159,40 @@ public final class PeriodicRotatingFileHandlerService implements Service<Handler
 
     public synchronized void setSuffix(final String suffix) {
         this.suffix = suffix;
-        final PeriodicRotatingFileHandler handler = value;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
         if (handler != null) handler.setSuffix(suffix);
     }
 
+    public synchronized boolean isCompress() {
+        return compress;
+    }
+
+    public synchronized void setCompress(final boolean compress) {
+        this.compress = compress;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
+        if (handler != null) handler.setCompress(compress);
+    }
+
+    public synchronized int getMaxBackupCount() {
+        return maxBackupCount;
+    }
+
+    public synchronized void setMaxBackupCount(final int maxBackupCount) {
+        this.maxBackupCount = maxBackupCount;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
+        if (handler != null) handler.setMaxBackupCount(maxBackupCount);
+    }
+
+    public synchronized long getMaxTotalSize() {
+        return maxTotalSize;
+    }
+
+    public synchronized void setMaxTotalSize(final long maxTotalSize) {
+        this.maxTotalSize = maxTotalSize;
+        final ArchivingPeriodicRotatingFileHandler handler = value;
+        if (handler != null) handler.setMaxTotalSize(maxTotalSize);
+    }
+
     public Injector<String> getRelativeToInjector() {
         return relativeTo;
     }
@@ -0,0 +1,252 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * An asynchronous handler which hands records to its sub-handlers through a preallocated ring buffer.
+ * <p>
+ * Producers claim a slot with a single compare-and-set on the tail sequence, so logging threads never contend on a
+ * lock. One consumer thread drains the buffer in batches, publishing every record of a batch to the sub-handlers and
+ * flushing them once per batch. Sub-handlers with {@code autoflush} disabled therefore issue one write per batch
+ * rather than one per record.
+ * <p>
+ * Once the consumer thread exits, either after {@link #close()} or because it died, it replaces the tail sequence
+ * with a terminal value so no producer can claim a slot nobody drains anymore; later records are dropped and counted.
+ *
+ * @author Emanuel Muckenhuber
+ */
+final class RingBufferAsyncHandler extends ExtHandler {
+
+    static final int DEFAULT_QUEUE_LENGTH = 512;
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000L;
+    /** The tail sequence once the consumer thread has exited. */
+    private static final long TERMINATED = Long.MIN_VALUE;
+
+    private final AtomicReferenceArray<ExtLogRecord> ring;
+    private final int mask;
+    /** The sequence of the next slot to be claimed by a producer, or {@link #TERMINATED}. */
+    private final AtomicLong tail = new AtomicLong();
+    /** The sequence of the next slot to be consumed, only written by the consumer thread. */
+    private volatile long head;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Thread consumer;
+    private volatile boolean consumerWaiting;
+    private volatile boolean closed;
+    private volatile OverflowAction overflowAction = OverflowAction.BLOCK;
+
+    RingBufferAsyncHandler(final int queueLength) {
+        int capacity = 1;
+        while (capacity < (queueLength > 0 ? queueLength : DEFAULT_QUEUE_LENGTH)) {
+            capacity <<= 1;
+        }
+        ring = new AtomicReferenceArray<ExtLogRecord>(capacity);
+        mask = capacity - 1;
+        consumer = new Thread(new Consumer(), "Async log handler");
+        consumer.setDaemon(true);
+    }
+
+    /**
+     * Start the consumer thread.
+     */
+    void start() {
+        consumer.start();
+    }
+
+    void setOverflowAction(final OverflowAction overflowAction) {
+        this.overflowAction = overflowAction;
+    }
+
+    /**
+     * Get the number of records waiting to be published to the sub-handlers.
+     *
+     * @return the number of queued records
+     */
+    long getQueuedCount() {
+        return Math.max(0L, tail.get() - head);
+    }
+
+    /**
+     * Get the number of records discarded because the buffer was full or the handler was closed.
+     *
+     * @return the number of dropped records
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    protected void doPublish(final ExtLogRecord record) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return;
+        }
+        // The record is published on another thread, so capture the caller and thread specific data now
+        record.copyAll();
+        final AtomicLong tail = this.tail;
+        final int capacity = mask + 1;
+        long sequence;
+        for (;;) {
+            sequence = tail.get();
+            if (sequence == TERMINATED) {
+                dropped.incrementAndGet();
+                return;
+            }
+            if (sequence - head >= capacity) {
+                if (overflowAction == OverflowAction.DISCARD || closed) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            } else if (tail.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+        ring.set((int) sequence & mask, record);
+        if (consumerWaiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    @Override
+    public void flush() {
+        for (final Handler handler : handlers) {
+            handler.flush();
+        }
+    }
+
+    /**
+     * Stop accepting records and wait for the consumer thread to drain the buffer. The sub-handlers are not closed,
+     * as they are owned by their own services.
+     */
+    @Override
+    public void close() throws SecurityException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(consumer);
+        if (consumer.isAlive() && consumer != Thread.currentThread()) {
+            try {
+                consumer.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!consumer.isAlive()) {
+            // The consumer never started; count what was claimed but never published
+            terminate();
+        }
+    }
+
+    private void terminate() {
+        final long claimed = tail.getAndSet(TERMINATED);
+        if (claimed != TERMINATED) {
+            dropped.addAndGet(claimed - head);
+        }
+    }
+
+    private final class Consumer implements Runnable {
+
+        public void run() {
+            try {
+                consume();
+            } finally {
+                // No-op after a normal exit; if the consumer died, producers must not wait for it
+                terminate();
+            }
+        }
+
+        private void consume() {
+            final AtomicReferenceArray<ExtLogRecord> ring = RingBufferAsyncHandler.this.ring;
+            long next = head;
+            for (;;) {
+                int count = 0;
+                ExtLogRecord record;
+                while (count < MAX_BATCH_SIZE && (record = ring.get((int) next & mask)) != null) {
+                    // Clear the slot before releasing it to the producers
+                    ring.set((int) next & mask, null);
+                    head = ++next;
+                    publishToSubHandlers(record);
+                    count++;
+                }
+                if (count > 0) {
+                    flushSubHandlers();
+                    continue;
+                }
+                if (next != tail.get()) {
+                    // A producer claimed the slot but has not stored its record yet
+                    Thread.yield();
+                    continue;
+                }
+                if (closed && tail.compareAndSet(next, TERMINATED)) {
+                    return;
+                }
+                consumerWaiting = true;
+                if (ring.get((int) next & mask) == null && !closed) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                consumerWaiting = false;
+            }
+        }
+
+        private void publishToSubHandlers(final ExtLogRecord record) {
+            for (final Handler handler : handlers) {
+                try {
+                    handler.publish(record);
+                } catch (Throwable t) {
+                    // An error escaping here would kill the only consumer thread
+                    reportError("Failed to publish log record", asException(t), ErrorManager.WRITE_FAILURE);
+                }
+            }
+        }
+
+        private void flushSubHandlers() {
+            for (final Handler handler : handlers) {
+                try {
+                    handler.flush();
+                } catch (Throwable t) {
+                    reportError("Failed to flush handler", asException(t), ErrorManager.FLUSH_FAILURE);
+                }
+            }
+        }
+
+        private Exception asException(final Throwable t) {
+            return t instanceof Exception ? (Exception) t : new RuntimeException(t);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link ArchivingPeriodicRotatingFileHandler} only archives and prunes files produced by its own
+ * rotation.
+ *
+ * @author Emanuel Muckenhuber
+ */
+public class ArchivingPeriodicRotatingFileHandlerUnitTestCase {
+
+    private static final String SUFFIX = ".yyyy-MM-dd";
+
+    private File dir;
+    private ArchivingPeriodicRotatingFileHandler handler;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = File.createTempFile("archiving-handler", "");
+        assertTrue(dir.delete());
+        assertTrue(dir.mkdir());
+        handler = new ArchivingPeriodicRotatingFileHandler();
+        handler.setSuffix(SUFFIX);
+        handler.setFile(new File(dir, "server.log"));
+    }
+
+    @After
+    public void tearDown() {
+        handler.close();
+        final File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void testIsRotationSuffix() {
+        final SimpleDateFormat format = new SimpleDateFormat(SUFFIX);
+        format.setLenient(false);
+        assertTrue(ArchivingPeriodicRotatingFileHandler.isRotationSuffix(format, ".2011-03-01"));
+        assertTrue(ArchivingPeriodicRotatingFileHandler.isRotationSuffix(format, ".2011-03-01.gz"));
+        assertFalse(ArchivingPeriodicRotatingFileHandler.isRotationSuffix(format, ""));
+        assertFalse(ArchivingPeriodicRotatingFileHandler.isRotationSuffix(format, ".gz"));
+        assertFalse(ArchivingPeriodicRotatingFileHandler.isRotationSuffix(format, ".old"));
+        assertFalse(ArchivingPeriodicRotatingFileHandler.isRotationSuffix(format, ".2011-3-1"));
+        assertFalse(ArchivingPeriodicRotatingFileHandler.isRotationSuffix(format, ".2011-02-30"));
+        assertFalse(ArchivingPeriodicRotatingFileHandler.isRotationSuffix(format, ".2011-03-01.bak"));
+        assertFalse(ArchivingPeriodicRotatingFileHandler.isRotationSuffix(format, "2.2011-03-01"));
+    }
+
+    @Test
+    public void testCompressOnlyRotatedFiles() throws Exception {
+        createFile("server.log.2011-03-01", 100, 1000L);
+        createFile("server.log.2011-03-02", 100, 2000L);
+        createUnrelatedFiles();
+
+        handler.setCompress(true);
+        handler.archive();
+
+        assertFiles("server.log", "server.log.2011-03-01.gz", "server.log.2011-03-02.gz",
+                "server.log.old", "server.log.2011-03-01.bak", "server.log2.2011-03-01", "other.log.2011-03-01");
+        assertEquals(1000L, new File(dir, "server.log.2011-03-01.gz").lastModified());
+    }
+
+    @Test
+    public void testPruneByCountOnlyRotatedFiles() throws Exception {
+        createFile("server.log.2011-03-01", 100, 1000L);
+        createFile("server.log.2011-03-02.gz", 100, 2000L);
+        createFile("server.log.2011-03-03", 100, 3000L);
+        createUnrelatedFiles();
+
+        handler.setMaxBackupCount(2);
+        handler.archive();
+
+        assertFiles("server.log", "server.log.2011-03-02.gz", "server.log.2011-03-03",
+                "server.log.old", "server.log.2011-03-01.bak", "server.log2.2011-03-01", "other.log.2011-03-01");
+    }
+
+    @Test
+    public void testPruneByTotalSizeOnlyRotatedFiles() throws Exception {
+        createFile("server.log.2011-03-01", 100, 1000L);
+        createFile("server.log.2011-03-02", 100, 2000L);
+        createFile("server.log.2011-03-03", 100, 3000L);
+        createUnrelatedFiles();
+
+        handler.setMaxTotalSize(250L);
+        handler.archive();
+
+        assertFiles("server.log", "server.log.2011-03-02", "server.log.2011-03-03",
+                "server.log.old", "server.log.2011-03-01.bak", "server.log2.2011-03-01", "other.log.2011-03-01");
+    }
+
+    /**
+     * Create files which are older and larger than the rotated files, but were not produced by the rotation.
+     */
+    private void createUnrelatedFiles() throws IOException {
+        createFile("server.log.old", 1000, 10L);
+        createFile("server.log.2011-03-01.bak", 1000, 10L);
+        createFile("server.log2.2011-03-01", 1000, 10L);
+        createFile("other.log.2011-03-01", 1000, 10L);
+    }
+
+    private void createFile(final String name, final int size, final long lastModified) throws IOException {
+        final File file = new File(dir, name);
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(new byte[size]);
+        } finally {
+            out.close();
+        }
+        assertTrue(file.setLastModified(lastModified));
+    }
+
+    private void assertFiles(final String... expected) {
+        final String[] names = dir.list();
+        Arrays.sort(names);
+        final String[] sorted = expected.clone();
+        Arrays.sort(sorted);
+        assertEquals(Arrays.asList(sorted), Arrays.asList(names));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.Test;
+
+/**
+ * Tests the delivery guarantees of the {@link RingBufferAsyncHandler}.
+ *
+ * @author Emanuel Muckenhuber
+ */
+public class RingBufferAsyncHandlerUnitTestCase {
+
+    @Test(timeout = 60000)
+    public void testMultipleProducersDeliverAllRecordsInOrder() throws Exception {
+        final int producers = 4;
+        final int recordsPerProducer = 20000;
+        final RecordingHandler recorder = new RecordingHandler();
+        final RingBufferAsyncHandler handler = createHandler(16, OverflowAction.BLOCK, recorder);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < producers; i++) {
+            final String producer = Integer.toString(i);
+            final Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < recordsPerProducer; j++) {
+                        handler.publish(record(producer + ":" + j));
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.close();
+
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(producers * recordsPerProducer, recorder.messages.size());
+        // Records of one producer are delivered in the order they were published
+        final int[] expected = new int[producers];
+        for (String message : recorder.messages) {
+            final int separator = message.indexOf(':');
+            final int producer = Integer.parseInt(message.substring(0, separator));
+            assertEquals(message, expected[producer]++, Integer.parseInt(message.substring(separator + 1)));
+        }
+    }
+
+    @Test
+    public void testDiscardCountsDroppedRecords() throws Exception {
+        final CountDownLatch publishing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingHandler recorder = new RecordingHandler() {
+            @Override
+            public void publish(final LogRecord record) {
+                publishing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        final RingBufferAsyncHandler handler = createHandler(4, OverflowAction.DISCARD, recorder);
+
+        // The consumer takes the first record and blocks publishing it
+        handler.publish(record("first"));
+        assertTrue(publishing.await(10, TimeUnit.SECONDS));
+        // Four records fill the buffer, the next ten are discarded
+        for (int i = 0; i < 14; i++) {
+            handler.publish(record("record" + i));
+        }
+        assertEquals(10, handler.getDroppedCount());
+
+        release.countDown();
+        handler.close();
+        assertEquals(5, recorder.messages.size());
+        assertEquals(10, handler.getDroppedCount());
+    }
+
+    @Test
+    public void testRecordsAfterCloseAreDropped() throws Exception {
+        final RecordingHandler recorder = new RecordingHandler();
+        final RingBufferAsyncHandler handler = createHandler(4, OverflowAction.BLOCK, recorder);
+        handler.publish(record("before"));
+        handler.close();
+        handler.publish(record("after"));
+
+        assertEquals(1, recorder.messages.size());
+        assertEquals(1, handler.getDroppedCount());
+    }
+
+    @Test(timeout = 60000)
+    public void testSubHandlerErrorDoesNotStopConsumer() throws Exception {
+        final RecordingHandler recorder = new RecordingHandler() {
+            @Override
+            public void publish(final LogRecord record) {
+                if ("error".equals(record.getMessage())) {
+                    throw new StackOverflowError();
+                }
+                super.publish(record);
+            }
+        };
+        final RingBufferAsyncHandler handler = createHandler(2, OverflowAction.BLOCK, recorder);
+        final List<Exception> errors = new ArrayList<Exception>();
+        handler.setErrorManager(new ErrorManager() {
+            @Override
+            public synchronized void error(final String msg, final Exception ex, final int code) {
+                errors.add(ex);
+            }
+        });
+        handler.publish(record("error"));
+        // More records than the buffer holds, so BLOCK would hang if the consumer had died
+        for (int i = 0; i < 10; i++) {
+            handler.publish(record("record" + i));
+        }
+        handler.close();
+
+        assertEquals(10, recorder.messages.size());
+        assertEquals(1, errors.size());
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    private static RingBufferAsyncHandler createHandler(final int queueLength, final OverflowAction overflowAction,
+            final Handler subHandler) {
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(queueLength);
+        handler.setOverflowAction(overflowAction);
+        handler.setHandlers(new Handler[] { subHandler });
+        handler.start();
+        return handler;
+    }
+
+    private static ExtLogRecord record(final String message) {
+        return new ExtLogRecord(Level.INFO, message, RingBufferAsyncHandlerUnitTestCase.class.getName());
+    }
+
+    /**
+     * A handler keeping the messages it receives. Only the consumer thread of the handler under test publishes to
+     * it, and the messages are read after that handler was closed.
+     */
+    private static class RecordingHandler extends Handler {
+
+        final List<String> messages = new ArrayList<String>();
+
+        @Override
+        public void publish(final LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -122,6 +122,7 @@ interface CommonAttributes {
     String REMOTING_INTERCEPTORS ="remoting-interceptors";
     String ROLES_ATTR_NAME ="roles";
     String RUN_SYNC_SPEED_TEST ="run-sync-speed-test";
+    String SCHEDULED_THREAD_POOL_MAX_SIZE ="scheduled-thread-pool-max-size";
     String SECURITY_ENABLED ="security-enabled";
     String SECURITY_INVALIDATION_INTERVAL ="security-invalidation-interval";
     String SECURITY_SETTING ="security-setting";
@@ -134,6 +135,7 @@ interface CommonAttributes {
     String SOCKET_BINDING ="socket-binding";
     String STRING ="string";
     String SUBSYSTEM ="subsystem";
+    String THREAD_POOL_MAX_SIZE ="thread-pool-max-size";
     String TRANSACTION_TIMEOUT ="transaction-timeout";
     String TRANSACTION_TIMEOUT_SCAN_PERIOD ="transaction-timeout-scan-period";
     String TYPE_ATTR_NAME ="type";
@@ -49,6 +49,15 @@ public class MessagingDescriptions {
         node.get(ATTRIBUTES, CommonAttributes.SECURITY_SETTING, TYPE).set(ModelType.OBJECT);
         node.get(ATTRIBUTES, CommonAttributes.SECURITY_SETTING, DESCRIPTION).set(bundle.getString("security-setting"));
 
+        node.get(ATTRIBUTES, CommonAttributes.THREAD_POOL_MAX_SIZE, TYPE).set(ModelType.INT);
+        node.get(ATTRIBUTES, CommonAttributes.THREAD_POOL_MAX_SIZE, DESCRIPTION).set(bundle.getString("thread-pool-max-size"));
+        node.get(ATTRIBUTES, CommonAttributes.SCHEDULED_THREAD_POOL_MAX_SIZE, TYPE).set(ModelType.INT);
+        node.get(ATTRIBUTES, CommonAttributes.SCHEDULED_THREAD_POOL_MAX_SIZE, DESCRIPTION).set(bundle.getString("scheduled-thread-pool-max-size"));
+        for (final String metric : ServerMetrics.ATTRIBUTES) {
+            node.get(ATTRIBUTES, metric, TYPE).set(ServerMetrics.getType(metric));
+            node.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString(metric));
+        }
+
         node.get(CHILDREN, CommonAttributes.QUEUE).set(getQueueResource(locale));
 
         return node;
@@ -101,6 +110,10 @@ public class MessagingDescriptions {
         node.get(ATTRIBUTES, CommonAttributes.FILTER, DESCRIPTION).set(bundle.getString("queue.filter"));
         node.get(ATTRIBUTES, CommonAttributes.DURABLE, TYPE).set(ModelType.BOOLEAN);
         node.get(ATTRIBUTES, CommonAttributes.DURABLE, DESCRIPTION).set(bundle.getString("queue.durable"));
+        for (final String metric : QueueMetrics.ATTRIBUTES) {
+            node.get(ATTRIBUTES, metric, TYPE).set(QueueMetrics.getType(metric));
+            node.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString("queue." + metric));
+        }
         return node;
     }
 
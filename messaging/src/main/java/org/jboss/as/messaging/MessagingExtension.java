@@ -52,11 +52,17 @@ public class MessagingExtension implements Extension {
         registration.registerOperationHandler(ADD, MessagingSubsystemAdd.INSTANCE, MessagingSubsystemProviders.SUBSYSTEM_ADD, false);
         registration.registerOperationHandler(DESCRIBE, MessagingSubsystemDescribeHandler.INSTANCE, MessagingSubsystemProviders.SUBSYSTEM_DESCRIBE, false, OperationEntry.EntryType.PRIVATE);
 
+        for (final String metric : ServerMetrics.ATTRIBUTES) {
+            registration.registerMetric(metric, ServerMetrics.INSTANCE);
+        }
         subsystem.registerXMLElementWriter(MessagingSubsystemParser.getInstance());
 
         final ModelNodeRegistration queue = registration.registerSubModel(PathElement.pathElement(QUEUE), MessagingSubsystemProviders.QUEUE_RESOURCE);
         queue.registerOperationHandler(ADD, QueueAdd.INSTANCE, QueueAdd.INSTANCE, false);
         queue.registerOperationHandler(REMOVE, QueueRemove.INSTANCE, QueueRemove.INSTANCE, false);
+        for (final String metric : QueueMetrics.ATTRIBUTES) {
+            queue.registerMetric(metric, QueueMetrics.INSTANCE);
+        }
     }
 
     /** {@inheritDoc} */
@@ -81,11 +81,13 @@ import static org.jboss.as.messaging.CommonAttributes.PERSIST_ID_CACHE;
 import static org.jboss.as.messaging.CommonAttributes.QUEUE;
 import static org.jboss.as.messaging.CommonAttributes.REDELIVERY_DELAY;
 import static org.jboss.as.messaging.CommonAttributes.REDISTRIBUTION_DELAY;
+import static org.jboss.as.messaging.CommonAttributes.SCHEDULED_THREAD_POOL_MAX_SIZE;
 import static org.jboss.as.messaging.CommonAttributes.SECURITY_SETTING;
 import static org.jboss.as.messaging.CommonAttributes.SEND_NAME;
 import static org.jboss.as.messaging.CommonAttributes.SEND_TO_DLA_ON_NO_ROUTE;
 import static org.jboss.as.messaging.CommonAttributes.SERVER_ID;
 import static org.jboss.as.messaging.CommonAttributes.SOCKET_BINDING;
+import static org.jboss.as.messaging.CommonAttributes.THREAD_POOL_MAX_SIZE;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -226,7 +228,7 @@ class MessagingSubsystemAdd implements ModelAddOperationHandler {
         configuration.setClustered(params.get(CLUSTERED).asBoolean(ConfigurationImpl.DEFAULT_CLUSTERED));
         configuration.setClusterPassword(params.get(CLUSTER_PASSWORD).asString());
         configuration.setClusterUser(params.get(CLUSTER_USER).asString());
-        configuration.setConnectionTTLOverride(params.get(CONNECTION_TTL_OVERRIDE).asInt((int) ConfigurationImpl.DEFAULT_CONNECTION_TTL_OVERRIDE));
+        configuration.setConnectionTTLOverride(params.get(CONNECTION_TTL_OVERRIDE).asLong(ConfigurationImpl.DEFAULT_CONNECTION_TTL_OVERRIDE));
         configuration.setCreateBindingsDir(params.get(CREATE_BINDINGS_DIR).asBoolean(ConfigurationImpl.DEFAULT_CREATE_BINDINGS_DIR));
         configuration.setCreateJournalDir(params.get(CREATE_JOURNAL_DIR).asBoolean(ConfigurationImpl.DEFAULT_CREATE_JOURNAL_DIR));
         configuration.setEnabledAsyncConnectionExecution(params.get(ASYNC_CONNECTION_EXECUTION_ENABLED).asBoolean(ConfigurationImpl.DEFAULT_ASYNC_CONNECTION_EXECUTION_ENABLED));
@@ -262,6 +264,9 @@ class MessagingSubsystemAdd implements ModelAddOperationHandler {
         configuration.setPersistDeliveryCountBeforeDelivery(params.get(PERSIST_DELIVERY_COUNT_BEFORE_DELIVERY).asBoolean(ConfigurationImpl.DEFAULT_PERSIST_DELIVERY_COUNT_BEFORE_DELIVERY));
         configuration.setPersistenceEnabled(params.get(PERSISTENCE_ENABLED).asBoolean(ConfigurationImpl.DEFAULT_PERSISTENCE_ENABLED));
         configuration.setPersistIDCache(params.get(PERSIST_ID_CACHE).asBoolean(ConfigurationImpl.DEFAULT_PERSIST_ID_CACHE));
+        // Thread pools, -1 for an unbounded thread pool
+        configuration.setThreadPoolMaxSize(params.get(THREAD_POOL_MAX_SIZE).asInt(ConfigurationImpl.DEFAULT_THREAD_POOL_MAX_SIZE));
+        configuration.setScheduledThreadPoolMaxSize(params.get(SCHEDULED_THREAD_POOL_MAX_SIZE).asInt(ConfigurationImpl.DEFAULT_SCHEDULED_THREAD_POOL_MAX_SIZE));
 
         // --
         processAddressSettings(configuration, params);
@@ -401,12 +406,12 @@ class MessagingSubsystemAdd implements ModelAddOperationHandler {
                 settings.setDeadLetterAddress(asSimpleString(config.get(DEAD_LETTER_ADDRESS), null));
                 settings.setLastValueQueue(config.get(LVQ).asBoolean(AddressSettings.DEFAULT_LAST_VALUE_QUEUE));
                 settings.setMaxDeliveryAttempts(config.get(MAX_DELIVERY_ATTEMPTS).asInt(AddressSettings.DEFAULT_MAX_DELIVERY_ATTEMPTS));
-                settings.setMaxSizeBytes(config.get(MAX_SIZE_BYTES_NODE_NAME).asInt((int) AddressSettings.DEFAULT_MAX_SIZE_BYTES));
+                settings.setMaxSizeBytes(config.get(MAX_SIZE_BYTES_NODE_NAME).asLong(AddressSettings.DEFAULT_MAX_SIZE_BYTES));
                 settings.setMessageCounterHistoryDayLimit(config.get(MESSAGE_COUNTER_HISTORY_DAY_LIMIT).asInt(AddressSettings.DEFAULT_MESSAGE_COUNTER_HISTORY_DAY_LIMIT));
                 settings.setExpiryAddress(asSimpleString(config.get(EXPIRY_ADDRESS), null));
-                settings.setRedeliveryDelay(config.get(REDELIVERY_DELAY).asInt((int) AddressSettings.DEFAULT_REDELIVER_DELAY));
-                settings.setRedistributionDelay(config.get(REDISTRIBUTION_DELAY).asInt((int) AddressSettings.DEFAULT_REDISTRIBUTION_DELAY));
-                settings.setPageSizeBytes(config.get(PAGE_SIZE_BYTES_NODE_NAME).asInt((int) AddressSettings.DEFAULT_PAGE_SIZE));
+                settings.setRedeliveryDelay(config.get(REDELIVERY_DELAY).asLong(AddressSettings.DEFAULT_REDELIVER_DELAY));
+                settings.setRedistributionDelay(config.get(REDISTRIBUTION_DELAY).asLong(AddressSettings.DEFAULT_REDISTRIBUTION_DELAY));
+                settings.setPageSizeBytes(config.get(PAGE_SIZE_BYTES_NODE_NAME).asLong(AddressSettings.DEFAULT_PAGE_SIZE));
                 settings.setSendToDLAOnNoRoute(config.get(SEND_TO_DLA_ON_NO_ROUTE).asBoolean(AddressSettings.DEFAULT_SEND_TO_DLA_ON_NO_ROUTE));
 
                 configuration.getAddressesSettings().put(match, settings);
@@ -307,6 +307,9 @@ public class MessagingSubsystemParser implements XMLStreamConstants, XMLElementR
                 case RUN_SYNC_SPEED_TEST:
                     unhandledElement(reader, element);
                     break;
+                case SCHEDULED_THREAD_POOL_MAX_SIZE:
+                    handleElementText(reader, element, operation);
+                    break;
                 case SECURITY_ENABLED:
                     unhandledElement(reader, element);
                     break;
@@ -324,6 +327,9 @@ public class MessagingSubsystemParser implements XMLStreamConstants, XMLElementR
                 case SHARED_STORE:
                     unhandledElement(reader, element);
                     break;
+                case THREAD_POOL_MAX_SIZE:
+                    handleElementText(reader, element, operation);
+                    break;
                 case TRANSACTION_TIMEOUT:
                     unhandledElement(reader, element);
                     break;
@@ -961,6 +967,9 @@ public class MessagingSubsystemParser implements XMLStreamConstants, XMLElementR
         if (has(node, CommonAttributes.RUN_SYNC_SPEED_TEST)) {
             //unhandled
         }
+        if (has(node, CommonAttributes.SCHEDULED_THREAD_POOL_MAX_SIZE)) {
+            writeSimpleElement(writer, Element.SCHEDULED_THREAD_POOL_MAX_SIZE, node);
+        }
         if (has(node, CommonAttributes.SECURITY_ENABLED)) {
             //unhandled
         }
@@ -976,6 +985,9 @@ public class MessagingSubsystemParser implements XMLStreamConstants, XMLElementR
         if (has(node, CommonAttributes.SHARED_STORE)) {
             //unhandled
         }
+        if (has(node, CommonAttributes.THREAD_POOL_MAX_SIZE)) {
+            writeSimpleElement(writer, Element.THREAD_POOL_MAX_SIZE, node);
+        }
         if (has(node, CommonAttributes.TRANSACTION_TIMEOUT)) {
             //unhandled
         }
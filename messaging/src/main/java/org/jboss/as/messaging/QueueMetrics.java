@@ -0,0 +1,181 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.hornetq.api.core.SimpleString;
+import org.hornetq.api.core.management.QueueControl;
+import org.hornetq.api.core.management.ResourceNames;
+import org.hornetq.core.paging.PagingStore;
+import org.hornetq.core.server.HornetQServer;
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.logging.Logger;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceRegistry;
+
+/**
+ * Reads the runtime metrics of a core queue.
+ * <p>
+ * The values come from the {@link QueueControl} HornetQ registers for every queue, which is available whether or
+ * not {@code jmx-management-enabled} is set. As the metrics are read directly from the service registry, all queues
+ * can be read in a single {@code read-resource} operation. The paging metrics describe the paging store of the
+ * address the queue is bound to, and are therefore shared by all queues bound to the same address.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class QueueMetrics implements ModelQueryOperationHandler {
+
+    static final QueueMetrics INSTANCE = new QueueMetrics();
+
+    static final String MESSAGE_COUNT = "message-count";
+    static final String DELIVERING_COUNT = "delivering-count";
+    static final String SCHEDULED_COUNT = "scheduled-count";
+    static final String CONSUMER_COUNT = "consumer-count";
+    static final String MESSAGES_ADDED = "messages-added";
+    static final String PAGING = "paging";
+    static final String NUMBER_OF_PAGES = "number-of-pages";
+    static final String ADDRESS_SIZE = "address-size";
+    static final String[] ATTRIBUTES = { MESSAGE_COUNT, DELIVERING_COUNT, SCHEDULED_COUNT, CONSUMER_COUNT, MESSAGES_ADDED,
+        PAGING, NUMBER_OF_PAGES, ADDRESS_SIZE };
+
+    /** Private to ensure a singleton. */
+    private QueueMetrics() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        final ModelNode result = new ModelNode();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final String name = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
+            final ServiceRegistry registry = ServerOperationContext.class.cast(context).getController().getServiceRegistry();
+            final HornetQServer server = getServer(registry, MessagingServices.CORE_QUEUE_BASE.append(name));
+            final QueueControl control = server != null ? (QueueControl) server.getManagementService().getResource(ResourceNames.CORE_QUEUE + name) : null;
+            if (control != null) {
+                setMetric(result, server, control, attributeName);
+            } else {
+                setZero(result, attributeName);
+            }
+        } else {
+            result.set("no metrics available");
+        }
+        resultHandler.handleResultFragment(Util.NO_LOCATION, result);
+        resultHandler.handleResultComplete();
+        return new BasicOperationResult();
+    }
+
+    /**
+     * Get the model type of a metric.
+     *
+     * @param attributeName the metric name
+     * @return the type
+     */
+    static ModelType getType(final String attributeName) {
+        if (PAGING.equals(attributeName)) {
+            return ModelType.BOOLEAN;
+        }
+        if (DELIVERING_COUNT.equals(attributeName) || CONSUMER_COUNT.equals(attributeName) || NUMBER_OF_PAGES.equals(attributeName)) {
+            return ModelType.INT;
+        }
+        return ModelType.LONG;
+    }
+
+    /**
+     * Get the server a queue is deployed to.
+     *
+     * @param registry the service registry
+     * @param serviceName the name of the service deploying the queue
+     * @return the server, or {@code null} if the queue is not deployed
+     */
+    private static HornetQServer getServer(final ServiceRegistry registry, final ServiceName serviceName) {
+        final ServiceController<?> queueController = registry.getService(serviceName);
+        if (queueController == null || queueController.getState() != ServiceController.State.UP) {
+            return null;
+        }
+        final ServiceController<?> serverController = registry.getService(MessagingServices.JBOSS_MESSAGING);
+        if (serverController == null || serverController.getState() != ServiceController.State.UP) {
+            return null;
+        }
+        return HornetQServer.class.cast(serverController.getValue());
+    }
+
+    /**
+     * Set the value of a queue metric.
+     *
+     * @param result the result node
+     * @param server the server the queue is deployed to
+     * @param control the queue control
+     * @param attributeName the metric name
+     */
+    private static void setMetric(final ModelNode result, final HornetQServer server, final QueueControl control, final String attributeName) {
+        try {
+            if (MESSAGE_COUNT.equals(attributeName)) {
+                result.set((long) control.getMessageCount());
+            } else if (DELIVERING_COUNT.equals(attributeName)) {
+                result.set((int) control.getDeliveringCount());
+            } else if (SCHEDULED_COUNT.equals(attributeName)) {
+                result.set((long) control.getScheduledCount());
+            } else if (CONSUMER_COUNT.equals(attributeName)) {
+                result.set((int) control.getConsumerCount());
+            } else if (MESSAGES_ADDED.equals(attributeName)) {
+                result.set((long) control.getMessagesAdded());
+            } else if (PAGING.equals(attributeName)) {
+                result.set(getPagingStore(server, control).isPaging());
+            } else if (NUMBER_OF_PAGES.equals(attributeName)) {
+                result.set(getPagingStore(server, control).getNumberOfPages());
+            } else if (ADDRESS_SIZE.equals(attributeName)) {
+                result.set(getPagingStore(server, control).getAddressSize());
+            }
+        } catch (Exception e) {
+            Logger.getLogger("org.jboss.messaging").debugf(e, "failed to read %s", attributeName);
+            setZero(result, attributeName);
+        }
+    }
+
+    private static PagingStore getPagingStore(final HornetQServer server, final QueueControl control) throws Exception {
+        return server.getPostOffice().getPagingManager().getPageStore(new SimpleString(control.getAddress()));
+    }
+
+    private static void setZero(final ModelNode result, final String attributeName) {
+        final ModelType type = getType(attributeName);
+        if (type == ModelType.BOOLEAN) {
+            result.set(false);
+        } else if (type == ModelType.INT) {
+            result.set(0);
+        } else {
+            result.set(0L);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.hornetq.core.config.Configuration;
+import org.hornetq.core.server.HornetQServer;
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceRegistry;
+
+/**
+ * Reads the thread pool sizes the running HornetQ server was started with.
+ * <p>
+ * HornetQ creates its thread pool and scheduled thread pool itself, so the sizes cannot be changed or shared with
+ * the threads subsystem, only read back from the server configuration.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class ServerMetrics implements ModelQueryOperationHandler {
+
+    static final ServerMetrics INSTANCE = new ServerMetrics();
+
+    static final String EFFECTIVE_THREAD_POOL_MAX_SIZE = "effective-thread-pool-max-size";
+    static final String EFFECTIVE_SCHEDULED_THREAD_POOL_MAX_SIZE = "effective-scheduled-thread-pool-max-size";
+    static final String[] ATTRIBUTES = { EFFECTIVE_THREAD_POOL_MAX_SIZE, EFFECTIVE_SCHEDULED_THREAD_POOL_MAX_SIZE };
+
+    /** Private to ensure a singleton. */
+    private ServerMetrics() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        final ModelNode result = new ModelNode();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final String attributeName = operation.require(NAME).asString();
+            final ServiceRegistry registry = ServerOperationContext.class.cast(context).getController().getServiceRegistry();
+            final ServiceController<?> controller = registry.getService(MessagingServices.JBOSS_MESSAGING);
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                final Configuration configuration = HornetQServer.class.cast(controller.getValue()).getConfiguration();
+                if (EFFECTIVE_THREAD_POOL_MAX_SIZE.equals(attributeName)) {
+                    result.set(configuration.getThreadPoolMaxSize());
+                } else if (EFFECTIVE_SCHEDULED_THREAD_POOL_MAX_SIZE.equals(attributeName)) {
+                    result.set(configuration.getScheduledThreadPoolMaxSize());
+                }
+            } else {
+                result.set(0);
+            }
+        } else {
+            result.set("no metrics available");
+        }
+        resultHandler.handleResultFragment(Util.NO_LOCATION, result);
+        resultHandler.handleResultComplete();
+        return new BasicOperationResult();
+    }
+
+    /**
+     * Get the model type of a metric.
+     *
+     * @param attributeName the metric name
+     * @return the type
+     */
+    static ModelType getType(final String attributeName) {
+        return ModelType.INT;
+    }
+}
@@ -28,6 +28,7 @@ package org.jboss.as.messaging.jms;
 public interface CommonAttributes {
 
     String AUTO_GROUP ="auto-group";
+    String BLOCKING_TIMEOUT_WAIT_MILLIS ="blocking-timeout-wait-millis";
     String BLOCK_ON_ACK ="block-on-acknowledge";
     String BLOCK_ON_DURABLE_SEND ="block-on-durable-send";
     String BLOCK_ON_NON_DURABLE_SEND ="block-on-non-durable-send";
@@ -56,9 +57,12 @@ public interface CommonAttributes {
     String FAILOVER_ON_SERVER_SHUTDOWN ="failover-on-server-shutdown";
     String GROUP_ID ="group-id";
     String LOAD_BALANCING_CLASS_NAME ="connection-load-balancing-policy-class-name";
+    String MAX_POOL_SIZE ="max-pool-size";
     String MAX_RETRY_INTERVAL ="max-retry-interval";
     String MIN_LARGE_MESSAGE_SIZE ="min-large-message-size";
+    String MIN_POOL_SIZE ="min-pool-size";
     String NAME ="name";
+    String POOLED_CONNECTION_FACTORY ="pooled-connection-factory";
     String PRE_ACK ="pre-acknowledge";
     String PRODUCER_MAX_RATE ="producer-max-rate";
     String PRODUCER_WINDOW_SIZE ="producer-window-size";
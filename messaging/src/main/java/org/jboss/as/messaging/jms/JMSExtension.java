@@ -44,6 +44,7 @@ public class JMSExtension implements Extension {
     public static final String SUBSYSTEM_NAME = "jms";
 
     private static final PathElement CFS_PATH = PathElement.pathElement(CommonAttributes.CONNECTION_FACTORY);
+    private static final PathElement POOLED_CFS_PATH = PathElement.pathElement(CommonAttributes.POOLED_CONNECTION_FACTORY);
     private static final PathElement QUEUE_PATH = PathElement.pathElement(CommonAttributes.QUEUE);
     private static final PathElement TOPIC_PATH = PathElement.pathElement(CommonAttributes.TOPIC);
 
@@ -61,14 +62,27 @@ public class JMSExtension implements Extension {
         final ModelNodeRegistration cfs = registration.registerSubModel(CFS_PATH, JMSSubsystemProviders.CF);
         cfs.registerOperationHandler(ADD, ConnectionFactoryAdd.INSTANCE, JMSSubsystemProviders.CF_ADD, false);
         cfs.registerOperationHandler(REMOVE, ConnectionFactoryRemove.INSTANCE, JMSSubsystemProviders.CF_REMOVE, false);
+        // Pooled connection factories
+        final ModelNodeRegistration pooledCfs = registration.registerSubModel(POOLED_CFS_PATH, JMSSubsystemProviders.POOLED_CF);
+        pooledCfs.registerOperationHandler(ADD, PooledConnectionFactoryAdd.INSTANCE, JMSSubsystemProviders.POOLED_CF_ADD, false);
+        pooledCfs.registerOperationHandler(REMOVE, PooledConnectionFactoryRemove.INSTANCE, JMSSubsystemProviders.POOLED_CF_REMOVE, false);
+        for (final String metric : PooledConnectionFactoryMetrics.ATTRIBUTES) {
+            pooledCfs.registerMetric(metric, PooledConnectionFactoryMetrics.INSTANCE);
+        }
         // Queues
         final ModelNodeRegistration queues = registration.registerSubModel(QUEUE_PATH, JMSSubsystemProviders.JMS_QUEUE);
         queues.registerOperationHandler(ADD, JMSQueueAdd.INSTANCE, JMSSubsystemProviders.JMS_QUEUE_ADD, false);
         queues.registerOperationHandler(REMOVE, JMSQueueRemove.INSTANCE, JMSSubsystemProviders.JMS_QUEUE_REMOVE, false);
+        for (final String metric : JMSQueueMetrics.ATTRIBUTES) {
+            queues.registerMetric(metric, JMSQueueMetrics.INSTANCE);
+        }
         // Topics
         final ModelNodeRegistration topics = registration.registerSubModel(TOPIC_PATH, JMSSubsystemProviders.JMS_TOPIC);
         topics.registerOperationHandler(ADD, JMSTopicAdd.INSTANCE, JMSSubsystemProviders.JMS_TOPIC_ADD, false);
         topics.registerOperationHandler(REMOVE, JMSTopicRemove.INSTANCE, JMSSubsystemProviders.JMS_TOPIC_REMOVE, false);
+        for (final String metric : JMSTopicMetrics.ATTRIBUTES) {
+            topics.registerMetric(metric, JMSTopicMetrics.INSTANCE);
+        }
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,142 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging.jms;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.hornetq.api.core.management.ResourceNames;
+import org.hornetq.api.jms.management.JMSQueueControl;
+import org.hornetq.core.server.HornetQServer;
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.messaging.MessagingServices;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.logging.Logger;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceRegistry;
+
+/**
+ * Reads the runtime metrics of a JMS queue, from the {@link JMSQueueControl} HornetQ registers for it.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class JMSQueueMetrics implements ModelQueryOperationHandler {
+
+    static final JMSQueueMetrics INSTANCE = new JMSQueueMetrics();
+
+    static final String MESSAGE_COUNT = "message-count";
+    static final String DELIVERING_COUNT = "delivering-count";
+    static final String SCHEDULED_COUNT = "scheduled-count";
+    static final String CONSUMER_COUNT = "consumer-count";
+    static final String MESSAGES_ADDED = "messages-added";
+    static final String[] ATTRIBUTES = { MESSAGE_COUNT, DELIVERING_COUNT, SCHEDULED_COUNT, CONSUMER_COUNT, MESSAGES_ADDED };
+
+    /** Private to ensure a singleton. */
+    private JMSQueueMetrics() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        final ModelNode result = new ModelNode();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final String name = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
+            final ServiceRegistry registry = ServerOperationContext.class.cast(context).getController().getServiceRegistry();
+            final Object control = getControl(registry, JMSServices.JMS_QUEUE_BASE.append(name), ResourceNames.JMS_QUEUE + name);
+            if (control instanceof JMSQueueControl) {
+                setMetric(result, (JMSQueueControl) control, attributeName);
+            } else {
+                setZero(result, getType(attributeName));
+            }
+        } else {
+            result.set("no metrics available");
+        }
+        resultHandler.handleResultFragment(Util.NO_LOCATION, result);
+        resultHandler.handleResultComplete();
+        return new BasicOperationResult();
+    }
+
+    static ModelType getType(final String attributeName) {
+        if (DELIVERING_COUNT.equals(attributeName) || CONSUMER_COUNT.equals(attributeName)) {
+            return ModelType.INT;
+        }
+        return ModelType.LONG;
+    }
+
+    /**
+     * Get the management control of a deployed destination.
+     *
+     * @param registry the service registry
+     * @param serviceName the name of the service deploying the destination
+     * @param resourceName the HornetQ management resource name
+     * @return the control, or {@code null} if the destination is not deployed
+     */
+    static Object getControl(final ServiceRegistry registry, final ServiceName serviceName, final String resourceName) {
+        final ServiceController<?> destinationController = registry.getService(serviceName);
+        if (destinationController == null || destinationController.getState() != ServiceController.State.UP) {
+            return null;
+        }
+        final ServiceController<?> serverController = registry.getService(MessagingServices.JBOSS_MESSAGING);
+        if (serverController == null || serverController.getState() != ServiceController.State.UP) {
+            return null;
+        }
+        final HornetQServer server = HornetQServer.class.cast(serverController.getValue());
+        return server.getManagementService().getResource(resourceName);
+    }
+
+    static void setZero(final ModelNode result, final ModelType type) {
+        if (type == ModelType.INT) {
+            result.set(0);
+        } else {
+            result.set(0L);
+        }
+    }
+
+    private static void setMetric(final ModelNode result, final JMSQueueControl control, final String attributeName) {
+        try {
+            if (MESSAGE_COUNT.equals(attributeName)) {
+                result.set((long) control.getMessageCount());
+            } else if (DELIVERING_COUNT.equals(attributeName)) {
+                result.set((int) control.getDeliveringCount());
+            } else if (SCHEDULED_COUNT.equals(attributeName)) {
+                result.set((long) control.getScheduledCount());
+            } else if (CONSUMER_COUNT.equals(attributeName)) {
+                result.set((int) control.getConsumerCount());
+            } else if (MESSAGES_ADDED.equals(attributeName)) {
+                result.set((long) control.getMessagesAdded());
+            }
+        } catch (Exception e) {
+            Logger.getLogger("org.jboss.messaging").debugf(e, "failed to read %s", attributeName);
+            setZero(result, getType(attributeName));
+        }
+    }
+}
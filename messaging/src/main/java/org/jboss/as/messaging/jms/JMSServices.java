@@ -23,6 +23,7 @@
 package org.jboss.as.messaging.jms;
 
 import static org.jboss.as.messaging.jms.CommonAttributes.AUTO_GROUP;
+import static org.jboss.as.messaging.jms.CommonAttributes.BLOCKING_TIMEOUT_WAIT_MILLIS;
 import static org.jboss.as.messaging.jms.CommonAttributes.BLOCK_ON_ACK;
 import static org.jboss.as.messaging.jms.CommonAttributes.BLOCK_ON_DURABLE_SEND;
 import static org.jboss.as.messaging.jms.CommonAttributes.BLOCK_ON_NON_DURABLE_SEND;
@@ -41,8 +42,10 @@ import static org.jboss.as.messaging.jms.CommonAttributes.ENTRIES;
 import static org.jboss.as.messaging.jms.CommonAttributes.FAILOVER_ON_INITIAL_CONNECTION;
 import static org.jboss.as.messaging.jms.CommonAttributes.FAILOVER_ON_SERVER_SHUTDOWN;
 import static org.jboss.as.messaging.jms.CommonAttributes.GROUP_ID;
+import static org.jboss.as.messaging.jms.CommonAttributes.MAX_POOL_SIZE;
 import static org.jboss.as.messaging.jms.CommonAttributes.MAX_RETRY_INTERVAL;
 import static org.jboss.as.messaging.jms.CommonAttributes.MIN_LARGE_MESSAGE_SIZE;
+import static org.jboss.as.messaging.jms.CommonAttributes.MIN_POOL_SIZE;
 import static org.jboss.as.messaging.jms.CommonAttributes.PRE_ACK;
 import static org.jboss.as.messaging.jms.CommonAttributes.PRODUCER_MAX_RATE;
 import static org.jboss.as.messaging.jms.CommonAttributes.PRODUCER_WINDOW_SIZE;
@@ -67,6 +70,7 @@ public class JMSServices {
     public static final ServiceName JMS_QUEUE_BASE = JMS.append("queue");
     public static final ServiceName JMS_TOPIC_BASE = JMS.append("topic");
     public static final ServiceName JMS_CF_BASE = JMS.append("connection-factory");
+    public static final ServiceName JMS_POOLED_CF_BASE = JMS.append("pooled-connection-factory");
 
     static String[] CF_ATTRIBUTES = new String[] { AUTO_GROUP, ENTRIES, CONNECTOR, BLOCK_ON_ACK, BLOCK_ON_DURABLE_SEND, BLOCK_ON_NON_DURABLE_SEND, CACHE_LARGE_MESSAGE_CLIENT,
         CALL_TIMEOUT, CLIENT_FAILURE_CHECK_PERIOD, CLIENT_ID, CONFIRMATION_WINDOW_SIZE, CONNECTION_TTL, CONNECTOR, CONSUMER_MAX_RATE, CONSUMER_WINDOW_SIZE, DISCOVERY_GROUP_NAME,
@@ -74,4 +78,6 @@ public class JMSServices {
         PRODUCER_WINDOW_SIZE, RECONNECT_ATTEMPTS, RETRY_INTERVAL, RETRY_INTERVAL_MULTIPLIER, SCHEDULED_THREAD_POOL_MAX_SIZE, THREAD_POOL_MAX_SIZE, TRANSACTION_BATCH_SIZE,
         USE_GLOBAL_POOLS,  };
 
+    static String[] POOLED_CF_ATTRIBUTES = new String[] { ENTRIES, CONNECTOR, MIN_POOL_SIZE, MAX_POOL_SIZE, BLOCKING_TIMEOUT_WAIT_MILLIS };
+
 }
\ No newline at end of file
@@ -26,12 +26,16 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.jboss.as.messaging.jms.CommonAttributes.BLOCKING_TIMEOUT_WAIT_MILLIS;
 import static org.jboss.as.messaging.jms.CommonAttributes.CONNECTION_FACTORY;
 import static org.jboss.as.messaging.jms.CommonAttributes.CONNECTOR;
 import static org.jboss.as.messaging.jms.CommonAttributes.CONNECTOR_BACKUP_NAME;
 import static org.jboss.as.messaging.jms.CommonAttributes.DISCOVERY_GROUP_REF;
 import static org.jboss.as.messaging.jms.CommonAttributes.DURABLE;
 import static org.jboss.as.messaging.jms.CommonAttributes.ENTRIES;
+import static org.jboss.as.messaging.jms.CommonAttributes.MAX_POOL_SIZE;
+import static org.jboss.as.messaging.jms.CommonAttributes.MIN_POOL_SIZE;
+import static org.jboss.as.messaging.jms.CommonAttributes.POOLED_CONNECTION_FACTORY;
 import static org.jboss.as.messaging.jms.CommonAttributes.QUEUE;
 import static org.jboss.as.messaging.jms.CommonAttributes.SELECTOR;
 import static org.jboss.as.messaging.jms.CommonAttributes.TOPIC;
@@ -86,6 +90,9 @@ public class JMSSubsystemParser implements XMLStreamConstants, XMLElementReader<
                 case CONNECTION_FACTORY: {
                     processConnectionFactory(reader, address, updates);
                     break;
+                } case POOLED_CONNECTION_FACTORY: {
+                    processPooledConnectionFactory(reader, address, updates);
+                    break;
                 } case QUEUE: {
                     processJMSQueue(reader, address, updates);
                     break;
@@ -242,6 +249,48 @@ public class JMSSubsystemParser implements XMLStreamConstants, XMLElementReader<
         updates.add(connectionFactory);
     }
 
+    static void processPooledConnectionFactory(final XMLExtendedStreamReader reader, final ModelNode address, final List<ModelNode> updates) throws XMLStreamException {
+        final String name = reader.getAttributeValue(0);
+        if(name == null) {
+            ParseUtils.missingRequired(reader, Collections.singleton("name"));
+        }
+
+        final ModelNode connectionFactory = new ModelNode();
+        connectionFactory.get(OP).set(ADD);
+        connectionFactory.get(OP_ADDR).set(address).add(POOLED_CONNECTION_FACTORY, name);
+
+        while(reader.hasNext() && reader.nextTag() != END_ELEMENT) {
+            final Element element = Element.forName(reader.getLocalName());
+            switch(element) {
+                case CONNECTORS: {
+                    connectionFactory.get(CONNECTOR).set(processConnectors(reader));
+                    break;
+                } case ENTRIES: {
+                    while(reader.hasNext() && reader.nextTag() != END_ELEMENT) {
+                        final Element local = Element.forName(reader.getLocalName());
+                        if(local != Element.ENTRY ) {
+                            throw ParseUtils.unexpectedElement(reader);
+                        }
+                        final String entry = reader.getAttributeValue(0);
+                        connectionFactory.get(ENTRIES).add(entry.trim());
+                        ParseUtils.requireNoContent(reader);
+                    }
+                    break;
+                }
+                case MIN_POOL_SIZE:
+                case MAX_POOL_SIZE:
+                case BLOCKING_TIMEOUT_WAIT_MILLIS:
+                    parseElementText(reader, element, connectionFactory);
+                    break;
+                default: {
+                    throw ParseUtils.unexpectedElement(reader);
+                }
+            }
+        }
+
+        updates.add(connectionFactory);
+    }
+
     static ModelNode processConnectors(final XMLExtendedStreamReader reader) throws XMLStreamException {
         final ModelNode connectors = new ModelNode();
         while(reader.hasNext() && reader.nextTag() != END_ELEMENT) {
@@ -294,6 +343,9 @@ public class JMSSubsystemParser implements XMLStreamConstants, XMLElementReader<
         if (node.has(CONNECTION_FACTORY)) {
             writeConnectionFactories(writer, node.get(CONNECTION_FACTORY));
         }
+        if (node.has(POOLED_CONNECTION_FACTORY)) {
+            writePooledConnectionFactories(writer, node.get(POOLED_CONNECTION_FACTORY));
+        }
         if (node.has(QUEUE)) {
             writeQueues(writer, node.get(QUEUE));
         }
@@ -348,91 +400,143 @@ public class JMSSubsystemParser implements XMLStreamConstants, XMLElementReader<
                 //ENTRIES
 
                 if (has(factory, CommonAttributes.DISCOVERY_INITIAL_WAIT_TIMEOUT)){
-                    writeSimpleElement(writer, Element.DISCOVERY_INITIAL_WAIT_TIMEOUT, node);
+                    writeSimpleElement(writer, Element.DISCOVERY_INITIAL_WAIT_TIMEOUT, factory);
                 }
                 if (has(factory, CommonAttributes.CLIENT_FAILURE_CHECK_PERIOD)){
-                    writeSimpleElement(writer, Element.DISCOVERY_INITIAL_WAIT_TIMEOUT, node);
+                    writeSimpleElement(writer, Element.CLIENT_FAILURE_CHECK_PERIOD, factory);
                 }
                 if (has(factory, CommonAttributes.CONNECTION_TTL)){
-                    writeSimpleElement(writer, Element.CONNECTION_TTL, node);
+                    writeSimpleElement(writer, Element.CONNECTION_TTL, factory);
                 }
                 if (has(factory, CommonAttributes.CALL_TIMEOUT)){
-                    writeSimpleElement(writer, Element.CALL_TIMEOUT, node);
+                    writeSimpleElement(writer, Element.CALL_TIMEOUT, factory);
                 }
                 if (has(factory, CommonAttributes.CONSUMER_WINDOW_SIZE)){
-                    writeSimpleElement(writer, Element.CONSUMER_WINDOW_SIZE, node);
+                    writeSimpleElement(writer, Element.CONSUMER_WINDOW_SIZE, factory);
                 }
                 if (has(factory, CommonAttributes.CONSUMER_MAX_RATE)){
-                    writeSimpleElement(writer, Element.CONSUMER_MAX_RATE, node);
+                    writeSimpleElement(writer, Element.CONSUMER_MAX_RATE, factory);
                 }
                 if (has(factory, CommonAttributes.CONFIRMATION_WINDOW_SIZE)){
-                    writeSimpleElement(writer, Element.CONFIRMATION_WINDOW_SIZE, node);
+                    writeSimpleElement(writer, Element.CONFIRMATION_WINDOW_SIZE, factory);
                 }
                 if (has(factory, CommonAttributes.PRODUCER_WINDOW_SIZE)){
-                    writeSimpleElement(writer, Element.PRODUCER_WINDOW_SIZE, node);
+                    writeSimpleElement(writer, Element.PRODUCER_WINDOW_SIZE, factory);
                 }
                 if (has(factory, CommonAttributes.PRODUCER_MAX_RATE)){
-                    writeSimpleElement(writer, Element.PRODUCER_MAX_RATE, node);
+                    writeSimpleElement(writer, Element.PRODUCER_MAX_RATE, factory);
                 }
                 if (has(factory, CommonAttributes.CACHE_LARGE_MESSAGE_CLIENT)){
-                    writeSimpleElement(writer, Element.CACHE_LARGE_MESSAGE_CLIENT, node);
+                    writeSimpleElement(writer, Element.CACHE_LARGE_MESSAGE_CLIENT, factory);
                 }
                 if (has(factory, CommonAttributes.MIN_LARGE_MESSAGE_SIZE)){
-                    writeSimpleElement(writer, Element.MIN_LARGE_MESSAGE_SIZE, node);
+                    writeSimpleElement(writer, Element.MIN_LARGE_MESSAGE_SIZE, factory);
                 }
                 if (has(factory, CommonAttributes.CLIENT_ID)){
-                    writeSimpleElement(writer, Element.CLIENT_ID, node);
+                    writeSimpleElement(writer, Element.CLIENT_ID, factory);
                 }
                 if (has(factory, CommonAttributes.DUPS_OK_BATCH_SIZE)){
-                    writeSimpleElement(writer, Element.DUPS_OK_BATCH_SIZE, node);
+                    writeSimpleElement(writer, Element.DUPS_OK_BATCH_SIZE, factory);
                 }
                 if (has(factory, CommonAttributes.TRANSACTION_BATCH_SIZE)){
-                    writeSimpleElement(writer, Element.TRANSACTION_BATH_SIZE, node);
+                    writeSimpleElement(writer, Element.TRANSACTION_BATH_SIZE, factory);
                 }
                 if (has(factory, CommonAttributes.BLOCK_ON_ACK)){
-                    writeSimpleElement(writer, Element.BLOCK_ON_ACK, node);
+                    writeSimpleElement(writer, Element.BLOCK_ON_ACK, factory);
                 }
                 if (has(factory, CommonAttributes.BLOCK_ON_NON_DURABLE_SEND)){
-                    writeSimpleElement(writer, Element.BLOCK_ON_NON_DURABLE_SEND, node);
+                    writeSimpleElement(writer, Element.BLOCK_ON_NON_DURABLE_SEND, factory);
                 }
                 if (has(factory, CommonAttributes.BLOCK_ON_DURABLE_SEND)){
-                    writeSimpleElement(writer, Element.BLOCK_ON_DURABLE_SEND, node);
+                    writeSimpleElement(writer, Element.BLOCK_ON_DURABLE_SEND, factory);
                 }
                 if (has(factory, CommonAttributes.AUTO_GROUP)){
-                    writeSimpleElement(writer, Element.AUTO_GROUP, node);
+                    writeSimpleElement(writer, Element.AUTO_GROUP, factory);
                 }
                 if (has(factory, CommonAttributes.PRE_ACK)){
-                    writeSimpleElement(writer, Element.PRE_ACK, node);
+                    writeSimpleElement(writer, Element.PRE_ACK, factory);
                 }
                 if (has(factory, CommonAttributes.RETRY_INTERVAL_MULTIPLIER)){
-                    writeSimpleElement(writer, Element.RETRY_INTERVAL_MULTIPLIER, node);
+                    writeSimpleElement(writer, Element.RETRY_INTERVAL_MULTIPLIER, factory);
                 }
                 if (has(factory, CommonAttributes.MAX_RETRY_INTERVAL)){
-                    writeSimpleElement(writer, Element.MAX_RETRY_INTERVAL, node);
+                    writeSimpleElement(writer, Element.MAX_RETRY_INTERVAL, factory);
                 }
                 if (has(factory, CommonAttributes.RECONNECT_ATTEMPTS)){
-                    writeSimpleElement(writer, Element.RECONNECT_ATTEMPTS, node);
+                    writeSimpleElement(writer, Element.RECONNECT_ATTEMPTS, factory);
                 }
                 if (has(factory, CommonAttributes.FAILOVER_ON_INITIAL_CONNECTION)){
-                    writeSimpleElement(writer, Element.FAILOVER_ON_INITIAL_CONNECTION, node);
+                    writeSimpleElement(writer, Element.FAILOVER_ON_INITIAL_CONNECTION, factory);
                 }
                 if (has(factory, CommonAttributes.FAILOVER_ON_SERVER_SHUTDOWN)){
-                    writeSimpleElement(writer, Element.FAILOVER_ON_SERVER_SHUTDOWN, node);
+                    writeSimpleElement(writer, Element.FAILOVER_ON_SERVER_SHUTDOWN, factory);
                 }
                 if (has(factory, CommonAttributes.LOAD_BALANCING_CLASS_NAME)){
-                    writeSimpleElement(writer, Element.LOAD_BALANCING_CLASS_NAME, node);
+                    writeSimpleElement(writer, Element.LOAD_BALANCING_CLASS_NAME, factory);
                 }
                 if (has(factory, CommonAttributes.USE_GLOBAL_POOLS)){
-                    writeSimpleElement(writer, Element.USE_GLOBAL_POOLS, node);
+                    writeSimpleElement(writer, Element.USE_GLOBAL_POOLS, factory);
                 }
                 if (has(factory, CommonAttributes.SCHEDULED_THREAD_POOL_MAX_SIZE)){
-                    writeSimpleElement(writer, Element.SCHEDULED_THREAD_POOL_MAX_SIZE, node);
+                    writeSimpleElement(writer, Element.SCHEDULED_THREAD_POOL_MAX_SIZE, factory);
                 }
                 if (has(factory, CommonAttributes.THREAD_POOL_MAX_SIZE)){
-                    writeSimpleElement(writer, Element.THREAD_POOL_MAX_SIZE, node);
+                    writeSimpleElement(writer, Element.THREAD_POOL_MAX_SIZE, factory);
                 }
                 if (has(factory, CommonAttributes.GROUP_ID)){
-                    writeSimpleElement(writer, Element.GROUP_ID, node);
+                    writeSimpleElement(writer, Element.GROUP_ID, factory);
+                }
+
+                writer.writeEndElement();
+            }
+        }
+    }
+
+    private void writePooledConnectionFactories(final XMLExtendedStreamWriter writer, final ModelNode node) throws XMLStreamException {
+        for (Property prop : node.asPropertyList()) {
+            final String name = prop.getName();
+            final ModelNode factory = prop.getValue();
+            if (factory.isDefined()) {
+                writer.writeStartElement(Element.POOLED_CONNECTION_FACTORY.getLocalName());
+                writer.writeAttribute(Attribute.NAME.getLocalName(), name);
+
+                if (has(factory, CONNECTOR)) {
+                    writer.writeStartElement(Element.CONNECTORS.getLocalName());
+                    for (Property connProp : factory.get(CONNECTOR).asPropertyList()) {
+                        final ModelNode conn = connProp.getValue();
+                        if (conn.isDefined()) {
+                            writer.writeStartElement(Element.CONNECTOR_REF.getLocalName());
+                            writer.writeAttribute(Attribute.CONNECTOR_NAME.getLocalName(), connProp.getName());
+                            if (has(conn, CONNECTOR_BACKUP_NAME)) {
+                                writeAttribute(writer, Attribute.CONNECTOR_BACKUP_NAME, conn.get(CONNECTOR_BACKUP_NAME));
+                            }
+                            writer.writeEndElement();
+                        }
+                    }
+                    writer.writeEndElement();
+                }
+                if (has(factory, ENTRIES)) {
+                    final ModelNode entries = factory.get(ENTRIES);
+                    if (entries.getType() == ModelType.LIST) {
+                        writer.writeStartElement(Element.ENTRIES.getLocalName());
+                        for (ModelNode entry : entries.asList()) {
+                            if (entry.isDefined()) {
+                                writer.writeStartElement(Element.ENTRY.getLocalName());
+                                writeAttribute(writer, Attribute.NAME, entry);
+                                writer.writeEndElement();
+                            }
+                        }
+                        writer.writeEndElement();
+                    }
+                }
+                if (has(factory, MIN_POOL_SIZE)) {
+                    writeSimpleElement(writer, Element.MIN_POOL_SIZE, factory);
+                }
+                if (has(factory, MAX_POOL_SIZE)) {
+                    writeSimpleElement(writer, Element.MAX_POOL_SIZE, factory);
+                }
+                if (has(factory, BLOCKING_TIMEOUT_WAIT_MILLIS)) {
+                    writeSimpleElement(writer, Element.BLOCKING_TIMEOUT_WAIT_MILLIS, factory);
                 }
 
                 writer.writeEndElement();
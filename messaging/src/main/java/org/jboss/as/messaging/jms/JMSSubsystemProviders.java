@@ -22,11 +22,28 @@
 
 package org.jboss.as.messaging.jms;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REMOVE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REPLY_PROPERTIES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQUEST_PROPERTIES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQUIRED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE_TYPE;
+import static org.jboss.as.messaging.jms.CommonAttributes.BLOCKING_TIMEOUT_WAIT_MILLIS;
+import static org.jboss.as.messaging.jms.CommonAttributes.CONNECTOR;
+import static org.jboss.as.messaging.jms.CommonAttributes.ENTRIES;
+import static org.jboss.as.messaging.jms.CommonAttributes.MAX_POOL_SIZE;
+import static org.jboss.as.messaging.jms.CommonAttributes.MIN_POOL_SIZE;
+
 import java.util.Locale;
 import java.util.ResourceBundle;
 
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 /**
  * @author Emanuel Muckenhuber
@@ -134,6 +151,69 @@ public class JMSSubsystemProviders {
         }
     };
 
+    static final DescriptionProvider POOLED_CF = new DescriptionProvider() {
+
+        public ModelNode getModelDescription(final Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+
+            final ModelNode node = new ModelNode();
+            node.get(DESCRIPTION).set(bundle.getString("pooled-cf"));
+            addPooledConnectionFactoryProperties(node.get(ATTRIBUTES), bundle);
+            for (final String metric : PooledConnectionFactoryMetrics.ATTRIBUTES) {
+                node.get(ATTRIBUTES, metric, TYPE).set(PooledConnectionFactoryMetrics.getType(metric));
+                node.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString("pooled-cf." + metric));
+            }
+            return node;
+        }
+    };
+
+    static final DescriptionProvider POOLED_CF_ADD = new DescriptionProvider() {
+
+        public ModelNode getModelDescription(final Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+
+            final ModelNode node = new ModelNode();
+            node.get(OPERATION_NAME).set(ADD);
+            node.get(DESCRIPTION).set(bundle.getString("pooled-cf.add"));
+            addPooledConnectionFactoryProperties(node.get(REQUEST_PROPERTIES), bundle);
+            node.get(REQUEST_PROPERTIES, ENTRIES, REQUIRED).set(true);
+            node.get(REQUEST_PROPERTIES, CONNECTOR, REQUIRED).set(false);
+            node.get(REQUEST_PROPERTIES, MIN_POOL_SIZE, REQUIRED).set(false);
+            node.get(REQUEST_PROPERTIES, MAX_POOL_SIZE, REQUIRED).set(false);
+            node.get(REQUEST_PROPERTIES, BLOCKING_TIMEOUT_WAIT_MILLIS, REQUIRED).set(false);
+            node.get(REPLY_PROPERTIES).setEmptyObject();
+            return node;
+        }
+    };
+
+    static final DescriptionProvider POOLED_CF_REMOVE = new DescriptionProvider() {
+
+        public ModelNode getModelDescription(final Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+
+            final ModelNode node = new ModelNode();
+            node.get(OPERATION_NAME).set(REMOVE);
+            node.get(DESCRIPTION).set(bundle.getString("pooled-cf.remove"));
+            node.get(REQUEST_PROPERTIES).setEmptyObject();
+            node.get(REPLY_PROPERTIES).setEmptyObject();
+            return node;
+        }
+    };
+
+    private static void addPooledConnectionFactoryProperties(final ModelNode properties, final ResourceBundle bundle) {
+        properties.get(ENTRIES, TYPE).set(ModelType.LIST);
+        properties.get(ENTRIES, VALUE_TYPE).set(ModelType.STRING);
+        properties.get(ENTRIES, DESCRIPTION).set(bundle.getString("pooled-cf.entries"));
+        properties.get(CONNECTOR, TYPE).set(ModelType.OBJECT);
+        properties.get(CONNECTOR, DESCRIPTION).set(bundle.getString("pooled-cf.connector"));
+        properties.get(MIN_POOL_SIZE, TYPE).set(ModelType.INT);
+        properties.get(MIN_POOL_SIZE, DESCRIPTION).set(bundle.getString("pooled-cf.min-pool-size"));
+        properties.get(MAX_POOL_SIZE, TYPE).set(ModelType.INT);
+        properties.get(MAX_POOL_SIZE, DESCRIPTION).set(bundle.getString("pooled-cf.max-pool-size"));
+        properties.get(BLOCKING_TIMEOUT_WAIT_MILLIS, TYPE).set(ModelType.LONG);
+        properties.get(BLOCKING_TIMEOUT_WAIT_MILLIS, DESCRIPTION).set(bundle.getString("pooled-cf.blocking-timeout-wait-millis"));
+    }
+
     static final DescriptionProvider JMS_TOPIC = new DescriptionProvider() {
 
         public ModelNode getModelDescription(final Locale locale) {
@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging.jms;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.hornetq.api.core.management.ResourceNames;
+import org.hornetq.api.jms.management.TopicControl;
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.logging.Logger;
+import org.jboss.msc.service.ServiceRegistry;
+
+/**
+ * Reads the runtime metrics of a JMS topic, from the {@link TopicControl} HornetQ registers for it.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class JMSTopicMetrics implements ModelQueryOperationHandler {
+
+    static final JMSTopicMetrics INSTANCE = new JMSTopicMetrics();
+
+    static final String MESSAGE_COUNT = "message-count";
+    static final String DURABLE_MESSAGE_COUNT = "durable-message-count";
+    static final String NON_DURABLE_MESSAGE_COUNT = "non-durable-message-count";
+    static final String SUBSCRIPTION_COUNT = "subscription-count";
+    static final String DURABLE_SUBSCRIPTION_COUNT = "durable-subscription-count";
+    static final String NON_DURABLE_SUBSCRIPTION_COUNT = "non-durable-subscription-count";
+    static final String[] ATTRIBUTES = { MESSAGE_COUNT, DURABLE_MESSAGE_COUNT, NON_DURABLE_MESSAGE_COUNT, SUBSCRIPTION_COUNT,
+            DURABLE_SUBSCRIPTION_COUNT, NON_DURABLE_SUBSCRIPTION_COUNT };
+
+    /** Private to ensure a singleton. */
+    private JMSTopicMetrics() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        final ModelNode result = new ModelNode();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final String name = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
+            final ServiceRegistry registry = ServerOperationContext.class.cast(context).getController().getServiceRegistry();
+            final Object control = JMSQueueMetrics.getControl(registry, JMSServices.JMS_TOPIC_BASE.append(name), ResourceNames.JMS_TOPIC + name);
+            if (control instanceof TopicControl) {
+                setMetric(result, (TopicControl) control, attributeName);
+            } else {
+                JMSQueueMetrics.setZero(result, getType(attributeName));
+            }
+        } else {
+            result.set("no metrics available");
+        }
+        resultHandler.handleResultFragment(Util.NO_LOCATION, result);
+        resultHandler.handleResultComplete();
+        return new BasicOperationResult();
+    }
+
+    static ModelType getType(final String attributeName) {
+        if (MESSAGE_COUNT.equals(attributeName)) {
+            return ModelType.LONG;
+        }
+        return ModelType.INT;
+    }
+
+    private static void setMetric(final ModelNode result, final TopicControl control, final String attributeName) {
+        try {
+            if (MESSAGE_COUNT.equals(attributeName)) {
+                result.set((long) control.getMessageCount());
+            } else if (DURABLE_MESSAGE_COUNT.equals(attributeName)) {
+                result.set((int) control.getDurableMessageCount());
+            } else if (NON_DURABLE_MESSAGE_COUNT.equals(attributeName)) {
+                result.set((int) control.getNonDurableMessageCount());
+            } else if (SUBSCRIPTION_COUNT.equals(attributeName)) {
+                result.set((int) control.getSubscriptionCount());
+            } else if (DURABLE_SUBSCRIPTION_COUNT.equals(attributeName)) {
+                result.set((int) control.getDurableSubscriptionCount());
+            } else if (NON_DURABLE_SUBSCRIPTION_COUNT.equals(attributeName)) {
+                result.set((int) control.getNonDurableSubscriptionCount());
+            }
+        } catch (Exception e) {
+            Logger.getLogger("org.jboss.messaging").debugf(e, "failed to read %s", attributeName);
+            JMSQueueMetrics.setZero(result, getType(attributeName));
+        }
+    }
+}
@@ -0,0 +1,567 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging.jms;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.ExceptionListener;
+import javax.jms.IllegalStateException;
+import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
+import javax.jms.QueueBrowser;
+import javax.jms.Session;
+import javax.jms.TransactionInProgressException;
+import javax.jms.XAConnection;
+import javax.jms.XAConnectionFactory;
+import javax.jms.XASession;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link ConnectionFactory} handing out connections from a bounded pool of {@link XAConnection}s.
+ * <p>
+ * A session created while a JTA transaction is active is enlisted in that transaction, and the underlying connection
+ * only goes back to the pool once the transaction has completed. Outside of a transaction a cached local session of
+ * the pooled connection is used instead.
+ * <p>
+ * The connections handed out follow the Java EE restrictions on JMS in the web and EJB containers: a connection can
+ * create a single session, and the methods which would leak state to the next user of the pooled connection are not
+ * allowed. A session enlisted in a transaction is invalidated when the transaction completes; a connection still
+ * open at that point can create a new session.
+ * <p>
+ * The pool lives in the messaging subsystem rather than in the HornetQ resource adapter, because the connector
+ * subsystem of the server only activates resource adapters from deployed archives and the server does not ship the
+ * HornetQ one. The branches enlisted here are recovered through {@link PooledConnectionFactoryRecovery}.
+ *
+ * @author Emanuel Muckenhuber
+ */
+final class PooledConnectionFactory implements ConnectionFactory {
+
+    private static final Logger log = Logger.getLogger("org.jboss.messaging");
+
+    private static final ClassLoader CLASS_LOADER = PooledConnectionFactory.class.getClassLoader();
+    private static final Class<?>[] CONNECTION_INTERFACES = { Connection.class };
+    private static final Class<?>[] SESSION_INTERFACES = { Session.class };
+
+    private static final Set<String> FORBIDDEN_CONNECTION_METHODS = new HashSet<String>(Arrays.asList("setClientID",
+            "setExceptionListener", "stop", "createConnectionConsumer", "createDurableConnectionConsumer"));
+    private static final Set<String> FORBIDDEN_SESSION_METHODS = new HashSet<String>(Arrays.asList("setMessageListener",
+            "getMessageListener", "run"));
+
+    private final XAConnectionFactory factory;
+    private final TransactionManager transactionManager;
+    private final int minPoolSize;
+    private final int maxPoolSize;
+    private final long blockingTimeout;
+
+    private final Semaphore permits;
+    private final Queue<ManagedConnection> available = new ConcurrentLinkedQueue<ManagedConnection>();
+    private final AtomicInteger inUseCount = new AtomicInteger();
+    private final AtomicInteger maxUsedCount = new AtomicInteger();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong waitCount = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong totalBlockingTime = new AtomicLong();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+    private volatile boolean closed;
+
+    PooledConnectionFactory(final XAConnectionFactory factory, final TransactionManager transactionManager,
+            final int minPoolSize, final int maxPoolSize, final long blockingTimeout) {
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("max-pool-size must be positive");
+        }
+        if (minPoolSize < 0 || minPoolSize > maxPoolSize) {
+            throw new IllegalArgumentException("min-pool-size must be between 0 and max-pool-size");
+        }
+        this.factory = factory;
+        this.transactionManager = transactionManager;
+        this.minPoolSize = minPoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.blockingTimeout = blockingTimeout;
+        this.permits = new Semaphore(maxPoolSize, true);
+    }
+
+    /**
+     * Fill the pool up to its minimum size.
+     *
+     * @throws JMSException if a connection cannot be created
+     */
+    void start() throws JMSException {
+        for (int i = available.size(); i < minPoolSize; i++) {
+            available.add(createManagedConnection(null, null));
+        }
+    }
+
+    /**
+     * Close the pool. Idle connections are closed right away, the ones in use as they are returned.
+     */
+    void stop() {
+        closed = true;
+        drain();
+    }
+
+    /** {@inheritDoc} */
+    public Connection createConnection() throws JMSException {
+        return createConnection(null, null);
+    }
+
+    /** {@inheritDoc} */
+    public Connection createConnection(final String userName, final String password) throws JMSException {
+        final ManagedConnection managedConnection = getManagedConnection(userName, password);
+        return (Connection) Proxy.newProxyInstance(CLASS_LOADER, CONNECTION_INTERFACES, new ConnectionHandle(managedConnection));
+    }
+
+    int getInUseCount() {
+        return inUseCount.get();
+    }
+
+    int getAvailableCount() {
+        return Math.max(0, maxPoolSize - inUseCount.get());
+    }
+
+    int getMaxUsedCount() {
+        return maxUsedCount.get();
+    }
+
+    long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+
+    long getRequestCount() {
+        return requestCount.get();
+    }
+
+    long getWaitCount() {
+        return waitCount.get();
+    }
+
+    long getTimedOut() {
+        return timedOut.get();
+    }
+
+    long getTotalBlockingTime() {
+        return totalBlockingTime.get();
+    }
+
+    long getAverageBlockingTime() {
+        final long count = requestCount.get();
+        return count == 0 ? 0 : totalBlockingTime.get() / count;
+    }
+
+    long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+
+    private ManagedConnection getManagedConnection(final String userName, final String password) throws JMSException {
+        if (closed) {
+            throw new IllegalStateException("Pooled connection factory is closed");
+        }
+        requestCount.incrementAndGet();
+        if (!permits.tryAcquire()) {
+            waitCount.incrementAndGet();
+            final long start = System.currentTimeMillis();
+            boolean acquired = false;
+            try {
+                acquired = permits.tryAcquire(blockingTimeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JMSException("Interrupted while waiting for a pooled connection");
+            } finally {
+                final long waited = System.currentTimeMillis() - start;
+                totalBlockingTime.addAndGet(waited);
+                updateMax(maxWaitTime, waited);
+            }
+            if (!acquired) {
+                timedOut.incrementAndGet();
+                throw new JMSException("No pooled connection available after " + blockingTimeout + "ms, max-pool-size is " + maxPoolSize);
+            }
+        }
+        boolean ok = false;
+        try {
+            ManagedConnection managedConnection = null;
+            if (userName == null) {
+                while ((managedConnection = available.poll()) != null && managedConnection.broken) {
+                    destroy(managedConnection);
+                }
+            }
+            if (managedConnection == null) {
+                managedConnection = createManagedConnection(userName, password);
+            }
+            final int used = inUseCount.incrementAndGet();
+            int max;
+            while (used > (max = maxUsedCount.get()) && !maxUsedCount.compareAndSet(max, used)) {
+                //
+            }
+            ok = true;
+            return managedConnection;
+        } finally {
+            if (!ok) {
+                permits.release();
+            }
+        }
+    }
+
+    private void returnManagedConnection(final ManagedConnection managedConnection) {
+        inUseCount.decrementAndGet();
+        try {
+            // connections created with explicit credentials are not shared
+            if (closed || managedConnection.broken || managedConnection.authenticated || !managedConnection.cleanup()) {
+                destroy(managedConnection);
+            } else {
+                available.add(managedConnection);
+                if (closed) {
+                    drain();
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private ManagedConnection createManagedConnection(final String userName, final String password) throws JMSException {
+        final XAConnection connection = userName == null ? factory.createXAConnection() : factory.createXAConnection(userName, password);
+        createdCount.incrementAndGet();
+        return new ManagedConnection(connection, userName != null);
+    }
+
+    private void drain() {
+        ManagedConnection managedConnection;
+        while ((managedConnection = available.poll()) != null) {
+            destroy(managedConnection);
+        }
+    }
+
+    private void destroy(final ManagedConnection managedConnection) {
+        destroyedCount.incrementAndGet();
+        try {
+            managedConnection.connection.close();
+        } catch (JMSException e) {
+            log.debugf(e, "failed to close pooled connection");
+        }
+    }
+
+    private Transaction getTransaction() throws JMSException {
+        try {
+            final Transaction transaction = transactionManager.getTransaction();
+            if (transaction == null || transaction.getStatus() == Status.STATUS_NO_TRANSACTION) {
+                return null;
+            }
+            return transaction;
+        } catch (Exception e) {
+            throw jmsException("Failed to get the current transaction", e);
+        }
+    }
+
+    private static void updateMax(final AtomicLong max, final long value) {
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            //
+        }
+    }
+
+    private static JMSException jmsException(final String message, final Exception cause) {
+        final JMSException e = new JMSException(message);
+        e.setLinkedException(cause);
+        e.initCause(cause);
+        return e;
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * A pooled physical connection, together with the sessions cached on it.
+     */
+    private static final class ManagedConnection implements ExceptionListener {
+
+        private final XAConnection connection;
+        private final boolean authenticated;
+        private XASession xaSession;
+        private Session localSession;
+        private boolean localTransacted;
+        private int localAcknowledgeMode;
+        private boolean started;
+        private volatile boolean broken;
+
+        ManagedConnection(final XAConnection connection, final boolean authenticated) throws JMSException {
+            this.connection = connection;
+            this.authenticated = authenticated;
+            connection.setExceptionListener(this);
+        }
+
+        XASession getXASession() throws JMSException {
+            if (xaSession == null) {
+                xaSession = connection.createXASession();
+            }
+            return xaSession;
+        }
+
+        Session getLocalSession(final boolean transacted, final int acknowledgeMode) throws JMSException {
+            if (localSession != null && (localTransacted != transacted || (!transacted && localAcknowledgeMode != acknowledgeMode))) {
+                localSession.close();
+                localSession = null;
+            }
+            if (localSession == null) {
+                localSession = connection.createSession(transacted, acknowledgeMode);
+                localTransacted = transacted;
+                localAcknowledgeMode = acknowledgeMode;
+            }
+            return localSession;
+        }
+
+        /**
+         * Reset the connection before it goes back to the pool.
+         *
+         * @return {@code true} if the connection can be reused
+         */
+        boolean cleanup() {
+            try {
+                if (localSession != null && localTransacted) {
+                    localSession.rollback();
+                }
+                if (started) {
+                    connection.stop();
+                    started = false;
+                }
+                return true;
+            } catch (JMSException e) {
+                log.debugf(e, "failed to reset pooled connection");
+                return false;
+            }
+        }
+
+        public void onException(final JMSException exception) {
+            broken = true;
+        }
+    }
+
+    /**
+     * The application view of a pooled connection.
+     */
+    private final class ConnectionHandle implements InvocationHandler, Synchronization {
+
+        private final ManagedConnection managedConnection;
+        private final List<Object> resources = new ArrayList<Object>();
+        private Session session;
+        private SessionHandle sessionHandle;
+        private boolean enlisted;
+        private boolean closed;
+
+        ConnectionHandle(final ManagedConnection managedConnection) {
+            this.managedConnection = managedConnection;
+        }
+
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+            if ("close".equals(name)) {
+                close();
+                return null;
+            } else if ("equals".equals(name)) {
+                return proxy == args[0];
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            } else if ("toString".equals(name)) {
+                return "PooledConnection[" + managedConnection.connection + "]";
+            }
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("Connection is closed");
+                }
+                if ("createSession".equals(name)) {
+                    return createSession(((Boolean) args[0]).booleanValue(), ((Integer) args[1]).intValue());
+                } else if (FORBIDDEN_CONNECTION_METHODS.contains(name)) {
+                    throw new IllegalStateException(name + " is not allowed on a pooled connection");
+                } else if ("start".equals(name)) {
+                    managedConnection.started = true;
+                }
+            }
+            return PooledConnectionFactory.invoke(managedConnection.connection, method, args);
+        }
+
+        private Session createSession(final boolean transacted, final int acknowledgeMode) throws JMSException {
+            if (session != null) {
+                throw new IllegalStateException("Only one session per connection is allowed");
+            }
+            final Transaction transaction = getTransaction();
+            final Session delegate;
+            if (transaction != null) {
+                final XASession xaSession = managedConnection.getXASession();
+                try {
+                    // register first, so that a failed enlistment never leaves an enlisted connection in the pool
+                    transaction.registerSynchronization(this);
+                    transaction.enlistResource(xaSession.getXAResource());
+                } catch (Exception e) {
+                    throw jmsException("Failed to enlist the session in the current transaction", e);
+                }
+                enlisted = true;
+                delegate = xaSession.getSession();
+            } else {
+                delegate = managedConnection.getLocalSession(transacted, acknowledgeMode);
+            }
+            sessionHandle = new SessionHandle(delegate, enlisted);
+            session = (Session) Proxy.newProxyInstance(CLASS_LOADER, SESSION_INTERFACES, sessionHandle);
+            return session;
+        }
+
+        private void close() {
+            final boolean release;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                closeResources();
+                release = !enlisted;
+            }
+            if (release) {
+                returnManagedConnection(managedConnection);
+            }
+        }
+
+        private void closeResources() {
+            for (final Object resource : resources) {
+                try {
+                    if (resource instanceof MessageConsumer) {
+                        ((MessageConsumer) resource).close();
+                    } else if (resource instanceof MessageProducer) {
+                        ((MessageProducer) resource).close();
+                    } else if (resource instanceof QueueBrowser) {
+                        ((QueueBrowser) resource).close();
+                    }
+                } catch (JMSException e) {
+                    log.debugf(e, "failed to close %s", resource);
+                }
+            }
+            resources.clear();
+        }
+
+        public void beforeCompletion() {
+        }
+
+        public void afterCompletion(final int status) {
+            final boolean release;
+            synchronized (this) {
+                if (!enlisted) {
+                    return;
+                }
+                enlisted = false;
+                // The session belonged to the completed transaction, an open connection has to create a new one
+                closeResources();
+                if (sessionHandle != null) {
+                    sessionHandle.closed = true;
+                    sessionHandle = null;
+                }
+                session = null;
+                release = closed;
+            }
+            if (release) {
+                returnManagedConnection(managedConnection);
+            }
+        }
+
+        /**
+         * The application view of the session of a pooled connection.
+         */
+        private final class SessionHandle implements InvocationHandler {
+
+            private final Session delegate;
+            private final boolean transactional;
+            private boolean closed;
+
+            SessionHandle(final Session delegate, final boolean transactional) {
+                this.delegate = delegate;
+                this.transactional = transactional;
+            }
+
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                final String name = method.getName();
+                if ("equals".equals(name)) {
+                    return proxy == args[0];
+                } else if ("hashCode".equals(name)) {
+                    return System.identityHashCode(proxy);
+                } else if ("toString".equals(name)) {
+                    return "PooledSession[" + delegate + "]";
+                }
+                synchronized (ConnectionHandle.this) {
+                    if ("close".equals(name)) {
+                        if (!closed) {
+                            closed = true;
+                            closeResources();
+                        }
+                        return null;
+                    }
+                    if (closed || ConnectionHandle.this.closed) {
+                        throw new IllegalStateException("Session is closed or its transaction has completed");
+                    }
+                }
+                if (FORBIDDEN_SESSION_METHODS.contains(name)) {
+                    throw new IllegalStateException(name + " is not allowed on a pooled session");
+                } else if (transactional && ("commit".equals(name) || "rollback".equals(name))) {
+                    throw new TransactionInProgressException(name + " is not allowed, the session is enlisted in a JTA transaction");
+                } else if (transactional && "getTransacted".equals(name)) {
+                    return Boolean.TRUE;
+                }
+                // not holding the lock here, receive() may block
+                final Object result = PooledConnectionFactory.invoke(delegate, method, args);
+                if (result instanceof MessageConsumer || result instanceof MessageProducer || result instanceof QueueBrowser) {
+                    synchronized (ConnectionHandle.this) {
+                        resources.add(result);
+                    }
+                }
+                return result;
+            }
+        }
+    }
+}
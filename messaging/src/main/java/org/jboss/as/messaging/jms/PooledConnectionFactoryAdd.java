@@ -0,0 +1,179 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging.jms;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.messaging.jms.CommonAttributes.BLOCKING_TIMEOUT_WAIT_MILLIS;
+import static org.jboss.as.messaging.jms.CommonAttributes.CONNECTOR;
+import static org.jboss.as.messaging.jms.CommonAttributes.CONNECTOR_BACKUP_NAME;
+import static org.jboss.as.messaging.jms.CommonAttributes.MAX_POOL_SIZE;
+import static org.jboss.as.messaging.jms.CommonAttributes.MIN_POOL_SIZE;
+
+import javax.jms.ConnectionFactory;
+import javax.transaction.TransactionManager;
+
+import org.hornetq.core.server.HornetQServer;
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelAddOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.RuntimeTask;
+import org.jboss.as.controller.RuntimeTaskContext;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.messaging.MessagingServices;
+import org.jboss.as.naming.ManagedReferenceInjector;
+import org.jboss.as.naming.NamingStore;
+import org.jboss.as.naming.deployment.ContextNames;
+import org.jboss.as.naming.service.BinderService;
+import org.jboss.as.txn.TxnServices;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController.Mode;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.tm.XAResourceRecoveryRegistry;
+
+/**
+ * Update adding a pooled connection factory to the subsystem. The runtime action will create the
+ * {@link PooledConnectionFactoryService} and bind it under each of its entries.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class PooledConnectionFactoryAdd implements ModelAddOperationHandler {
+
+    static final PooledConnectionFactoryAdd INSTANCE = new PooledConnectionFactoryAdd();
+
+    static final int DEFAULT_MIN_POOL_SIZE = 0;
+    static final int DEFAULT_MAX_POOL_SIZE = 20;
+    static final long DEFAULT_BLOCKING_TIMEOUT_WAIT_MILLIS = 30000;
+
+    /** {@inheritDoc} */
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+
+        ModelNode opAddr = operation.require(OP_ADDR);
+        final PathAddress address = PathAddress.pathAddress(opAddr);
+        final String name = address.getLastElement().getValue();
+
+        final ModelNode compensatingOperation = Util.getResourceRemoveOperation(opAddr);
+
+        final ModelNode subModel = context.getSubModel();
+        for(final String attribute : JMSServices.POOLED_CF_ATTRIBUTES) {
+            if(operation.hasDefined(attribute)) {
+                subModel.get(attribute).set(operation.get(attribute));
+            }
+        }
+
+        if (context.getRuntimeContext() != null) {
+            context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
+                public void execute(RuntimeTaskContext context) throws OperationFailedException {
+                    String connector = null;
+                    String backupConnector = null;
+                    if(operation.hasDefined(CONNECTOR)) {
+                        // the pooled factory uses a single connector, with an optional backup
+                        connector = operation.get(CONNECTOR).keys().iterator().next();
+                        final ModelNode connectorRef = operation.get(CONNECTOR, connector);
+                        if(connectorRef.hasDefined(CONNECTOR_BACKUP_NAME)) {
+                            backupConnector = connectorRef.get(CONNECTOR_BACKUP_NAME).asString();
+                        }
+                    }
+                    final int minPoolSize = operation.get(MIN_POOL_SIZE).asInt(DEFAULT_MIN_POOL_SIZE);
+                    final int maxPoolSize = operation.get(MAX_POOL_SIZE).asInt(DEFAULT_MAX_POOL_SIZE);
+                    final long blockingTimeout = operation.get(BLOCKING_TIMEOUT_WAIT_MILLIS).asLong(DEFAULT_BLOCKING_TIMEOUT_WAIT_MILLIS);
+                    if(maxPoolSize < 1 || minPoolSize < 0 || minPoolSize > maxPoolSize) {
+                        throw new OperationFailedException(new ModelNode().set("invalid pool size, min-pool-size " + minPoolSize + " max-pool-size " + maxPoolSize));
+                    }
+
+                    final PooledConnectionFactoryService service = new PooledConnectionFactoryService(connector, backupConnector,
+                            minPoolSize, maxPoolSize, blockingTimeout);
+                    final ServiceName serviceName = JMSServices.JMS_POOLED_CF_BASE.append(name);
+                    final ServiceTarget serviceTarget = context.getServiceTarget();
+                    serviceTarget.addService(serviceName, service)
+                            .addDependency(MessagingServices.JBOSS_MESSAGING, HornetQServer.class, service.getHornetQServer())
+                            .addDependency(TxnServices.JBOSS_TXN_TRANSACTION_MANAGER, TransactionManager.class, service.getTransactionManager())
+                            .addDependency(TxnServices.JBOSS_TXN_ARJUNA_RECOVERY_MANAGER, XAResourceRecoveryRegistry.class, service.getRecoveryRegistry())
+                            .setInitialMode(Mode.ACTIVE)
+                            .addListener(new ResultHandler.ServiceStartListener(resultHandler))
+                            .install();
+
+                    for(final String entry : ConnectionFactoryAdd.jndiBindings(operation)) {
+                        final BinderService binderService = new BinderService(bindName(entry));
+                        serviceTarget.addService(binderServiceName(entry), binderService)
+                                .addDependency(serviceName, ConnectionFactory.class, new ManagedReferenceInjector<ConnectionFactory>(binderService.getManagedObjectInjector()))
+                                .addDependency(ContextNames.JAVA_CONTEXT_SERVICE_NAME, NamingStore.class, binderService.getNamingStoreInjector())
+                                .setInitialMode(Mode.ACTIVE)
+                                .install();
+                    }
+                }
+            });
+        } else {
+            resultHandler.handleResultComplete();
+        }
+        return new BasicOperationResult(compensatingOperation);
+    }
+
+    /**
+     * Get the name of the binder service for a jndi entry.
+     *
+     * @param entry the jndi entry
+     * @return the service name
+     */
+    static ServiceName binderServiceName(final String entry) {
+        return ContextNames.JAVA_CONTEXT_SERVICE_NAME.append(bindName(entry));
+    }
+
+    /**
+     * Get the name relative to the java: context for a jndi entry, e.g. {@code JmsXA} for {@code java:/JmsXA}.
+     *
+     * @param entry the jndi entry
+     * @return the name to bind
+     */
+    static String bindName(final String entry) {
+        if(entry.startsWith("java:/")) {
+            return entry.substring(6);
+        } else if(entry.startsWith("java:")) {
+            return entry.substring(5);
+        }
+        return entry;
+    }
+
+    static ModelNode getAddOperation(final ModelNode address, ModelNode subModel) {
+
+        final ModelNode operation = new ModelNode();
+        operation.get(OP).set(ADD);
+        operation.get(OP_ADDR).set(address);
+
+        for(final String attribute : JMSServices.POOLED_CF_ATTRIBUTES) {
+            if(subModel.hasDefined(attribute)) {
+                operation.get(attribute).set(subModel.get(attribute));
+            }
+        }
+
+        return operation;
+    }
+
+}
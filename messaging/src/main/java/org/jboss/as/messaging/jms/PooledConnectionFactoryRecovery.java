@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging.jms;
+
+import javax.jms.ExceptionListener;
+import javax.jms.JMSException;
+import javax.jms.XAConnection;
+import javax.jms.XAConnectionFactory;
+import javax.jms.XASession;
+import javax.transaction.xa.XAResource;
+
+import org.jboss.logging.Logger;
+import org.jboss.tm.XAResourceRecovery;
+
+/**
+ * Provides the transaction manager with the {@link XAResource} of the HornetQ server a {@link PooledConnectionFactory}
+ * enlists its sessions with, so the branches left in doubt by a crash between prepare and commit get recovered.
+ * <p>
+ * The recovery connection is kept open between the recovery scans and re-created once it failed.
+ *
+ * @author Emanuel Muckenhuber
+ */
+final class PooledConnectionFactoryRecovery implements XAResourceRecovery, ExceptionListener {
+
+    private static final Logger log = Logger.getLogger("org.jboss.messaging");
+    private static final XAResource[] NO_RESOURCES = new XAResource[0];
+
+    private final XAConnectionFactory factory;
+    private XAConnection connection;
+    private XAResource resource;
+    private volatile boolean broken;
+
+    PooledConnectionFactoryRecovery(final XAConnectionFactory factory) {
+        this.factory = factory;
+    }
+
+    /** {@inheritDoc} */
+    public synchronized XAResource[] getXAResources() {
+        if (broken) {
+            close();
+        }
+        if (connection == null) {
+            try {
+                connection = factory.createXAConnection();
+                connection.setExceptionListener(this);
+                final XASession session = connection.createXASession();
+                resource = session.getXAResource();
+                broken = false;
+            } catch (JMSException e) {
+                log.warnf(e, "Failed to connect to the HornetQ server for transaction recovery");
+                close();
+                return NO_RESOURCES;
+            }
+        }
+        return new XAResource[] { resource };
+    }
+
+    /** {@inheritDoc} */
+    public void onException(final JMSException exception) {
+        broken = true;
+    }
+
+    /**
+     * Close the recovery connection.
+     */
+    synchronized void close() {
+        resource = null;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (JMSException e) {
+                log.debugf(e, "failed to close recovery connection");
+            }
+            connection = null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging.jms;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelRemoveOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.RuntimeTask;
+import org.jboss.as.controller.RuntimeTaskContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceController.Mode;
+
+/**
+ * Update handler removing a pooled connection factory from the JMS subsystem. The runtime action will remove
+ * the jndi bindings and the corresponding {@link PooledConnectionFactoryService}.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class PooledConnectionFactoryRemove implements ModelRemoveOperationHandler {
+
+    static final PooledConnectionFactoryRemove INSTANCE = new PooledConnectionFactoryRemove();
+
+    /** {@inheritDoc} */
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+
+        final ModelNode operationAddress = operation.require(OP_ADDR);
+        final PathAddress address = PathAddress.pathAddress(operationAddress);
+        final String name = address.getLastElement().getValue();
+
+        final ModelNode subModel = context.getSubModel();
+        final ModelNode compensatingOperation = PooledConnectionFactoryAdd.getAddOperation(operationAddress, subModel);
+        final String[] entries = ConnectionFactoryAdd.jndiBindings(subModel);
+
+        if (context.getRuntimeContext() != null) {
+            context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
+                public void execute(RuntimeTaskContext context) throws OperationFailedException {
+                    for(final String entry : entries) {
+                        final ServiceController<?> binder = context.getServiceRegistry().getService(PooledConnectionFactoryAdd.binderServiceName(entry));
+                        if (binder != null) {
+                            binder.setMode(Mode.REMOVE);
+                        }
+                    }
+                    final ServiceController<?> service = context.getServiceRegistry().getService(JMSServices.JMS_POOLED_CF_BASE.append(name));
+                    if (service != null) {
+                        service.addListener(new ResultHandler.ServiceRemoveListener(resultHandler));
+                    } else {
+                        resultHandler.handleResultComplete();
+                    }
+                }
+            });
+        } else {
+            resultHandler.handleResultComplete();
+        }
+        return new BasicOperationResult(compensatingOperation);
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging.jms;
+
+import javax.jms.ConnectionFactory;
+import javax.transaction.TransactionManager;
+
+import org.hornetq.api.core.TransportConfiguration;
+import org.hornetq.core.remoting.impl.invm.InVMConnectorFactory;
+import org.hornetq.core.server.HornetQServer;
+import org.hornetq.jms.client.HornetQXAConnectionFactory;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.msc.value.InjectedValue;
+import org.jboss.tm.XAResourceRecoveryRegistry;
+
+/**
+ * {@code Service} providing a {@link PooledConnectionFactory}, backed by an XA connection factory connected to the
+ * local HornetQ server.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class PooledConnectionFactoryService implements Service<ConnectionFactory> {
+
+    private final String connector;
+    private final String backupConnector;
+    private final int minPoolSize;
+    private final int maxPoolSize;
+    private final long blockingTimeout;
+    private final InjectedValue<HornetQServer> hornetQServer = new InjectedValue<HornetQServer>();
+    private final InjectedValue<TransactionManager> transactionManager = new InjectedValue<TransactionManager>();
+    private final InjectedValue<XAResourceRecoveryRegistry> recoveryRegistry = new InjectedValue<XAResourceRecoveryRegistry>();
+    private PooledConnectionFactory factory;
+    private PooledConnectionFactoryRecovery recovery;
+
+    /**
+     * Create a new pooled connection factory service.
+     *
+     * @param connector the name of the connector to use, or {@code null} to use the in-vm connector
+     * @param backupConnector the name of the backup connector, or {@code null}
+     * @param minPoolSize the minimum number of pooled connections
+     * @param maxPoolSize the maximum number of pooled connections
+     * @param blockingTimeout the time to wait for a connection when the pool is exhausted, in milliseconds
+     */
+    PooledConnectionFactoryService(final String connector, final String backupConnector, final int minPoolSize,
+            final int maxPoolSize, final long blockingTimeout) {
+        this.connector = connector;
+        this.backupConnector = backupConnector;
+        this.minPoolSize = minPoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.blockingTimeout = blockingTimeout;
+    }
+
+    /** {@inheritDoc} */
+    public synchronized void start(StartContext context) throws StartException {
+        final HornetQServer server = hornetQServer.getValue();
+        final TransportConfiguration transport;
+        if (connector == null) {
+            transport = new TransportConfiguration(InVMConnectorFactory.class.getName());
+        } else {
+            transport = server.getConfiguration().getConnectorConfigurations().get(connector);
+            if (transport == null) {
+                throw new StartException("connector not defined: " + connector);
+            }
+        }
+        final HornetQXAConnectionFactory xaFactory;
+        if (backupConnector == null) {
+            xaFactory = new HornetQXAConnectionFactory(transport);
+        } else {
+            final TransportConfiguration backup = server.getConfiguration().getConnectorConfigurations().get(backupConnector);
+            if (backup == null) {
+                throw new StartException("connector not defined: " + backupConnector);
+            }
+            xaFactory = new HornetQXAConnectionFactory(transport, backup);
+        }
+        final PooledConnectionFactory factory = new PooledConnectionFactory(xaFactory, transactionManager.getValue(),
+                minPoolSize, maxPoolSize, blockingTimeout);
+        try {
+            factory.start();
+        } catch (Exception e) {
+            factory.stop();
+            throw new StartException("failed to create pooled-connection-factory", e);
+        }
+        // Let the recovery manager resolve the branches the pool enlists
+        final PooledConnectionFactoryRecovery recovery = new PooledConnectionFactoryRecovery(xaFactory);
+        recoveryRegistry.getValue().addXAResourceRecovery(recovery);
+        this.factory = factory;
+        this.recovery = recovery;
+    }
+
+    /** {@inheritDoc} */
+    public synchronized void stop(StopContext context) {
+        final PooledConnectionFactory factory = this.factory;
+        final PooledConnectionFactoryRecovery recovery = this.recovery;
+        this.factory = null;
+        this.recovery = null;
+        if (recovery != null) {
+            recoveryRegistry.getValue().removeXAResourceRecovery(recovery);
+            recovery.close();
+        }
+        if (factory != null) {
+            factory.stop();
+        }
+    }
+
+    /** {@inheritDoc} */
+    public synchronized ConnectionFactory getValue() throws IllegalStateException {
+        final PooledConnectionFactory factory = this.factory;
+        if (factory == null) {
+            throw new IllegalStateException();
+        }
+        return factory;
+    }
+
+    /**
+     * Get the pool, for the runtime metrics.
+     *
+     * @return the pool or {@code null} if the service is not started
+     */
+    synchronized PooledConnectionFactory getPool() {
+        return factory;
+    }
+
+    InjectedValue<HornetQServer> getHornetQServer() {
+        return hornetQServer;
+    }
+
+    InjectedValue<TransactionManager> getTransactionManager() {
+        return transactionManager;
+    }
+
+    InjectedValue<XAResourceRecoveryRegistry> getRecoveryRegistry() {
+        return recoveryRegistry;
+    }
+
+}
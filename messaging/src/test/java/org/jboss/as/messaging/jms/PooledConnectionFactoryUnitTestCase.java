@@ -0,0 +1,283 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.jms.Connection;
+import javax.jms.IllegalStateException;
+import javax.jms.JMSException;
+import javax.jms.Session;
+import javax.jms.TransactionInProgressException;
+import javax.jms.XAConnection;
+import javax.jms.XAConnectionFactory;
+import javax.jms.XASession;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+import javax.transaction.xa.XAResource;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the pooling and the transaction handling of the {@link PooledConnectionFactory}.
+ *
+ * @author Emanuel Muckenhuber
+ */
+public class PooledConnectionFactoryUnitTestCase {
+
+    private final List<FakeConnection> connections = new ArrayList<FakeConnection>();
+    private final List<Synchronization> synchronizations = new ArrayList<Synchronization>();
+    private final List<Object> enlisted = new ArrayList<Object>();
+    private Transaction transaction;
+    private XAConnectionFactory factory;
+    private TransactionManager transactionManager;
+
+    @Before
+    public void setUp() {
+        factory = proxy(XAConnectionFactory.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("createXAConnection")) {
+                    final FakeConnection connection = new FakeConnection();
+                    connections.add(connection);
+                    return proxy(XAConnection.class, connection);
+                }
+                return null;
+            }
+        });
+        transactionManager = proxy(TransactionManager.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return method.getName().equals("getTransaction") ? transaction : null;
+            }
+        });
+    }
+
+    @Test
+    public void testConnectionIsReturnedToThePool() throws Exception {
+        final PooledConnectionFactory pool = new PooledConnectionFactory(factory, transactionManager, 0, 2, 100);
+        Connection connection = pool.createConnection();
+        assertNotNull(connection.createSession(false, Session.AUTO_ACKNOWLEDGE));
+        assertEquals(1, pool.getInUseCount());
+        connection.close();
+        assertEquals(0, pool.getInUseCount());
+
+        connection = pool.createConnection();
+        connection.close();
+
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(2, pool.getRequestCount());
+        assertEquals(1, pool.getMaxUsedCount());
+        assertFalse(connections.get(0).closed);
+    }
+
+    @Test
+    public void testStartFillsMinimumSize() throws Exception {
+        final PooledConnectionFactory pool = new PooledConnectionFactory(factory, transactionManager, 2, 4, 100);
+        pool.start();
+        assertEquals(2, connections.size());
+        pool.createConnection().close();
+        assertEquals(2, pool.getCreatedCount());
+    }
+
+    @Test
+    public void testEnlistedConnectionIsReleasedAtCompletion() throws Exception {
+        final PooledConnectionFactory pool = new PooledConnectionFactory(factory, transactionManager, 0, 1, 100);
+        beginTransaction();
+        final Connection connection = pool.createConnection();
+        final Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+        assertEquals(1, enlisted.size());
+        assertEquals(1, synchronizations.size());
+        try {
+            session.commit();
+            fail("commit allowed on an enlisted session");
+        } catch (TransactionInProgressException expected) {
+        }
+
+        // the connection stays with the transaction once closed
+        connection.close();
+        assertEquals(1, pool.getInUseCount());
+
+        synchronizations.get(0).afterCompletion(Status.STATUS_COMMITTED);
+        transaction = null;
+        assertEquals(0, pool.getInUseCount());
+        // closing the invalidated session is allowed, using it is not
+        session.close();
+        try {
+            session.createProducer(null);
+            fail("session usable after the transaction completed");
+        } catch (IllegalStateException expected) {
+        }
+        pool.createConnection().close();
+        assertEquals(1, pool.getCreatedCount());
+    }
+
+    @Test
+    public void testOpenConnectionCreatesNewSessionAfterCompletion() throws Exception {
+        final PooledConnectionFactory pool = new PooledConnectionFactory(factory, transactionManager, 0, 1, 100);
+        beginTransaction();
+        final Connection connection = pool.createConnection();
+        final Session first = connection.createSession(true, Session.SESSION_TRANSACTED);
+        synchronizations.get(0).afterCompletion(Status.STATUS_ROLLEDBACK);
+        transaction = null;
+        try {
+            first.createProducer(null);
+            fail("session usable after the transaction completed");
+        } catch (IllegalStateException expected) {
+        }
+        // the connection is still in use, and can create a session outside of the transaction
+        assertEquals(1, pool.getInUseCount());
+        assertNotNull(connection.createSession(false, Session.AUTO_ACKNOWLEDGE));
+        connection.close();
+        assertEquals(0, pool.getInUseCount());
+    }
+
+    @Test
+    public void testOneSessionPerConnection() throws Exception {
+        final PooledConnectionFactory pool = new PooledConnectionFactory(factory, transactionManager, 0, 1, 100);
+        final Connection connection = pool.createConnection();
+        connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        try {
+            connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            fail("second session created");
+        } catch (IllegalStateException expected) {
+        }
+        try {
+            connection.setClientID("client");
+            fail("client id set on a pooled connection");
+        } catch (IllegalStateException expected) {
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testExhaustedPoolTimesOut() throws Exception {
+        final PooledConnectionFactory pool = new PooledConnectionFactory(factory, transactionManager, 0, 1, 50);
+        final Connection connection = pool.createConnection();
+        assertEquals(0, pool.getAvailableCount());
+        try {
+            pool.createConnection();
+            fail("connection created beyond max-pool-size");
+        } catch (JMSException expected) {
+        }
+        assertEquals(1, pool.getWaitCount());
+        assertEquals(1, pool.getTimedOut());
+        assertTrue(pool.getMaxWaitTime() >= 40);
+
+        connection.close();
+        pool.createConnection().close();
+        assertEquals(1, pool.getCreatedCount());
+    }
+
+    @Test
+    public void testStopClosesConnections() throws Exception {
+        final PooledConnectionFactory pool = new PooledConnectionFactory(factory, transactionManager, 0, 2, 100);
+        final Connection inUse = pool.createConnection();
+        pool.createConnection().close();
+        pool.stop();
+
+        // the idle connection is closed right away, the one in use when it is returned
+        assertEquals(1, pool.getDestroyedCount());
+        assertTrue(connections.get(1).closed);
+        assertFalse(connections.get(0).closed);
+        inUse.close();
+        assertTrue(connections.get(0).closed);
+        assertEquals(2, pool.getDestroyedCount());
+        try {
+            pool.createConnection();
+            fail("connection created from a stopped pool");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    private void beginTransaction() {
+        transaction = proxy(Transaction.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                final String name = method.getName();
+                if (name.equals("getStatus")) {
+                    return Integer.valueOf(Status.STATUS_ACTIVE);
+                } else if (name.equals("registerSynchronization")) {
+                    synchronizations.add((Synchronization) args[0]);
+                } else if (name.equals("enlistResource")) {
+                    enlisted.add(args[0]);
+                    return Boolean.TRUE;
+                }
+                return null;
+            }
+        });
+    }
+
+    private static <T> T proxy(final Class<T> type, final InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(PooledConnectionFactoryUnitTestCase.class.getClassLoader(),
+                new Class<?>[] { type }, handler));
+    }
+
+    private static Session session() {
+        return proxy(Session.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * A physical connection, only tracking whether it was closed.
+     */
+    private static final class FakeConnection implements InvocationHandler {
+        private boolean closed;
+
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            final String name = method.getName();
+            if (name.equals("close")) {
+                closed = true;
+            } else if (name.equals("createSession")) {
+                return session();
+            } else if (name.equals("createXASession")) {
+                final XAResource resource = proxy(XAResource.class, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        return null;
+                    }
+                });
+                final Session session = session();
+                return proxy(XASession.class, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        final String name = method.getName();
+                        return name.equals("getXAResource") ? resource : name.equals("getSession") ? session : null;
+                    }
+                });
+            }
+            return null;
+        }
+    }
+}
@@ -43,8 +43,10 @@ public enum Attribute {
     EXTENDS("extends"),
     FLAG("flag"),
     IDENTITY_TRUST_MANAGER_CLASS_NAME("identity-trust-manager-class-name"),
+    LIFETIME("lifetime"),
     LOGIN_MODULE_STACK_REF("login-module-stack-ref"),
     MAPPING_MANAGER_CLASS_NAME("mapping-manager-class-name"),
+    MAX_ENTRIES("max-entries"),
     NAME("name"),
     SUBJECT_FACTORY_CLASS_NAME("subject-factory-class-name"),
     TYPE("type"),
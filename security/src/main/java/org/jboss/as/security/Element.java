@@ -39,6 +39,7 @@ enum Element {
     AUDIT("audit"),
     AUTH_MODULE("auth-module"),
     AUTHENTICATION("authentication"),
+    AUTHENTICATION_CACHE("authentication-cache"),
     AUTHENTICATION_JASPI("authentication-jaspi"),
     AUTHORIZATION("authorization"),
     IDENTITY_TRUST("identity-trust"),
@@ -44,7 +44,10 @@ import org.jboss.as.controller.ResultHandler;
 import org.jboss.as.controller.RuntimeTask;
 import org.jboss.as.controller.RuntimeTaskContext;
 import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.security.plugins.AuthenticationCache;
+import org.jboss.as.security.plugins.JNDIBasedSecurityManagement;
 import org.jboss.as.security.service.JaasConfigurationService;
+import org.jboss.as.security.service.SecurityManagementService;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceController;
@@ -97,6 +100,7 @@ class SecurityDomainAdd implements ModelAddOperationHandler {
         Util.copyParamsToModel(operation, context.getSubModel());
 
         final ApplicationPolicy applicationPolicy = createApplicationPolicy(securityDomain, operation);
+        final ModelNode authenticationCache = operation.get(Element.AUTHENTICATION_CACHE.getLocalName());
 
         if (context.getRuntimeContext() != null) {
             context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
@@ -105,6 +109,10 @@ class SecurityDomainAdd implements ModelAddOperationHandler {
                     // add parsed security domain to the Configuration
                     final ApplicationPolicyRegistration loginConfig = getConfiguration(context.getServiceRegistry());
                     loginConfig.addApplicationPolicy(applicationPolicy.getName(), applicationPolicy);
+                    if (authenticationCache.isDefined()) {
+                        final JNDIBasedSecurityManagement securityManagement = getSecurityManagement(context.getServiceRegistry());
+                        securityManagement.setAuthenticationCache(applicationPolicy.getName(), createAuthenticationCache(authenticationCache));
+                    }
                     resultHandler.handleResultComplete();
                 }
             });
@@ -303,6 +311,28 @@ class SecurityDomainAdd implements ModelAddOperationHandler {
         return applicationPolicy;
     }
 
+    static AuthenticationCache createAuthenticationCache(ModelNode node) throws OperationFailedException {
+        int lifetime = AuthenticationCache.DEFAULT_LIFETIME;
+        if (node.hasDefined(Attribute.LIFETIME.getLocalName()))
+            lifetime = node.get(Attribute.LIFETIME.getLocalName()).asInt();
+        int maxEntries = AuthenticationCache.DEFAULT_MAX_ENTRIES;
+        if (node.hasDefined(Attribute.MAX_ENTRIES.getLocalName()))
+            maxEntries = node.get(Attribute.MAX_ENTRIES.getLocalName()).asInt();
+        AuthenticationCache cache = new AuthenticationCache(lifetime, maxEntries);
+        try {
+            cache.create();
+            cache.start();
+        } catch (Exception e) {
+            throw new OperationFailedException(new ModelNode().set("Failed to start the authentication cache: " + e.getLocalizedMessage()));
+        }
+        return cache;
+    }
+
+    static JNDIBasedSecurityManagement getSecurityManagement(ServiceRegistry serviceRegistry) {
+        ServiceController<?> controller = serviceRegistry.getRequiredService(SecurityManagementService.SERVICE_NAME);
+        return (JNDIBasedSecurityManagement) controller.getValue();
+    }
+
     private synchronized ApplicationPolicyRegistration getConfiguration(ServiceRegistry serviceRegistry) {
         ServiceController<?> controller = serviceRegistry.getRequiredService(JaasConfigurationService.SERVICE_NAME);
         return (ApplicationPolicyRegistration) controller.getValue();
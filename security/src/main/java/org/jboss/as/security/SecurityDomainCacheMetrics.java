@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.security;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.security.plugins.AuthenticationCache;
+import org.jboss.as.security.plugins.JNDIBasedSecurityManagement;
+import org.jboss.as.security.service.SecurityManagementService;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the authentication cache metrics of a security domain.
+ *
+ * @author <a href="mailto:mmoyses@redhat.com">Marcus Moyses</a>
+ */
+class SecurityDomainCacheMetrics implements ModelQueryOperationHandler {
+
+    static final SecurityDomainCacheMetrics INSTANCE = new SecurityDomainCacheMetrics();
+
+    static final String CACHE_HITS = "authentication-cache-hits";
+    static final String CACHE_MISSES = "authentication-cache-misses";
+    static final String CACHE_SIZE = "authentication-cache-size";
+    static final String[] ATTRIBUTES = { CACHE_HITS, CACHE_MISSES, CACHE_SIZE };
+
+    /** Private to ensure a singleton. */
+    private SecurityDomainCacheMetrics() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        final ModelNode result = new ModelNode();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final String securityDomain = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
+            final ServiceController<?> controller = ServerOperationContext.class.cast(context).getController()
+                    .getServiceRegistry().getService(SecurityManagementService.SERVICE_NAME);
+            AuthenticationCache cache = null;
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                cache = ((JNDIBasedSecurityManagement) controller.getValue()).getAuthenticationCache(securityDomain);
+            }
+            if (CACHE_SIZE.equals(attributeName)) {
+                result.set(cache == null ? 0 : cache.size());
+            } else if (CACHE_HITS.equals(attributeName)) {
+                result.set(cache == null ? 0L : cache.getHits());
+            } else if (CACHE_MISSES.equals(attributeName)) {
+                result.set(cache == null ? 0L : cache.getMisses());
+            }
+        } else {
+            result.set("no metrics available");
+        }
+        resultHandler.handleResultFragment(Util.NO_LOCATION, result);
+        resultHandler.handleResultComplete();
+        return new BasicOperationResult();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.security;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.RuntimeTask;
+import org.jboss.as.controller.RuntimeTaskContext;
+import org.jboss.as.security.plugins.AuthenticationCache;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Flushes the authentication cache of a security domain, or only the entries of a principal.
+ *
+ * @author <a href="mailto:mmoyses@redhat.com">Marcus Moyses</a>
+ */
+class SecurityDomainFlushCache implements ModelQueryOperationHandler {
+
+    static final String OPERATION_NAME = "flush-cache";
+
+    static final String PRINCIPAL = "principal";
+
+    static final SecurityDomainFlushCache INSTANCE = new SecurityDomainFlushCache();
+
+    /** Private to ensure a singleton. */
+    private SecurityDomainFlushCache() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+        final String securityDomain = address.getLastElement().getValue();
+        final String principal = operation.hasDefined(PRINCIPAL) ? operation.get(PRINCIPAL).asString() : null;
+
+        if (context.getRuntimeContext() != null) {
+            context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
+                public void execute(RuntimeTaskContext context) throws OperationFailedException {
+                    final AuthenticationCache cache = SecurityDomainAdd.getSecurityManagement(context.getServiceRegistry())
+                            .getAuthenticationCache(securityDomain);
+                    if (cache != null) {
+                        if (principal == null) {
+                            cache.flush();
+                        } else {
+                            cache.flush(principal);
+                        }
+                    }
+                    resultHandler.handleResultComplete();
+                }
+            });
+        } else {
+            resultHandler.handleResultComplete();
+        }
+        return new BasicOperationResult();
+    }
+}
@@ -34,7 +34,9 @@ import org.jboss.as.controller.ModelAddOperationHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.security.plugins.JNDIBasedSecurityManagement;
 import org.jboss.as.security.service.JaasConfigurationService;
+import org.jboss.as.security.service.SecurityManagementService;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.security.config.ApplicationPolicyRegistration;
@@ -75,6 +77,12 @@ class SecurityDomainRemove implements ModelAddOperationHandler {
                         ApplicationPolicyRegistration config = (ApplicationPolicyRegistration) jaasConfigurationService.getValue();
                         config.removeApplicationPolicy(securityDomain);
                     }
+                    final ServiceController<?> securityManagementService = context.getServiceRegistry().getService(
+                            SecurityManagementService.SERVICE_NAME);
+                    if (securityManagementService != null) {
+                        JNDIBasedSecurityManagement securityManagement = (JNDIBasedSecurityManagement) securityManagementService.getValue();
+                        securityManagement.removeAuthenticationCache(securityDomain);
+                    }
                     resultHandler.handleResultComplete();
                 }
             });
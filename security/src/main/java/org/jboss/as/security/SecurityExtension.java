@@ -89,6 +89,11 @@ public class SecurityExtension implements Extension {
                 SecuritySubsystemDescriptions.SECURITY_DOMAIN_ADD, false);
         securityDomain.registerOperationHandler(SecurityDomainRemove.OPERATION_NAME, SecurityDomainRemove.INSTANCE,
                 SecuritySubsystemDescriptions.SECURITY_DOMAIN_REMOVE, false);
+        securityDomain.registerOperationHandler(SecurityDomainFlushCache.OPERATION_NAME, SecurityDomainFlushCache.INSTANCE,
+                SecuritySubsystemDescriptions.SECURITY_DOMAIN_FLUSH_CACHE, false);
+        for (String metric : SecurityDomainCacheMetrics.ATTRIBUTES) {
+            securityDomain.registerMetric(metric, SecurityDomainCacheMetrics.INSTANCE);
+        }
 
         subsystem.registerXMLElementWriter(PARSER);
     }
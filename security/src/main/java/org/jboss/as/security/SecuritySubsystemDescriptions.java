@@ -38,6 +38,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQ
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQUIRED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TAIL_COMMENT_ALLOWED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE_TYPE;
 import static org.jboss.as.security.CommonAttributes.AUDIT_MANAGER_CLASS_NAME;
 import static org.jboss.as.security.CommonAttributes.AUTHENTICATION_MANAGER_CLASS_NAME;
 import static org.jboss.as.security.CommonAttributes.AUTHORIZATION_MANAGER_CLASS_NAME;
@@ -52,6 +53,7 @@ import java.util.ResourceBundle;
 
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.as.controller.descriptions.common.CommonDescriptions;
+import org.jboss.as.security.plugins.AuthenticationCache;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
@@ -116,6 +118,24 @@ class SecuritySubsystemDescriptions {
         }
     };
 
+    static final DescriptionProvider SECURITY_DOMAIN_FLUSH_CACHE = new DescriptionProvider() {
+
+        public ModelNode getModelDescription(Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+
+            final ModelNode op = new ModelNode();
+            op.get(OPERATION_NAME).set(SecurityDomainFlushCache.OPERATION_NAME);
+            op.get(DESCRIPTION).set(bundle.getString("security-domain.flush-cache"));
+            op.get(REQUEST_PROPERTIES, SecurityDomainFlushCache.PRINCIPAL, DESCRIPTION).set(
+                    bundle.getString("security-domain.flush-cache.principal"));
+            op.get(REQUEST_PROPERTIES, SecurityDomainFlushCache.PRINCIPAL, TYPE).set(ModelType.STRING);
+            op.get(REQUEST_PROPERTIES, SecurityDomainFlushCache.PRINCIPAL, REQUIRED).set(false);
+            op.get(REPLY_PROPERTIES).setEmptyObject();
+
+            return op;
+        }
+    };
+
     private static ResourceBundle getResourceBundle(Locale locale) {
         if (locale == null) {
             locale = Locale.getDefault();
@@ -262,7 +282,26 @@ class SecuritySubsystemDescriptions {
 //            op.get(ATTRIBUTES, AUTHENTICATION_MANAGER_CLASS_NAME, TYPE).set(ModelType.STRING);
 //            op.get(ATTRIBUTES, AUTHENTICATION_MANAGER_CLASS_NAME, REQUIRED).set(false);
 
-
+            final String cache = Element.AUTHENTICATION_CACHE.getLocalName();
+            op.get(ATTRIBUTES, cache, DESCRIPTION).set(bundle.getString("authentication-cache"));
+            op.get(ATTRIBUTES, cache, TYPE).set(ModelType.OBJECT);
+            op.get(ATTRIBUTES, cache, REQUIRED).set(false);
+            op.get(ATTRIBUTES, cache, VALUE_TYPE, Attribute.LIFETIME.getLocalName(), DESCRIPTION).set(
+                    bundle.getString("authentication-cache.lifetime"));
+            op.get(ATTRIBUTES, cache, VALUE_TYPE, Attribute.LIFETIME.getLocalName(), TYPE).set(ModelType.INT);
+            op.get(ATTRIBUTES, cache, VALUE_TYPE, Attribute.LIFETIME.getLocalName(), REQUIRED).set(false);
+            op.get(ATTRIBUTES, cache, VALUE_TYPE, Attribute.LIFETIME.getLocalName(), DEFAULT).set(AuthenticationCache.DEFAULT_LIFETIME);
+            op.get(ATTRIBUTES, cache, VALUE_TYPE, Attribute.MAX_ENTRIES.getLocalName(), DESCRIPTION).set(
+                    bundle.getString("authentication-cache.max-entries"));
+            op.get(ATTRIBUTES, cache, VALUE_TYPE, Attribute.MAX_ENTRIES.getLocalName(), TYPE).set(ModelType.INT);
+            op.get(ATTRIBUTES, cache, VALUE_TYPE, Attribute.MAX_ENTRIES.getLocalName(), REQUIRED).set(false);
+            op.get(ATTRIBUTES, cache, VALUE_TYPE, Attribute.MAX_ENTRIES.getLocalName(), DEFAULT).set(AuthenticationCache.DEFAULT_MAX_ENTRIES);
+
+            for (String metric : SecurityDomainCacheMetrics.ATTRIBUTES) {
+                op.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString(metric));
+                op.get(ATTRIBUTES, metric, TYPE).set(SecurityDomainCacheMetrics.CACHE_SIZE.equals(metric) ? ModelType.INT : ModelType.LONG);
+                op.get(ATTRIBUTES, metric, REQUIRED).set(false);
+            }
 
             return op;
         }
@@ -228,6 +228,10 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
                     writeAuthenticationJaspi(writer, policyDetails.get(Element.AUTHENTICATION_JASPI.getLocalName()));
                     break;
                 }
+                case AUTHENTICATION_CACHE: {
+                    writeAuthenticationCache(writer, policyDetails.get(Element.AUTHENTICATION_CACHE.getLocalName()));
+                    break;
+                }
                 default:
                     throw new IllegalStateException("Unexpected field " + element.getLocalName());
             }
@@ -245,6 +249,18 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
         }
     }
 
+    private void writeAuthenticationCache(XMLExtendedStreamWriter writer, ModelNode modelNode) throws XMLStreamException {
+        if (modelNode.isDefined()) {
+            writer.writeEmptyElement(Element.AUTHENTICATION_CACHE.getLocalName());
+            if (modelNode.hasDefined(Attribute.LIFETIME.getLocalName())) {
+                writer.writeAttribute(Attribute.LIFETIME.getLocalName(), modelNode.get(Attribute.LIFETIME.getLocalName()).asString());
+            }
+            if (modelNode.hasDefined(Attribute.MAX_ENTRIES.getLocalName())) {
+                writer.writeAttribute(Attribute.MAX_ENTRIES.getLocalName(), modelNode.get(Attribute.MAX_ENTRIES.getLocalName()).asString());
+            }
+        }
+    }
+
     private void writeAuthorization(XMLExtendedStreamWriter writer, ModelNode modelNode) throws XMLStreamException {
         if (modelNode.isDefined() && modelNode.asInt() > 0) {
             writer.writeStartElement(Element.AUTHORIZATION.getLocalName());
@@ -568,6 +584,10 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
                             parseAuthenticationJaspi(reader, op.get(Element.AUTHENTICATION_JASPI.getLocalName()));
                             break;
                         }
+                        case AUTHENTICATION_CACHE: {
+                            parseAuthenticationCache(reader, op.get(Element.AUTHENTICATION_CACHE.getLocalName()));
+                            break;
+                        }
                         default: {
                             throw unexpectedElement(reader);
                         }
@@ -583,6 +603,33 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
         return op;
     }
 
+    private void parseAuthenticationCache(XMLExtendedStreamReader reader, ModelNode op) throws XMLStreamException {
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            switch (attribute) {
+                case LIFETIME:
+                case MAX_ENTRIES: {
+                    try {
+                        op.get(attribute.getLocalName()).set(Integer.parseInt(value));
+                    } catch (NumberFormatException e) {
+                        throw invalidAttributeValue(reader, i);
+                    }
+                    break;
+                }
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        requireNoContent(reader);
+        // make sure an empty element still enables the cache
+        if (!op.isDefined()) {
+            op.setEmptyObject();
+        }
+    }
+
     private void parseAuthentication(XMLExtendedStreamReader reader, ModelNode op, boolean requireNoAttributes)
             throws XMLStreamException {
         if (requireNoAttributes)
@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.security.plugins;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.util.TimedCachePolicy;
+
+/**
+ * Authentication cache of a security domain. Entries are keyed by principal and expire after the configured lifetime;
+ * the least recently used entries are evicted once the cache holds the maximum number of entries.
+ * <p>
+ * The authentication manager stores the authenticated subject and credential of each principal in the cache, and
+ * only re-runs the login modules when a principal is not cached, its entry has expired or the supplied credential
+ * does not match the cached one.
+ *
+ * @author <a href="mailto:mmoyses@redhat.com">Marcus Moyses</a>
+ */
+public class AuthenticationCache extends TimedCachePolicy {
+
+    /** Default lifetime of an entry, in seconds */
+    public static final int DEFAULT_LIFETIME = 1800;
+
+    /** Default maximum number of entries */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private static final int MAX_RESOLUTION = 60;
+
+    private final int maxEntries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Create a new authentication cache.
+     *
+     * @param lifetime the lifetime of an entry, in seconds
+     * @param maxEntries the maximum number of entries, or 0 for no limit
+     */
+    public AuthenticationCache(final int lifetime, final int maxEntries) {
+        super(lifetime, true, Math.max(1, Math.min(lifetime, MAX_RESOLUTION)));
+        this.maxEntries = maxEntries;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void create() {
+        entryMap = Collections.synchronizedMap(new LinkedHashMap<Object, Object>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                if (maxEntries > 0 && size() > maxEntries) {
+                    // logout the evicted entry, as an expired entry would be
+                    ((TimedEntry) eldest.getValue()).destroy();
+                    return true;
+                }
+                return false;
+            }
+        });
+        now = System.currentTimeMillis();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object get(Object key) {
+        final Object value = super.get(key);
+        if (value == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Remove the cached entries of the principals with the given name.
+     *
+     * @param name the principal name
+     */
+    public void flush(final String name) {
+        final List<Object> keys;
+        synchronized (entryMap) {
+            keys = new ArrayList<Object>(entryMap.keySet());
+        }
+        for (Object key : keys) {
+            if (key instanceof Principal && name.equals(((Principal) key).getName())) {
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * Get the number of lookups that found an entry for the principal.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of lookups that did not find a current entry for the principal.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+}
@@ -38,6 +38,7 @@ import org.jboss.security.SecurityConstants;
 import org.jboss.security.audit.AuditManager;
 import org.jboss.security.identitytrust.IdentityTrustManager;
 import org.jboss.security.mapping.MappingManager;
+import org.jboss.util.CachePolicy;
 
 /**
  * JNDI based implementation of {@code ISecurityManagement}
@@ -59,6 +60,7 @@ public class JNDIBasedSecurityManagement implements ISecurityManagement {
     private transient ConcurrentHashMap<String, AuditManager> auditMgrMap = new ConcurrentHashMap<String, AuditManager>();
     private transient ConcurrentHashMap<String, IdentityTrustManager> idmMgrMap = new ConcurrentHashMap<String, IdentityTrustManager>();
     private transient ConcurrentHashMap<String, MappingManager> mappingMgrMap = new ConcurrentHashMap<String, MappingManager>();
+    private transient ConcurrentHashMap<String, AuthenticationCache> authCacheMap = new ConcurrentHashMap<String, AuthenticationCache>();
 
     private String authenticationManagerClassName;
     private boolean deepCopySubjectMode;
@@ -211,6 +213,55 @@ public class JNDIBasedSecurityManagement implements ISecurityManagement {
         this.mappingManagerClassName = mappingManagerClassName;
     }
 
+    /**
+     * Sets the authentication cache of a security domain, replacing the current one if any. The cache is also set on the
+     * {@code AuthenticationManager} of the domain if it was already created.
+     *
+     * @param securityDomain name of the security domain
+     * @param cache the started authentication cache
+     */
+    public void setAuthenticationCache(String securityDomain, AuthenticationCache cache) {
+        AuthenticationCache previous = authCacheMap.put(securityDomain, cache);
+        SecurityDomainContext securityDomainContext = securityMgrMap.get(securityDomain);
+        if (securityDomainContext != null) {
+            setCachePolicy(securityDomainContext.getAuthenticationManager(), cache);
+            securityDomainContext.setAuthenticationCache(cache);
+        }
+        if (previous != null) {
+            // flush so that holders of the previous cache no longer see its entries
+            previous.flush();
+            previous.stop();
+        }
+    }
+
+    /**
+     * Removes and stops the authentication cache of a security domain.
+     *
+     * @param securityDomain name of the security domain
+     */
+    public void removeAuthenticationCache(String securityDomain) {
+        AuthenticationCache cache = authCacheMap.remove(securityDomain);
+        SecurityDomainContext securityDomainContext = securityMgrMap.get(securityDomain);
+        if (securityDomainContext != null) {
+            setCachePolicy(securityDomainContext.getAuthenticationManager(), null);
+            securityDomainContext.setAuthenticationCache(null);
+        }
+        if (cache != null) {
+            cache.flush();
+            cache.stop();
+        }
+    }
+
+    /**
+     * Gets the authentication cache of a security domain.
+     *
+     * @param securityDomain name of the security domain
+     * @return the authentication cache or null if caching is not enabled for the domain
+     */
+    public AuthenticationCache getAuthenticationCache(String securityDomain) {
+        return authCacheMap.get(securityDomain);
+    }
+
     /**
      * Lookup a context in JNDI
      *
@@ -242,15 +293,18 @@ public class JNDIBasedSecurityManagement implements ISecurityManagement {
     public SecurityDomainContext createSecurityDomainContext(String securityDomain) throws Exception {
         log.debug("Creating SDC for domain=" + securityDomain);
         AuthenticationManager am = createAuthenticationManager(securityDomain);
-        // TODO create auth cache and set it in am
+        // set the authentication cache of the domain, if any
+        AuthenticationCache cache = authCacheMap.get(securityDomain);
+        if (cache != null) {
+            setCachePolicy(am, cache);
+        }
 
         // set DeepCopySubject option if supported
         if (deepCopySubjectMode) {
             setDeepCopySubjectMode(am);
         }
 
-        // TODO set auth cache
-        SecurityDomainContext securityDomainContext = new SecurityDomainContext(am, null);
+        SecurityDomainContext securityDomainContext = new SecurityDomainContext(am, cache);
 
         securityDomainContext.setAuthorizationManager(createAuthorizationManager(securityDomain));
         securityDomainContext.setAuditMgr(createAuditManager(securityDomain));
@@ -357,6 +411,24 @@ public class JNDIBasedSecurityManagement implements ISecurityManagement {
         return (MappingManager) ctr.newInstance(new Object[] { securityDomain });
     }
 
+    /**
+     * Use reflection to attempt to set the authentication cache on the {@code AuthenticationManager}
+     *
+     * @param authenticationManager the {@code AuthenticationManager}
+     * @param cache the cache, or null to disable caching
+     */
+    private static void setCachePolicy(AuthenticationManager authenticationManager, CachePolicy cache) {
+        try {
+            Class<?>[] argsType = { CachePolicy.class };
+            Method m = authenticationManager.getClass().getMethod("setCachePolicy", argsType);
+            Object[] cacheArgs = { cache };
+            m.invoke(authenticationManager, cacheArgs);
+        } catch (Exception e) {
+            log.warn("Unable to set the authentication cache of " + authenticationManager.getSecurityDomain() + ": "
+                    + e.getLocalizedMessage());
+        }
+    }
+
     /**
      * Use reflection to attempt to set the deep copy subject mode on the {@code AuthenticationManager}
      *
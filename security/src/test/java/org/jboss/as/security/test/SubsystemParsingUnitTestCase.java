@@ -86,6 +86,10 @@ public class SubsystemParsingUnitTestCase {
 				code.asString());
 		ModelNode flag = modelNode.get("flag");
 		assertEquals("required", flag.asString());
+
+		ModelNode cache = node.get("authentication-cache");
+		assertEquals(600, cache.get("lifetime").asInt());
+		assertEquals(500, cache.get("max-entries").asInt());
 	}
 
 	List<ModelNode> parse(final String name) throws XMLStreamException,
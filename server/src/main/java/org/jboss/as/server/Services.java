@@ -64,4 +64,10 @@ public final class Services {
      * The service that caches system module jandex indexes
      */
     public static final ServiceName JBOSS_MODULE_INDEX_SERVICE = JBOSS_AS.append("module-index-service");
+
+    /**
+     * The service corresponding to the {@link org.jboss.as.server.services.session.SessionIdGenerator} shared by
+     * the containers of this instance.
+     */
+    public static final ServiceName JBOSS_SESSION_ID_GENERATOR = JBOSS_AS.append("session-id-generator");
 }
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.services.session;
+
+import org.jboss.as.server.Services;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Service providing the {@link SessionIdGenerator} shared by the containers of the server.
+ *
+ * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
+ */
+public final class SessionIdGeneratorService implements Service<SessionIdGenerator> {
+
+    private volatile SessionIdGenerator generator;
+
+    public static void addService(final ServiceTarget serviceTarget) {
+        serviceTarget.addService(Services.JBOSS_SESSION_ID_GENERATOR, new SessionIdGeneratorService())
+                .setInitialMode(ServiceController.Mode.ON_DEMAND)
+                .install();
+    }
+
+    /** {@inheritDoc} */
+    public void start(final StartContext context) throws StartException {
+        generator = new StripedSessionIdGenerator();
+    }
+
+    /** {@inheritDoc} */
+    public void stop(final StopContext context) {
+        generator = null;
+    }
+
+    /** {@inheritDoc} */
+    public SessionIdGenerator getValue() throws IllegalStateException {
+        final SessionIdGenerator generator = this.generator;
+        if (generator == null) {
+            throw new IllegalStateException();
+        }
+        return generator;
+    }
+}
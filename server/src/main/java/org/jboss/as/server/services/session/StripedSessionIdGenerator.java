@@ -0,0 +1,138 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.services.session;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * A {@link SessionIdGenerator} spreading the generation over several independently seeded random number
+ * generators. A thread always uses the same generator, so concurrent threads rarely contend for one. Each
+ * generator is reseeded from a shared seed generator after a number of identifiers.
+ * <p>
+ * The generators use the {@code SHA1PRNG} algorithm where available: the default algorithm on some platforms reads
+ * from a device shared by every instance, which would serialize the generators again.
+ *
+ * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
+ */
+public final class StripedSessionIdGenerator implements SessionIdGenerator {
+
+    /** The default number of random bytes in an identifier. */
+    public static final int DEFAULT_ID_LENGTH = 16;
+    /** The default number of identifiers a generator creates before it is reseeded. */
+    public static final int DEFAULT_RESEED_INTERVAL = 100000;
+
+    private static final String ALGORITHM = "SHA1PRNG";
+    private static final int SEED_LENGTH = 32;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final SecureRandom seeder = new SecureRandom();
+    private final Stripe[] stripes;
+    private final int mask;
+    private final int idLength;
+    private final int reseedInterval;
+
+    /**
+     * Create a generator with two stripes per processor and the default identifier length and reseed interval.
+     */
+    public StripedSessionIdGenerator() {
+        this(Runtime.getRuntime().availableProcessors() * 2, DEFAULT_ID_LENGTH, DEFAULT_RESEED_INTERVAL);
+    }
+
+    /**
+     * Create a generator.
+     *
+     * @param concurrency the expected number of threads creating identifiers at the same time, rounded up to a
+     *            power of two to get the number of stripes
+     * @param idLength the number of random bytes in an identifier
+     * @param reseedInterval the number of identifiers a generator creates before it is reseeded
+     */
+    public StripedSessionIdGenerator(final int concurrency, final int idLength, final int reseedInterval) {
+        if (idLength < 1) {
+            throw new IllegalArgumentException("idLength is less than 1");
+        }
+        if (reseedInterval < 1) {
+            throw new IllegalArgumentException("reseedInterval is less than 1");
+        }
+        int size = 1;
+        while (size < concurrency) {
+            size <<= 1;
+        }
+        stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(createRandom());
+        }
+        mask = size - 1;
+        this.idLength = idLength;
+        this.reseedInterval = reseedInterval;
+    }
+
+    /** {@inheritDoc} */
+    public String createSessionId() {
+        final long threadId = Thread.currentThread().getId();
+        final Stripe stripe = stripes[(int) (threadId ^ (threadId >>> 16)) & mask];
+        final byte[] bytes = new byte[idLength];
+        synchronized (stripe) {
+            if (++stripe.count >= reseedInterval) {
+                stripe.random.setSeed(nextSeed());
+                stripe.count = 0;
+            }
+            stripe.random.nextBytes(bytes);
+        }
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    private SecureRandom createRandom() {
+        SecureRandom random;
+        try {
+            random = SecureRandom.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            random = new SecureRandom();
+        }
+        // Seeding before the first use replaces the self seeding of the generator
+        random.setSeed(nextSeed());
+        return random;
+    }
+
+    private byte[] nextSeed() {
+        final byte[] seed = new byte[SEED_LENGTH];
+        synchronized (seeder) {
+            seeder.nextBytes(seed);
+        }
+        return seed;
+    }
+
+    private static final class Stripe {
+        private final SecureRandom random;
+        private int count;
+
+        Stripe(final SecureRandom random) {
+            this.random = random;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.server.services.session;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
+ */
+public class StripedSessionIdGeneratorUnitTestCase {
+
+    private static final int THREADS = 32;
+    private static final int IDS_PER_THREAD = 10000;
+
+    @Test
+    public void testIdFormat() {
+        final SessionIdGenerator generator = new StripedSessionIdGenerator(4, 16, 10);
+        for (int i = 0; i < 100; i++) {
+            final String id = generator.createSessionId();
+            Assert.assertEquals(32, id.length());
+            Assert.assertTrue(id, id.matches("[0-9A-F]+"));
+        }
+    }
+
+    @Test
+    public void testConcurrentIdsAreUnique() throws Exception {
+        // A small reseed interval makes every stripe reseed while the threads run
+        final SessionIdGenerator generator = new StripedSessionIdGenerator(THREADS, StripedSessionIdGenerator.DEFAULT_ID_LENGTH, 1000);
+        final Set<String> ids = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                executor.execute(new Runnable() {
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        for (int j = 0; j < IDS_PER_THREAD; j++) {
+                            ids.add(generator.createSessionId());
+                        }
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+    }
+}
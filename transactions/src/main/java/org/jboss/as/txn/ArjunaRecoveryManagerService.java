@@ -56,12 +56,29 @@ public class ArjunaRecoveryManagerService implements Service<RecoveryManagerServ
 
     public static final ServiceName SERVICE_NAME = TxnServices.JBOSS_TXN_ARJUNA_RECOVERY_MANAGER;
 
+    /** The default interval between recovery scans, in seconds. */
+    static final int DEFAULT_PERIODIC_RECOVERY_PERIOD = 120;
+    /** The default interval between the two passes of a recovery scan, in seconds. */
+    static final int DEFAULT_RECOVERY_BACKOFF_PERIOD = 10;
+
     private final InjectedValue<ORB> orbInjector = new InjectedValue<ORB>();
     private final InjectedValue<SocketBinding> recoveryBindingInjector = new InjectedValue<SocketBinding>();
     private final InjectedValue<SocketBinding> statusBindingInjector = new InjectedValue<SocketBinding>();
 
+    private final int periodicRecoveryPeriod;
+    private final int recoveryBackoffPeriod;
+
     private RecoveryManagerService recoveryManagerService;
 
+    public ArjunaRecoveryManagerService() {
+        this(DEFAULT_PERIODIC_RECOVERY_PERIOD, DEFAULT_RECOVERY_BACKOFF_PERIOD);
+    }
+
+    public ArjunaRecoveryManagerService(final int periodicRecoveryPeriod, final int recoveryBackoffPeriod) {
+        this.periodicRecoveryPeriod = periodicRecoveryPeriod;
+        this.recoveryBackoffPeriod = recoveryBackoffPeriod;
+    }
+
     public synchronized void start(StartContext context) throws StartException {
         final ORB orb = orbInjector.getValue();
 
@@ -76,6 +93,8 @@ public class ArjunaRecoveryManagerService implements Service<RecoveryManagerServ
             final SocketBinding statusBinding = statusBindingInjector.getValue();
             recoveryEnvironmentBean.setTransactionStatusManagerInetAddress(statusBinding.getSocketAddress().getAddress());
             recoveryEnvironmentBean.setTransactionStatusManagerPort(statusBinding.getSocketAddress().getPort());
+            recoveryEnvironmentBean.setPeriodicRecoveryPeriod(periodicRecoveryPeriod);
+            recoveryEnvironmentBean.setRecoveryBackoffPeriod(recoveryBackoffPeriod);
 
             final List<String> recoveryExtensions = new ArrayList<String>();
             recoveryExtensions.add(AtomicActionRecoveryModule.class.getName());
@@ -45,6 +45,7 @@ import com.arjuna.ats.arjuna.common.CoreEnvironmentBean;
 import com.arjuna.ats.arjuna.common.ObjectStoreEnvironmentBean;
 import com.arjuna.ats.arjuna.common.arjPropertyManager;
 import com.arjuna.ats.arjuna.tools.osb.mbean.ObjStoreBrowser;
+import com.arjuna.ats.internal.arjuna.objectstore.LogStore;
 import com.arjuna.ats.internal.jta.recovery.arjunacore.JTANodeNameXAResourceOrphanFilter;
 import com.arjuna.ats.internal.jta.recovery.arjunacore.JTATransactionLogXAResourceOrphanFilter;
 import com.arjuna.ats.jta.common.JTAEnvironmentBean;
@@ -74,12 +75,14 @@ final class ArjunaTransactionManagerService implements Service<com.arjuna.ats.jb
     private int coreSocketProcessIdMaxPorts;
     private boolean coordinatorEnableStatistics;
     private int coordinatorDefaultTimeout;
+    private boolean useLogStore;
 
-    ArjunaTransactionManagerService(final String coreNodeIdentifier, final int coreSocketProcessIdMaxPorts, final boolean coordinatorEnableStatistics, final int coordinatorDefaultTimeout) {
+    ArjunaTransactionManagerService(final String coreNodeIdentifier, final int coreSocketProcessIdMaxPorts, final boolean coordinatorEnableStatistics, final int coordinatorDefaultTimeout, final boolean useLogStore) {
         this.coreNodeIdentifier = coreNodeIdentifier;
         this.coreSocketProcessIdMaxPorts = coreSocketProcessIdMaxPorts;
         this.coordinatorEnableStatistics = coordinatorEnableStatistics;
         this.coordinatorDefaultTimeout = coordinatorDefaultTimeout;
+        this.useLogStore = useLogStore;
     }
 
     public synchronized void start(final StartContext context) throws StartException {
@@ -106,6 +109,10 @@ final class ArjunaTransactionManagerService implements Service<com.arjuna.ats.jb
             final ObjectStoreEnvironmentBean actionStoreObjectStoreEnvironmentBean =
                BeanPopulator.getNamedInstance(ObjectStoreEnvironmentBean.class, "default");
             actionStoreObjectStoreEnvironmentBean.setObjectStoreDir(pathInjector.getValue());
+            if (useLogStore) {
+                // Append transaction logs to a shared log file rather than creating and deleting one file per transaction
+                actionStoreObjectStoreEnvironmentBean.setObjectStoreType(LogStore.class.getName());
+            }
             final ObjectStoreEnvironmentBean stateStoreObjectStoreEnvironmentBean =
                 BeanPopulator.getNamedInstance(ObjectStoreEnvironmentBean.class, "stateStore");
             stateStoreObjectStoreEnvironmentBean.setObjectStoreDir(pathInjector.getValue());
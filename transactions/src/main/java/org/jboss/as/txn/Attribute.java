@@ -34,12 +34,15 @@ enum Attribute {
     UNKNOWN(null),
     BINDING("socket-binding"),
     STATUS_BINDING("status-socket-binding"),
+    PERIODIC_RECOVERY_PERIOD("periodic-recovery-period"),
+    RECOVERY_BACKOFF_PERIOD("recovery-backoff-period"),
     NODE_IDENTIFIER("node-identifier"),
     SOCKET_PROCESS_ID_MAX_PORTS("socket-process-id-max-ports"),
     ENABLE_STATISTICS("enable-statistics"),
     DEFAULT_TIMEOUT("default-timeout"),
     RELATIVE_TO("relative-to"),
     PATH("path"),
+    USE_LOG_STORE("use-log-store"),
     ;
     private final String name;
 
@@ -35,9 +35,12 @@ interface CommonAttributes {
     String NODE_IDENTIFIER = "node-identifier";
     String OBJECT_STORE = "object-store";
     String PATH = "path";
+    String PERIODIC_RECOVERY_PERIOD = "periodic-recovery-period";
+    String RECOVERY_BACKOFF_PERIOD = "recovery-backoff-period";
     String RECOVERY_ENVIRONMENT = "recovery-environment";
     String RELATIVE_TO = "relative-to";
     String SOCKET_PROCESS_ID_MAX_PORTS = "socket-process-id-max-ports";
     String STATUS_BINDING = "status-socket-binding";
+    String USE_LOG_STORE = "use-log-store";
 
 }
@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.RuntimeTask;
+import org.jboss.as.controller.RuntimeTaskContext;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+import com.arjuna.ats.arjuna.recovery.RecoveryManager;
+
+/**
+ * Runs a recovery scan right away instead of waiting for the next periodic scan, and replies with the
+ * duration of the scan in milliseconds.
+ * <p>
+ * The scan runs on its own thread and the operation waits at most {@code timeout} seconds for it to complete. A
+ * recovery scan cannot be cancelled, so a scan that times out still runs to completion in the background.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class RecoveryScanHandler implements ModelQueryOperationHandler {
+
+    static final String OPERATION_NAME = "recovery-scan";
+
+    static final String TIMEOUT = "timeout";
+
+    static final long DEFAULT_TIMEOUT = 300;
+
+    static final RecoveryScanHandler INSTANCE = new RecoveryScanHandler();
+
+    /** Private to ensure a singleton. */
+    private RecoveryScanHandler() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) throws OperationFailedException {
+        final long timeout = operation.get(TIMEOUT).asLong(DEFAULT_TIMEOUT);
+        if (timeout <= 0) {
+            throw new OperationFailedException(new ModelNode().set("Invalid " + TIMEOUT + " " + timeout + ", must be greater than 0"));
+        }
+        if (context.getRuntimeContext() != null) {
+            context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
+                public void execute(final RuntimeTaskContext context) throws OperationFailedException {
+                    final ServiceController<?> controller = context.getServiceRegistry().getService(TxnServices.JBOSS_TXN_ARJUNA_RECOVERY_MANAGER);
+                    if (controller == null || controller.getState() != ServiceController.State.UP) {
+                        throw new OperationFailedException(new ModelNode().set("Recovery manager is not available"));
+                    }
+                    final long duration = scan(timeout);
+                    resultHandler.handleResultFragment(Util.NO_LOCATION, new ModelNode().set(duration));
+                    resultHandler.handleResultComplete();
+                }
+            });
+        } else {
+            resultHandler.handleResultComplete();
+        }
+        return new BasicOperationResult();
+    }
+
+    /**
+     * Run a recovery scan and wait for it to complete.
+     *
+     * @param timeout the maximum time to wait, in seconds
+     * @return the duration of the scan in milliseconds
+     * @throws OperationFailedException if the scan fails or does not complete in time
+     */
+    private static long scan(final long timeout) throws OperationFailedException {
+        final FutureTask<Long> task = new FutureTask<Long>(new Callable<Long>() {
+            public Long call() {
+                // Blocks until a complete scan has been run, joining the periodic scan if one is in progress
+                final long start = System.currentTimeMillis();
+                RecoveryManager.manager().scan();
+                return Long.valueOf(System.currentTimeMillis() - start);
+            }
+        });
+        final Thread thread = new Thread(task, "recovery-scan");
+        thread.setDaemon(true);
+        thread.start();
+        try {
+            return task.get(timeout, TimeUnit.SECONDS).longValue();
+        } catch (TimeoutException e) {
+            throw new OperationFailedException(new ModelNode().set("Recovery scan did not complete within " + timeout + " seconds"));
+        } catch (ExecutionException e) {
+            throw new OperationFailedException(new ModelNode().set("Recovery scan failed: " + e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationFailedException(new ModelNode().set("Interrupted while waiting for the recovery scan"));
+        }
+    }
+}
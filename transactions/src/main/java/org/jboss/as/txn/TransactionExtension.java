@@ -43,10 +43,13 @@ import static org.jboss.as.txn.CommonAttributes.ENABLE_STATISTICS;
 import static org.jboss.as.txn.CommonAttributes.NODE_IDENTIFIER;
 import static org.jboss.as.txn.CommonAttributes.OBJECT_STORE;
 import static org.jboss.as.txn.CommonAttributes.PATH;
+import static org.jboss.as.txn.CommonAttributes.PERIODIC_RECOVERY_PERIOD;
+import static org.jboss.as.txn.CommonAttributes.RECOVERY_BACKOFF_PERIOD;
 import static org.jboss.as.txn.CommonAttributes.RECOVERY_ENVIRONMENT;
 import static org.jboss.as.txn.CommonAttributes.RELATIVE_TO;
 import static org.jboss.as.txn.CommonAttributes.SOCKET_PROCESS_ID_MAX_PORTS;
 import static org.jboss.as.txn.CommonAttributes.STATUS_BINDING;
+import static org.jboss.as.txn.CommonAttributes.USE_LOG_STORE;
 
 import java.util.Collections;
 import java.util.EnumSet;
@@ -97,6 +100,10 @@ public class TransactionExtension implements Extension {
         final ModelNodeRegistration registration = subsystem.registerSubsystemModel(TransactionSubsystemProviders.SUBSYSTEM);
         registration.registerOperationHandler(ADD, TransactionSubsystemAdd.INSTANCE, TransactionSubsystemProviders.SUBSYSTEM_ADD, false);
         registration.registerOperationHandler(DESCRIBE, TransactionDescribeHandler.INSTANCE, TransactionDescribeHandler.INSTANCE, false, OperationEntry.EntryType.PRIVATE);
+        registration.registerOperationHandler(RecoveryScanHandler.OPERATION_NAME, RecoveryScanHandler.INSTANCE, TransactionSubsystemProviders.RECOVERY_SCAN, false);
+        for (final String metric : TxStatsHandler.ATTRIBUTES) {
+            registration.registerMetric(metric, TxStatsHandler.INSTANCE);
+        }
         subsystem.registerXMLElementWriter(parser);
     }
 
@@ -189,6 +196,9 @@ public class TransactionExtension implements Extension {
                     case PATH:
                         store.get(PATH).set(value);
                         break;
+                    case USE_LOG_STORE:
+                        store.get(USE_LOG_STORE).set(Boolean.parseBoolean(value));
+                        break;
                     default:
                         unexpectedAttribute(reader, i);
                 }
@@ -266,6 +276,12 @@ public class TransactionExtension implements Extension {
                     case STATUS_BINDING:
                         env.get(STATUS_BINDING).set(value);
                         break;
+                    case PERIODIC_RECOVERY_PERIOD:
+                        env.get(PERIODIC_RECOVERY_PERIOD).set(Integer.parseInt(value));
+                        break;
+                    case RECOVERY_BACKOFF_PERIOD:
+                        env.get(RECOVERY_BACKOFF_PERIOD).set(Integer.parseInt(value));
+                        break;
                     default:
                         unexpectedAttribute(reader, i);
                 }
@@ -310,6 +326,12 @@ public class TransactionExtension implements Extension {
                     writeAttribute(writer, Attribute.STATUS_BINDING, env.get(STATUS_BINDING));
 
                 }
+                if (has(env, PERIODIC_RECOVERY_PERIOD)) {
+                    writeAttribute(writer, Attribute.PERIODIC_RECOVERY_PERIOD, env.get(PERIODIC_RECOVERY_PERIOD));
+                }
+                if (has(env, RECOVERY_BACKOFF_PERIOD)) {
+                    writeAttribute(writer, Attribute.RECOVERY_BACKOFF_PERIOD, env.get(RECOVERY_BACKOFF_PERIOD));
+                }
                 writer.writeEndElement();
             }
             if (has(node, COORDINATOR_ENVIRONMENT)) {
@@ -332,6 +354,9 @@ public class TransactionExtension implements Extension {
                 if (has(env, PATH)) {
                     writeAttribute(writer, Attribute.PATH, env.get(PATH));
                 }
+                if (has(env, USE_LOG_STORE)) {
+                    writeAttribute(writer, Attribute.USE_LOG_STORE, env.get(USE_LOG_STORE));
+                }
                 writer.writeEndElement();
             }
             writer.writeEndElement();
@@ -80,10 +80,13 @@ class TransactionSubsystemAdd implements ModelAddOperationHandler, BootOperation
         final String bindingName = operation.get(CORE_ENVIRONMENT).require(BINDING).asString();
         final String recoveryBindingName = operation.get(RECOVERY_ENVIRONMENT).require(BINDING).asString();
         final String recoveryStatusBindingName = operation.get(RECOVERY_ENVIRONMENT).require(STATUS_BINDING).asString();
+        final int periodicRecoveryPeriod = operation.get(RECOVERY_ENVIRONMENT, PERIODIC_RECOVERY_PERIOD).asInt(ArjunaRecoveryManagerService.DEFAULT_PERIODIC_RECOVERY_PERIOD);
+        final int recoveryBackoffPeriod = operation.get(RECOVERY_ENVIRONMENT, RECOVERY_BACKOFF_PERIOD).asInt(ArjunaRecoveryManagerService.DEFAULT_RECOVERY_BACKOFF_PERIOD);
         final String nodeIdentifier = operation.get(CORE_ENVIRONMENT).has(NODE_IDENTIFIER) ? operation.get(CORE_ENVIRONMENT, NODE_IDENTIFIER).asString() : "1";
         final boolean coordinatorEnableStatistics = operation.get(COORDINATOR_ENVIRONMENT, ENABLE_STATISTICS).asBoolean(false);
-        final String objectStorePathRef = "jboss.server.data.dir";
-        final String objectStorePath = "tx-object-store";
+        final String objectStorePathRef = operation.get(OBJECT_STORE, RELATIVE_TO).asString("jboss.server.data.dir");
+        final String objectStorePath = operation.get(OBJECT_STORE, PATH).asString("tx-object-store");
+        final boolean useLogStore = operation.get(OBJECT_STORE, USE_LOG_STORE).asBoolean(false);
         final int maxPorts = 10;
         final int coordinatorDefaultTimeout = 300;
 
@@ -92,7 +95,12 @@ class TransactionSubsystemAdd implements ModelAddOperationHandler, BootOperation
         subModel.get(CORE_ENVIRONMENT, NODE_IDENTIFIER).set(operation.get(CORE_ENVIRONMENT, NODE_IDENTIFIER));
         subModel.get(RECOVERY_ENVIRONMENT, BINDING).set(operation.get(RECOVERY_ENVIRONMENT).require(BINDING));
         subModel.get(RECOVERY_ENVIRONMENT, STATUS_BINDING).set(operation.get(RECOVERY_ENVIRONMENT, STATUS_BINDING));
+        subModel.get(RECOVERY_ENVIRONMENT, PERIODIC_RECOVERY_PERIOD).set(operation.get(RECOVERY_ENVIRONMENT, PERIODIC_RECOVERY_PERIOD));
+        subModel.get(RECOVERY_ENVIRONMENT, RECOVERY_BACKOFF_PERIOD).set(operation.get(RECOVERY_ENVIRONMENT, RECOVERY_BACKOFF_PERIOD));
         subModel.get(COORDINATOR_ENVIRONMENT, ENABLE_STATISTICS).set(operation.get(COORDINATOR_ENVIRONMENT, ENABLE_STATISTICS));
+        if (operation.hasDefined(OBJECT_STORE)) {
+            subModel.get(OBJECT_STORE).set(operation.get(OBJECT_STORE));
+        }
 
 
         if (context.getRuntimeContext() != null) {
@@ -104,7 +112,7 @@ class TransactionSubsystemAdd implements ModelAddOperationHandler, BootOperation
                     final XATerminatorService xaTerminatorService = new XATerminatorService();
                     target.addService(TxnServices.JBOSS_TXN_XA_TERMINATOR, xaTerminatorService).setInitialMode(Mode.ACTIVE).install();
 
-                    final ArjunaRecoveryManagerService recoveryManagerService = new ArjunaRecoveryManagerService();
+                    final ArjunaRecoveryManagerService recoveryManagerService = new ArjunaRecoveryManagerService(periodicRecoveryPeriod, recoveryBackoffPeriod);
                     target.addService(TxnServices.JBOSS_TXN_ARJUNA_RECOVERY_MANAGER, recoveryManagerService)
                         .addDependency(DependencyType.OPTIONAL, ServiceName.JBOSS.append("iiop", "orb"), ORB.class, recoveryManagerService.getOrbInjector())
                         .addDependency(SocketBinding.JBOSS_BINDING_NAME.append(recoveryBindingName), SocketBinding.class, recoveryManagerService.getRecoveryBindingInjector())
@@ -112,7 +120,7 @@ class TransactionSubsystemAdd implements ModelAddOperationHandler, BootOperation
                         .setInitialMode(Mode.ACTIVE)
                         .install();
 
-                    final ArjunaTransactionManagerService transactionManagerService = new ArjunaTransactionManagerService(nodeIdentifier, maxPorts, coordinatorEnableStatistics, coordinatorDefaultTimeout);
+                    final ArjunaTransactionManagerService transactionManagerService = new ArjunaTransactionManagerService(nodeIdentifier, maxPorts, coordinatorEnableStatistics, coordinatorDefaultTimeout, useLogStore);
                     target.addService(TxnServices.JBOSS_TXN_ARJUNA_TRANSACTION_MANAGER, transactionManagerService)
                             .addDependency(DependencyType.OPTIONAL, ServiceName.JBOSS.append("iiop", "orb"), ORB.class, transactionManagerService.getOrbInjector())
                             .addDependency(TxnServices.JBOSS_TXN_XA_TERMINATOR, JBossXATerminator.class, transactionManagerService.getXaTerminatorInjector())
@@ -28,6 +28,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DES
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HEAD_COMMENT_ALLOWED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MIN_LENGTH;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAMESPACE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REPLY_PROPERTIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQUEST_PROPERTIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQUIRED;
@@ -39,8 +40,14 @@ import static org.jboss.as.txn.CommonAttributes.COORDINATOR_ENVIRONMENT;
 import static org.jboss.as.txn.CommonAttributes.CORE_ENVIRONMENT;
 import static org.jboss.as.txn.CommonAttributes.ENABLE_STATISTICS;
 import static org.jboss.as.txn.CommonAttributes.NODE_IDENTIFIER;
+import static org.jboss.as.txn.CommonAttributes.OBJECT_STORE;
+import static org.jboss.as.txn.CommonAttributes.PATH;
+import static org.jboss.as.txn.CommonAttributes.PERIODIC_RECOVERY_PERIOD;
+import static org.jboss.as.txn.CommonAttributes.RECOVERY_BACKOFF_PERIOD;
 import static org.jboss.as.txn.CommonAttributes.RECOVERY_ENVIRONMENT;
+import static org.jboss.as.txn.CommonAttributes.RELATIVE_TO;
 import static org.jboss.as.txn.CommonAttributes.STATUS_BINDING;
+import static org.jboss.as.txn.CommonAttributes.USE_LOG_STORE;
 
 import java.util.Locale;
 import java.util.ResourceBundle;
@@ -71,6 +78,23 @@ class TransactionSubsystemProviders {
         }
     };
 
+    static final DescriptionProvider RECOVERY_SCAN = new DescriptionProvider() {
+
+        public ModelNode getModelDescription(final Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+            final ModelNode op = new ModelNode();
+            op.get(OPERATION_NAME).set(RecoveryScanHandler.OPERATION_NAME);
+            op.get(DESCRIPTION).set(bundle.getString("recovery-scan"));
+            op.get(REQUEST_PROPERTIES, RecoveryScanHandler.TIMEOUT, DESCRIPTION).set(bundle.getString("recovery-scan.timeout"));
+            op.get(REQUEST_PROPERTIES, RecoveryScanHandler.TIMEOUT, TYPE).set(ModelType.LONG);
+            op.get(REQUEST_PROPERTIES, RecoveryScanHandler.TIMEOUT, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, RecoveryScanHandler.TIMEOUT, DEFAULT).set(RecoveryScanHandler.DEFAULT_TIMEOUT);
+            op.get(REPLY_PROPERTIES, DESCRIPTION).set(bundle.getString("recovery-scan.reply"));
+            op.get(REPLY_PROPERTIES, TYPE).set(ModelType.LONG);
+            return op;
+        }
+    };
+
     private static ResourceBundle getResourceBundle(Locale locale) {
         if (locale == null) {
             locale = Locale.getDefault();
@@ -119,6 +143,14 @@ class TransactionSubsystemProviders {
             subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, STATUS_BINDING, TYPE).set(ModelType.STRING);
             subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, STATUS_BINDING, MIN_LENGTH).set(1);
             subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, STATUS_BINDING, REQUIRED).set(true);
+            subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, PERIODIC_RECOVERY_PERIOD, DESCRIPTION).set(bundle.getString("recovery-environment.periodic-recovery-period"));
+            subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, PERIODIC_RECOVERY_PERIOD, TYPE).set(ModelType.INT);
+            subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, PERIODIC_RECOVERY_PERIOD, REQUIRED).set(false);
+            subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, PERIODIC_RECOVERY_PERIOD, DEFAULT).set(ArjunaRecoveryManagerService.DEFAULT_PERIODIC_RECOVERY_PERIOD);
+            subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, RECOVERY_BACKOFF_PERIOD, DESCRIPTION).set(bundle.getString("recovery-environment.recovery-backoff-period"));
+            subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, RECOVERY_BACKOFF_PERIOD, TYPE).set(ModelType.INT);
+            subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, RECOVERY_BACKOFF_PERIOD, REQUIRED).set(false);
+            subsystem.get(ATTRIBUTES, RECOVERY_ENVIRONMENT, VALUE_TYPE, RECOVERY_BACKOFF_PERIOD, DEFAULT).set(ArjunaRecoveryManagerService.DEFAULT_RECOVERY_BACKOFF_PERIOD);
 
             subsystem.get(ATTRIBUTES, COORDINATOR_ENVIRONMENT, DESCRIPTION).set(bundle.getString("coordinator-environment"));
             subsystem.get(ATTRIBUTES, COORDINATOR_ENVIRONMENT, TYPE).set(ModelType.OBJECT);
@@ -134,7 +166,26 @@ class TransactionSubsystemProviders {
             subsystem.get(ATTRIBUTES, COORDINATOR_ENVIRONMENT, VALUE_TYPE, DEFAULT_TIMEOUT, DEFAULT).set(300);
             */
 
-            //object-store does not seem to be used
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, DESCRIPTION).set(bundle.getString("object-store"));
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, TYPE).set(ModelType.OBJECT);
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, REQUIRED).set(false);
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, RELATIVE_TO, DESCRIPTION).set(bundle.getString("object-store.relative-to"));
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, RELATIVE_TO, TYPE).set(ModelType.STRING);
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, RELATIVE_TO, REQUIRED).set(false);
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, RELATIVE_TO, DEFAULT).set("jboss.server.data.dir");
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, PATH, DESCRIPTION).set(bundle.getString("object-store.path"));
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, PATH, TYPE).set(ModelType.STRING);
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, PATH, REQUIRED).set(false);
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, PATH, DEFAULT).set("tx-object-store");
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, USE_LOG_STORE, DESCRIPTION).set(bundle.getString("object-store.use-log-store"));
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, USE_LOG_STORE, TYPE).set(ModelType.BOOLEAN);
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, USE_LOG_STORE, REQUIRED).set(false);
+            subsystem.get(ATTRIBUTES, OBJECT_STORE, VALUE_TYPE, USE_LOG_STORE, DEFAULT).set(false);
+
+            for (final String metric : TxStatsHandler.ATTRIBUTES) {
+                subsystem.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString(metric));
+                subsystem.get(ATTRIBUTES, metric, TYPE).set(ModelType.LONG);
+            }
 
             return subsystem;
         }
@@ -179,6 +230,14 @@ class TransactionSubsystemProviders {
             op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, STATUS_BINDING, TYPE).set(ModelType.STRING);
             op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, STATUS_BINDING, MIN_LENGTH).set(1);
             op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, STATUS_BINDING, REQUIRED).set(true);
+            op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, PERIODIC_RECOVERY_PERIOD, DESCRIPTION).set(bundle.getString("recovery-environment.periodic-recovery-period"));
+            op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, PERIODIC_RECOVERY_PERIOD, TYPE).set(ModelType.INT);
+            op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, PERIODIC_RECOVERY_PERIOD, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, PERIODIC_RECOVERY_PERIOD, DEFAULT).set(ArjunaRecoveryManagerService.DEFAULT_PERIODIC_RECOVERY_PERIOD);
+            op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, RECOVERY_BACKOFF_PERIOD, DESCRIPTION).set(bundle.getString("recovery-environment.recovery-backoff-period"));
+            op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, RECOVERY_BACKOFF_PERIOD, TYPE).set(ModelType.INT);
+            op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, RECOVERY_BACKOFF_PERIOD, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, RECOVERY_ENVIRONMENT, VALUE_TYPE, RECOVERY_BACKOFF_PERIOD, DEFAULT).set(ArjunaRecoveryManagerService.DEFAULT_RECOVERY_BACKOFF_PERIOD);
 
             op.get(REQUEST_PROPERTIES, COORDINATOR_ENVIRONMENT, DESCRIPTION).set(bundle.getString("coordinator-environment"));
             op.get(REQUEST_PROPERTIES, COORDINATOR_ENVIRONMENT, TYPE).set(ModelType.OBJECT);
@@ -194,7 +253,21 @@ class TransactionSubsystemProviders {
             op.get(REQUEST_PROPERTIES, COORDINATOR_ENVIRONMENT, VALUE_TYPE, DEFAULT_TIMEOUT, DEFAULT).set(300);
              */
 
-            //object-store does not seem to be used
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, DESCRIPTION).set(bundle.getString("object-store"));
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, TYPE).set(ModelType.OBJECT);
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, RELATIVE_TO, DESCRIPTION).set(bundle.getString("object-store.relative-to"));
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, RELATIVE_TO, TYPE).set(ModelType.STRING);
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, RELATIVE_TO, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, RELATIVE_TO, DEFAULT).set("jboss.server.data.dir");
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, PATH, DESCRIPTION).set(bundle.getString("object-store.path"));
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, PATH, TYPE).set(ModelType.STRING);
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, PATH, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, PATH, DEFAULT).set("tx-object-store");
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, USE_LOG_STORE, DESCRIPTION).set(bundle.getString("object-store.use-log-store"));
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, USE_LOG_STORE, TYPE).set(ModelType.BOOLEAN);
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, USE_LOG_STORE, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, OBJECT_STORE, VALUE_TYPE, USE_LOG_STORE, DEFAULT).set(false);
 
             op.get(REPLY_PROPERTIES).setEmptyObject();
 
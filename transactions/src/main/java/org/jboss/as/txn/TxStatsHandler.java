@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+import com.arjuna.ats.arjuna.coordinator.TxStats;
+
+/**
+ * Reads the transaction manager statistics.
+ * <p>
+ * The counters are kept by {@link TxStats} and only move while {@code enable-statistics} is set on the coordinator
+ * environment. Reading them is a plain field access, so they can be polled with {@code read-resource}.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class TxStatsHandler implements ModelQueryOperationHandler {
+
+    static final TxStatsHandler INSTANCE = new TxStatsHandler();
+
+    static final String NUMBER_OF_TRANSACTIONS = "number-of-transactions";
+    static final String NUMBER_OF_NESTED_TRANSACTIONS = "number-of-nested-transactions";
+    static final String NUMBER_OF_HEURISTICS = "number-of-heuristics";
+    static final String NUMBER_OF_COMMITTED_TRANSACTIONS = "number-of-committed-transactions";
+    static final String NUMBER_OF_ABORTED_TRANSACTIONS = "number-of-aborted-transactions";
+    static final String NUMBER_OF_INFLIGHT_TRANSACTIONS = "number-of-inflight-transactions";
+    static final String NUMBER_OF_TIMED_OUT_TRANSACTIONS = "number-of-timed-out-transactions";
+    static final String NUMBER_OF_APPLICATION_ROLLBACKS = "number-of-application-rollbacks";
+    static final String NUMBER_OF_RESOURCE_ROLLBACKS = "number-of-resource-rollbacks";
+    static final String[] ATTRIBUTES = { NUMBER_OF_TRANSACTIONS, NUMBER_OF_NESTED_TRANSACTIONS, NUMBER_OF_HEURISTICS,
+        NUMBER_OF_COMMITTED_TRANSACTIONS, NUMBER_OF_ABORTED_TRANSACTIONS, NUMBER_OF_INFLIGHT_TRANSACTIONS,
+        NUMBER_OF_TIMED_OUT_TRANSACTIONS, NUMBER_OF_APPLICATION_ROLLBACKS, NUMBER_OF_RESOURCE_ROLLBACKS };
+
+    /** Private to ensure a singleton. */
+    private TxStatsHandler() {
+    }
+
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) {
+        final ModelNode result = new ModelNode();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final String attributeName = operation.require(NAME).asString();
+            final ServiceController<?> controller = ServerOperationContext.class.cast(context).getController()
+                    .getServiceRegistry().getService(TxnServices.JBOSS_TXN_ARJUNA_TRANSACTION_MANAGER);
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                result.set(getStatistic(TxStats.getInstance(), attributeName));
+            } else {
+                result.set(0L);
+            }
+        } else {
+            result.set("no metrics available");
+        }
+        resultHandler.handleResultFragment(Util.NO_LOCATION, result);
+        resultHandler.handleResultComplete();
+        return new BasicOperationResult();
+    }
+
+    private static long getStatistic(final TxStats stats, final String attributeName) {
+        if (NUMBER_OF_TRANSACTIONS.equals(attributeName)) {
+            return stats.getNumberOfTransactions();
+        } else if (NUMBER_OF_NESTED_TRANSACTIONS.equals(attributeName)) {
+            return stats.getNumberOfNestedTransactions();
+        } else if (NUMBER_OF_HEURISTICS.equals(attributeName)) {
+            return stats.getNumberOfHeuristics();
+        } else if (NUMBER_OF_COMMITTED_TRANSACTIONS.equals(attributeName)) {
+            return stats.getNumberOfCommittedTransactions();
+        } else if (NUMBER_OF_ABORTED_TRANSACTIONS.equals(attributeName)) {
+            return stats.getNumberOfAbortedTransactions();
+        } else if (NUMBER_OF_INFLIGHT_TRANSACTIONS.equals(attributeName)) {
+            return stats.getNumberOfInflightTransactions();
+        } else if (NUMBER_OF_TIMED_OUT_TRANSACTIONS.equals(attributeName)) {
+            return stats.getNumberOfTimedOutTransactions();
+        } else if (NUMBER_OF_APPLICATION_ROLLBACKS.equals(attributeName)) {
+            return stats.getNumberOfApplicationRollbacks();
+        } else if (NUMBER_OF_RESOURCE_ROLLBACKS.equals(attributeName)) {
+            return stats.getNumberOfResourceRollbacks();
+        }
+        return 0L;
+    }
+}
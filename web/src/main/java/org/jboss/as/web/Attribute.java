@@ -31,6 +31,7 @@ import java.util.Map;
 enum Attribute {
     UNKNOWN(null),
 
+    ACCEPTOR_THREAD_COUNT(Constants.ACCEPTOR_THREAD_COUNT),
     CA_CERTIFICATE_FILE(Constants.CA_CERTIFICATE_FILE),
     CA_REVOCATION_URL(Constants.CA_REVOCATION_URL),
     CERTIFICATE_FILE(Constants.CERTIFICATE_FILE),
@@ -53,19 +54,28 @@ enum Attribute {
     GENERATE_STRINGS_AS_CHAR_ARRAYS(Constants.GENERATE_STRINGS_AS_CHAR_ARRAYS),
     JAVA_ENCODING(Constants.JAVA_ENCODING),
     KEEP_GENERATED(Constants.KEEP_GENERATED),
+    KEEP_ALIVE_TIMEOUT(Constants.KEEP_ALIVE_TIMEOUT),
     KEY_ALIAS(Constants.KEY_ALIAS),
     LISTINGS(Constants.LISTINGS),
     MAPPED_FILE(Constants.MAPPED_FILE),
+    MAX_ACTIVE_SESSIONS(Constants.MAX_ACTIVE_SESSIONS),
     MAX_CONNECTIONS(Constants.MAX_CONNECTIONS),
     MAX_DEPTH(Constants.MAX_DEPTH),
+    MAX_KEEP_ALIVE_REQUESTS(Constants.MAX_KEEP_ALIVE_REQUESTS),
     MAX_POST_SIZE(Constants.MAX_POST_SIZE),
     MODIFIFICATION_TEST_INTERVAL(Constants.MODIFIFICATION_TEST_INTERVAL),
     MAX_SAVE_POST_SIZE(Constants.MAX_SAVE_POST_SIZE),
+    MAX_OBJECT_SIZE(Constants.MAX_OBJECT_SIZE),
+    MAX_SIZE(Constants.MAX_SIZE),
     NAME(Constants.NAME),
     NATIVE(Constants.NATIVE),
+    PASSIVATION(Constants.PASSIVATION),
+    PASSIVATION_MAX_IDLE_TIME(Constants.PASSIVATION_MAX_IDLE_TIME),
+    PASSIVATION_MIN_IDLE_TIME(Constants.PASSIVATION_MIN_IDLE_TIME),
     PASSWORD(Constants.PASSWORD),
     PATH(Constants.PATH),
     PATTERN(Constants.PATTERN),
+    POLLER_THREAD_COUNT(Constants.POLLER_THREAD_COUNT),
     PREFIX(Constants.PREFIX),
     PROTOCOL(Constants.PROTOCOL),
     PROXY_NAME(Constants.PROXY_NAME),
@@ -91,6 +101,7 @@ enum Attribute {
     TRIM_SPACES(Constants.TRIM_SPACES),
     TAG_POOLING(Constants.TAG_POOLING),
     TEST(Constants.TEST),
+    TTL(Constants.TTL),
     VERIFY_CLIENT(Constants.VERIFY_CLIENT),
     VERIFY_DEPTH(Constants.VERIFY_DEPTH),
     WEBDAV(Constants.WEBDAV),
@@ -0,0 +1,272 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.catalina.Session;
+import org.apache.catalina.session.FileStore;
+import org.apache.catalina.session.PersistentManagerBase;
+import org.jboss.logging.Logger;
+
+/**
+ * A session manager bounding the number of sessions a web application keeps in memory.
+ * <p>
+ * When the limit is reached, the least recently used session makes room for the new one if it has been idle for at
+ * least the minimum idle time: it is passivated to the file store of the web application when passivation is
+ * enabled, and expired otherwise. When the least recently used session is not idle long enough, the new session is
+ * rejected: {@link #createSession(String)} returns null, as a request does when it cannot get a session. Sessions
+ * brought back into memory from the store are never rejected. With passivation enabled, sessions idle for longer than the maximum idle time are also passivated in the
+ * background, and all sessions are saved to the store when the web application stops.
+ *
+ * @author Emanuel Muckenhuber
+ */
+public final class BoundedSessionManager extends PersistentManagerBase {
+
+    private static final Logger log = Logger.getLogger("org.jboss.web");
+    private static final String NAME = "BoundedSessionManager";
+
+    private final int sessionLimit;
+    private final boolean passivation;
+    private final SessionIdSource sessionIdSource;
+    /** The sessions counted against the limit, least recently used first. Guards the check and eviction. */
+    private final Map<String, Session> recentlyUsed = new LinkedHashMap<String, Session>(16, 0.75f, true);
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Create a new session manager.
+     *
+     * @param sessionLimit the maximum number of sessions in memory, or -1 for no limit
+     * @param passivation whether evicted and idle sessions are passivated to the file store
+     * @param minIdleTime the time in seconds a session must be idle before it can be evicted, or -1
+     * @param maxIdleTime the time in seconds after which an idle session is passivated, or -1 to never passivate
+     *            idle sessions
+     * @param sessionIdSource the source of the session identifiers
+     */
+    BoundedSessionManager(final int sessionLimit, final boolean passivation, final int minIdleTime, final int maxIdleTime,
+            final SessionIdSource sessionIdSource) {
+        this.sessionLimit = sessionLimit;
+        this.passivation = passivation;
+        this.sessionIdSource = sessionIdSource;
+        if (passivation) {
+            // The file store defaults to the work directory of the web application. Without a store, the lookup of
+            // an unknown session does not probe the disk.
+            setStore(new FileStore());
+        }
+        setSaveOnRestart(passivation);
+        setMinIdleSwap(minIdleTime);
+        setMaxIdleSwap(passivation ? maxIdleTime : -1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected String generateSessionId() {
+        final String id = sessionIdSource.createSessionId(getJvmRoute(), sessions);
+        return id != null ? id : super.generateSessionId();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Session findSession(final String id) throws IOException {
+        final Session session = super.findSession(id);
+        if (session != null && sessionLimit >= 0) {
+            synchronized (recentlyUsed) {
+                // Move the session to the most recently used end
+                recentlyUsed.get(id);
+            }
+        }
+        return session;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Session createSession(final String sessionId) {
+        if (sessionLimit < 0) {
+            return super.createSession(sessionId);
+        }
+        final String id = sessionId != null ? sessionId : generateSessionId();
+        final List<Session> victims;
+        synchronized (recentlyUsed) {
+            victims = recentlyUsed.containsKey(id) ? new ArrayList<Session>(0) : makeRoom();
+            if (victims == null) {
+                rejected.incrementAndGet();
+            } else {
+                // Count the session against the limit until add(Session) registers it
+                recentlyUsed.put(id, null);
+            }
+        }
+        if (victims == null) {
+            if (rejected.get() == 1) {
+                log.warnf("Rejecting new sessions of %s, %d sessions in use and none idle long enough to be evicted",
+                        getContainer().getName(), sessionLimit);
+            } else {
+                log.debugf("Rejected a new session of %s", getContainer().getName());
+            }
+            return null;
+        }
+        for (Session victim : victims) {
+            evict(victim);
+        }
+        boolean created = false;
+        try {
+            final Session session = super.createSession(id);
+            created = true;
+            return session;
+        } finally {
+            if (!created) {
+                synchronized (recentlyUsed) {
+                    if (recentlyUsed.containsKey(id) && recentlyUsed.get(id) == null) {
+                        recentlyUsed.remove(id);
+                    }
+                }
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void add(final Session session) {
+        if (sessionLimit < 0) {
+            super.add(session);
+            return;
+        }
+        List<Session> victims;
+        final String id = session.getIdInternal();
+        synchronized (recentlyUsed) {
+            victims = recentlyUsed.containsKey(id) ? new ArrayList<Session>(0) : makeRoom();
+            if (victims == null) {
+                // A session brought back from the store, it is kept even though the limit is exceeded
+                victims = new ArrayList<Session>(0);
+            }
+            recentlyUsed.put(id, session);
+            super.add(session);
+        }
+        // Passivating or expiring a session runs listeners and I/O, keep it out of the lock. The victims are no longer
+        // counted against the limit, so no other thread can pick them.
+        for (Session victim : victims) {
+            evict(victim);
+        }
+    }
+
+    /**
+     * Pick the sessions to evict for one more session to fit into the limit, and stop counting them. Must be called
+     * with the lock held.
+     *
+     * @return the sessions to evict, or null if the least recently used session is not idle long enough
+     */
+    private List<Session> makeRoom() {
+        final List<String> stale = new ArrayList<String>(0);
+        final List<Session> victims = new ArrayList<Session>(1);
+        final long idleSince = System.currentTimeMillis() - Math.max(getMinIdleSwap(), 0) * 1000L;
+        boolean room = recentlyUsed.size() < sessionLimit;
+        for (Iterator<Map.Entry<String, Session>> it = recentlyUsed.entrySet().iterator(); !room && it.hasNext();) {
+            final Map.Entry<String, Session> eldest = it.next();
+            final Session session = eldest.getValue();
+            if (session == null) {
+                // A session being created
+                continue;
+            }
+            if (sessions.get(eldest.getKey()) != session) {
+                // Already removed from the manager without going through remove(Session)
+                stale.add(eldest.getKey());
+            } else if (session.getThisAccessedTime() <= idleSince) {
+                victims.add(session);
+            } else {
+                break;
+            }
+            room = recentlyUsed.size() - stale.size() - victims.size() < sessionLimit;
+        }
+        for (String id : stale) {
+            recentlyUsed.remove(id);
+        }
+        if (!room) {
+            return null;
+        }
+        for (Session victim : victims) {
+            recentlyUsed.remove(victim.getIdInternal());
+        }
+        return victims;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove(final Session session) {
+        super.remove(session);
+        if (sessionLimit >= 0) {
+            final String id = session.getIdInternal();
+            synchronized (recentlyUsed) {
+                if (recentlyUsed.get(id) == session) {
+                    recentlyUsed.remove(id);
+                }
+            }
+        }
+    }
+
+    private void evict(final Session session) {
+        evicted.incrementAndGet();
+        if (!session.isValid()) {
+            remove(session);
+            return;
+        }
+        if (passivation) {
+            try {
+                swapOut(session);
+                return;
+            } catch (IOException e) {
+                log.warnf(e, "Failed to passivate session %s, expiring it", session.getIdInternal());
+            }
+        }
+        session.expire();
+    }
+
+    /**
+     * Get the number of sessions evicted from memory to make room for new sessions.
+     *
+     * @return the evicted count
+     */
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    /**
+     * Get the number of sessions rejected because the limit was reached and no session could be evicted.
+     *
+     * @return the rejected count
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+}
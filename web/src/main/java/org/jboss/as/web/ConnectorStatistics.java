@@ -0,0 +1,165 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Request statistics gathered for a single web connector, in addition to the ones the
+ * protocol handler keeps in its {@code RequestGroupInfo}.
+ * <p>
+ * Processing times are recorded in a fixed size histogram of microsecond values, using 8 sub-buckets
+ * per power of two, so percentiles are accurate to within 12.5% and recording a request is a single
+ * atomic increment. Two histograms take turns recording one minute windows, and the percentiles are
+ * computed over both, so they reflect the last one to two minutes rather than the whole uptime.
+ *
+ * @author Emanuel Muckenhuber
+ */
+public final class ConnectorStatistics {
+
+    /** Values below this are recorded with exact microsecond resolution */
+    private static final int LINEAR_BUCKETS = 16;
+    /** log2 of {@link #LINEAR_BUCKETS} */
+    private static final int LINEAR_BITS = 4;
+    /** log2 of the number of sub-buckets per power of two */
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Highest power of two tracked; larger values are recorded in the last bucket (~12 days) */
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = LINEAR_BUCKETS + (MAX_EXPONENT - LINEAR_BITS + 1) * SUB_BUCKETS;
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLongArray[] windows = new AtomicLongArray[] { new AtomicLongArray(BUCKETS), new AtomicLongArray(BUCKETS) };
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private volatile int current;
+
+    ConnectorStatistics() {
+    }
+
+    /**
+     * Record the start of the processing of a request.
+     */
+    void requestStarted() {
+        active.incrementAndGet();
+    }
+
+    /**
+     * Record the end of the processing of a request.
+     *
+     * @param nanos the time the request took to process, in nanoseconds
+     */
+    void requestCompleted(final long nanos) {
+        active.decrementAndGet();
+        currentWindow(System.nanoTime()).incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    /**
+     * Get the number of requests received by the connector which are currently being processed.
+     *
+     * @return the number of active requests
+     */
+    public int getActiveRequests() {
+        return active.get();
+    }
+
+    /**
+     * Get the processing time below which the given fraction of the recently completed requests completed.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the processing time in milliseconds, or 0 if no request was processed yet
+     */
+    public long getProcessingTimePercentile(final double percentile) {
+        // Rotate first, so a connector which went idle does not keep reporting old requests
+        currentWindow(System.nanoTime());
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = windows[0].get(i) + windows[1].get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return TimeUnit.MICROSECONDS.toMillis(upperBound(i));
+            }
+        }
+        return TimeUnit.MICROSECONDS.toMillis(upperBound(BUCKETS - 1));
+    }
+
+    /**
+     * Get the histogram recording the current window, starting a new window if the current one is over.
+     * A request recorded concurrently with the rotation may be counted in either window.
+     */
+    private AtomicLongArray currentWindow(final long now) {
+        final long start = windowStart.get();
+        final long elapsed = now - start;
+        if (elapsed >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            final int previous = current;
+            if (elapsed >= 2 * WINDOW_NANOS) {
+                // Nothing was recorded for a whole window, so the current window is too old as well
+                clear(windows[previous]);
+            }
+            clear(windows[1 - previous]);
+            current = 1 - previous;
+        }
+        return windows[current];
+    }
+
+    private static void clear(final AtomicLongArray histogram) {
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram.set(i, 0L);
+        }
+    }
+
+    static int bucket(final long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return micros < 0 ? 0 : (int) micros;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        final int sub = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - LINEAR_BITS) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(final int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        final int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + LINEAR_BITS;
+        final int sub = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+}
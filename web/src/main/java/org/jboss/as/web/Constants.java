@@ -28,6 +28,7 @@ package org.jboss.as.web;
 interface Constants {
 
     String ACCESS_LOG = "access-log";
+    String ACCEPTOR_THREAD_COUNT = "acceptor-thread-count";
     String ALIAS = "alias";
     String CA_CERTIFICATE_FILE = "ca-certificate-file";
     String CA_REVOCATION_URL = "ca-revocation-url";
@@ -56,20 +57,29 @@ interface Constants {
     String JAVA_ENCODING = "java-encoding";
     String JSP_CONFIGURATION = "jsp-configuration";
     String KEEP_GENERATED = "keep-generated";
+    String KEEP_ALIVE_TIMEOUT = "keep-alive-timeout";
     String KEY_ALIAS = "key-alias";
     String LISTINGS = "listings";
     String MAPPED_FILE = "mapped-file";
+    String MAX_ACTIVE_SESSIONS = "max-active-sessions";
     String MAX_CONNECTIONS = "max-connections";
     String MAX_DEPTH = "max-depth";
+    String MAX_KEEP_ALIVE_REQUESTS = "max-keep-alive-requests";
+    String MAX_OBJECT_SIZE = "max-object-size";
     String MAX_POST_SIZE = "max-post-size";
     String MAX_SAVE_POST_SIZE = "max-save-post-size";
+    String MAX_SIZE = "max-size";
     String MIME_MAPPING = "mime-mapping";
     String MODIFIFICATION_TEST_INTERVAL = "modification-test-interval";
     String NAME = "name";
     String NATIVE = "native";
+    String PASSIVATION = "passivation";
+    String PASSIVATION_MAX_IDLE_TIME = "passivation-max-idle-time";
+    String PASSIVATION_MIN_IDLE_TIME = "passivation-min-idle-time";
     String PASSWORD = "password";
     String PATH = "path";
     String PATTERN = "pattern";
+    String POLLER_THREAD_COUNT = "poller-thread-count";
     String PREFIX = "prefix";
     String PROTOCOL = "protocol";
     String PROXY_NAME = "proxy-name";
@@ -79,6 +89,7 @@ interface Constants {
     String REDIRECT_PORT = "redirect-por";
     String RELATIVE_TO = "relative-to";
     String RESOLVE_HOSTS = "resolve-hosts";
+    String RESOURCE_CACHE = "resource-cache";
     String REWRITE = "rewrite";
     String ROTATE = "rotate";
     String SCHEME = "scheme";
@@ -87,6 +98,7 @@ interface Constants {
     String SECURE = "secure";
     String SENDFILE = "sendfile";
     String SESSION_CACHE_SIZE = "session-cache-size";
+    String SESSION_MANAGER = "session-manager";
     String SESSION_TIMEOUT = "session-timeout";
     String SMAP = "smap";
     String SOCKET_BINDING = "socket-binding";
@@ -99,6 +111,7 @@ interface Constants {
     String TARGET_VM = "target-vm";
     String TEST = "test";
     String TRIM_SPACES = "trim-spaces";
+    String TTL = "ttl";
     String VALUE = "value";
     String VERIFY_CLIENT = "verify-client";
     String VERIFY_DEPTH = "verify-depth";
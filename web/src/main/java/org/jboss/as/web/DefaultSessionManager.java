@@ -0,0 +1,47 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import org.apache.catalina.session.StandardManager;
+
+/**
+ * The session manager of a web application without session limit or passivation. Sessions are not bounded, and
+ * are saved and restored across restarts of the web application like with the standard manager of the container.
+ *
+ * @author Emanuel Muckenhuber
+ */
+final class DefaultSessionManager extends StandardManager {
+
+    private final SessionIdSource sessionIdSource;
+
+    DefaultSessionManager(final SessionIdSource sessionIdSource) {
+        this.sessionIdSource = sessionIdSource;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected String generateSessionId() {
+        final String id = sessionIdSource.createSessionId(getJvmRoute(), sessions);
+        return id != null ? id : super.generateSessionId();
+    }
+}
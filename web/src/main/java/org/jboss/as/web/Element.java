@@ -39,7 +39,9 @@ enum Element {
     DIRECTORY(Constants.DIRECTORY),
     JSP_CONFIGURATION(Constants.JSP_CONFIGURATION),
     MIME_MAPPING(Constants.MIME_MAPPING),
+    RESOURCE_CACHE(Constants.RESOURCE_CACHE),
     REWRITE(Constants.REWRITE),
+    SESSION_MANAGER(Constants.SESSION_MANAGER),
     SSL(Constants.SSL),
     STATIC_RESOURCES(Constants.STATIC_RESOURCES),
     SUBSYSTEM(Constants.SUBSYSTEM),
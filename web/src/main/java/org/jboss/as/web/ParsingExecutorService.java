@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2010, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Service providing the executor used to parse the TLDs and web fragments of deployments. Threads are only created
+ * while deployments are being parsed; when all of them are busy the deploying thread does the parsing itself.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class ParsingExecutorService implements Service<ExecutorService> {
+
+    private static final long KEEP_ALIVE_SECONDS = 30L;
+
+    private ExecutorService executor;
+
+    /** {@inheritDoc} */
+    public synchronized void start(final StartContext context) throws StartException {
+        final AtomicInteger count = new AtomicInteger();
+        final ThreadFactory threadFactory = new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                final Thread thread = new Thread(r, "web-metadata-parser-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+        executor = new ThreadPoolExecutor(0, Runtime.getRuntime().availableProcessors(), KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /** {@inheritDoc} */
+    public synchronized void stop(final StopContext context) {
+        executor.shutdown();
+        executor = null;
+    }
+
+    /** {@inheritDoc} */
+    public synchronized ExecutorService getValue() throws IllegalStateException {
+        final ExecutorService executor = this.executor;
+        if (executor == null) {
+            throw new IllegalStateException();
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import org.apache.catalina.core.StandardContext;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * The static resource cache configuration of a virtual host, applied to each web application deployed on it.
+ * <p>
+ * Only resources up to {@code max-object-size} are cached in memory, larger resources are served by the default
+ * servlet using sendfile when the connector supports it.
+ *
+ * @author Emanuel Muckenhuber
+ */
+public final class ResourceCacheConfiguration {
+
+    /** No configuration, web applications use the container defaults. */
+    static final ResourceCacheConfiguration DEFAULT = new ResourceCacheConfiguration(null, null, null, null);
+
+    private final Boolean enabled;
+    private final Integer maxSize;
+    private final Integer maxObjectSize;
+    private final Integer ttl;
+
+    ResourceCacheConfiguration(final Boolean enabled, final Integer maxSize, final Integer maxObjectSize, final Integer ttl) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.maxObjectSize = maxObjectSize;
+        this.ttl = ttl;
+    }
+
+    static ResourceCacheConfiguration create(final ModelNode node) {
+        if (node == null || !node.isDefined()) {
+            return DEFAULT;
+        }
+        return new ResourceCacheConfiguration(
+                node.hasDefined(Constants.ENABLED) ? node.get(Constants.ENABLED).asBoolean() : null,
+                node.hasDefined(Constants.MAX_SIZE) ? node.get(Constants.MAX_SIZE).asInt() : null,
+                node.hasDefined(Constants.MAX_OBJECT_SIZE) ? node.get(Constants.MAX_OBJECT_SIZE).asInt() : null,
+                node.hasDefined(Constants.TTL) ? node.get(Constants.TTL).asInt() : null);
+    }
+
+    /**
+     * Configure the resource cache of a web application. This needs to be done before the context is started.
+     *
+     * @param context the web application context
+     */
+    public void configure(final StandardContext context) {
+        if (enabled != null) {
+            context.setCachingAllowed(enabled.booleanValue());
+        }
+        if (maxSize != null) {
+            context.setCacheMaxSize(maxSize.intValue());
+        }
+        if (maxObjectSize != null) {
+            context.setCacheObjectMaxSize(maxObjectSize.intValue());
+        }
+        if (ttl != null) {
+            context.setCacheTTL(ttl.intValue());
+        }
+    }
+}
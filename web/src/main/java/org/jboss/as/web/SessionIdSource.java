@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import java.util.Map;
+
+import org.jboss.as.server.services.session.SessionIdGenerator;
+import org.jboss.msc.inject.Injector;
+
+/**
+ * The source of the session identifiers of a web application, shared by its session manager and the injection of the
+ * session id generator of the server.
+ *
+ * @author Emanuel Muckenhuber
+ */
+public final class SessionIdSource implements Injector<SessionIdGenerator> {
+
+    private volatile SessionIdGenerator sessionIdGenerator;
+
+    /** {@inheritDoc} */
+    public void inject(final SessionIdGenerator value) {
+        sessionIdGenerator = value;
+    }
+
+    /** {@inheritDoc} */
+    public void uninject() {
+        sessionIdGenerator = null;
+    }
+
+    /**
+     * Create a session identifier unique among the given sessions.
+     *
+     * @param jvmRoute the route appended to the identifier, or {@code null}
+     * @param sessions the sessions of the manager, by identifier
+     * @return the identifier, or {@code null} if no generator is injected and the manager should use its own
+     */
+    String createSessionId(final String jvmRoute, final Map<String, ?> sessions) {
+        final SessionIdGenerator generator = sessionIdGenerator;
+        if (generator == null) {
+            return null;
+        }
+        String id;
+        do {
+            id = generator.createSessionId();
+            if (jvmRoute != null) {
+                id = id + '.' + jvmRoute;
+            }
+        } while (sessions.containsKey(id));
+        return id;
+    }
+}
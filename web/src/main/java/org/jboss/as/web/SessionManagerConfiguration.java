@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import org.apache.catalina.Manager;
+import org.jboss.dmr.ModelNode;
+import org.jboss.metadata.web.jboss.JBossWebMetaData;
+import org.jboss.metadata.web.jboss.PassivationConfig;
+
+/**
+ * The default session manager configuration of the web container. A web application can override each setting
+ * with the {@code max-active-sessions} and {@code passivation-config} elements of its jboss-web.xml.
+ *
+ * @author Emanuel Muckenhuber
+ */
+public final class SessionManagerConfiguration {
+
+    /** No configuration, sessions are not bounded and never passivated. */
+    static final SessionManagerConfiguration DEFAULT = new SessionManagerConfiguration(-1, false, -1, -1);
+
+    private final int maxActiveSessions;
+    private final boolean passivation;
+    private final int passivationMinIdleTime;
+    private final int passivationMaxIdleTime;
+
+    SessionManagerConfiguration(final int maxActiveSessions, final boolean passivation, final int passivationMinIdleTime,
+            final int passivationMaxIdleTime) {
+        this.maxActiveSessions = maxActiveSessions;
+        this.passivation = passivation;
+        this.passivationMinIdleTime = passivationMinIdleTime;
+        this.passivationMaxIdleTime = passivationMaxIdleTime;
+    }
+
+    static SessionManagerConfiguration create(final ModelNode node) {
+        if (node == null || !node.isDefined()) {
+            return DEFAULT;
+        }
+        return new SessionManagerConfiguration(
+                node.get(Constants.MAX_ACTIVE_SESSIONS).asInt(-1),
+                node.get(Constants.PASSIVATION).asBoolean(false),
+                node.get(Constants.PASSIVATION_MIN_IDLE_TIME).asInt(-1),
+                node.get(Constants.PASSIVATION_MAX_IDLE_TIME).asInt(-1));
+    }
+
+    /**
+     * Create the session manager of a web application. A {@link BoundedSessionManager} is only installed when a
+     * session limit or passivation is configured; otherwise the manager keeps the sessions across restarts of the web
+     * application like the standard manager of the container.
+     *
+     * @param metaData the merged metadata of the web application
+     * @param sessionIdSource the source of the session identifiers
+     * @return the session manager
+     */
+    public Manager createManager(final JBossWebMetaData metaData, final SessionIdSource sessionIdSource) {
+        int maxActive = maxActiveSessions;
+        boolean enabled = passivation;
+        int minIdle = passivationMinIdleTime;
+        int maxIdle = passivationMaxIdleTime;
+        final Integer maxActiveOverride = metaData.getMaxActiveSessions();
+        if (maxActiveOverride != null && maxActiveOverride.intValue() >= 0) {
+            maxActive = maxActiveOverride.intValue();
+        }
+        final PassivationConfig passivationConfig = metaData.getPassivationConfig();
+        if (passivationConfig != null) {
+            if (passivationConfig.getUseSessionPassivation() != null) {
+                enabled = passivationConfig.getUseSessionPassivation().booleanValue();
+            }
+            if (passivationConfig.getPassivationMinIdleTime() != null) {
+                minIdle = passivationConfig.getPassivationMinIdleTime().intValue();
+            }
+            if (passivationConfig.getPassivationMaxIdleTime() != null) {
+                maxIdle = passivationConfig.getPassivationMaxIdleTime().intValue();
+            }
+        }
+        if (maxActive < 0 && !enabled) {
+            return new DefaultSessionManager(sessionIdSource);
+        }
+        return new BoundedSessionManager(maxActive, enabled, minIdle, maxIdle, sessionIdSource);
+    }
+}
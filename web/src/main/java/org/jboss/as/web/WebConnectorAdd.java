@@ -53,11 +53,13 @@ import org.jboss.as.controller.ResultHandler;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.server.services.net.SocketBinding;
+import org.jboss.as.threads.ThreadsServices;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController.Mode;
 
 import java.util.Locale;
+import java.util.concurrent.Executor;
 
 /**
  * {@code OperationHandler} responsible for adding a web connector.
@@ -83,6 +85,9 @@ class WebConnectorAdd implements ModelAddOperationHandler, DescriptionProvider {
         if (existing.hasDefined(MAX_POST_SIZE)) op.get(MAX_POST_SIZE).set(existing.get(MAX_POST_SIZE).asInt());
         if (existing.hasDefined(MAX_SAVE_POST_SIZE)) op.get(MAX_SAVE_POST_SIZE).set(existing.get(MAX_SAVE_POST_SIZE).asInt());
         if (existing.hasDefined(MAX_CONNECTIONS)) op.get(Constants.MAX_CONNECTIONS).set(existing.get(Constants.MAX_CONNECTIONS).asInt());
+        for (final String tuning : WebConnectorService.TUNING_ATTRIBUTES.keySet()) {
+            if (existing.hasDefined(tuning)) op.get(tuning).set(existing.get(tuning).asInt());
+        }
         op.get(Constants.VIRTUAL_SERVER).set(existing.get(Constants.VIRTUAL_SERVER));
         op.get(Constants.SSL).set(existing.get(Constants.SSL));
 
@@ -120,6 +125,9 @@ class WebConnectorAdd implements ModelAddOperationHandler, DescriptionProvider {
         if(operation.hasDefined(MAX_POST_SIZE)) subModel.get(MAX_POST_SIZE).set(operation.get(MAX_POST_SIZE).asInt());
         if(operation.hasDefined(MAX_SAVE_POST_SIZE)) subModel.get(MAX_SAVE_POST_SIZE).set(operation.get(MAX_SAVE_POST_SIZE).asInt());
         if(operation.hasDefined(MAX_CONNECTIONS)) subModel.get(Constants.MAX_CONNECTIONS).set(operation.get(Constants.MAX_CONNECTIONS).asInt());
+        for(final String tuning : WebConnectorService.TUNING_ATTRIBUTES.keySet()) {
+            if(operation.hasDefined(tuning)) subModel.get(tuning).set(operation.get(tuning).asInt());
+        }
         subModel.get(Constants.VIRTUAL_SERVER).set(operation.get(Constants.VIRTUAL_SERVER));
         subModel.get(Constants.SSL).set(operation.get(Constants.SSL));
 
@@ -141,6 +149,10 @@ class WebConnectorAdd implements ModelAddOperationHandler, DescriptionProvider {
                         service.setMaxSavePostSize(operation.get(MAX_SAVE_POST_SIZE).asInt());
                     if (operation.hasDefined(MAX_CONNECTIONS))
                         service.setMaxConnections(operation.get(MAX_CONNECTIONS).asInt());
+                    for (final String tuning : WebConnectorService.TUNING_ATTRIBUTES.keySet()) {
+                        if (operation.hasDefined(tuning))
+                            service.setTuning(tuning, operation.get(tuning).asInt());
+                    }
                     if (operation.hasDefined(VIRTUAL_SERVER))
                         service.setVirtualServers(operation.get(VIRTUAL_SERVER).clone());
                     if (operation.hasDefined(SSL)) {
@@ -150,6 +162,9 @@ class WebConnectorAdd implements ModelAddOperationHandler, DescriptionProvider {
                             .addDependency(WebSubsystemServices.JBOSS_WEB, WebServer.class, service.getServer())
                             .addDependency(SocketBinding.JBOSS_BINDING_NAME.append(bindingRef), SocketBinding.class, service.getBinding())
                             .setInitialMode(enabled ? Mode.ACTIVE : Mode.NEVER);
+                    if (operation.hasDefined(EXECUTOR)) {
+                        serviceBuilder.addDependency(ThreadsServices.executorName(operation.get(EXECUTOR).asString()), Executor.class, service.getExecutor());
+                    }
                     if (enabled) {
                         serviceBuilder.addListener(new ResultHandler.ServiceStartListener(resultHandler));
                         serviceBuilder.install();
@@ -34,12 +34,18 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationResult;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.ResultHandler;
-import org.jboss.as.controller.RuntimeTask;
-import org.jboss.as.controller.RuntimeTaskContext;
+import org.jboss.as.server.ServerOperationContext;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.ServiceController;
 
 /**
+ * Reads the runtime metrics of a web connector.
+ * <p>
+ * The metrics are read directly from the service registry rather than from a runtime task, so that a
+ * {@code read-resource} or {@code read-children-resources} operation with {@code include-runtime} returns
+ * all metrics of all connectors, as numeric values, in a single operation.
+ *
  * @author Emanuel Muckenhuber
  */
 class WebConnectorMetrics implements ModelQueryOperationHandler {
@@ -53,49 +59,33 @@ class WebConnectorMetrics implements ModelQueryOperationHandler {
     private static final String ERROR_COUNT = "errorCount";
     private static final String MAX_TIME = "maxTime";
     private static final String REQUEST_COUNT = "requestCount";
-    static final String[] ATTRIBUTES = new String[] {BYTES_SENT, BYTES_RECEIVED, PROCESSING_TIME, ERROR_COUNT, MAX_TIME, REQUEST_COUNT};
+    private static final String ACTIVE_REQUESTS = "activeRequests";
+    private static final String PROCESSING_TIME_50 = "processingTime50thPercentile";
+    private static final String PROCESSING_TIME_90 = "processingTime90thPercentile";
+    private static final String PROCESSING_TIME_99 = "processingTime99thPercentile";
+    static final String[] ATTRIBUTES = new String[] {BYTES_SENT, BYTES_RECEIVED, PROCESSING_TIME, ERROR_COUNT, MAX_TIME, REQUEST_COUNT,
+            ACTIVE_REQUESTS, PROCESSING_TIME_50, PROCESSING_TIME_90, PROCESSING_TIME_99};
 
     /** {@inheritDoc} */
     @Override
     public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) throws OperationFailedException {
 
-        if (context.getRuntimeContext() != null) {
-            context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
-                public void execute(RuntimeTaskContext context) throws OperationFailedException {
-                    final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
-                    final String name = address.getLastElement().getValue();
-                    final String attributeName = operation.require(NAME).asString();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+            final String name = address.getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
 
-                    final ServiceController<?> controller = context.getServiceRegistry()
-                            .getService(WebSubsystemServices.JBOSS_WEB_CONNECTOR.append(name));
-                    if (controller != null) {
-                        try {
-                            final Connector connector = (Connector) controller.getValue();
-                            final ModelNode result = new ModelNode();
-                            if (connector.getProtocolHandler() != null && connector.getProtocolHandler().getRequestGroupInfo() != null) {
-                                RequestGroupInfo info = connector.getProtocolHandler().getRequestGroupInfo();
-                                if (BYTES_SENT.equals(attributeName)) {
-                                    result.set("" + info.getBytesSent());
-                                } else if (BYTES_RECEIVED.equals(attributeName)) {
-                                    result.set("" + info.getBytesReceived());
-                                } else if (PROCESSING_TIME.equals(attributeName)) {
-                                    result.set("" + info.getProcessingTime());
-                                } else if (ERROR_COUNT.equals(attributeName)) {
-                                    result.set("" + info.getErrorCount());
-                                } else if (MAX_TIME.equals(attributeName)) {
-                                    result.set("" + info.getMaxTime());
-                                } else if (REQUEST_COUNT.equals(attributeName)) {
-                                    result.set("" + info.getRequestCount());
-                                }
-                            }
-                            resultHandler.handleResultFragment(new String[0], result);
-                            resultHandler.handleResultComplete();
-                        } catch (Exception e) {
-                            throw new OperationFailedException(new ModelNode().set("failed to get metrics" + e.getMessage()));
-                        }
-                    }
+            final ServiceController<?> controller = ServerOperationContext.class.cast(context).getController().getServiceRegistry()
+                    .getService(WebSubsystemServices.JBOSS_WEB_CONNECTOR.append(name));
+            if (controller != null) {
+                try {
+                    final ModelNode result = getMetric((WebConnectorService) controller.getService(), attributeName);
+                    resultHandler.handleResultFragment(NO_LOCATION, result);
+                    resultHandler.handleResultComplete();
+                } catch (Exception e) {
+                    throw new OperationFailedException(new ModelNode().set("failed to get metrics" + e.getMessage()));
                 }
-            });
+            }
         } else {
             resultHandler.handleResultFragment(NO_LOCATION, new ModelNode().set("no metrics available"));
             resultHandler.handleResultComplete();
@@ -103,4 +93,53 @@ class WebConnectorMetrics implements ModelQueryOperationHandler {
         return new BasicOperationResult();
     }
 
+    /**
+     * Get the model type of a metric.
+     *
+     * @param attributeName the metric name
+     * @return the type
+     */
+    static ModelType getType(final String attributeName) {
+        if (ERROR_COUNT.equals(attributeName) || REQUEST_COUNT.equals(attributeName) || ACTIVE_REQUESTS.equals(attributeName)) {
+            return ModelType.INT;
+        }
+        return ModelType.LONG;
+    }
+
+    private static ModelNode getMetric(final WebConnectorService service, final String attributeName) {
+        final ModelNode result = new ModelNode();
+        final Connector connector = service.getValue();
+        if (ACTIVE_REQUESTS.equals(attributeName) || PROCESSING_TIME_50.equals(attributeName)
+                || PROCESSING_TIME_90.equals(attributeName) || PROCESSING_TIME_99.equals(attributeName)) {
+            final ConnectorStatistics statistics = service.getStatistics();
+            if (statistics != null) {
+                if (ACTIVE_REQUESTS.equals(attributeName)) {
+                    result.set(statistics.getActiveRequests());
+                } else if (PROCESSING_TIME_50.equals(attributeName)) {
+                    result.set(statistics.getProcessingTimePercentile(50));
+                } else if (PROCESSING_TIME_90.equals(attributeName)) {
+                    result.set(statistics.getProcessingTimePercentile(90));
+                } else {
+                    result.set(statistics.getProcessingTimePercentile(99));
+                }
+            }
+        } else if (connector.getProtocolHandler() != null && connector.getProtocolHandler().getRequestGroupInfo() != null) {
+            final RequestGroupInfo info = connector.getProtocolHandler().getRequestGroupInfo();
+            if (BYTES_SENT.equals(attributeName)) {
+                result.set(info.getBytesSent());
+            } else if (BYTES_RECEIVED.equals(attributeName)) {
+                result.set(info.getBytesReceived());
+            } else if (PROCESSING_TIME.equals(attributeName)) {
+                result.set(info.getProcessingTime());
+            } else if (ERROR_COUNT.equals(attributeName)) {
+                result.set(info.getErrorCount());
+            } else if (MAX_TIME.equals(attributeName)) {
+                result.set(info.getMaxTime());
+            } else if (REQUEST_COUNT.equals(attributeName)) {
+                result.set(info.getRequestCount());
+            }
+        }
+        return result;
+    }
+
 }
@@ -24,14 +24,21 @@ package org.jboss.as.web;
 import java.lang.reflect.Method;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 import org.apache.catalina.connector.Connector;
 import org.apache.coyote.http11.Http11AprProtocol;
 import org.apache.coyote.http11.Http11Protocol;
+import org.apache.tomcat.util.IntrospectionUtils;
 import org.jboss.as.server.services.net.SocketBinding;
 import org.jboss.dmr.ModelNode;
+import org.jboss.logging.Logger;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -45,6 +52,31 @@ import org.jboss.msc.value.InjectedValue;
  */
 class WebConnectorService implements Service<Connector> {
 
+    private static final Logger log = Logger.getLogger("org.jboss.as.web");
+
+    /**
+     * The connector tuning attributes, mapped to the protocol handler property they are applied to.
+     * Protocol handlers that do not support a property (e.g. a poller for the blocking connector) ignore it,
+     * and a warning is logged.
+     */
+    static final Map<String, String> TUNING_ATTRIBUTES;
+    /** The tuning attributes the protocol handler picks up for new connections when changed while running. */
+    static final Set<String> RUNTIME_TUNING_ATTRIBUTES;
+
+    static {
+        final Map<String, String> tuning = new LinkedHashMap<String, String>();
+        tuning.put(Constants.ACCEPTOR_THREAD_COUNT, "acceptorThreadCount");
+        tuning.put(Constants.POLLER_THREAD_COUNT, "pollerThreadCount");
+        tuning.put(Constants.MAX_KEEP_ALIVE_REQUESTS, "maxKeepAliveRequests");
+        tuning.put(Constants.KEEP_ALIVE_TIMEOUT, "keepAliveTimeout");
+        TUNING_ATTRIBUTES = Collections.unmodifiableMap(tuning);
+
+        final Set<String> runtime = new HashSet<String>();
+        runtime.add(Constants.MAX_KEEP_ALIVE_REQUESTS);
+        runtime.add(Constants.KEEP_ALIVE_TIMEOUT);
+        RUNTIME_TUNING_ATTRIBUTES = Collections.unmodifiableSet(runtime);
+    }
+
     private String protocol = "HTTP/1.1";
     private String scheme = "http";
 
@@ -58,6 +90,7 @@ class WebConnectorService implements Service<Connector> {
     private Integer maxConnections = null;
     private ModelNode ssl;
     private ModelNode virtualServers;
+    private final Map<String, Integer> tuning = new HashMap<String, Integer>();
 
     private Connector connector;
 
@@ -114,6 +147,9 @@ class WebConnectorService implements Service<Connector> {
                  // Not all connectors will have this
                 }
             }
+            for (Map.Entry<String, Integer> entry : tuning.entrySet()) {
+                setProtocolProperty(connector, entry.getKey(), entry.getValue());
+            }
             if (virtualServers != null) {
                 HashSet<String> virtualServersList = new HashSet<String>();
                 for (final ModelNode virtualServer : virtualServers.asList()) {
@@ -243,6 +279,56 @@ class WebConnectorService implements Service<Connector> {
         return connector;
     }
 
+    /**
+     * Get the request statistics of the running connector.
+     *
+     * @return the statistics, or {@code null} if the connector is not started
+     */
+    synchronized ConnectorStatistics getStatistics() {
+        final Connector connector = this.connector;
+        return connector != null ? getWebServer().getConnectorStatistics(connector) : null;
+    }
+
+    /**
+     * Set the value of a tuning attribute, to be applied when the connector starts.
+     *
+     * @param attributeName the attribute name, one of the {@link #TUNING_ATTRIBUTES} keys
+     * @param value the value, or {@code null} to use the protocol handler default
+     */
+    synchronized void setTuning(final String attributeName, final Integer value) {
+        if (value == null) {
+            tuning.remove(attributeName);
+        } else {
+            tuning.put(attributeName, value);
+        }
+    }
+
+    /**
+     * Set the value of a tuning attribute, applying it to the running connector if the protocol handler allows it.
+     *
+     * @param attributeName the attribute name, one of the {@link #TUNING_ATTRIBUTES} keys
+     * @param value the value, or {@code null} to use the protocol handler default
+     * @return {@code true} if the value is in effect, {@code false} if the connector needs to be restarted
+     */
+    synchronized boolean updateTuning(final String attributeName, final Integer value) {
+        setTuning(attributeName, value);
+        final Connector connector = this.connector;
+        if (connector == null || value == null || !RUNTIME_TUNING_ATTRIBUTES.contains(attributeName)) {
+            return false;
+        }
+        return setProtocolProperty(connector, attributeName, value);
+    }
+
+    private static boolean setProtocolProperty(final Connector connector, final String attributeName, final int value) {
+        final String property = TUNING_ATTRIBUTES.get(attributeName);
+        if (IntrospectionUtils.setProperty(connector.getProtocolHandler(), property, String.valueOf(value))) {
+            return true;
+        }
+        log.warnf("Protocol handler %s does not support property %s, ignoring %s=%d", connector.getProtocolHandler().getClass().getName(),
+                property, attributeName, value);
+        return false;
+    }
+
     void setSsl(final ModelNode ssl) {
         this.ssl = ssl;
     }
@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.RuntimeTask;
+import org.jboss.as.controller.RuntimeTaskContext;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.as.server.operations.ServerWriteAttributeOperationHandler;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Update one of the tuning attributes of a web connector. Changes the protocol handler can pick up
+ * while running are applied immediately, all others require a restart.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class WebConnectorTuningWriteHandler extends ServerWriteAttributeOperationHandler {
+
+    static final WebConnectorTuningWriteHandler INSTANCE = new WebConnectorTuningWriteHandler();
+
+    private WebConnectorTuningWriteHandler() {
+        super(new IntRangeValidator(-1, Integer.MAX_VALUE, true, true), new IntRangeValidator(-1, Integer.MAX_VALUE, true, false));
+    }
+
+    @Override
+    protected boolean applyUpdateToRuntime(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler,
+            final String attributeName, final ModelNode newValue, final ModelNode currentValue) throws OperationFailedException {
+
+        if (context.getRuntimeContext() != null) {
+            context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
+                public void execute(RuntimeTaskContext runtimeContext) throws OperationFailedException {
+                    final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+                    final String name = address.getLastElement().getValue();
+                    final ServiceController<?> controller = runtimeContext.getServiceRegistry()
+                            .getService(WebSubsystemServices.JBOSS_WEB_CONNECTOR.append(name));
+                    final Integer value = newValue.isDefined() ? Integer.valueOf(newValue.resolve().asInt()) : null;
+                    if (controller == null || !((WebConnectorService) controller.getService()).updateTuning(attributeName, value)) {
+                        if (context instanceof ServerOperationContext) {
+                            ServerOperationContext.class.cast(context).restartRequired();
+                        }
+                    }
+                    resultHandler.handleResultComplete();
+                }
+            });
+        } else {
+            resultHandler.handleResultComplete();
+        }
+        return false;
+    }
+
+}
@@ -31,6 +31,7 @@ import org.jboss.as.controller.ExtensionContext;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SubsystemRegistration;
 import org.jboss.as.controller.parsing.ExtensionParsingContext;
+import org.jboss.as.controller.registry.AttributeAccess.Storage;
 import org.jboss.as.controller.registry.ModelNodeRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.logging.Logger;
@@ -57,11 +58,15 @@ public class WebExtension implements Extension {
         final ModelNodeRegistration registration = subsystem.registerSubsystemModel(WebSubsystemDescriptionProviders.SUBSYSTEM);
         registration.registerOperationHandler(ADD, WebSubsystemAdd.INSTANCE, WebSubsystemAdd.INSTANCE, false);
         registration.registerOperationHandler(DESCRIBE, WebSubsystemDescribe.INSTANCE, WebSubsystemDescribe.INSTANCE, false, OperationEntry.EntryType.PRIVATE);
+        registration.registerOperationHandler(WebSessionStatistics.OPERATION_NAME, WebSessionStatistics.INSTANCE, WebSessionStatistics.INSTANCE, false);
         subsystem.registerXMLElementWriter(WebSubsystemParser.getInstance());
         // connector
         final ModelNodeRegistration connectors = registration.registerSubModel(connectorPath, WebSubsystemDescriptionProviders.CONNECTOR);
         connectors.registerOperationHandler(ADD, WebConnectorAdd.INSTANCE, WebConnectorAdd.INSTANCE, false);
         connectors.registerOperationHandler(REMOVE, WebConnectorRemove.INSTANCE, WebConnectorRemove.INSTANCE, false);
+        for(final String attributeName : WebConnectorService.TUNING_ATTRIBUTES.keySet()) {
+            connectors.registerReadWriteAttribute(attributeName, null, WebConnectorTuningWriteHandler.INSTANCE, Storage.CONFIGURATION);
+        }
         for(final String attributeName : WebConnectorMetrics.ATTRIBUTES) {
             connectors.registerMetric(attributeName, WebConnectorMetrics.INSTANCE);
         }
@@ -69,6 +74,9 @@ public class WebExtension implements Extension {
         final ModelNodeRegistration hosts = registration.registerSubModel(hostPath, WebSubsystemDescriptionProviders.VIRTUAL_SERVER);
         hosts.registerOperationHandler(ADD, WebVirtualHostAdd.INSTANCE, WebVirtualHostAdd.INSTANCE, false);
         hosts.registerOperationHandler(REMOVE, WebVirtualHostRemove.INSTANCE, WebVirtualHostRemove.INSTANCE, false);
+        for(final String attributeName : WebVirtualHostMetrics.ATTRIBUTES) {
+            hosts.registerMetric(attributeName, WebVirtualHostMetrics.INSTANCE);
+        }
     }
 
     /** {@inheritDoc} */
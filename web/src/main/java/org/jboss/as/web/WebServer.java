@@ -45,6 +45,14 @@ public interface WebServer {
      */
     void removeConnector(Connector connector);
 
+    /**
+     * Get the request statistics of a connector.
+     *
+     * @param connector the connector
+     * @return the statistics, or {@code null} if the connector was not added
+     */
+    ConnectorStatistics getConnectorStatistics(Connector connector);
+
     /**
      * Add a virtual host.
      *
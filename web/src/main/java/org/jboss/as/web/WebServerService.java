@@ -54,6 +54,7 @@ class WebServerService implements WebServer, Service<WebServer> {
     private Engine engine;
     private Catalina catalina;
     private StandardService service;
+    private ConnectorStatisticsValve statisticsValve;
 
     private final InjectedValue<MBeanServer> mbeanServer = new InjectedValue<MBeanServer>();
     private final InjectedValue<String> pathInjector = new InjectedValue<String>();
@@ -91,6 +92,9 @@ class WebServerService implements WebServer, Service<WebServer> {
 
         service.setContainer(engine);
 
+        final ConnectorStatisticsValve statisticsValve = new ConnectorStatisticsValve();
+        engine.getPipeline().addValve(statisticsValve);
+
         if (useNative) {
             final AprLifecycleListener apr = new AprLifecycleListener();
             apr.setSSLEngine("on");
@@ -108,6 +112,7 @@ class WebServerService implements WebServer, Service<WebServer> {
         this.catalina = catalina;
         this.service = service;
         this.engine = engine;
+        this.statisticsValve = statisticsValve;
     }
 
     /** {@inheritDoc} */
@@ -116,6 +121,7 @@ class WebServerService implements WebServer, Service<WebServer> {
         catalina.destroy();
         engine = null;
         service = null;
+        statisticsValve = null;
         catalina = null;
     }
 
@@ -127,6 +133,7 @@ class WebServerService implements WebServer, Service<WebServer> {
     /** {@inheritDoc} */
     public synchronized void addConnector(Connector connector) {
         final StandardService service = this.service;
+        statisticsValve.addConnector(connector);
         service.addConnector(connector);
     }
 
@@ -134,6 +141,13 @@ class WebServerService implements WebServer, Service<WebServer> {
     public synchronized void removeConnector(Connector connector) {
         final StandardService service = this.service;
         service.removeConnector(connector);
+        statisticsValve.removeConnector(connector);
+    }
+
+    /** {@inheritDoc} */
+    public synchronized ConnectorStatistics getConnectorStatistics(Connector connector) {
+        final ConnectorStatisticsValve statisticsValve = this.statisticsValve;
+        return statisticsValve != null ? statisticsValve.getStatistics(connector) : null;
     }
 
     /** {@inheritDoc} */
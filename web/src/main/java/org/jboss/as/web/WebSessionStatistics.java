@@ -0,0 +1,108 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import java.util.Locale;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.Manager;
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.controller.descriptions.DescriptionProvider;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the session statistics of a web deployment.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class WebSessionStatistics implements ModelQueryOperationHandler, DescriptionProvider {
+
+    static final String OPERATION_NAME = "read-session-statistics";
+    static final WebSessionStatistics INSTANCE = new WebSessionStatistics();
+
+    static final String DEPLOYMENT = "deployment";
+    static final String ACTIVE_SESSIONS = "active-sessions";
+    static final String MAX_ACTIVE_SESSIONS = "max-active-sessions";
+    static final String SESSIONS_CREATED = "sessions-created";
+    static final String EXPIRED_SESSIONS = "expired-sessions";
+    static final String REJECTED_SESSIONS = "rejected-sessions";
+    static final String EVICTED_SESSIONS = "evicted-sessions";
+    static final String SESSION_AVERAGE_ALIVE_TIME = "session-average-alive-time";
+    static final String[] STATISTICS = new String[] {ACTIVE_SESSIONS, MAX_ACTIVE_SESSIONS, SESSIONS_CREATED,
+            EXPIRED_SESSIONS, REJECTED_SESSIONS, EVICTED_SESSIONS, SESSION_AVERAGE_ALIVE_TIME};
+
+    private WebSessionStatistics() {
+        //
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) throws OperationFailedException {
+        final String deployment = operation.require(DEPLOYMENT).asString();
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final ServiceController<?> controller = ServerOperationContext.class.cast(context).getController().getServiceRegistry()
+                    .getService(WebSubsystemServices.JBOSS_WEB.append(deployment));
+            if (controller == null || controller.getState() != ServiceController.State.UP) {
+                throw new OperationFailedException(new ModelNode().set("no started web deployment " + deployment));
+            }
+            final Manager manager = ((Context) controller.getValue()).getManager();
+            resultHandler.handleResultFragment(WebConnectorMetrics.NO_LOCATION, getStatistics(manager));
+            resultHandler.handleResultComplete();
+        } else {
+            resultHandler.handleResultFragment(WebConnectorMetrics.NO_LOCATION, new ModelNode().set("no metrics available"));
+            resultHandler.handleResultComplete();
+        }
+        return new BasicOperationResult();
+    }
+
+    private static ModelNode getStatistics(final Manager manager) {
+        final ModelNode result = new ModelNode();
+        result.get(ACTIVE_SESSIONS).set(manager.getActiveSessions());
+        result.get(MAX_ACTIVE_SESSIONS).set(manager.getMaxActive());
+        result.get(SESSIONS_CREATED).set(manager.getSessionCounter());
+        result.get(EXPIRED_SESSIONS).set(manager.getExpiredSessions());
+        result.get(SESSION_AVERAGE_ALIVE_TIME).set(manager.getSessionAverageAliveTime());
+        if (manager instanceof BoundedSessionManager) {
+            final BoundedSessionManager bounded = (BoundedSessionManager) manager;
+            result.get(REJECTED_SESSIONS).set(bounded.getRejectedCount());
+            result.get(EVICTED_SESSIONS).set(bounded.getEvictedCount());
+        } else {
+            result.get(REJECTED_SESSIONS).set(0L);
+            result.get(EVICTED_SESSIONS).set(0L);
+        }
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ModelNode getModelDescription(final Locale locale) {
+        return WebSubsystemDescriptions.getSessionStatisticsDescription(locale);
+    }
+}
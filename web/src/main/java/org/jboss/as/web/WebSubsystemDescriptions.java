@@ -124,8 +124,19 @@ class WebSubsystemDescriptions {
         node.get(ATTRIBUTES, Constants.SCHEME, REQUIRED).set(true);
         node.get(ATTRIBUTES, Constants.SCHEME, NILLABLE).set(false);
 
+        node.get(ATTRIBUTES, Constants.EXECUTOR, TYPE).set(ModelType.STRING);
+        node.get(ATTRIBUTES, Constants.EXECUTOR, DESCRIPTION).set(bundle.getString("web.connector.executor"));
+        node.get(ATTRIBUTES, Constants.EXECUTOR, REQUIRED).set(false);
+
+        for(final String tuning : WebConnectorService.TUNING_ATTRIBUTES.keySet()) {
+            node.get(ATTRIBUTES, tuning, TYPE).set(ModelType.INT);
+            node.get(ATTRIBUTES, tuning, DESCRIPTION).set(bundle.getString("web.connector." + tuning));
+            node.get(ATTRIBUTES, tuning, REQUIRED).set(false);
+        }
+
         for(final String metric : WebConnectorMetrics.ATTRIBUTES) {
-            node.get(ATTRIBUTES, metric, TYPE).set(ModelType.INT);
+            node.get(ATTRIBUTES, metric, TYPE).set(WebConnectorMetrics.getType(metric));
+            node.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString("web.connector." + metric));
         }
 
         return node;
@@ -153,6 +164,16 @@ class WebSubsystemDescriptions {
         node.get(REQUEST_PROPERTIES, Constants.SCHEME, REQUIRED).set(true);
         node.get(REQUEST_PROPERTIES, Constants.SCHEME, NILLABLE).set(false);
 
+        node.get(REQUEST_PROPERTIES, Constants.EXECUTOR, TYPE).set(ModelType.STRING);
+        node.get(REQUEST_PROPERTIES, Constants.EXECUTOR, DESCRIPTION).set(bundle.getString("web.connector.executor"));
+        node.get(REQUEST_PROPERTIES, Constants.EXECUTOR, REQUIRED).set(false);
+
+        for(final String tuning : WebConnectorService.TUNING_ATTRIBUTES.keySet()) {
+            node.get(REQUEST_PROPERTIES, tuning, TYPE).set(ModelType.INT);
+            node.get(REQUEST_PROPERTIES, tuning, DESCRIPTION).set(bundle.getString("web.connector." + tuning));
+            node.get(REQUEST_PROPERTIES, tuning, REQUIRED).set(false);
+        }
+
         return node;
     }
 
@@ -188,6 +209,16 @@ class WebSubsystemDescriptions {
         node.get(ATTRIBUTES, Constants.ALIAS, REQUIRED).set(false);
         node.get(ATTRIBUTES, Constants.ALIAS, NILLABLE).set(true);
 
+        node.get(ATTRIBUTES, Constants.RESOURCE_CACHE, TYPE).set(ModelType.OBJECT);
+        node.get(ATTRIBUTES, Constants.RESOURCE_CACHE, DESCRIPTION).set(bundle.getString("web.virtual-server.resource-cache"));
+        node.get(ATTRIBUTES, Constants.RESOURCE_CACHE, REQUIRED).set(false);
+        getResourceCacheDescription(node.get(ATTRIBUTES, Constants.RESOURCE_CACHE, VALUE_TYPE), bundle);
+
+        for(final String metric : WebVirtualHostMetrics.ATTRIBUTES) {
+            node.get(ATTRIBUTES, metric, TYPE).set(ModelType.LONG);
+            node.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString("web.virtual-server." + metric));
+        }
+
         return node;
     }
 
@@ -202,6 +233,27 @@ class WebSubsystemDescriptions {
         node.get(REQUEST_PROPERTIES, Constants.ALIAS, DESCRIPTION).set(bundle.getString("web.virtual-server.alias"));
         node.get(REQUEST_PROPERTIES, Constants.ALIAS, REQUIRED).set(false);
 
+        node.get(REQUEST_PROPERTIES, Constants.RESOURCE_CACHE, TYPE).set(ModelType.OBJECT);
+        node.get(REQUEST_PROPERTIES, Constants.RESOURCE_CACHE, DESCRIPTION).set(bundle.getString("web.virtual-server.resource-cache"));
+        node.get(REQUEST_PROPERTIES, Constants.RESOURCE_CACHE, REQUIRED).set(false);
+        getResourceCacheDescription(node.get(REQUEST_PROPERTIES, Constants.RESOURCE_CACHE, VALUE_TYPE), bundle);
+
+        return node;
+    }
+
+    static ModelNode getResourceCacheDescription(final ModelNode node, final ResourceBundle bundle) {
+        node.get(Constants.ENABLED, TYPE).set(ModelType.BOOLEAN);
+        node.get(Constants.ENABLED, DESCRIPTION).set(bundle.getString("web.resource-cache.enabled"));
+        node.get(Constants.ENABLED, REQUIRED).set(false);
+        node.get(Constants.MAX_SIZE, TYPE).set(ModelType.INT);
+        node.get(Constants.MAX_SIZE, DESCRIPTION).set(bundle.getString("web.resource-cache.max-size"));
+        node.get(Constants.MAX_SIZE, REQUIRED).set(false);
+        node.get(Constants.MAX_OBJECT_SIZE, TYPE).set(ModelType.INT);
+        node.get(Constants.MAX_OBJECT_SIZE, DESCRIPTION).set(bundle.getString("web.resource-cache.max-object-size"));
+        node.get(Constants.MAX_OBJECT_SIZE, REQUIRED).set(false);
+        node.get(Constants.TTL, TYPE).set(ModelType.INT);
+        node.get(Constants.TTL, DESCRIPTION).set(bundle.getString("web.resource-cache.ttl"));
+        node.get(Constants.TTL, REQUIRED).set(false);
         return node;
     }
 
@@ -215,6 +267,26 @@ class WebSubsystemDescriptions {
         return node;
     }
 
+    static ModelNode getSessionStatisticsDescription(final Locale locale) {
+        final ResourceBundle bundle = getResourceBundle(locale);
+
+        final ModelNode node = new ModelNode();
+        node.get(OPERATION_NAME).set(WebSessionStatistics.OPERATION_NAME);
+        node.get(DESCRIPTION).set(bundle.getString("web.read-session-statistics"));
+
+        node.get(REQUEST_PROPERTIES, WebSessionStatistics.DEPLOYMENT, TYPE).set(ModelType.STRING);
+        node.get(REQUEST_PROPERTIES, WebSessionStatistics.DEPLOYMENT, DESCRIPTION).set(bundle.getString("web.read-session-statistics.deployment"));
+        node.get(REQUEST_PROPERTIES, WebSessionStatistics.DEPLOYMENT, REQUIRED).set(true);
+
+        node.get(REPLY_PROPERTIES, TYPE).set(ModelType.OBJECT);
+        for(final String statistic : WebSessionStatistics.STATISTICS) {
+            node.get(REPLY_PROPERTIES, VALUE_TYPE, statistic, TYPE).set(ModelType.LONG);
+            node.get(REPLY_PROPERTIES, VALUE_TYPE, statistic, DESCRIPTION).set(bundle.getString("web.read-session-statistics." + statistic));
+        }
+
+        return node;
+    }
+
     private static ResourceBundle getResourceBundle(Locale locale) {
         if (locale == null) {
             locale = Locale.getDefault();
@@ -55,12 +55,18 @@ import static org.jboss.as.web.Constants.FLAGS;
 import static org.jboss.as.web.Constants.JSP_CONFIGURATION;
 import static org.jboss.as.web.Constants.KEY_ALIAS;
 import static org.jboss.as.web.Constants.LISTINGS;
+import static org.jboss.as.web.Constants.MAX_ACTIVE_SESSIONS;
 import static org.jboss.as.web.Constants.MAX_CONNECTIONS;
 import static org.jboss.as.web.Constants.MAX_DEPTH;
+import static org.jboss.as.web.Constants.MAX_OBJECT_SIZE;
 import static org.jboss.as.web.Constants.MAX_POST_SIZE;
 import static org.jboss.as.web.Constants.MAX_SAVE_POST_SIZE;
+import static org.jboss.as.web.Constants.MAX_SIZE;
 import static org.jboss.as.web.Constants.MIME_MAPPING;
 import static org.jboss.as.web.Constants.NAME;
+import static org.jboss.as.web.Constants.PASSIVATION;
+import static org.jboss.as.web.Constants.PASSIVATION_MAX_IDLE_TIME;
+import static org.jboss.as.web.Constants.PASSIVATION_MIN_IDLE_TIME;
 import static org.jboss.as.web.Constants.PASSWORD;
 import static org.jboss.as.web.Constants.PATH;
 import static org.jboss.as.web.Constants.PATTERN;
@@ -72,6 +78,7 @@ import static org.jboss.as.web.Constants.READ_ONLY;
 import static org.jboss.as.web.Constants.REDIRECT_PORT;
 import static org.jboss.as.web.Constants.RELATIVE_TO;
 import static org.jboss.as.web.Constants.RESOLVE_HOSTS;
+import static org.jboss.as.web.Constants.RESOURCE_CACHE;
 import static org.jboss.as.web.Constants.REWRITE;
 import static org.jboss.as.web.Constants.ROTATE;
 import static org.jboss.as.web.Constants.SCHEME;
@@ -81,10 +88,12 @@ import static org.jboss.as.web.Constants.SENDFILE;
 import static org.jboss.as.web.Constants.SESSION_CACHE_SIZE;
 import static org.jboss.as.web.Constants.SESSION_TIMEOUT;
 import static org.jboss.as.web.Constants.SOCKET_BINDING;
+import static org.jboss.as.web.Constants.SESSION_MANAGER;
 import static org.jboss.as.web.Constants.SSL;
 import static org.jboss.as.web.Constants.STATIC_RESOURCES;
 import static org.jboss.as.web.Constants.SUBSTITUTION;
 import static org.jboss.as.web.Constants.TEST;
+import static org.jboss.as.web.Constants.TTL;
 import static org.jboss.as.web.Constants.VERIFY_CLIENT;
 import static org.jboss.as.web.Constants.VERIFY_DEPTH;
 import static org.jboss.as.web.Constants.VIRTUAL_SERVER;
@@ -148,6 +157,9 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
                 writeAttribute(writer, Attribute.MAX_POST_SIZE.getLocalName(), config);
                 writeAttribute(writer, Attribute.MAX_SAVE_POST_SIZE.getLocalName(), config);
                 writeAttribute(writer, Attribute.MAX_CONNECTIONS.getLocalName(), config);
+                for(final String tuning : WebConnectorService.TUNING_ATTRIBUTES.keySet()) {
+                    writeAttribute(writer, tuning, config);
+                }
                 if (config.hasDefined(SSL)) {
                     writer.writeStartElement(Element.SSL.getLocalName());
                     final ModelNode sslConfig = config.get(SSL);
@@ -220,6 +232,14 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
                         writer.writeEndElement();
                     }
                 }
+                if (config.hasDefined(RESOURCE_CACHE)) {
+                    final ModelNode resourceCache = config.get(RESOURCE_CACHE);
+                    writer.writeEmptyElement(Element.RESOURCE_CACHE.getLocalName());
+                    writeAttribute(writer, Attribute.ENABLED.getLocalName(), resourceCache);
+                    writeAttribute(writer, Attribute.MAX_SIZE.getLocalName(), resourceCache);
+                    writeAttribute(writer, Attribute.MAX_OBJECT_SIZE.getLocalName(), resourceCache);
+                    writeAttribute(writer, Attribute.TTL.getLocalName(), resourceCache);
+                }
                 writer.writeEndElement();
             }
         }
@@ -234,6 +254,14 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         if(config.hasDefined(JSP_CONFIGURATION)) {
             writeJSPConfiguration(writer, config.get(JSP_CONFIGURATION));
         }
+        if(config.hasDefined(SESSION_MANAGER)) {
+            final ModelNode sessionManager = config.get(SESSION_MANAGER);
+            writer.writeEmptyElement(Element.SESSION_MANAGER.getLocalName());
+            writeAttribute(writer, Attribute.MAX_ACTIVE_SESSIONS.getLocalName(), sessionManager);
+            writeAttribute(writer, Attribute.PASSIVATION.getLocalName(), sessionManager);
+            writeAttribute(writer, Attribute.PASSIVATION_MIN_IDLE_TIME.getLocalName(), sessionManager);
+            writeAttribute(writer, Attribute.PASSIVATION_MAX_IDLE_TIME.getLocalName(), sessionManager);
+        }
         if(config.hasDefined(MIME_MAPPING)) {
             for(final Property entry : config.get(MIME_MAPPING).asPropertyList()) {
                 writer.writeEmptyElement(Element.MIME_MAPPING.getLocalName());
@@ -372,6 +400,10 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
                 config.get(JSP_CONFIGURATION).set(jspConfiguration);
                 break;
             }
+            case SESSION_MANAGER: {
+                config.get(SESSION_MANAGER).set(parseSessionManager(reader));
+                break;
+            }
             case MIME_MAPPING: {
                 final String[] array = requireAttributes(reader, Attribute.NAME.getLocalName(), Attribute.VALUE.getLocalName());
                 config.get(MIME_MAPPING).get(array[0]).set(array[1]);
@@ -389,6 +421,35 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         return config;
     }
 
+    static ModelNode parseSessionManager(XMLExtendedStreamReader reader) throws XMLStreamException {
+        final ModelNode sessionManager = new ModelNode();
+        sessionManager.setEmptyObject();
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            switch (attribute) {
+            case MAX_ACTIVE_SESSIONS:
+                sessionManager.get(MAX_ACTIVE_SESSIONS).set(Integer.valueOf(value));
+                break;
+            case PASSIVATION:
+                sessionManager.get(PASSIVATION).set(Boolean.valueOf(value));
+                break;
+            case PASSIVATION_MIN_IDLE_TIME:
+                sessionManager.get(PASSIVATION_MIN_IDLE_TIME).set(Integer.valueOf(value));
+                break;
+            case PASSIVATION_MAX_IDLE_TIME:
+                sessionManager.get(PASSIVATION_MAX_IDLE_TIME).set(Integer.valueOf(value));
+                break;
+            default:
+                unexpectedAttribute(reader, i);
+            }
+        }
+        requireNoContent(reader);
+        return sessionManager;
+    }
+
     static ModelNode parseJSPConfiguration(XMLExtendedStreamReader reader) throws XMLStreamException {
         final ModelNode jsp = new ModelNode();
         final int count = reader.getAttributeCount();
@@ -512,6 +573,9 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
                     final ModelNode rewrite = parseHostRewrite(reader);
                     host.get(REWRITE).add(rewrite);
                     break;
+                case RESOURCE_CACHE:
+                    host.get(RESOURCE_CACHE).set(parseHostResourceCache(reader));
+                    break;
                 default:
                     throw unexpectedElement(reader);
                 }
@@ -523,6 +587,35 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         }
     }
 
+    static ModelNode parseHostResourceCache(XMLExtendedStreamReader reader) throws XMLStreamException {
+        final ModelNode resourceCache = new ModelNode();
+        resourceCache.setEmptyObject();
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            switch (attribute) {
+            case ENABLED:
+                resourceCache.get(ENABLED).set(Boolean.valueOf(value));
+                break;
+            case MAX_SIZE:
+                resourceCache.get(MAX_SIZE).set(Integer.valueOf(value));
+                break;
+            case MAX_OBJECT_SIZE:
+                resourceCache.get(MAX_OBJECT_SIZE).set(Integer.valueOf(value));
+                break;
+            case TTL:
+                resourceCache.get(TTL).set(Integer.valueOf(value));
+                break;
+            default:
+                unexpectedAttribute(reader, i);
+            }
+        }
+        requireNoContent(reader);
+        return resourceCache;
+    }
+
     static ModelNode parseHostRewrite(XMLExtendedStreamReader reader) throws XMLStreamException {
         final ModelNode rewrite = new ModelNode();
         rewrite.setEmptyObject();
@@ -666,6 +759,7 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         String secure = null;
         String redirectPort = null;
         String maxConnections = null;
+        final ModelNode tuning = new ModelNode();
         final int count = reader.getAttributeCount();
         for (int i = 0; i < count; i++) {
             requireNoNamespaceAttribute(reader, i);
@@ -714,6 +808,12 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
             case MAX_CONNECTIONS:
                 maxConnections = value;
                 break;
+            case ACCEPTOR_THREAD_COUNT:
+            case POLLER_THREAD_COUNT:
+            case MAX_KEEP_ALIVE_REQUESTS:
+            case KEEP_ALIVE_TIMEOUT:
+                tuning.get(attribute.getLocalName()).set(value);
+                break;
             default:
                 unexpectedAttribute(reader, i);
             }
@@ -761,6 +861,11 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         if(secure != null) connector.get(SECURE).set(secure);
         if(redirectPort != null) connector.get(REDIRECT_PORT).set(redirectPort);
         if(maxConnections != null) connector.get(MAX_CONNECTIONS).set(maxConnections);
+        if(tuning.isDefined()) {
+            for(final Property property : tuning.asPropertyList()) {
+                connector.get(property.getName()).set(property.getValue());
+            }
+        }
         list.add(connector);
     }
 
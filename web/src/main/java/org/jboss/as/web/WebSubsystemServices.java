@@ -20,6 +20,18 @@ public class WebSubsystemServices {
     public static final ServiceName JBOSS_WEB_CONNECTOR = JBOSS_WEB.append("connector");
     /** The base name for jboss.web host services. */
     public static final ServiceName JBOSS_WEB_HOST = JBOSS_WEB.append("host");
+    /** The service name of the executor parsing the TLDs and web fragments of deployments. */
+    public static final ServiceName JBOSS_WEB_PARSING_EXECUTOR = JBOSS_WEB.append("parsing-executor");
+
+    /**
+     * The service name of the resource cache configuration of a virtual host.
+     *
+     * @param hostName the virtual host name
+     * @return the service name
+     */
+    public static ServiceName hostResourceCacheName(final String hostName) {
+        return JBOSS_WEB_HOST.append(hostName, Constants.RESOURCE_CACHE);
+    }
 
 
     private WebSubsystemServices() {
@@ -44,6 +44,8 @@ import org.jboss.as.server.services.path.RelativePathService;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.ValueService;
+import org.jboss.msc.value.ImmediateValue;
 
 import java.util.Locale;
 
@@ -78,6 +80,7 @@ public class WebVirtualHostAdd implements ModelAddOperationHandler, DescriptionP
         subModel.get(Constants.ALIAS).set(operation.get(Constants.ALIAS));
         subModel.get(Constants.ACCESS_LOG).set(operation.get(Constants.ACCESS_LOG));
         subModel.get(Constants.REWRITE).set(operation.get(Constants.REWRITE));
+        subModel.get(Constants.RESOURCE_CACHE).set(operation.get(Constants.RESOURCE_CACHE));
 
         if (context.getRuntimeContext() != null) {
             context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
@@ -98,6 +101,11 @@ public class WebVirtualHostAdd implements ModelAddOperationHandler, DescriptionP
                         service.setRewrite(operation.get(Constants.REWRITE).clone());
                     }
                     if (operation.hasDefined(Constants.DEFAULT_WEB_MODULE)) service.setDefaultWebModule(operation.get(Constants.DEFAULT_WEB_MODULE).asString());
+                    // The resource cache configuration applied to the web applications of this host
+                    final ResourceCacheConfiguration resourceCache = ResourceCacheConfiguration.create(operation.get(Constants.RESOURCE_CACHE));
+                    serviceTarget.addService(WebSubsystemServices.hostResourceCacheName(name),
+                            new ValueService<ResourceCacheConfiguration>(new ImmediateValue<ResourceCacheConfiguration>(resourceCache)))
+                            .install();
                     serviceBuilder.addListener(new ResultHandler.ServiceStartListener(resultHandler));
                     serviceBuilder.install();
                 }
@@ -146,6 +154,9 @@ public class WebVirtualHostAdd implements ModelAddOperationHandler, DescriptionP
         if(subModel.hasDefined(Constants.REWRITE)) {
             operation.get(Constants.REWRITE).set(subModel.get(Constants.REWRITE));
         }
+        if(subModel.hasDefined(Constants.RESOURCE_CACHE)) {
+            operation.get(Constants.RESOURCE_CACHE).set(subModel.get(Constants.RESOURCE_CACHE));
+        }
         return operation;
     }
 
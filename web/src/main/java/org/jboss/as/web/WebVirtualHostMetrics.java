@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import javax.naming.directory.DirContext;
+
+import org.apache.catalina.Container;
+import org.apache.catalina.Context;
+import org.apache.catalina.Host;
+import org.apache.naming.resources.ProxyDirContext;
+import org.apache.naming.resources.ResourceCache;
+import org.jboss.as.controller.BasicOperationResult;
+import org.jboss.as.controller.ModelQueryOperationHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationResult;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ResultHandler;
+import org.jboss.as.server.ServerOperationContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the runtime metrics of a virtual host, aggregated over the web applications deployed on it.
+ *
+ * @author Emanuel Muckenhuber
+ */
+class WebVirtualHostMetrics implements ModelQueryOperationHandler {
+
+    static WebVirtualHostMetrics INSTANCE = new WebVirtualHostMetrics();
+
+    private static final String RESOURCE_CACHE_HITS = "resourceCacheHits";
+    private static final String RESOURCE_CACHE_MISSES = "resourceCacheMisses";
+    private static final String RESOURCE_CACHE_SIZE = "resourceCacheSize";
+    static final String[] ATTRIBUTES = new String[] {RESOURCE_CACHE_HITS, RESOURCE_CACHE_MISSES, RESOURCE_CACHE_SIZE};
+
+    /** {@inheritDoc} */
+    @Override
+    public OperationResult execute(final OperationContext context, final ModelNode operation, final ResultHandler resultHandler) throws OperationFailedException {
+
+        if (context.getRuntimeContext() != null && context instanceof ServerOperationContext) {
+            final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+            final String name = address.getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
+
+            final ServiceController<?> controller = ServerOperationContext.class.cast(context).getController().getServiceRegistry()
+                    .getService(WebSubsystemServices.JBOSS_WEB_HOST.append(name));
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                try {
+                    final ModelNode result = getMetric((Host) controller.getValue(), attributeName);
+                    resultHandler.handleResultFragment(WebConnectorMetrics.NO_LOCATION, result);
+                    resultHandler.handleResultComplete();
+                } catch (Exception e) {
+                    throw new OperationFailedException(new ModelNode().set("failed to get metrics" + e.getMessage()));
+                }
+            } else {
+                resultHandler.handleResultFragment(WebConnectorMetrics.NO_LOCATION, new ModelNode().set(0L));
+                resultHandler.handleResultComplete();
+            }
+        } else {
+            resultHandler.handleResultFragment(WebConnectorMetrics.NO_LOCATION, new ModelNode().set("no metrics available"));
+            resultHandler.handleResultComplete();
+        }
+        return new BasicOperationResult();
+    }
+
+    private static ModelNode getMetric(final Host host, final String attributeName) {
+        long hits = 0;
+        long accesses = 0;
+        long size = 0;
+        for (final Container child : host.findChildren()) {
+            if (!(child instanceof Context)) {
+                continue;
+            }
+            final DirContext resources = ((Context) child).getResources();
+            if (resources instanceof ProxyDirContext) {
+                final ResourceCache cache = ((ProxyDirContext) resources).getCache();
+                if (cache != null) {
+                    hits += cache.getHitsCount();
+                    accesses += cache.getAccessCount();
+                    size += cache.getCacheSize();
+                }
+            }
+        }
+        final ModelNode result = new ModelNode();
+        if (RESOURCE_CACHE_HITS.equals(attributeName)) {
+            result.set(hits);
+        } else if (RESOURCE_CACHE_MISSES.equals(attributeName)) {
+            result.set(accesses - hits);
+        } else if (RESOURCE_CACHE_SIZE.equals(attributeName)) {
+            result.set(size);
+        }
+        return result;
+    }
+
+}
@@ -63,6 +63,11 @@ class WebVirtualHostRemove implements ModelRemoveOperationHandler, DescriptionPr
         if (context.getRuntimeContext() != null) {
             context.getRuntimeContext().setRuntimeTask(new RuntimeTask() {
                 public void execute(RuntimeTaskContext context) throws OperationFailedException {
+                    final ServiceController<?> resourceCache = context.getServiceRegistry()
+                            .getService(WebSubsystemServices.hostResourceCacheName(name));
+                    if (resourceCache != null) {
+                        resourceCache.setMode(ServiceController.Mode.REMOVE);
+                    }
                     final ServiceController<?> service = context.getServiceRegistry()
                             .getService(WebSubsystemServices.JBOSS_WEB_HOST.append(name));
                     if (service != null) {
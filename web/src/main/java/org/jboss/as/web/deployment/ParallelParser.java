@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.deployment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.jboss.as.server.deployment.DeploymentPhaseContext;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.as.web.WebSubsystemServices;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Runs the parsing of independent deployment descriptors (TLDs, web fragments) of a deployment in parallel.
+ *
+ * @author Remy Maucherat
+ */
+final class ParallelParser {
+
+    private ParallelParser() {
+    }
+
+    /**
+     * Run the given parsing tasks, returning their results in the same order. Tasks are run on the calling
+     * thread if the parsing executor service is not up or if there is a single task.
+     */
+    static <T> List<T> parseAll(final DeploymentPhaseContext phaseContext, final List<? extends Callable<T>> tasks)
+            throws DeploymentUnitProcessingException {
+        final ExecutorService executor = tasks.size() < 2 ? null : getExecutor(phaseContext);
+        final List<T> results = new ArrayList<T>(tasks.size());
+        if (executor == null) {
+            for (Callable<T> task : tasks) {
+                try {
+                    results.add(task.call());
+                } catch (DeploymentUnitProcessingException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new DeploymentUnitProcessingException(e);
+                }
+            }
+            return results;
+        }
+        final List<Future<T>> futures;
+        try {
+            futures = executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeploymentUnitProcessingException("Interrupted while parsing deployment descriptors", e);
+        }
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DeploymentUnitProcessingException("Interrupted while parsing deployment descriptors", e);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof DeploymentUnitProcessingException) {
+                    throw (DeploymentUnitProcessingException) cause;
+                }
+                throw new DeploymentUnitProcessingException(cause);
+            }
+        }
+        return results;
+    }
+
+    private static ExecutorService getExecutor(final DeploymentPhaseContext phaseContext) {
+        final ServiceController<?> controller = phaseContext.getServiceRegistry().getService(WebSubsystemServices.JBOSS_WEB_PARSING_EXECUTOR);
+        if (controller == null || controller.getState() != ServiceController.State.UP) {
+            return null;
+        }
+        return (ExecutorService) controller.getValue();
+    }
+}
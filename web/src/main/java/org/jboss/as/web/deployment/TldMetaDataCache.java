@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.deployment;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jboss.metadata.parser.jsp.TldMetaDataParser;
+import org.jboss.metadata.parser.util.NoopXmlResolver;
+import org.jboss.metadata.web.spec.TldMetaData;
+import org.jboss.vfs.VirtualFile;
+
+/**
+ * Cache of parsed TLDs, keyed by the digest of the TLD content, shared by all web deployments. Library jars
+ * bundled by several WARs are only parsed once. Parsed TLDs are only read once attached to a deployment, the
+ * same way the shared JSF/JSTL TLDs already are.
+ *
+ * @author Remy Maucherat
+ */
+public final class TldMetaDataCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 512;
+    private static final String DIGEST_ALGORITHM = "SHA-1";
+
+    private final Map<String, TldMetaData> cache;
+
+    public TldMetaDataCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public TldMetaDataCache(final int maxEntries) {
+        cache = new LinkedHashMap<String, TldMetaData>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            protected boolean removeEldestEntry(Map.Entry<String, TldMetaData> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Get the parsed metadata of the given TLD, parsing it only if a TLD with the same content was not seen before.
+     *
+     * @param tld the TLD file
+     * @return the parsed metadata
+     * @throws IOException if the TLD cannot be read
+     * @throws XMLStreamException if the TLD cannot be parsed
+     */
+    public TldMetaData get(final VirtualFile tld) throws IOException, XMLStreamException {
+        final byte[] content = read(tld);
+        final String key = digest(content);
+        synchronized (cache) {
+            final TldMetaData cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final TldMetaData parsed = parse(new ByteArrayInputStream(content));
+        synchronized (cache) {
+            // Keep the first parsed instance if another deployment raced us
+            final TldMetaData existing = cache.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            cache.put(key, parsed);
+        }
+        return parsed;
+    }
+
+    private static TldMetaData parse(final InputStream is) throws XMLStreamException {
+        final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setXMLResolver(NoopXmlResolver.create());
+        XMLStreamReader xmlReader = inputFactory.createXMLStreamReader(is);
+        return TldMetaDataParser.parse(xmlReader);
+    }
+
+    private static byte[] read(final VirtualFile file) throws IOException {
+        final InputStream is = file.openStream();
+        try {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            try {
+                is.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    private static String digest(final byte[] content) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final byte[] hash = digest.digest(content);
+        final StringBuilder builder = new StringBuilder(hash.length * 2 + 12);
+        for (byte b : hash) {
+            builder.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        // The length disambiguates on the (very) unlikely event of a collision
+        return builder.append(':').append(content.length).toString();
+    }
+}
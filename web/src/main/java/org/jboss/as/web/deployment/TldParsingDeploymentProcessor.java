@@ -21,14 +21,11 @@
  */
 package org.jboss.as.web.deployment;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
-import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.XMLStreamReader;
+import java.util.concurrent.Callable;
 
 import org.jboss.as.ee.structure.DeploymentType;
 import org.jboss.as.ee.structure.DeploymentTypeMarker;
@@ -38,12 +35,13 @@ import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
 import org.jboss.as.server.deployment.module.ResourceRoot;
-import org.jboss.metadata.parser.jsp.TldMetaDataParser;
-import org.jboss.metadata.parser.util.NoopXmlResolver;
 import org.jboss.metadata.web.spec.TldMetaData;
 import org.jboss.vfs.VirtualFile;
 
 /**
+ * Parses the TLDs of a web deployment. Distinct TLDs are parsed in parallel, and TLDs already parsed for
+ * another deployment (same content) are taken from the {@link TldMetaDataCache}.
+ *
  * @author Remy Maucherat
  */
 public class TldParsingDeploymentProcessor implements DeploymentUnitProcessor {
@@ -55,6 +53,12 @@ public class TldParsingDeploymentProcessor implements DeploymentUnitProcessor {
     private static final String LIB = "lib";
     private static final String IMPLICIT_TLD = "implicit.tld";
 
+    private final TldMetaDataCache cache;
+
+    public TldParsingDeploymentProcessor(final TldMetaDataCache cache) {
+        this.cache = cache;
+    }
+
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
         if (!DeploymentTypeMarker.isType(DeploymentType.WAR, deploymentUnit)) {
@@ -66,17 +70,16 @@ public class TldParsingDeploymentProcessor implements DeploymentUnitProcessor {
             tldsMetaData = new TldsMetaData();
             deploymentUnit.putAttachment(TldsMetaData.ATTACHMENT_KEY, tldsMetaData);
         }
-        Map<String, TldMetaData> tlds = new HashMap<String, TldMetaData>();
-        tldsMetaData.setTlds(tlds);
         // TLDs are located in WEB-INF or any subdir (except the top level "classes" and "lib")
         // and in JARs from WEB-INF/lib, in META-INF or any subdir
+        final List<VirtualFile> files = new ArrayList<VirtualFile>();
         List<ResourceRoot> resourceRoots = deploymentUnit.getAttachment(Attachments.RESOURCE_ROOTS);
         assert resourceRoots != null;
         for (ResourceRoot resourceRoot : resourceRoots) {
             if (resourceRoot.getRoot().getLowerCaseName().endsWith(".jar")) {
                 VirtualFile webFragment = resourceRoot.getRoot().getChild(META_INF);
                 if (webFragment.exists() && webFragment.isDirectory()) {
-                    processTlds(deploymentRoot, webFragment.getChildren(), tlds);
+                    collectTlds(webFragment.getChildren(), files);
                 }
             }
         }
@@ -84,24 +87,37 @@ public class TldParsingDeploymentProcessor implements DeploymentUnitProcessor {
         if (webInf.exists() && webInf.isDirectory()) {
             for (VirtualFile file : webInf.getChildren()) {
                 if (file.isFile() && file.getLowerCaseName().endsWith(TLD)) {
-                    tlds.put("/" + file.getPathNameRelativeTo(deploymentRoot), parseTLD(file));
+                    files.add(file);
                 } else if (file.isDirectory() && !CLASSES.equals(file.getName()) && !LIB.equals(file.getName())) {
-                    processTlds(deploymentRoot, file.getChildren(), tlds);
+                    collectTlds(file.getChildren(), files);
                 }
             }
         }
+        final List<Callable<TldMetaData>> tasks = new ArrayList<Callable<TldMetaData>>(files.size());
+        for (final VirtualFile file : files) {
+            tasks.add(new Callable<TldMetaData>() {
+                public TldMetaData call() throws DeploymentUnitProcessingException {
+                    return parseTLD(file);
+                }
+            });
+        }
+        final List<TldMetaData> parsed = ParallelParser.parseAll(phaseContext, tasks);
+        Map<String, TldMetaData> tlds = new HashMap<String, TldMetaData>();
+        for (int i = 0; i < files.size(); i++) {
+            tlds.put("/" + files.get(i).getPathNameRelativeTo(deploymentRoot), parsed.get(i));
+        }
+        tldsMetaData.setTlds(tlds);
     }
 
     public void undeploy(final DeploymentUnit context) {
     }
 
-    private void processTlds(VirtualFile root, List<VirtualFile> files, Map<String, TldMetaData> tlds)
-    throws DeploymentUnitProcessingException {
+    private void collectTlds(List<VirtualFile> files, List<VirtualFile> tlds) {
         for (VirtualFile file : files) {
             if (file.isFile() && file.getLowerCaseName().endsWith(TLD)) {
-                tlds.put("/" + file.getPathNameRelativeTo(root), parseTLD(file));
+                tlds.add(file);
             } else if (file.isDirectory()) {
-                processTlds(root, file.getChildren(), tlds);
+                collectTlds(file.getChildren(), tlds);
             }
         }
     }
@@ -112,23 +128,10 @@ public class TldParsingDeploymentProcessor implements DeploymentUnitProcessor {
             // Implicit TLDs are different from regular TLDs
             return new TldMetaData();
         }
-        InputStream is = null;
         try {
-            is = tld.openStream();
-            final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
-            inputFactory.setXMLResolver(NoopXmlResolver.create());
-            XMLStreamReader xmlReader = inputFactory.createXMLStreamReader(is);
-            return TldMetaDataParser.parse(xmlReader);
+            return cache.get(tld);
         } catch (Exception e) {
             throw new DeploymentUnitProcessingException("Failed to parse " + tld, e);
-        } finally {
-            try {
-                if (is != null) {
-                    is.close();
-                }
-            } catch (IOException e) {
-                // Ignore
-            }
         }
     }
 
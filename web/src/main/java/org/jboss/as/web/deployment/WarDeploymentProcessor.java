@@ -29,17 +29,23 @@ import org.apache.catalina.core.StandardContext;
 import org.apache.catalina.startup.ContextConfig;
 import org.jboss.as.ee.naming.NamespaceSelectorService;
 import org.jboss.as.naming.context.NamespaceContextSelector;
+import org.jboss.as.server.Services;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
+import org.jboss.as.server.services.session.SessionIdGenerator;
 import org.jboss.as.web.NamingListener;
+import org.jboss.as.web.ResourceCacheConfiguration;
+import org.jboss.as.web.SessionIdSource;
+import org.jboss.as.web.SessionManagerConfiguration;
 import org.jboss.as.web.WebSubsystemServices;
 import org.jboss.as.web.deployment.component.ComponentInstantiator;
 import org.jboss.as.web.security.JBossWebRealm;
 import org.jboss.metadata.web.jboss.JBossWebMetaData;
 import org.jboss.modules.Module;
+import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController.Mode;
 import org.jboss.msc.service.ServiceName;
@@ -67,12 +73,17 @@ import java.util.Map;
 public class WarDeploymentProcessor implements DeploymentUnitProcessor {
 
     private final String defaultHost;
+    private final SessionManagerConfiguration sessionManagerConfiguration;
 
-    public WarDeploymentProcessor(String defaultHost) {
+    public WarDeploymentProcessor(String defaultHost, SessionManagerConfiguration sessionManagerConfiguration) {
         if (defaultHost == null) {
             throw new IllegalArgumentException("null default host");
         }
+        if (sessionManagerConfiguration == null) {
+            throw new IllegalArgumentException("null session manager configuration");
+        }
         this.defaultHost = defaultHost;
+        this.sessionManagerConfiguration = sessionManagerConfiguration;
     }
 
     /** {@inheritDoc} */
@@ -166,6 +177,10 @@ public class WarDeploymentProcessor implements DeploymentUnitProcessor {
                 break;
         }
 
+        // Create the session manager, bounding the sessions kept in memory when configured
+        final SessionIdSource sessionIdSource = new SessionIdSource();
+        webContext.setManager(sessionManagerConfiguration.createManager(metaData, sessionIdSource));
+
         String metaDataSecurityDomain = metaData.getSecurityDomain();
         if (metaDataSecurityDomain != null) {
             metaDataSecurityDomain = metaDataSecurityDomain.trim();
@@ -208,6 +223,17 @@ public class WarDeploymentProcessor implements DeploymentUnitProcessor {
             ServiceName namespaceSelectorServiceName = deploymentUnit.getServiceName().append(NamespaceSelectorService.NAME);
             WebDeploymentService webDeploymentService = new WebDeploymentService(webContext);
             ServiceBuilder<Context> builder = serviceTarget.addService(WebSubsystemServices.JBOSS_WEB.append(deploymentName), webDeploymentService);
+            // Configure the resource cache of the host before the context gets added to it
+            builder.addDependency(WebSubsystemServices.hostResourceCacheName(hostName), ResourceCacheConfiguration.class,
+                            new Injector<ResourceCacheConfiguration>() {
+                                public void inject(ResourceCacheConfiguration value) {
+                                    value.configure(webContext);
+                                }
+
+                                public void uninject() {
+                                }
+                            });
+            builder.addDependency(Services.JBOSS_SESSION_ID_GENERATOR, SessionIdGenerator.class, sessionIdSource);
             builder.addDependency(WebSubsystemServices.JBOSS_WEB_HOST.append(hostName), Host.class,
                             new WebContextInjector(webContext)).addDependencies(injectionContainer.getServiceNames());
             builder.addDependency(namespaceSelectorServiceName, NamespaceContextSelector.class,
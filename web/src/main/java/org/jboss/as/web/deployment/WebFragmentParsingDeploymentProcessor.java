@@ -23,9 +23,11 @@ package org.jboss.as.web.deployment;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamReader;
@@ -44,6 +46,10 @@ import org.jboss.metadata.web.spec.WebFragmentMetaData;
 import org.jboss.vfs.VirtualFile;
 
 /**
+ * Parses the web fragments of the jars of a web deployment, in parallel. Unlike TLDs, parsed fragments are
+ * not shared between deployments, as they are augmented in place with the annotation metadata of their jar
+ * by the {@link WarMetaDataProcessor}.
+ *
  * @author Remy Maucherat
  */
 public class WebFragmentParsingDeploymentProcessor implements DeploymentUnitProcessor {
@@ -62,35 +68,50 @@ public class WebFragmentParsingDeploymentProcessor implements DeploymentUnitProc
             webFragments = new HashMap<String, WebFragmentMetaData>();
             warMetaData.setWebFragmentsMetaData(webFragments);
         }
+        final List<String> names = new ArrayList<String>();
+        final List<Callable<WebFragmentMetaData>> tasks = new ArrayList<Callable<WebFragmentMetaData>>();
         List<ResourceRoot> resourceRoots = deploymentUnit.getAttachment(Attachments.RESOURCE_ROOTS);
         assert resourceRoots != null;
         for (ResourceRoot resourceRoot : resourceRoots) {
             if (resourceRoot.getRoot().getLowerCaseName().endsWith(".jar")) {
-                VirtualFile webFragment = resourceRoot.getRoot().getChild(WEB_FRAGMENT_XML);
+                final VirtualFile webFragment = resourceRoot.getRoot().getChild(WEB_FRAGMENT_XML);
                 if (webFragment.exists() && webFragment.isFile()) {
-                    InputStream is = null;
-                    try {
-                        is = webFragment.openStream();
-                        final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
-                        inputFactory.setXMLResolver(NoopXmlResolver.create());
-                        XMLStreamReader xmlReader = inputFactory.createXMLStreamReader(is);
-                        webFragments.put(resourceRoot.getRootName(), WebFragmentMetaDataParser.parse(xmlReader));
-                    } catch (Exception e) {
-                        throw new DeploymentUnitProcessingException("Failed to parse " + webFragment, e);
-                    } finally {
-                        try {
-                            if (is != null) {
-                                is.close();
-                            }
-                        } catch (IOException e) {
-                            // Ignore
+                    names.add(resourceRoot.getRootName());
+                    tasks.add(new Callable<WebFragmentMetaData>() {
+                        public WebFragmentMetaData call() throws DeploymentUnitProcessingException {
+                            return parseWebFragment(webFragment);
                         }
-                    }
+                    });
                 }
             }
         }
+        final List<WebFragmentMetaData> parsed = ParallelParser.parseAll(phaseContext, tasks);
+        for (int i = 0; i < names.size(); i++) {
+            webFragments.put(names.get(i), parsed.get(i));
+        }
     }
 
     public void undeploy(final DeploymentUnit context) {
     }
+
+    private WebFragmentMetaData parseWebFragment(VirtualFile webFragment) throws DeploymentUnitProcessingException {
+        InputStream is = null;
+        try {
+            is = webFragment.openStream();
+            final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+            inputFactory.setXMLResolver(NoopXmlResolver.create());
+            XMLStreamReader xmlReader = inputFactory.createXMLStreamReader(is);
+            return WebFragmentMetaDataParser.parse(xmlReader);
+        } catch (Exception e) {
+            throw new DeploymentUnitProcessingException("Failed to parse " + webFragment, e);
+        } finally {
+            try {
+                if (is != null) {
+                    is.close();
+                }
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
 }
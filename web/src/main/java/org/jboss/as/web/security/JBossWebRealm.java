@@ -24,19 +24,28 @@ package org.jboss.as.web.security;
 
 import java.security.Principal;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
 import javax.security.auth.Subject;
 
 import org.apache.catalina.realm.GenericPrincipal;
 import org.apache.catalina.realm.RealmBase;
+import org.jboss.logging.Logger;
 import org.jboss.security.AuthenticationManager;
 import org.jboss.security.AuthorizationManager;
+import org.jboss.security.SecurityConstants;
 import org.jboss.security.SecurityContext;
 import org.jboss.security.SimplePrincipal;
 import org.jboss.security.callbacks.SecurityContextCallbackHandler;
 import org.jboss.security.identity.Role;
 import org.jboss.security.identity.RoleGroup;
+import org.jboss.util.CachePolicy;
 
 /**
  * A {@code RealmBase} implementation
@@ -45,6 +54,24 @@ import org.jboss.security.identity.RoleGroup;
  * @since Jan 14, 2011
  */
 public class JBossWebRealm extends RealmBase {
+
+    private static final Logger log = Logger.getLogger(JBossWebRealm.class);
+
+    /**
+     * Maximum number of principals whose roles are cached; an arbitrary one is evicted once it is reached
+     */
+    private static final int MAX_CACHED_ROLES = 1024;
+
+    /**
+     * Maximum number of distinct role lists that get shared
+     */
+    private static final int MAX_SHARED_ROLE_LISTS = 256;
+
+    /**
+     * Role lists shared by all the principals that have the same roles
+     */
+    private static final ConcurrentMap<List<String>, List<String>> roleLists = new ConcurrentHashMap<List<String>, List<String>>();
+
     /**
      * The {@code AuthenticationManager} instance that can perform authentication
      */
@@ -55,6 +82,22 @@ public class JBossWebRealm extends RealmBase {
      */
     protected AuthorizationManager authorizationManager = null;
 
+    /**
+     * Marker of a security domain that does not cache authentications
+     */
+    private static final Object NO_AUTHENTICATION_CACHE = new Object();
+
+    /**
+     * The roles of the authenticated principals, valid as long as the authentication cache holds the same entry
+     */
+    private final ConcurrentMap<String, CachedRoles> roleCache = new ConcurrentHashMap<String, CachedRoles>();
+
+    /**
+     * The authentication cache of the security domain, {@code NO_AUTHENTICATION_CACHE} if it has none, or null if it
+     * has not been looked up yet
+     */
+    private volatile Object authenticationCache = null;
+
     /**
      * Set the {@code AuthenticationManager}
      *
@@ -62,6 +105,7 @@ public class JBossWebRealm extends RealmBase {
      */
     public void setAuthenticationManager(AuthenticationManager authenticationManager) {
         this.authenticationManager = authenticationManager;
+        this.authenticationCache = null;
     }
 
     /**
@@ -87,9 +131,20 @@ public class JBossWebRealm extends RealmBase {
         Subject subject = new Subject();
         boolean isValid = authenticationManager.isValid(userPrincipal, credentials, subject);
         if (isValid) {
+            // the request thread must always carry the security context of this principal, even when the roles are cached
             SecurityContext sc = SecurityActions.createSecurityContext(authenticationManager.getSecurityDomain());
             sc.getUtil().createSubjectInfo(userPrincipal, credentials, subject);
             SecurityActions.setSecurityContextOnAssociation(sc);
+
+            // the entry of the authentication cache is the one that validated the credentials
+            final CachePolicy authenticationCache = getAuthenticationCache();
+            final Object authenticationEntry = authenticationCache == null ? null : authenticationCache.peek(userPrincipal);
+            if (authenticationEntry != null) {
+                final CachedRoles cached = roleCache.get(username);
+                if (cached != null && cached.authenticationEntry == authenticationEntry) {
+                    return new GenericPrincipal(this, username, credentials, cached.roles);
+                }
+            }
             SecurityContextCallbackHandler scb = new SecurityContextCallbackHandler(sc);
             RoleGroup roles = authorizationManager.getSubjectRoles(subject, scb);
             List<Role> rolesAsList = roles.getRoles();
@@ -97,12 +152,72 @@ public class JBossWebRealm extends RealmBase {
             for (Role role : rolesAsList) {
                 rolesAsStringList.add(role.getRoleName());
             }
+            if (authenticationEntry != null) {
+                rolesAsStringList = intern(rolesAsStringList);
+                cacheRoles(username, new CachedRoles(authenticationEntry, rolesAsStringList));
+            }
             return new GenericPrincipal(this, username, credentials, rolesAsStringList);
         }
 
         return super.authenticate(username, credentials);
     }
 
+    /**
+     * Returns the shared immutable instance of a role list.
+     *
+     * @param roles the role names
+     * @return the shared list
+     */
+    private static List<String> intern(List<String> roles) {
+        final List<String> interned = Collections.unmodifiableList(roles);
+        if (roleLists.size() >= MAX_SHARED_ROLE_LISTS) {
+            final List<String> existing = roleLists.get(interned);
+            return existing == null ? interned : existing;
+        }
+        final List<String> existing = roleLists.putIfAbsent(interned, interned);
+        return existing == null ? interned : existing;
+    }
+
+    /**
+     * Caches the roles of a principal, evicting an arbitrary principal if the cache is full.
+     *
+     * @param username the name of the principal
+     * @param roles the roles and the authentication cache entry they are valid for
+     */
+    private void cacheRoles(String username, CachedRoles roles) {
+        if (roleCache.size() >= MAX_CACHED_ROLES && !roleCache.containsKey(username)) {
+            final Iterator<String> iterator = roleCache.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        roleCache.put(username, roles);
+    }
+
+    /**
+     * Returns the authentication cache of the security domain. It is looked up once, on the first authentication;
+     * roles are only cached if the domain caches authentications.
+     *
+     * @return the authentication cache, or null if the domain does not cache authentications
+     */
+    private CachePolicy getAuthenticationCache() {
+        Object cache = authenticationCache;
+        if (cache == null) {
+            try {
+                cache = new InitialContext().lookup(SecurityConstants.JAAS_CONTEXT_ROOT
+                        + authenticationManager.getSecurityDomain() + "/authenticationCache");
+            } catch (NamingException e) {
+                log.tracef(e, "Unable to look up the authentication cache of %s", authenticationManager.getSecurityDomain());
+            }
+            if (!(cache instanceof CachePolicy)) {
+                cache = NO_AUTHENTICATION_CACHE;
+            }
+            authenticationCache = cache;
+        }
+        return cache == NO_AUTHENTICATION_CACHE ? null : (CachePolicy) cache;
+    }
+
     @Override
     protected String getName() {
         throw new RuntimeException("Handle please");
@@ -117,4 +232,14 @@ public class JBossWebRealm extends RealmBase {
     protected Principal getPrincipal(String username) {
         return new SimplePrincipal(username);
     }
-}
\ No newline at end of file
+
+    private static final class CachedRoles {
+        private final Object authenticationEntry;
+        private final List<String> roles;
+
+        CachedRoles(final Object authenticationEntry, final List<String> roles) {
+            this.authenticationEntry = authenticationEntry;
+            this.roles = roles;
+        }
+    }
+}
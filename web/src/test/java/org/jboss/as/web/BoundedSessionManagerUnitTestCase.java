@@ -0,0 +1,169 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.catalina.Session;
+import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.session.StandardManager;
+import org.apache.catalina.session.StandardSession;
+import org.jboss.metadata.web.jboss.JBossWebMetaData;
+import org.junit.Test;
+
+/**
+ * Tests the session limit and eviction of the {@link BoundedSessionManager}.
+ *
+ * @author Emanuel Muckenhuber
+ */
+public class BoundedSessionManagerUnitTestCase {
+
+    @Test
+    public void testDefaultConfigurationKeepsStandardManager() {
+        final JBossWebMetaData metaData = new JBossWebMetaData();
+        assertTrue(SessionManagerConfiguration.DEFAULT.createManager(metaData, new SessionIdSource()) instanceof StandardManager);
+
+        metaData.setMaxActiveSessions(Integer.valueOf(5));
+        assertTrue(SessionManagerConfiguration.DEFAULT.createManager(metaData, new SessionIdSource()) instanceof BoundedSessionManager);
+    }
+
+    @Test
+    public void testLimitEvictsLeastRecentlyUsed() throws Exception {
+        final BoundedSessionManager manager = createManager(2, -1);
+        final Session first = createSession(manager, "first");
+        final Session second = createSession(manager, "second");
+        // Using the first session makes the second one the least recently used
+        assertNotNull(manager.findSession("first"));
+
+        createSession(manager, "third");
+
+        assertEquals(2, manager.getActiveSessions());
+        assertEquals(1, manager.getEvictedCount());
+        assertFalse(second.isValid());
+        assertNull(manager.findSession("second"));
+        assertTrue(first.isValid());
+        assertNotNull(manager.findSession("first"));
+        assertNotNull(manager.findSession("third"));
+    }
+
+    @Test
+    public void testLimitRejectsWhenNoSessionIdleLongEnough() throws Exception {
+        final BoundedSessionManager manager = createManager(1, 3600);
+        final Session first = createSession(manager, "first");
+        assertNull(manager.createSession("second"));
+
+        assertEquals(1, manager.getActiveSessions());
+        assertEquals(1, manager.getRejectedCount());
+        assertEquals(0, manager.getEvictedCount());
+        assertTrue(first.isValid());
+        assertNotNull(manager.findSession("first"));
+        assertNull(manager.findSession("second"));
+    }
+
+    @Test
+    public void testSessionBackFromStoreIsNotRejected() throws Exception {
+        final BoundedSessionManager manager = createManager(1, 3600);
+        createSession(manager, "first");
+        final StandardSession swappedIn = new StandardSession(manager);
+        swappedIn.setValid(true);
+        swappedIn.setCreationTime(System.currentTimeMillis());
+        // Adds the session to the manager, as when it is loaded from the store
+        swappedIn.setId("second");
+
+        assertEquals(2, manager.getActiveSessions());
+        assertEquals(0, manager.getRejectedCount());
+        assertNotNull(manager.findSession("second"));
+    }
+
+    @Test
+    public void testRemovedSessionsDoNotCountAgainstLimit() throws Exception {
+        final BoundedSessionManager manager = createManager(2, 3600);
+        createSession(manager, "first").expire();
+        createSession(manager, "second");
+        createSession(manager, "third");
+
+        assertEquals(2, manager.getActiveSessions());
+        assertEquals(0, manager.getEvictedCount());
+        assertEquals(0, manager.getRejectedCount());
+    }
+
+    @Test
+    public void testConcurrentCreatesStayWithinLimit() throws Exception {
+        final int limit = 10;
+        final int threads = 8;
+        final int sessionsPerThread = 200;
+        final BoundedSessionManager manager = createManager(limit, -1);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> failures = new ArrayList<Throwable>();
+        final List<Thread> workers = new ArrayList<Thread>();
+        for (int i = 0; i < threads; i++) {
+            final int thread = i;
+            final Thread worker = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        start.await();
+                        for (int j = 0; j < sessionsPerThread; j++) {
+                            createSession(manager, thread + "-" + j);
+                            assertTrue(manager.getActiveSessions() <= limit + threads);
+                        }
+                    } catch (Throwable t) {
+                        synchronized (failures) {
+                            failures.add(t);
+                        }
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertEquals(limit, manager.getActiveSessions());
+        assertEquals(threads * sessionsPerThread - limit, manager.getEvictedCount());
+        assertEquals(0, manager.getRejectedCount());
+    }
+
+    private static BoundedSessionManager createManager(final int sessionLimit, final int minIdleTime) {
+        final BoundedSessionManager manager = new BoundedSessionManager(sessionLimit, false, minIdleTime, -1, new SessionIdSource());
+        manager.setContainer(new StandardContext());
+        return manager;
+    }
+
+    private static Session createSession(final BoundedSessionManager manager, final String id) {
+        final Session session = manager.createSession(id);
+        assertNotNull("Session " + id + " rejected", session);
+        return session;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.web;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLMapper;
+import org.junit.Test;
+
+/**
+ * Tests parsing of the web subsystem configuration.
+ *
+ * @author Emanuel Muckenhuber
+ */
+public class WebSubsystemParsingUnitTestCase {
+
+    @Test
+    public void testConnectorTuningAttributes() throws Exception {
+        final List<ModelNode> operations = parse("subsystem.xml");
+        // subsystem add and one add per connector
+        assertEquals(3, operations.size());
+
+        final ModelNode http = getConnector(operations, "http");
+        assertEquals(2, http.get(Constants.ACCEPTOR_THREAD_COUNT).asInt());
+        assertEquals(4, http.get(Constants.POLLER_THREAD_COUNT).asInt());
+        assertEquals(50, http.get(Constants.MAX_KEEP_ALIVE_REQUESTS).asInt());
+        assertEquals(15000, http.get(Constants.KEEP_ALIVE_TIMEOUT).asInt());
+
+        final ModelNode ajp = getConnector(operations, "ajp");
+        for (final String attribute : WebConnectorService.TUNING_ATTRIBUTES.keySet()) {
+            assertFalse(attribute, ajp.hasDefined(attribute));
+        }
+    }
+
+    private static ModelNode getConnector(final List<ModelNode> operations, final String name) {
+        for (final ModelNode operation : operations) {
+            final ModelNode address = operation.get(OP_ADDR);
+            if (address.asList().size() == 2 && name.equals(address.asList().get(1).get(Constants.CONNECTOR).asString())) {
+                return operation;
+            }
+        }
+        throw new AssertionError("No add operation for connector " + name);
+    }
+
+    private List<ModelNode> parse(final String name) throws Exception {
+        final XMLMapper mapper = XMLMapper.Factory.create();
+        mapper.registerRootElement(new QName(Namespace.CURRENT.getUriString(), "subsystem"), WebSubsystemParser.getInstance());
+
+        final URL configURL = getClass().getResource(name);
+        assertNotNull(name + " not found", configURL);
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(configURL.openStream()));
+        try {
+            final List<ModelNode> operations = new ArrayList<ModelNode>();
+            mapper.parseDocument(operations, XMLInputFactory.newInstance().createXMLStreamReader(reader));
+            return operations;
+        } finally {
+            reader.close();
+        }
+    }
+}